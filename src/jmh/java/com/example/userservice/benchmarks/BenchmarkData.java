@@ -0,0 +1,64 @@
+package com.example.userservice.benchmarks;
+
+import com.example.userservice.domain.model.EntityStatus;
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.LocationDbo;
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.UserDbo;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rows shaped like production data, shared by the mapping and serialization benchmarks.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static List<UserDbo> users(int count) {
+        Instant now = Instant.parse("2024-05-01T10:15:30Z");
+        List<UserDbo> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(UserDbo.builder()
+                    .id(UUID.nameUUIDFromBytes(("user-" + i).getBytes()))
+                    .username("user.name" + i)
+                    .email("user.name" + i + "@example.com")
+                    .firstName("Firstname" + i)
+                    .lastName("Lastname" + i)
+                    .status(EntityStatus.ACTIVE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return users;
+    }
+
+    static List<LocationDbo> locations(int count) {
+        Instant now = Instant.parse("2024-05-01T10:15:30Z");
+        List<LocationDbo> locations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            locations.add(LocationDbo.builder()
+                    .id(UUID.nameUUIDFromBytes(("location-" + i).getBytes()))
+                    .userId(UUID.nameUUIDFromBytes(("user-" + i).getBytes()).toString())
+                    .country(UUID.nameUUIDFromBytes("country".getBytes()).toString())
+                    .region(UUID.nameUUIDFromBytes("region".getBytes()).toString())
+                    .city(UUID.nameUUIDFromBytes("city".getBytes()).toString())
+                    .neighborhood(UUID.nameUUIDFromBytes("neighborhood".getBytes()).toString())
+                    .address("Calle " + i + " # 10-20")
+                    .postalCode("11001" + (i % 10))
+                    .latitude(4.6097 + i * 0.0001)
+                    .longitude(-74.0817 - i * 0.0001)
+                    .locationType("HOME")
+                    .status(EntityStatus.ACTIVE)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        return locations;
+    }
+}
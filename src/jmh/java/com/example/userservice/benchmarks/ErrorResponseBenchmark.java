@@ -0,0 +1,79 @@
+package com.example.userservice.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.userservice.infrastructure.config.exceptions.GlobalExceptionHandler;
+import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of building error bodies in {@link GlobalExceptionHandler} for the most frequent
+ * client errors. The handler's logger is switched off so only the body construction is
+ * measured; {@link LoggingUtilsBenchmark} covers the log line:
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ErrorResponse -prof gc"}.
+ * Scores are error responses per millisecond.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private NotFoundException notFound;
+    private DuplicateKeyException duplicateKey;
+    private MethodArgumentNotValidException invalid;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+        notFound = new NotFoundException("User not found with id: 3f2b8c1e-6a0d-4f7e-9b52-1c9d0e4a7b63");
+        duplicateKey = new DuplicateKeyException("duplicate key value violates unique constraint \"users_email_key\"");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "createUserRequestContent");
+        bindingResult.addError(new FieldError("createUserRequestContent", "email", "must be a well-formed email address"));
+        bindingResult.addError(new FieldError("createUserRequestContent", "username", "size must be between 3 and 50"));
+        invalid = new MethodArgumentNotValidException(
+                new MethodParameter(GlobalExceptionHandler.class.getMethod("handleNotFoundException", NotFoundException.class), 0),
+                bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> notFound() {
+        return handler.handleNotFoundException(notFound);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> duplicateKey() {
+        return handler.handleDuplicateKeyException(duplicateKey);
+    }
+
+    @Benchmark
+    public ResponseEntity<Map<String, Object>> validation() {
+        return handler.handleValidationExceptions(invalid);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.userservice.benchmarks;
+
+import com.example.userservice.utils.LogEventEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building one JSON log line the way {@code LoggingUtils} used to (a {@code String.format}
+ * per field, then SLF4J placeholder substitution) versus {@link LogEventEncoder}, with the
+ * request context set. Run with the GC profiler and compare {@code gc.alloc.rate.norm}, the
+ * bytes allocated per log event:
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="LoggingUtils -prof gc"}.
+ * Scores are nanoseconds per event.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingUtilsBenchmark {
+
+    private static final String MESSAGE = "Retrieved user {} for client {}";
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    private final LogEventEncoder encoder = new LogEventEncoder("", "UserService", "Request-ID", "Correlation-ID", "Client-Id");
+    private final Object[] args = {"3f2b8c1e-6a0d-4f7e-9b52-1c9d0e4a7b63", "web-app"};
+
+    @Setup(Level.Trial)
+    public void setUpContext() {
+        MDC.put("Request-ID", "req-8b1f0c2d");
+        MDC.put("Correlation-ID", "corr-51d7e9a4");
+        MDC.put("Client-Id", "web-app");
+    }
+
+    @TearDown(Level.Trial)
+    public void clearContext() {
+        MDC.clear();
+    }
+
+    @Benchmark
+    public String legacyFormat() {
+        return MessageFormatter.arrayFormat(legacyFormatMessage("INFO", "UserService", MESSAGE), args).getMessage();
+    }
+
+    @Benchmark
+    public String encoder() {
+        return encoder.encode(LogEventEncoder.INFO, MESSAGE, args);
+    }
+
+    /**
+     * The header builder {@code LoggingUtils} used before {@link LogEventEncoder}, kept verbatim
+     * as the baseline.
+     */
+    private static String legacyFormatMessage(String level, String className, String message) {
+        LocalDateTime now = LocalDateTime.now();
+        String requestId = MDC.get("Request-ID");
+        String correlationId = MDC.get("Correlation-ID");
+        String clientId = MDC.get("Client-Id");
+
+        StringBuilder jsonBuilder = new StringBuilder();
+        jsonBuilder.append(String.format("{\"microservice\":\"%s\",\"date\":\"%s\",\"time\":\"%s\",\"level\":\"%s\",\"class\":\"%s\"",
+                "",
+                now.format(DATE_FORMATTER),
+                now.format(TIME_FORMATTER),
+                level,
+                className));
+
+        if (requestId != null) {
+            jsonBuilder.append(String.format(",\"Request-ID\":\"%s\"", requestId));
+        }
+        if (correlationId != null) {
+            jsonBuilder.append(String.format(",\"Correlation-ID\":\"%s\"", correlationId));
+        }
+        if (clientId != null) {
+            jsonBuilder.append(String.format(",\"Client-Id\":\"%s\"", clientId));
+        }
+
+        jsonBuilder.append(String.format(",\"message\":\"%s\"}", message));
+        return jsonBuilder.toString();
+    }
+}
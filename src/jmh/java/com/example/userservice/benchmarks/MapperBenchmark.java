@@ -0,0 +1,105 @@
+package com.example.userservice.benchmarks;
+
+import com.example.userservice.application.dto.location.GetLocationResponseContent;
+import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.user.GetUserResponseContent;
+import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.mapper.LocationMapper;
+import com.example.userservice.application.mapper.UserMapper;
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.model.User;
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.LocationDbo;
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.UserDbo;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the MapStruct chains behind every read and write: DBO to domain and back,
+ * domain to the single-item response, and domain to the paged list response, at the page sizes
+ * the API serves. Run with the GC profiler to see the bytes allocated per operation:
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="MapperBenchmark -prof gc"}.
+ * Scores are operations (whole lists for the list benchmarks) per millisecond.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+    private final LocationMapper locationMapper = Mappers.getMapper(LocationMapper.class);
+
+    private List<UserDbo> userDbos;
+    private List<User> users;
+    private List<LocationDbo> locationDbos;
+    private List<Location> locations;
+
+    @Setup
+    public void setUp() {
+        userDbos = BenchmarkData.users(size);
+        users = userMapper.toDomainList(userDbos);
+        locationDbos = BenchmarkData.locations(size);
+        locations = locationMapper.toDomainList(locationDbos);
+    }
+
+    @Benchmark
+    public List<User> userToDomain() {
+        return userMapper.toDomainList(userDbos);
+    }
+
+    @Benchmark
+    public List<UserDbo> userToDbo() {
+        return userMapper.toDboList(users);
+    }
+
+    @Benchmark
+    public GetUserResponseContent userToGetResponse() {
+        return userMapper.toGetResponse(users.get(0));
+    }
+
+    @Benchmark
+    public ListUsersResponseContent userToListResponse() {
+        return userMapper.toListResponse(users, 1, size, size);
+    }
+
+    @Benchmark
+    public List<Location> locationToDomain() {
+        return locationMapper.toDomainList(locationDbos);
+    }
+
+    @Benchmark
+    public List<LocationDbo> locationToDbo() {
+        return locationMapper.toDboList(locations);
+    }
+
+    @Benchmark
+    public GetLocationResponseContent locationToGetResponse() {
+        return locationMapper.toGetResponse(locations.get(0));
+    }
+
+    @Benchmark
+    public ListLocationsResponseContent locationToListResponse() {
+        return locationMapper.toListResponse(locations, 1, size, size);
+    }
+}
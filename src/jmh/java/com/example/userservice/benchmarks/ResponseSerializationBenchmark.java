@@ -0,0 +1,67 @@
+package com.example.userservice.benchmarks;
+
+import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.mapper.LocationMapper;
+import com.example.userservice.application.mapper.UserMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of writing the list responses to JSON bytes with an {@link ObjectMapper}
+ * configured like the one WebFlux encodes responses with, at the page sizes the API serves:
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="ResponseSerialization -prof gc"}.
+ * Scores are responses per millisecond.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private ListUsersResponseContent users;
+    private ListLocationsResponseContent locations;
+
+    @Setup
+    public void setUp() {
+        UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+        LocationMapper locationMapper = Mappers.getMapper(LocationMapper.class);
+        users = userMapper.toListResponse(userMapper.toDomainList(BenchmarkData.users(size)), 1, size, size * 10);
+        locations = locationMapper.toListResponse(locationMapper.toDomainList(BenchmarkData.locations(size)), 1, size, size * 10);
+    }
+
+    @Benchmark
+    public byte[] listUsers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] listLocations() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(locations);
+    }
+}
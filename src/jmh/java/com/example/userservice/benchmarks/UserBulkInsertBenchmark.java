@@ -0,0 +1,141 @@
+package com.example.userservice.benchmarks;
+
+import com.example.userservice.application.mapper.UserMapper;
+import com.example.userservice.domain.model.User;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.UserRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.repository.JpaUserRepository;
+import com.example.userservice.infrastructure.adapters.output.persistence.repository.JpaUserRepositoryCustomImpl;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.support.R2dbcRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of creating users one INSERT at a time ({@code POST /users}) versus the chunked
+ * batched INSERT behind {@code POST /users:bulk}. Scores are users per second.
+ * <p>
+ * With {@code DB_URL}, {@code DB_USERNAME} and {@code DB_PASSWORD} set, it runs against that
+ * database, which must already be migrated, e.g. a local Postgres. Without them it runs
+ * against in-memory H2, which has no commit to flush and no round trip to save: there only
+ * the per-row {@code NOT EXISTS} guards show, and single inserts come out ahead. Judge the
+ * bulk path on Postgres. {@code singleInsert} keeps speeding up on H2 for about 30 seconds,
+ * hence the long warm-up.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 15, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserBulkInsertBenchmark {
+
+    private static final int USERS_PER_INVOCATION = 1_000;
+
+    @Param({"100", "500"})
+    private int chunkSize;
+
+    private DatabaseClient databaseClient;
+    private UserRepositoryAdapter adapter;
+    private List<User> users;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() {
+        ConnectionFactory database;
+        if (System.getenv("DB_URL") == null) {
+            database = ConnectionFactories.get("r2dbc:h2:mem:///bulkbench?options=DB_CLOSE_DELAY=-1");
+            new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).populate(database).block();
+        } else {
+            // schema.sql only suits H2; a database behind DB_URL brings its own migrated schema
+            database = ConnectionFactories.get(ConnectionFactoryOptions.parse(System.getenv("DB_URL")).mutate()
+                    .option(ConnectionFactoryOptions.USER, System.getenv().getOrDefault("DB_USERNAME", "postgres"))
+                    .option(ConnectionFactoryOptions.PASSWORD, System.getenv().getOrDefault("DB_PASSWORD", ""))
+                    .build());
+        }
+        // pooled as in the application, so single inserts do not pay for a connection each
+        ConnectionFactory connectionFactory = new ConnectionPool(ConnectionPoolConfiguration.builder(database).build());
+        databaseClient = DatabaseClient.create(connectionFactory);
+        R2dbcEntityTemplate template = new R2dbcEntityTemplate(connectionFactory);
+        JpaUserRepository repository = new R2dbcRepositoryFactory(template)
+                .getRepository(JpaUserRepository.class, RepositoryFragments.just(
+                        new JpaUserRepositoryCustomImpl(databaseClient, template.getConverter())));
+        adapter = new UserRepositoryAdapter(repository, Mappers.getMapper(UserMapper.class));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        databaseClient.sql("DELETE FROM users").then().block();
+    }
+
+    @Setup(Level.Invocation)
+    public void newUsers() {
+        String now = Instant.now().toString();
+        users = new ArrayList<>(USERS_PER_INVOCATION);
+        for (int i = 0; i < USERS_PER_INVOCATION; i++) {
+            long n = sequence++;
+            users.add(User.builder()
+                    .userId(UUID.randomUUID().toString())
+                    .username("user-" + n)
+                    .email("user-" + n + "@example.com")
+                    .firstName("First")
+                    .lastName("Last")
+                    .status("ACTIVE")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public long singleInsert() {
+        return Flux.fromIterable(users)
+                .doOnNext(user -> user.setUserId(null))
+                .concatMap(adapter::save)
+                .count()
+                .block();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(USERS_PER_INVOCATION)
+    public long batchedInsert() {
+        return Flux.fromIterable(users)
+                .buffer(chunkSize)
+                .concatMap(adapter::insertAll)
+                .filter(Boolean::booleanValue)
+                .count()
+                .block();
+    }
+}
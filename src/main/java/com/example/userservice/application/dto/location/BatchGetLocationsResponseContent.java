@@ -0,0 +1,43 @@
+package com.example.userservice.application.dto.location;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BatchGetLocationsResponseContent.
+ * <p>
+ * One result per requested id, in request order, together with the number of ids that
+ * were and were not found.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for BatchGetLocationsResponseContent")
+public class BatchGetLocationsResponseContent {
+
+    @NotNull
+    @JsonProperty("found")
+    @Schema(description = "Number of requested ids that were found")
+    private Integer found;
+
+    @NotNull
+    @JsonProperty("notFound")
+    @Schema(description = "Number of requested ids that do not exist")
+    private Integer notFound;
+
+    @NotNull
+    @JsonProperty("results")
+    @Schema(description = "Per-id results in request order")
+    private List<BatchGetLocationResult> results;
+}
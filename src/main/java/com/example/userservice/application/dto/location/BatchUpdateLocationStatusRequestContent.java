@@ -0,0 +1,42 @@
+package com.example.userservice.application.dto.location;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BatchUpdateLocationStatusRequestContent.
+ * <p>
+ * Identifiers of the Locations whose status is changed and the status to set.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for BatchUpdateLocationStatusRequestContent")
+public class BatchUpdateLocationStatusRequestContent {
+
+    @NotEmpty
+    @Size(max = 1000)
+    @JsonProperty("ids")
+    @Schema(description = "Identifiers of the Locations to update")
+    private List<@NotNull @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$") String> ids;
+
+    @NotNull
+    @Pattern(regexp = "^(ACTIVE|INACTIVE|PENDING|SUSPENDED|DELETED)$")
+    @JsonProperty("status")
+    @Schema(description = "Status to set", example = "INACTIVE")
+    private String status;
+}
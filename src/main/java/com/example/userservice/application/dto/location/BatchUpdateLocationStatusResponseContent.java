@@ -0,0 +1,43 @@
+package com.example.userservice.application.dto.location;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BatchUpdateLocationStatusResponseContent.
+ * <p>
+ * Outcome of a batch status change: how many distinct Locations were requested and how many
+ * rows actually changed. Unknown ids and Locations already in the target status are not counted
+ * as updated.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for BatchUpdateLocationStatusResponseContent")
+public class BatchUpdateLocationStatusResponseContent {
+
+    @NotNull
+    @JsonProperty("requested")
+    @Schema(description = "Number of distinct ids in the request")
+    private Integer requested;
+
+    @NotNull
+    @JsonProperty("updated")
+    @Schema(description = "Number of Locations whose status changed")
+    private Long updated;
+
+    @NotNull
+    @JsonProperty("status")
+    @Schema(description = "Status that was set")
+    private String status;
+}
@@ -0,0 +1,44 @@
+package com.example.userservice.application.dto.location;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for GetGeoTreeResponseContent.
+ * <p>
+ * Full geo reference tree as flat lists linked by parent identifiers
+ * (countryId, regionId, cityId), so clients can rebuild the hierarchy
+ * from a single cacheable download.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for GetGeoTreeResponseContent")
+public class GetGeoTreeResponseContent {
+
+    @JsonProperty("countries")
+    @Schema(description = "countries field")
+    private List<CountryResponse> countries;
+
+    @JsonProperty("regions")
+    @Schema(description = "regions field")
+    private List<RegionResponse> regions;
+
+    @JsonProperty("cities")
+    @Schema(description = "cities field")
+    private List<CityResponse> cities;
+
+    @JsonProperty("neighborhoods")
+    @Schema(description = "neighborhoods field")
+    private List<NeighborhoodResponse> neighborhoods;
+}
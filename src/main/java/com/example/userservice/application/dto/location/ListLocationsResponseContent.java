@@ -46,13 +46,15 @@ public class ListLocationsResponseContent {
     @Schema(description = "size field")
     private BigDecimal size;
 
-    @NotNull
     @JsonProperty("total")
-    @Schema(description = "total field")
+    @Schema(description = "total field; null on cursor pages, which are not counted")
     private BigDecimal total;
 
-    @NotNull
     @JsonProperty("totalPages")
-    @Schema(description = "totalPages field")
+    @Schema(description = "totalPages field; null on cursor pages, which are not counted")
     private BigDecimal totalPages;
+
+    @JsonProperty("nextCursor")
+    @Schema(description = "Opaque cursor for the next keyset page; null when there are no more rows")
+    private String nextCursor;
 }
@@ -0,0 +1,66 @@
+package com.example.userservice.application.dto.location;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for LocationImportResponseContent.
+ * <p>
+ * Progress and outcome of a CSV location import job. Counters are updated
+ * after every committed batch while the job is running.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for LocationImportResponseContent")
+public class LocationImportResponseContent {
+
+    @NotNull
+    @JsonProperty("jobId")
+    @Schema(description = "Import job identifier")
+    private String jobId;
+
+    @NotNull
+    @JsonProperty("status")
+    @Schema(description = "Job status", allowableValues = {"RUNNING", "COMPLETED", "FAILED"})
+    private String status;
+
+    @NotNull
+    @JsonProperty("rowsRead")
+    @Schema(description = "Data rows read so far, excluding the header")
+    private Long rowsRead;
+
+    @NotNull
+    @JsonProperty("rowsImported")
+    @Schema(description = "Rows written in committed batches")
+    private Long rowsImported;
+
+    @NotNull
+    @JsonProperty("rowsRejected")
+    @Schema(description = "Rows skipped because they failed validation")
+    private Long rowsRejected;
+
+    @JsonProperty("errors")
+    @Schema(description = "First validation errors, prefixed with their line number")
+    private List<String> errors;
+
+    @NotNull
+    @JsonProperty("startedAt")
+    @Schema(description = "startedAt field")
+    private String startedAt;
+
+    @JsonProperty("finishedAt")
+    @Schema(description = "finishedAt field")
+    private String finishedAt;
+}
@@ -0,0 +1,27 @@
+package com.example.userservice.application.dto.location;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Pre-serialized {@link GetGeoTreeResponseContent} together with its strong ETag.
+ * <p>
+ * Built once per geo reference data snapshot so the full tree can be written
+ * to the response as-is, and answered with 304 when the client already holds it.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerializedGeoTree {
+
+    private String etag;
+
+    private byte[] json;
+}
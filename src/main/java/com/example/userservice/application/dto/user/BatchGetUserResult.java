@@ -0,0 +1,46 @@
+package com.example.userservice.application.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BatchGetUserResult.
+ * <p>
+ * Outcome of a single id of a batch retrieval: the User when it exists, otherwise a
+ * not-found marker.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Data Transfer Object for BatchGetUserResult")
+public class BatchGetUserResult {
+
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    @NotNull
+    @JsonProperty("id")
+    @Schema(description = "Identifier as given in the request")
+    private String id;
+
+    @NotNull
+    @JsonProperty("result")
+    @Schema(description = "Outcome of the lookup", allowableValues = {FOUND, NOT_FOUND})
+    private String result;
+
+    @JsonProperty("user")
+    @Schema(description = "The User, when found")
+    private UserResponse user;
+}
@@ -0,0 +1,36 @@
+package com.example.userservice.application.dto.user;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BatchGetUsersRequestContent.
+ * <p>
+ * Identifiers of the Users to retrieve, for lists too long to fit in a query string.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for BatchGetUsersRequestContent")
+public class BatchGetUsersRequestContent {
+
+    @NotEmpty
+    @Size(max = 1000)
+    @JsonProperty("ids")
+    @Schema(description = "Identifiers of the Users to retrieve")
+    private List<@NotNull @Pattern(regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$") String> ids;
+}
@@ -0,0 +1,43 @@
+package com.example.userservice.application.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BatchUpdateUserStatusResponseContent.
+ * <p>
+ * Outcome of a batch status change: how many distinct Users were requested and how many
+ * rows actually changed. Unknown ids and Users already in the target status are not counted
+ * as updated.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for BatchUpdateUserStatusResponseContent")
+public class BatchUpdateUserStatusResponseContent {
+
+    @NotNull
+    @JsonProperty("requested")
+    @Schema(description = "Number of distinct ids in the request")
+    private Integer requested;
+
+    @NotNull
+    @JsonProperty("updated")
+    @Schema(description = "Number of Users whose status changed")
+    private Long updated;
+
+    @NotNull
+    @JsonProperty("status")
+    @Schema(description = "Status that was set")
+    private String status;
+}
@@ -0,0 +1,55 @@
+package com.example.userservice.application.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BulkCreateUserResult.
+ * <p>
+ * Outcome of a single element of a bulk creation request, identified by its
+ * zero-based position in the submitted array.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Data Transfer Object for BulkCreateUserResult")
+public class BulkCreateUserResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String INVALID = "INVALID";
+
+    @NotNull
+    @JsonProperty("index")
+    @Schema(description = "Zero-based position of the element in the request array")
+    private Long index;
+
+    @NotNull
+    @JsonProperty("result")
+    @Schema(description = "Outcome of the element", allowableValues = {CREATED, CONFLICT, INVALID})
+    private String result;
+
+    @JsonProperty("userId")
+    @Schema(description = "Identifier of the created user")
+    private String userId;
+
+    @JsonProperty("username")
+    @Schema(description = "username field")
+    private String username;
+
+    @JsonProperty("message")
+    @Schema(description = "Reason the element was not created")
+    private String message;
+}
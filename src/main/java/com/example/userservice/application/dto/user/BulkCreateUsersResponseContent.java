@@ -0,0 +1,48 @@
+package com.example.userservice.application.dto.user;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for BulkCreateUsersResponseContent.
+ * <p>
+ * Per-element results of a bulk creation request together with the
+ * number of elements that ended in each outcome.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object for BulkCreateUsersResponseContent")
+public class BulkCreateUsersResponseContent {
+
+    @NotNull
+    @JsonProperty("created")
+    @Schema(description = "Number of users created")
+    private Integer created;
+
+    @NotNull
+    @JsonProperty("conflicts")
+    @Schema(description = "Number of elements whose username or email already exists")
+    private Integer conflicts;
+
+    @NotNull
+    @JsonProperty("invalid")
+    @Schema(description = "Number of elements that failed validation")
+    private Integer invalid;
+
+    @NotNull
+    @JsonProperty("results")
+    @Schema(description = "Per-element results in request order")
+    private List<BulkCreateUserResult> results;
+}
@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.ToString;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
@@ -45,6 +46,7 @@ public class CreateUserRequestContent {
     @Size(min = 6, max = 100)
     @JsonProperty("password")
     @Schema(description = "password field")
+    @ToString.Exclude
     private String password;
 
     @Size(min = 1, max = 100)
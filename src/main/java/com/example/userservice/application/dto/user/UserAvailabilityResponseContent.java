@@ -0,0 +1,44 @@
+package com.example.userservice.application.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for UserAvailabilityResponseContent.
+ * <p>
+ * Whether the queried username and email are still free. Only the values that were
+ * queried are present.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Data Transfer Object for UserAvailabilityResponseContent")
+public class UserAvailabilityResponseContent {
+
+    @JsonProperty("username")
+    @Schema(description = "username field")
+    private String username;
+
+    @JsonProperty("usernameAvailable")
+    @Schema(description = "Whether no User has this username")
+    private Boolean usernameAvailable;
+
+    @JsonProperty("email")
+    @Schema(description = "email field")
+    private String email;
+
+    @JsonProperty("emailAvailable")
+    @Schema(description = "Whether no User has this email")
+    private Boolean emailAvailable;
+}
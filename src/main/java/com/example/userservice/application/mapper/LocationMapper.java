@@ -115,4 +115,15 @@ public interface LocationMapper {
     default ListLocationsResponseContent toListResponse(List<Location> domains) {
         return toListResponse(domains, 1, domains != null ? domains.size() : 0);
     }
+
+    // Keyset pages are not counted, so total and totalPages stay null
+    default ListLocationsResponseContent toCursorListResponse(List<Location> domains, int size) {
+        if (domains == null) return null;
+        
+        ListLocationsResponseContent response = new ListLocationsResponseContent();
+        response.setLocations(toDtoList(domains));
+        response.setPage(java.math.BigDecimal.ONE);
+        response.setSize(java.math.BigDecimal.valueOf(size));
+        return response;
+    }
 }
\ No newline at end of file
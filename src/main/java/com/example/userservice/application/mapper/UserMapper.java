@@ -115,4 +115,15 @@ public interface UserMapper {
     default ListUsersResponseContent toListResponse(List<User> domains) {
         return toListResponse(domains, 1, domains != null ? domains.size() : 0);
     }
+
+    // Keyset pages are not counted, so total and totalPages stay null
+    default ListUsersResponseContent toCursorListResponse(List<User> domains, int size) {
+        if (domains == null) return null;
+        
+        ListUsersResponseContent response = new ListUsersResponseContent();
+        response.setUsers(toDtoList(domains));
+        response.setPage(java.math.BigDecimal.ONE);
+        response.setSize(java.math.BigDecimal.valueOf(size));
+        return response;
+    }
 }
\ No newline at end of file
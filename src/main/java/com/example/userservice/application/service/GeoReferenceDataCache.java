@@ -0,0 +1,300 @@
+package com.example.userservice.application.service;
+
+import com.example.userservice.application.dto.location.CityResponse;
+import com.example.userservice.application.dto.location.CountryResponse;
+import com.example.userservice.application.dto.location.GetGeoTreeResponseContent;
+import com.example.userservice.application.dto.location.NeighborhoodResponse;
+import com.example.userservice.application.dto.location.RegionResponse;
+import com.example.userservice.application.dto.location.SerializedGeoTree;
+import com.example.userservice.application.mapper.CityMapper;
+import com.example.userservice.application.mapper.CountryMapper;
+import com.example.userservice.application.mapper.NeighborhoodMapper;
+import com.example.userservice.application.mapper.RegionMapper;
+import com.example.userservice.domain.ports.output.CityRepositoryPort;
+import com.example.userservice.domain.ports.output.CountryRepositoryPort;
+import com.example.userservice.domain.ports.output.NeighborhoodRepositoryPort;
+import com.example.userservice.domain.ports.output.RegionRepositoryPort;
+import com.example.userservice.utils.LoggingUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the geo reference data (countries, regions, cities, neighborhoods).
+ * <p>
+ * The whole tree is loaded once at startup into immutable parent-to-children indexes and
+ * served from memory by the hierarchy endpoints. Refreshes build a complete new snapshot and
+ * swap it in atomically on a fixed delay ({@code geo.cache.refresh-interval}). Where the
+ * {@code georeference} actuator endpoint has been exposed, it can also trigger one on demand;
+ * it is not exposed by default. Readers never see a partially built snapshot; until the first
+ * load completes, lookups report a miss and callers fall back to the database.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Component
+public class GeoReferenceDataCache {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(GeoReferenceDataCache.class);
+
+    private final CountryRepositoryPort countryRepositoryPort;
+    private final RegionRepositoryPort regionRepositoryPort;
+    private final CityRepositoryPort cityRepositoryPort;
+    private final NeighborhoodRepositoryPort neighborhoodRepositoryPort;
+    private final CountryMapper countryMapper;
+    private final RegionMapper regionMapper;
+    private final CityMapper cityMapper;
+    private final NeighborhoodMapper neighborhoodMapper;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private final AtomicReference<CompletableFuture<Map<String, Object>>> firstLoad = new AtomicReference<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public GeoReferenceDataCache(CountryRepositoryPort countryRepositoryPort,
+                                 RegionRepositoryPort regionRepositoryPort,
+                                 CityRepositoryPort cityRepositoryPort,
+                                 NeighborhoodRepositoryPort neighborhoodRepositoryPort,
+                                 CountryMapper countryMapper,
+                                 RegionMapper regionMapper,
+                                 CityMapper cityMapper,
+                                 NeighborhoodMapper neighborhoodMapper,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        this.countryRepositoryPort = countryRepositoryPort;
+        this.regionRepositoryPort = regionRepositoryPort;
+        this.cityRepositoryPort = cityRepositoryPort;
+        this.neighborhoodRepositoryPort = neighborhoodRepositoryPort;
+        this.countryMapper = countryMapper;
+        this.regionMapper = regionMapper;
+        this.cityMapper = cityMapper;
+        this.neighborhoodMapper = neighborhoodMapper;
+        this.objectMapper = objectMapper;
+        this.hits = Counter.builder("geo.cache.requests")
+                .description("Geo hierarchy lookups by cache outcome")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("geo.cache.requests")
+                .description("Geo hierarchy lookups by cache outcome")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("geo.cache.entries", snapshot, ref -> ref.get().entries())
+                .description("Number of geo entities held by the current snapshot")
+                .register(meterRegistry);
+        Gauge.builder("geo.cache.snapshot.size", snapshot, ref -> ref.get().treeJson().length)
+                .description("Size of the pre-serialized geo tree")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        loadOnce().subscribe(
+                loaded -> { },
+                e -> logger.error("Initial geo reference data load failed; serving from database until next refresh", e));
+    }
+
+    @Scheduled(fixedDelayString = "${geo.cache.refresh-interval:PT1H}", initialDelayString = "${geo.cache.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        refresh().subscribe(
+                loaded -> { },
+                e -> logger.error("Scheduled geo reference data refresh failed; keeping previous snapshot", e));
+    }
+
+    /**
+     * Reloads the whole tree and atomically replaces the current snapshot.
+     * On failure the previous snapshot stays in place.
+     *
+     * @return summary of the snapshot that was installed
+     */
+    public Mono<Map<String, Object>> refresh() {
+        return Mono.zip(
+                        countryRepositoryPort.findAll().collectList(),
+                        regionRepositoryPort.findAll().collectList(),
+                        cityRepositoryPort.findAll().collectList(),
+                        neighborhoodRepositoryPort.findAll().collectList())
+                .map(t -> build(
+                        countryMapper.toDtoList(t.getT1()),
+                        regionMapper.toDtoList(t.getT2()),
+                        cityMapper.toDtoList(t.getT3()),
+                        neighborhoodMapper.toDtoList(t.getT4())))
+                .doOnNext(next -> {
+                    snapshot.set(next);
+                    logger.info("Geo reference data snapshot loaded: {} entities, etag {}", next.entries(), next.etag());
+                })
+                .map(Snapshot::summary);
+    }
+
+    public Map<String, Object> stats() {
+        return snapshot.get().summary();
+    }
+
+    public Optional<List<RegionResponse>> regionsByCountry(String countryId) {
+        return lookup(s -> s.regionsByCountry().getOrDefault(key(countryId), List.of()));
+    }
+
+    public Optional<List<CityResponse>> citiesByRegion(String regionId) {
+        return lookup(s -> s.citiesByRegion().getOrDefault(key(regionId), List.of()));
+    }
+
+    public Optional<List<NeighborhoodResponse>> neighborhoodsByCity(String cityId) {
+        return lookup(s -> s.neighborhoodsByCity().getOrDefault(key(cityId), List.of()));
+    }
+
+    /**
+     * The snapshot is keyed by the canonical UUID form the database returns; a parent id in any
+     * other casing must find the same children the database lookup would.
+     */
+    private static String key(String id) {
+        try {
+            return UUID.fromString(id).toString();
+        } catch (IllegalArgumentException e) {
+            return id;
+        }
+    }
+
+    /**
+     * Returns the pre-serialized full tree, loading it first if no snapshot is installed yet.
+     */
+    public Mono<SerializedGeoTree> tree() {
+        return Mono.defer(() -> {
+            Snapshot current = snapshot.get();
+            if (current.loaded()) {
+                hits.increment();
+                return Mono.just(current.serializedTree());
+            }
+            misses.increment();
+            return loadOnce().then(Mono.fromSupplier(() -> {
+                return snapshot.get().serializedTree();
+            }));
+        });
+    }
+
+    /**
+     * Runs one refresh for every caller that arrives before the first snapshot is installed,
+     * instead of one full reload per request. The slot is cleared once the load finishes, so a
+     * failed load is retried by the next caller.
+     */
+    private Mono<Map<String, Object>> loadOnce() {
+        return Mono.defer(() -> {
+            CompletableFuture<Map<String, Object>> pending = new CompletableFuture<>();
+            CompletableFuture<Map<String, Object>> existing = firstLoad.compareAndExchange(null, pending);
+            if (existing != null) {
+                return Mono.fromFuture(existing, true);
+            }
+            Mono.defer(this::refresh).toFuture().whenComplete((summary, error) -> {
+                firstLoad.compareAndSet(pending, null);
+                if (error != null) {
+                    pending.completeExceptionally(error);
+                } else {
+                    pending.complete(summary);
+                }
+            });
+            return Mono.fromFuture(pending, true);
+        });
+    }
+
+    private <T> Optional<T> lookup(Function<Snapshot, T> reader) {
+        Snapshot current = snapshot.get();
+        if (!current.loaded()) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(reader.apply(current));
+    }
+
+    private Snapshot build(List<CountryResponse> countries, List<RegionResponse> regions,
+                           List<CityResponse> cities, List<NeighborhoodResponse> neighborhoods) {
+        byte[] treeJson;
+        try {
+            treeJson = objectMapper.writeValueAsBytes(GetGeoTreeResponseContent.builder()
+                    .countries(countries)
+                    .regions(regions)
+                    .cities(cities)
+                    .neighborhoods(neighborhoods)
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize geo reference tree", e);
+        }
+        return new Snapshot(
+                true,
+                index(regions, RegionResponse::getCountryId, RegionResponse::getName),
+                index(cities, CityResponse::getRegionId, CityResponse::getName),
+                index(neighborhoods, NeighborhoodResponse::getCityId, NeighborhoodResponse::getName),
+                countries.size() + regions.size() + cities.size() + neighborhoods.size(),
+                treeJson,
+                etag(treeJson),
+                Instant.now());
+    }
+
+    /**
+     * Groups children by parent, each list ordered by name like the {@code findBy<Parent>Id}
+     * queries the lookups fall back to.
+     */
+    private static <T> Map<String, List<T>> index(List<T> children, Function<T, String> parentId, Function<T, String> name) {
+        return children.stream()
+                .filter(child -> parentId.apply(child) != null)
+                .sorted(Comparator.comparing(name, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.collectingAndThen(
+                        Collectors.groupingBy(parentId, Collectors.toUnmodifiableList()),
+                        Map::copyOf));
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Snapshot(boolean loaded,
+                            Map<String, List<RegionResponse>> regionsByCountry,
+                            Map<String, List<CityResponse>> citiesByRegion,
+                            Map<String, List<NeighborhoodResponse>> neighborhoodsByCity,
+                            int entries,
+                            byte[] treeJson,
+                            String etag,
+                            Instant loadedAt) {
+
+        static final Snapshot EMPTY = new Snapshot(false, Map.of(), Map.of(), Map.of(), 0, new byte[0], null, null);
+
+        SerializedGeoTree serializedTree() {
+            return SerializedGeoTree.builder().etag(etag).json(treeJson).build();
+        }
+
+        Map<String, Object> summary() {
+            return Map.of(
+                    "loaded", loaded,
+                    "entries", entries,
+                    "bytes", treeJson.length,
+                    "etag", etag != null ? etag : "",
+                    "loadedAt", loadedAt != null ? loadedAt.toString() : "");
+        }
+    }
+}
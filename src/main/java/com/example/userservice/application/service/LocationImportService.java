@@ -0,0 +1,269 @@
+package com.example.userservice.application.service;
+
+import com.example.userservice.application.dto.location.LocationImportResponseContent;
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.input.LocationImportUseCase;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
+import com.example.userservice.utils.CsvUtils;
+import com.example.userservice.utils.LoggingUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Application service implementing streaming CSV imports of Locations.
+ * <p>
+ * The body is consumed line by line: the first line is a header naming the columns, every
+ * following line is validated on its own and valid rows are written in batches of
+ * {@code locations.import.batch-size}, each batch committed independently. Invalid rows are
+ * counted and reported without stopping the import. {@link #importCsv(Flux)} emits the job as
+ * soon as it is registered and again once it finishes; progress of running and recent jobs is
+ * kept in memory and exposed through {@link #getImport(String)}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+public class LocationImportService implements LocationImportUseCase {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(LocationImportService.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 5_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_RETAINED_JOBS = 50;
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final List<String> REQUIRED_COLUMNS = List.of("userId", "country", "region", "city", "address", "locationType");
+    private static final List<String> OPTIONAL_COLUMNS = List.of("neighborhood", "postalCode", "latitude", "longitude");
+
+    private final LocationRepositoryPort locationRepositoryPort;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Value("${locations.import.batch-size:" + DEFAULT_BATCH_SIZE + "}")
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    @Override
+    public Flux<LocationImportResponseContent> importCsv(Flux<String> lines) {
+        return Flux.defer(() -> {
+            ImportJob job = register();
+            logger.info("Executing ImportLocations job {} with batch size: {}", job.jobId, batchSize);
+
+            Mono<LocationImportResponseContent> result = locationRepositoryPort.findActiveLocationTypes()
+                    .collect(Collectors.toUnmodifiableSet())
+                    .flatMapMany(locationTypes -> parse(lines, locationTypes, job))
+                    .buffer(batchSize)
+                    .concatMap(batch -> locationRepositoryPort.importAll(batch)
+                            .doOnNext(imported -> {
+                                job.rowsImported.addAndGet(imported);
+                                logger.debug("Import job {} committed batch of {} rows", job.jobId, imported);
+                            }))
+                    .then(Mono.fromSupplier(() -> {
+                        job.finish(STATUS_COMPLETED, null);
+                        logger.info("Import job {} completed: {} imported, {} rejected",
+                                job.jobId, job.rowsImported.get(), job.rowsRejected.get());
+                        return job.snapshot();
+                    }))
+                    .doOnError(e -> {
+                        job.finish(STATUS_FAILED, e.getMessage());
+                        logger.error("Error in ImportLocations job {}", e, job.jobId);
+                    });
+            // the RUNNING snapshot goes out before the first line is read, so the caller learns the job id up front
+            return Mono.fromSupplier(job::snapshot)
+                    .concatWith(result)
+                    .doOnCancel(() -> job.finish(STATUS_FAILED, "Import cancelled"));
+        });
+    }
+
+    @Override
+    public Mono<LocationImportResponseContent> getImport(String jobId) {
+        logger.info("Executing GetLocationImport with jobId: {}", jobId);
+        return Mono.justOrEmpty(jobs.get(jobId))
+                .map(ImportJob::snapshot)
+                .switchIfEmpty(Mono.error(new NotFoundException("Import job not found")));
+    }
+
+    @Override
+    public Flux<LocationImportResponseContent> listImports() {
+        return Flux.fromStream(jobs.values().stream()
+                .sorted(Comparator.comparing((ImportJob job) -> job.startedAt).reversed())
+                .map(ImportJob::snapshot));
+    }
+
+    private ImportJob register() {
+        ImportJob job = new ImportJob();
+        jobs.put(job.jobId, job);
+        if (jobs.size() > MAX_RETAINED_JOBS) {
+            jobs.values().stream()
+                    .filter(existing -> existing.finishedAt != null)
+                    .min(Comparator.comparing(existing -> existing.startedAt))
+                    .ifPresent(oldest -> jobs.remove(oldest.jobId));
+        }
+        return job;
+    }
+
+    private Flux<Location> parse(Flux<String> lines, Set<String> locationTypes, ImportJob job) {
+        return lines.switchOnFirst((first, all) -> {
+            if (!first.hasValue()) {
+                return all.thenMany(Flux.<Location>empty());
+            }
+            Map<String, Integer> columns = header(first.get());
+            String now = Instant.now().toString();
+            return all.skip(1)
+                    .index((i, line) -> Tuples.of(i + 2, line))
+                    .filter(numbered -> !numbered.getT2().isBlank())
+                    .handle((numbered, sink) -> {
+                        job.rowsRead.incrementAndGet();
+                        try {
+                            sink.next(toLocation(CsvUtils.parseLine(numbered.getT2()), columns, locationTypes, now));
+                        } catch (IllegalArgumentException e) {
+                            job.reject("line " + numbered.getT1() + ": " + e.getMessage());
+                        }
+                    });
+        });
+    }
+
+    private Map<String, Integer> header(String line) {
+        List<String> names = CsvUtils.parseLine(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (!REQUIRED_COLUMNS.contains(name) && !OPTIONAL_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            columns.put(name, i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new IllegalArgumentException("Missing CSV column: " + required);
+            }
+        }
+        return columns;
+    }
+
+    private Location toLocation(List<String> fields, Map<String, Integer> columns, Set<String> locationTypes, String now) {
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("expected " + columns.size() + " fields but found " + fields.size());
+        }
+        String userId = required(fields, columns, "userId");
+        try {
+            UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("userId is not a valid UUID");
+        }
+        String locationType = required(fields, columns, "locationType");
+        if (!locationTypes.contains(locationType)) {
+            throw new IllegalArgumentException("unknown locationType " + locationType);
+        }
+        return Location.builder()
+                .userId(userId)
+                .country(required(fields, columns, "country"))
+                .region(required(fields, columns, "region"))
+                .city(required(fields, columns, "city"))
+                .neighborhood(optional(fields, columns, "neighborhood"))
+                .address(required(fields, columns, "address"))
+                .postalCode(optional(fields, columns, "postalCode"))
+                .latitude(coordinate(fields, columns, "latitude", 90))
+                .longitude(coordinate(fields, columns, "longitude", 180))
+                .locationType(locationType)
+                .status("ACTIVE")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private String optional(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private String required(List<String> fields, Map<String, Integer> columns, String column) {
+        String value = optional(fields, columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required");
+        }
+        return value;
+    }
+
+    private Double coordinate(List<String> fields, Map<String, Integer> columns, String column, double limit) {
+        String value = optional(fields, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value);
+            if (Math.abs(parsed) > limit) {
+                throw new IllegalArgumentException(column + " out of range");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " is not a number");
+        }
+    }
+
+    private static final class ImportJob {
+
+        private final String jobId = UUID.randomUUID().toString();
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong rowsImported = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private final Queue<String> errors = new ConcurrentLinkedQueue<>();
+        private volatile String status = STATUS_RUNNING;
+        private volatile Instant finishedAt;
+
+        void reject(String error) {
+            if (rowsRejected.incrementAndGet() <= MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        synchronized void finish(String finalStatus, String error) {
+            if (finishedAt != null) {
+                return;
+            }
+            if (error != null) {
+                errors.add(error);
+            }
+            status = finalStatus;
+            finishedAt = Instant.now();
+        }
+
+        LocationImportResponseContent snapshot() {
+            Instant finished = finishedAt;
+            return LocationImportResponseContent.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .rowsRead(rowsRead.get())
+                    .rowsImported(rowsImported.get())
+                    .rowsRejected(rowsRejected.get())
+                    .errors(List.copyOf(errors))
+                    .startedAt(startedAt.toString())
+                    .finishedAt(finished != null ? finished.toString() : null)
+                    .build();
+        }
+    }
+}
@@ -1,26 +1,44 @@
 package com.example.userservice.application.service;
 
 import com.example.userservice.domain.ports.input.LocationUseCase;
+import com.example.userservice.domain.ports.output.CityRepositoryPort;
 import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import com.example.userservice.domain.ports.output.NeighborhoodRepositoryPort;
+import com.example.userservice.domain.ports.output.RegionRepositoryPort;
 import com.example.userservice.application.dto.location.CreateLocationRequestContent;
 import com.example.userservice.application.dto.location.CreateLocationResponseContent;
+import com.example.userservice.application.dto.location.BatchGetLocationResult;
+import com.example.userservice.application.dto.location.BatchGetLocationsResponseContent;
 import com.example.userservice.application.dto.location.GetLocationResponseContent;
 import com.example.userservice.application.dto.location.UpdateLocationRequestContent;
 import com.example.userservice.application.dto.location.UpdateLocationResponseContent;
 import com.example.userservice.application.dto.location.DeleteLocationResponseContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusRequestContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusResponseContent;
 import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.location.LocationResponse;
 import com.example.userservice.application.dto.location.GetNeighborhoodsByCityResponseContent;
 import com.example.userservice.application.dto.location.GetRegionsByCountryResponseContent;
 import com.example.userservice.application.dto.location.GetCitiesByRegionResponseContent;
+import com.example.userservice.application.dto.location.SerializedGeoTree;
 import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.model.PageCursor;
+import com.example.userservice.application.mapper.CityMapper;
 import com.example.userservice.application.mapper.LocationMapper;
+import com.example.userservice.application.mapper.NeighborhoodMapper;
+import com.example.userservice.application.mapper.RegionMapper;
 import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
+import com.example.userservice.utils.CursorUtils;
 import com.example.userservice.utils.LoggingUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Consolidated application service implementing all Location use cases.
  * 
@@ -32,9 +50,20 @@ import reactor.core.publisher.Flux;
 public class LocationService implements LocationUseCase {
 
     private static final LoggingUtils logger = LoggingUtils.getLogger(LocationService.class);
+
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final List<String> SORT_KEYS = List.of(SORT_CREATED_AT);
+    private static final int MAX_BATCH_GET_SIZE = 1000;
     
     private final LocationRepositoryPort locationRepositoryPort;
     private final LocationMapper locationMapper;
+    private final RegionRepositoryPort regionRepositoryPort;
+    private final CityRepositoryPort cityRepositoryPort;
+    private final NeighborhoodRepositoryPort neighborhoodRepositoryPort;
+    private final RegionMapper regionMapper;
+    private final CityMapper cityMapper;
+    private final NeighborhoodMapper neighborhoodMapper;
+    private final GeoReferenceDataCache geoReferenceDataCache;
 
     @Override
     public Mono<CreateLocationResponseContent> create(CreateLocationRequestContent request) {
@@ -62,18 +91,75 @@ public class LocationService implements LocationUseCase {
                 .doOnError(e -> logger.error("Error in GetLocation", e, locationId));
     }
 
+    /**
+     * Retrieves many locations with a single {@code ANY(:ids)} query instead of one lookup per id.
+     * Results follow the request order, repeated ids included, and ids that do not exist are
+     * reported as {@link BatchGetLocationResult#NOT_FOUND}.
+     */
+    @Override
+    public Mono<BatchGetLocationsResponseContent> batchGet(List<String> locationIds) {
+        return Mono.defer(() -> {
+            List<String> keys = batchGetKeys(locationIds);
+            List<String> distinctKeys = keys.stream().distinct().toList();
+            logger.info("Executing BatchGetLocations for {} ids ({} distinct)", keys.size(), distinctKeys.size());
+            
+            return locationRepositoryPort.findAllByIds(distinctKeys)
+                    .collectMap(Location::getLocationId)
+                    .map(found -> {
+                        List<BatchGetLocationResult> results = new ArrayList<>(keys.size());
+                        for (int i = 0; i < keys.size(); i++) {
+                            results.add(batchGetResult(locationIds.get(i), found.get(keys.get(i))));
+                        }
+                        int foundCount = (int) results.stream().filter(r -> BatchGetLocationResult.FOUND.equals(r.getResult())).count();
+                        logger.info("Retrieved {} of {} requested locations", foundCount, results.size());
+                        return BatchGetLocationsResponseContent.builder()
+                                .found(foundCount)
+                                .notFound(results.size() - foundCount)
+                                .results(results)
+                                .build();
+                    });
+        })
+        .doOnError(e -> logger.error("Error in BatchGetLocations", e));
+    }
+
+    /**
+     * Validates the requested ids and normalizes them to the canonical UUID form the
+     * repository returns, so rows can be matched back to the ids as they were given.
+     */
+    private List<String> batchGetKeys(List<String> locationIds) {
+        if (locationIds == null || locationIds.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (locationIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("ids cannot contain more than " + MAX_BATCH_GET_SIZE + " values");
+        }
+        List<String> keys = new ArrayList<>(locationIds.size());
+        for (String locationId : locationIds) {
+            try {
+                keys.add(UUID.fromString(locationId).toString());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Invalid location id: " + locationId);
+            }
+        }
+        return keys;
+    }
+
+    private BatchGetLocationResult batchGetResult(String locationId, Location location) {
+        return BatchGetLocationResult.builder()
+                .id(locationId)
+                .result(location != null ? BatchGetLocationResult.FOUND : BatchGetLocationResult.NOT_FOUND)
+                .location(location != null ? locationMapper.toDto(location) : null)
+                .build();
+    }
+
     @Override
     public Mono<UpdateLocationResponseContent> update(String locationId, UpdateLocationRequestContent request) {
         logger.info("Executing UpdateLocation with locationId: {} and request: {}", locationId, request);
         
-        return locationRepositoryPort.findById(locationId)
+        // One UPDATE ... RETURNING instead of a read followed by a full-row save
+        return Mono.fromCallable(() -> locationMapper.fromUpdateRequest(request))
+                .flatMap(changes -> locationRepositoryPort.updateFields(locationId, changes))
                 .switchIfEmpty(Mono.error(new NotFoundException("Location not found")))
-                .map(existingLocation -> {
-                    locationMapper.updateEntityFromRequest(request, existingLocation);
-                    existingLocation.setUpdatedAt(java.time.Instant.now().toString());
-                    return existingLocation;
-                })
-                .flatMap(locationRepositoryPort::save)
                 .map(savedLocation -> {
                     logger.info("Location updated successfully with ID: {}", locationId);
                     return locationMapper.toUpdateResponse(savedLocation);
@@ -85,16 +171,13 @@ public class LocationService implements LocationUseCase {
     public Mono<DeleteLocationResponseContent> delete(String locationId) {
         logger.info("Executing DeleteLocation with locationId: {}", locationId);
         
-        return locationRepositoryPort.findById(locationId)
+        // Soft delete as a single UPDATE; only when nothing changed do we check whether the
+        // location exists at all, so deleting an already inactive location still succeeds
+        return locationRepositoryPort.deactivateById(locationId)
+                .flatMap(changed -> changed > 0 ? Mono.just(true) : locationRepositoryPort.existsById(locationId))
+                .filter(Boolean::booleanValue)
                 .switchIfEmpty(Mono.error(new NotFoundException("Location not found")))
-                .map(location -> {
-                    // Soft delete: update status to INACTIVE and set updatedAt
-                    location.setStatus("INACTIVE");
-                    location.setUpdatedAt(java.time.Instant.now().toString());
-                    return location;
-                })
-                .flatMap(locationRepositoryPort::save)
-                .map(updatedLocation -> {
+                .map(deleted -> {
                     logger.info("Location soft deleted (status set to INACTIVE) with ID: {}", locationId);
                     return DeleteLocationResponseContent.builder()
                             .deleted(true)
@@ -105,37 +188,107 @@ public class LocationService implements LocationUseCase {
     }
 
     @Override
-    public Mono<ListLocationsResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo) {
+    public Mono<BatchUpdateLocationStatusResponseContent> updateStatus(BatchUpdateLocationStatusRequestContent request) {
+        List<String> ids = request.getIds().stream().distinct().toList();
+        logger.info("Executing BatchUpdateLocationStatus for {} ids with status: {}", ids.size(), request.getStatus());
+
+        return locationRepositoryPort.updateStatus(ids, request.getStatus())
+                .map(updated -> {
+                    logger.info("Location status set to {} on {} of {} requested Locations", request.getStatus(), updated, ids.size());
+                    return BatchUpdateLocationStatusResponseContent.builder()
+                            .requested(ids.size())
+                            .updated(updated)
+                            .status(request.getStatus())
+                            .build();
+                })
+                .doOnError(e -> logger.error("Error in BatchUpdateLocationStatus", e));
+    }
+
+    @Override
+    public Mono<ListLocationsResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo, Boolean estimatedTotal) {
         // Apply default values
-        String effectiveStatus = (status == null || status.trim().isEmpty()) ? "ACTIVE" : status;
-        String effectiveDateFrom = (dateFrom == null || dateFrom.trim().isEmpty()) ? 
-            java.time.Instant.now().minus(30, java.time.temporal.ChronoUnit.DAYS).toString() : dateFrom;
-        String effectiveDateTo = (dateTo == null || dateTo.trim().isEmpty()) ? 
-            java.time.Instant.now().toString() : dateTo;
+        String effectiveStatus = effectiveStatus(status);
+        String effectiveDateFrom = effectiveDateFrom(dateFrom);
+        String effectiveDateTo = effectiveDateTo(dateTo);
         
-        logger.info("Executing ListLocations with page: {}, size: {}, search: {}, status: {} (effective: {}), dateFrom: {} (effective: {}), dateTo: {} (effective: {})", 
-                   page, size, search, status, effectiveStatus, dateFrom, effectiveDateFrom, dateTo, effectiveDateTo);
+        logger.info("Executing ListLocations with page: {}, size: {}, search: {}, status: {} (effective: {}), dateFrom: {} (effective: {}), dateTo: {} (effective: {}), estimatedTotal: {}", 
+                   page, size, search, status, effectiveStatus, dateFrom, effectiveDateFrom, dateTo, effectiveDateTo, estimatedTotal);
         
-        return locationRepositoryPort.findByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size)
-                .collectList()
-                .map(locations -> {
-                    logger.info("Retrieved {} locations successfully", locations.size());
+        Mono<Long> total = Boolean.TRUE.equals(estimatedTotal)
+                ? locationRepositoryPort.estimateCountByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo)
+                : locationRepositoryPort.countByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo);
+        
+        return Mono.zip(locationRepositoryPort.findByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size).collectList(), total)
+                .map(result -> {
+                    List<Location> locations = result.getT1();
+                    logger.info("Retrieved {} locations of {} successfully", locations.size(), result.getT2());
                     int pageNum = page != null ? page : 1;
                     int pageSize = size != null ? size : 20;
-                    return locationMapper.toListResponse(locations, pageNum, pageSize);
+                    ListLocationsResponseContent response = locationMapper.toListResponse(locations, pageNum, pageSize, totalCount(result.getT2()));
+                    response.setNextCursor(nextCursor(locations, pageSize, SORT_CREATED_AT));
+                    return response;
                 })
                 .doOnError(e -> logger.error("Error in ListLocations", e));
     }
 
+    /**
+     * Streams the filtered page row by row: each row is mapped to its DTO as it arrives from the
+     * database, so neither the page nor its intermediate representations are ever held in memory.
+     */
+    @Override
+    public Flux<LocationResponse> stream(Integer page, Integer size, String search, String status, String dateFrom, String dateTo) {
+        String effectiveStatus = effectiveStatus(status);
+        String effectiveDateFrom = effectiveDateFrom(dateFrom);
+        String effectiveDateTo = effectiveDateTo(dateTo);
+        
+        logger.info("Executing StreamLocations with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
+                   page, size, search, effectiveStatus, effectiveDateFrom, effectiveDateTo);
+        
+        return locationRepositoryPort.findByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size)
+                .map(locationMapper::toDto)
+                .doOnError(e -> logger.error("Error in StreamLocations", e));
+    }
+
+    @Override
+    public Mono<ListLocationsResponseContent> listByCursor(Integer size, String search, String status, String dateFrom, String dateTo, String sortBy, String cursor) {
+        return Mono.defer(() -> {
+            PageCursor after = (cursor == null || cursor.trim().isEmpty()) ? null : CursorUtils.decode(cursor);
+            String effectiveSortBy = resolveSortBy(sortBy, after);
+            int pageSize = size != null ? size : 20;
+            
+            logger.info("Executing ListLocationsByCursor with size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}, sortBy: {}, cursor: {}", 
+                       size, search, status, dateFrom, dateTo, effectiveSortBy, cursor);
+            
+            return locationRepositoryPort.findByFiltersAfter(search, effectiveStatus(status), effectiveDateFrom(dateFrom), effectiveDateTo(dateTo),
+                            effectiveSortBy, after != null ? after.getValue() : null, after != null ? after.getId() : null, pageSize)
+                    .collectList()
+                    .map(locations -> {
+                        logger.info("Retrieved {} locations successfully", locations.size());
+                        ListLocationsResponseContent response = locationMapper.toCursorListResponse(locations, pageSize);
+                        response.setNextCursor(nextCursor(locations, pageSize, effectiveSortBy));
+                        return response;
+                    });
+        })
+        .doOnError(e -> logger.error("Error in ListLocationsByCursor", e));
+    }
+
     @Override
     public Mono<GetNeighborhoodsByCityResponseContent> getNeighborhoodsByCity(String cityId) {
         logger.info("Executing GetNeighborhoodsByCity with cityId: {}", cityId);
         
-        return locationRepositoryPort.findNeighborhoodsByCity(cityId)
-                .collectList()
-                .map(locations -> {
-                    logger.info("Retrieved {} locations successfully", locations.size());
-                    return GetNeighborhoodsByCityResponseContent.builder().build();
+        return Mono.defer(() -> {
+                    validateParentId("cityId", cityId);
+                    return geoReferenceDataCache.neighborhoodsByCity(cityId)
+                            .map(Mono::just)
+                            .orElseGet(() -> neighborhoodRepositoryPort.findByCityId(cityId)
+                                    .collectList()
+                                    .map(neighborhoodMapper::toDtoList));
+                })
+                .map(neighborhoods -> {
+                    logger.info("Retrieved {} neighborhoods successfully", neighborhoods.size());
+                    return GetNeighborhoodsByCityResponseContent.builder()
+                            .neighborhoods(neighborhoods)
+                            .build();
                 })
                 .doOnError(e -> logger.error("Error in GetNeighborhoodsByCity", e, cityId));
     }
@@ -144,11 +297,19 @@ public class LocationService implements LocationUseCase {
     public Mono<GetRegionsByCountryResponseContent> getRegionsByCountry(String countryId) {
         logger.info("Executing GetRegionsByCountry with countryId: {}", countryId);
         
-        return locationRepositoryPort.findRegionsByCountry(countryId)
-                .collectList()
-                .map(locations -> {
-                    logger.info("Retrieved {} locations successfully", locations.size());
-                    return GetRegionsByCountryResponseContent.builder().build();
+        return Mono.defer(() -> {
+                    validateParentId("countryId", countryId);
+                    return geoReferenceDataCache.regionsByCountry(countryId)
+                            .map(Mono::just)
+                            .orElseGet(() -> regionRepositoryPort.findByCountryId(countryId)
+                                    .collectList()
+                                    .map(regionMapper::toDtoList));
+                })
+                .map(regions -> {
+                    logger.info("Retrieved {} regions successfully", regions.size());
+                    return GetRegionsByCountryResponseContent.builder()
+                            .regions(regions)
+                            .build();
                 })
                 .doOnError(e -> logger.error("Error in GetRegionsByCountry", e, countryId));
     }
@@ -157,13 +318,93 @@ public class LocationService implements LocationUseCase {
     public Mono<GetCitiesByRegionResponseContent> getCitiesByRegion(String regionId) {
         logger.info("Executing GetCitiesByRegion with regionId: {}", regionId);
         
-        return locationRepositoryPort.findCitiesByRegion(regionId)
-                .collectList()
-                .map(locations -> {
-                    logger.info("Retrieved {} locations successfully", locations.size());
-                    return GetCitiesByRegionResponseContent.builder().build();
+        return Mono.defer(() -> {
+                    validateParentId("regionId", regionId);
+                    return geoReferenceDataCache.citiesByRegion(regionId)
+                            .map(Mono::just)
+                            .orElseGet(() -> cityRepositoryPort.findByRegionId(regionId)
+                                    .collectList()
+                                    .map(cityMapper::toDtoList));
+                })
+                .map(cities -> {
+                    logger.info("Retrieved {} cities successfully", cities.size());
+                    return GetCitiesByRegionResponseContent.builder()
+                            .cities(cities)
+                            .build();
                 })
                 .doOnError(e -> logger.error("Error in GetCitiesByRegion", e, regionId));
     }
 
+    @Override
+    public Mono<SerializedGeoTree> getGeoTree() {
+        logger.info("Executing GetGeoTree");
+        
+        return geoReferenceDataCache.tree()
+                .doOnError(e -> logger.error("Error in GetGeoTree", e));
+    }
+
+    /**
+     * Rejects a malformed parent id before the lookup, so the snapshot answers it with the
+     * same 400 as the database, instead of an empty list.
+     */
+    private static void validateParentId(String name, String id) {
+        try {
+            UUID.fromString(id);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + id);
+        }
+    }
+
+    private int totalCount(Long total) {
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    private String effectiveStatus(String status) {
+        return (status == null || status.trim().isEmpty()) ? "ACTIVE" : status;
+    }
+
+    private String effectiveDateFrom(String dateFrom) {
+        return (dateFrom == null || dateFrom.trim().isEmpty()) ? 
+            java.time.Instant.now().minus(30, java.time.temporal.ChronoUnit.DAYS).toString() : dateFrom;
+    }
+
+    private String effectiveDateTo(String dateTo) {
+        return (dateTo == null || dateTo.trim().isEmpty()) ? 
+            java.time.Instant.now().toString() : dateTo;
+    }
+
+    private String resolveSortBy(String sortBy, PageCursor after) {
+        String requested = (sortBy == null || sortBy.trim().isEmpty()) ? null : sortBy;
+        if (after != null) {
+            if (requested != null && !requested.equals(after.getSortBy())) {
+                throw new IllegalArgumentException("cursor was issued for a different sortBy");
+            }
+            requested = after.getSortBy();
+        }
+        String effective = requested != null ? requested : SORT_CREATED_AT;
+        if (!SORT_KEYS.contains(effective)) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + effective + ". Allowed values: " + SORT_KEYS);
+        }
+        return effective;
+    }
+
+    /**
+     * Builds the cursor pointing at the last row of a full page, or null when the page is the last one.
+     */
+    private String nextCursor(List<Location> locations, int pageSize, String sortBy) {
+        if (locations.isEmpty() || locations.size() < pageSize) {
+            return null;
+        }
+        Location last = locations.get(locations.size() - 1);
+        String value = last.getCreatedAt();
+        if (value == null || last.getLocationId() == null) {
+            return null;
+        }
+        return CursorUtils.encode(PageCursor.builder()
+                .sortBy(sortBy)
+                .value(value)
+                .id(last.getLocationId())
+                .build());
+    }
+
 }
\ No newline at end of file
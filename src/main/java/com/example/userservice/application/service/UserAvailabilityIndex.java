@@ -0,0 +1,152 @@
+package com.example.userservice.application.service;
+
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import com.example.userservice.utils.BloomFilter;
+import com.example.userservice.utils.LoggingUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * In-memory Bloom filter of every username and email, used to tell cheaply whether one is taken.
+ * <p>
+ * The filter is built at startup by streaming the usernames and emails of all users, and
+ * rebuilt on a fixed delay ({@code users.availability.refresh-interval}) to pick up users
+ * created by other instances. Values are lower-cased here rather than in SQL, so the build and
+ * the lookups normalize identically. Users created through this instance are added as they
+ * are written, including while a rebuild is running. A value the filter has never seen is
+ * reported free without touching the database; a possible match is confirmed with an exact,
+ * indexed lookup, so a false positive costs one query and never a wrong answer. Lower-casing
+ * only widens what counts as a possible match. Users created by other instances since the
+ * last rebuild may be reported free; creation still relies on the unique constraints for
+ * those. Until the first build completes every value is confirmed against the database.
+ * Outcomes are counted under
+ * {@code users.availability.checks}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Component
+public class UserAvailabilityIndex {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(UserAvailabilityIndex.class);
+
+    private final UserRepositoryPort userRepositoryPort;
+    private final long expectedEntries;
+    private final double falsePositiveRate;
+
+    private final AtomicReference<BloomFilter> current = new AtomicReference<>();
+    private final AtomicReference<BloomFilter> building = new AtomicReference<>();
+    private final Counter filtered;
+    private final Counter taken;
+    private final Counter free;
+
+    public UserAvailabilityIndex(UserRepositoryPort userRepositoryPort,
+                                 @Value("${users.availability.expected-entries:2000000}") long expectedEntries,
+                                 @Value("${users.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                 MeterRegistry meterRegistry) {
+        this.userRepositoryPort = userRepositoryPort;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filtered = checks(meterRegistry, "filtered");
+        this.taken = checks(meterRegistry, "confirmed_taken");
+        this.free = checks(meterRegistry, "confirmed_free");
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("users.availability.checks")
+                .description("Username and email availability checks by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild().subscribe(
+                entries -> { },
+                e -> logger.error("Initial user availability index build failed; confirming every check against the database", e));
+    }
+
+    @Scheduled(fixedDelayString = "${users.availability.refresh-interval:PT30M}", initialDelayString = "${users.availability.refresh-interval:PT30M}")
+    public void scheduledRebuild() {
+        rebuild().subscribe(
+                entries -> { },
+                e -> logger.error("Scheduled user availability index rebuild failed; keeping previous filter", e));
+    }
+
+    /**
+     * Streams all usernames and emails into a new filter and swaps it in. Values added while the
+     * stream runs go to both filters, so none is lost by the swap.
+     *
+     * @return number of values streamed
+     */
+    public Mono<Long> rebuild() {
+        return Mono.defer(() -> {
+            BloomFilter next = BloomFilter.create(expectedEntries, falsePositiveRate);
+            building.set(next);
+            return userRepositoryPort.findAllIdentities()
+                    .doOnNext(value -> next.put(normalize(value)))
+                    .count()
+                    .doOnNext(entries -> {
+                        current.set(next);
+                        logger.info("User availability index built from {} usernames and emails", entries);
+                    })
+                    .doFinally(signal -> building.compareAndSet(next, null));
+        });
+    }
+
+    public Mono<Boolean> isUsernameTaken(String username) {
+        return isTaken(username, userRepositoryPort::existsByUsername);
+    }
+
+    public Mono<Boolean> isEmailTaken(String email) {
+        return isTaken(email, userRepositoryPort::existsByEmail);
+    }
+
+    public void add(String username, String email) {
+        put(username);
+        put(email);
+    }
+
+    private Mono<Boolean> isTaken(String value, Function<String, Mono<Boolean>> confirm) {
+        if (value == null) {
+            return Mono.just(false);
+        }
+        BloomFilter filter = current.get();
+        if (filter != null && !filter.mightContain(normalize(value))) {
+            filtered.increment();
+            return Mono.just(false);
+        }
+        return confirm.apply(value)
+                .doOnNext(exists -> (exists ? taken : free).increment());
+    }
+
+    private void put(String value) {
+        if (value == null) {
+            return;
+        }
+        String key = normalize(value);
+        BloomFilter filter = current.get();
+        if (filter != null) {
+            filter.put(key);
+        }
+        BloomFilter next = building.get();
+        if (next != null) {
+            next.put(key);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,21 +2,42 @@ package com.example.userservice.application.service;
 
 import com.example.userservice.domain.ports.input.UserUseCase;
 import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import com.example.userservice.application.dto.user.BatchGetUserResult;
+import com.example.userservice.application.dto.user.BatchGetUsersResponseContent;
+import com.example.userservice.application.dto.user.BulkCreateUserResult;
+import com.example.userservice.application.dto.user.BulkCreateUsersResponseContent;
 import com.example.userservice.application.dto.user.CreateUserRequestContent;
 import com.example.userservice.application.dto.user.CreateUserResponseContent;
 import com.example.userservice.application.dto.user.GetUserResponseContent;
 import com.example.userservice.application.dto.user.UpdateUserRequestContent;
 import com.example.userservice.application.dto.user.UpdateUserResponseContent;
 import com.example.userservice.application.dto.user.DeleteUserResponseContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusRequestContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusResponseContent;
 import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.dto.user.UserAvailabilityResponseContent;
+import com.example.userservice.application.dto.user.UserResponse;
 import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.model.PageCursor;
 import com.example.userservice.application.mapper.UserMapper;
+import com.example.userservice.infrastructure.config.exceptions.ConflictException;
 import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
+import com.example.userservice.utils.CursorUtils;
 import com.example.userservice.utils.LoggingUtils;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
+import reactor.util.function.Tuple2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Consolidated application service implementing all User use cases.
@@ -29,16 +50,33 @@ import reactor.core.publisher.Flux;
 public class UserService implements UserUseCase {
 
     private static final LoggingUtils logger = LoggingUtils.getLogger(UserService.class);
+
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String SORT_USERNAME = "username";
+    private static final String SORT_EMAIL = "email";
+    private static final List<String> SORT_KEYS = List.of(SORT_CREATED_AT, SORT_USERNAME, SORT_EMAIL);
+    
+    private static final int DEFAULT_BULK_CHUNK_SIZE = 500;
+    private static final int MAX_BATCH_GET_SIZE = 1000;
     
     private final UserRepositoryPort userRepositoryPort;
     private final UserMapper userMapper;
+    private final Validator validator;
+    private final UserAvailabilityIndex userAvailabilityIndex;
+    
+    @Value("${users.bulk.chunk-size:" + DEFAULT_BULK_CHUNK_SIZE + "}")
+    private int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
 
     @Override
     public Mono<CreateUserResponseContent> create(CreateUserRequestContent request) {
         logger.info("Executing CreateUser with request: {}", request);
         
+        // Duplicates the availability index can rule out never reach the unique constraints;
+        // possible ones are confirmed first so they fail fast without a rejected INSERT
         return Mono.fromCallable(() -> userMapper.fromCreateRequest(request))
+                .flatMap(user -> ensureAvailable(user).thenReturn(user))
                 .flatMap(userRepositoryPort::save)
+                .doOnNext(savedUser -> userAvailabilityIndex.add(savedUser.getUsername(), savedUser.getEmail()))
                 .map(savedUser -> {
                     logger.info("User created successfully with ID: {}", savedUser.getUserId());
                     return userMapper.toCreateResponse(savedUser);
@@ -46,6 +84,115 @@ public class UserService implements UserUseCase {
                 .doOnError(e -> logger.error("Error in CreateUser", e, request));
     }
 
+    private Mono<Void> ensureAvailable(User user) {
+        return Mono.zip(userAvailabilityIndex.isUsernameTaken(user.getUsername()), userAvailabilityIndex.isEmailTaken(user.getEmail()))
+                .flatMap(taken -> {
+                    if (taken.getT1()) {
+                        return Mono.error(new ConflictException("Username already exists"));
+                    }
+                    if (taken.getT2()) {
+                        return Mono.error(new ConflictException("Email already exists"));
+                    }
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Creates users from a stream of requests. Elements are validated one by one as they are
+     * decoded and the valid ones are written in chunks of {@code users.bulk.chunk-size}, each
+     * chunk with a single batched insert. Invalid elements and duplicates are reported per
+     * element instead of failing the whole request.
+     */
+    @Override
+    public Mono<BulkCreateUsersResponseContent> createBulk(Flux<CreateUserRequestContent> requests) {
+        logger.info("Executing BulkCreateUsers with chunk size: {}", bulkChunkSize);
+        
+        return requests
+                .index()
+                .buffer(bulkChunkSize)
+                .concatMap(this::createChunk)
+                .collectList()
+                .map(results -> {
+                    BulkCreateUsersResponseContent response = BulkCreateUsersResponseContent.builder()
+                            .created(countResults(results, BulkCreateUserResult.CREATED))
+                            .conflicts(countResults(results, BulkCreateUserResult.CONFLICT))
+                            .invalid(countResults(results, BulkCreateUserResult.INVALID))
+                            .results(results)
+                            .build();
+                    logger.info("Bulk created {} users ({} conflicts, {} invalid)", 
+                               response.getCreated(), response.getConflicts(), response.getInvalid());
+                    return response;
+                })
+                .doOnError(e -> logger.error("Error in BulkCreateUsers", e));
+    }
+
+    private Flux<BulkCreateUserResult> createChunk(List<Tuple2<Long, CreateUserRequestContent>> chunk) {
+        BulkCreateUserResult[] results = new BulkCreateUserResult[chunk.size()];
+        List<User> users = new ArrayList<>(chunk.size());
+        List<Integer> positions = new ArrayList<>(chunk.size());
+        
+        for (int i = 0; i < chunk.size(); i++) {
+            long index = chunk.get(i).getT1();
+            CreateUserRequestContent request = chunk.get(i).getT2();
+            String violations = violations(request);
+            if (violations != null) {
+                results[i] = bulkResult(index, BulkCreateUserResult.INVALID, null, request.getUsername(), violations);
+                continue;
+            }
+            User user = userMapper.fromCreateRequest(request);
+            user.setUserId(UUID.randomUUID().toString());
+            users.add(user);
+            positions.add(i);
+        }
+        if (users.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+        
+        return userRepositoryPort.insertAll(users)
+                .collectList()
+                .flatMapMany(inserted -> {
+                    for (int j = 0; j < users.size(); j++) {
+                        int position = positions.get(j);
+                        User user = users.get(j);
+                        if (Boolean.TRUE.equals(inserted.get(j))) {
+                            userAvailabilityIndex.add(user.getUsername(), user.getEmail());
+                            results[position] = bulkResult(chunk.get(position).getT1(), BulkCreateUserResult.CREATED, user.getUserId(), user.getUsername(), null);
+                        } else {
+                            results[position] = bulkResult(chunk.get(position).getT1(), BulkCreateUserResult.CONFLICT, null, user.getUsername(), "Username or email already exists");
+                        }
+                    }
+                    return Flux.fromArray(results);
+                });
+    }
+
+    private String violations(CreateUserRequestContent request) {
+        if (request == null) {
+            return "Element must not be null";
+        }
+        Set<ConstraintViolation<CreateUserRequestContent>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private BulkCreateUserResult bulkResult(long index, String result, String userId, String username, String message) {
+        return BulkCreateUserResult.builder()
+                .index(index)
+                .result(result)
+                .userId(userId)
+                .username(username)
+                .message(message)
+                .build();
+    }
+
+    private int countResults(List<BulkCreateUserResult> results, String result) {
+        return (int) results.stream().filter(r -> result.equals(r.getResult())).count();
+    }
+
     @Override
     public Mono<GetUserResponseContent> get(String userId) {
         logger.info("Executing GetUser with userId: {}", userId);
@@ -59,18 +206,102 @@ public class UserService implements UserUseCase {
                 .doOnError(e -> logger.error("Error in GetUser", e, userId));
     }
 
+    /**
+     * Retrieves many users with a single {@code ANY(:ids)} query instead of one lookup per id.
+     * Results follow the request order, repeated ids included, and ids that do not exist are
+     * reported as {@link BatchGetUserResult#NOT_FOUND}.
+     */
+    @Override
+    public Mono<BatchGetUsersResponseContent> batchGet(List<String> userIds) {
+        return Mono.defer(() -> {
+            List<String> keys = batchGetKeys(userIds);
+            List<String> distinctKeys = keys.stream().distinct().toList();
+            logger.info("Executing BatchGetUsers for {} ids ({} distinct)", keys.size(), distinctKeys.size());
+            
+            return userRepositoryPort.findAllByIds(distinctKeys)
+                    .collectMap(User::getUserId)
+                    .map(found -> {
+                        List<BatchGetUserResult> results = new ArrayList<>(keys.size());
+                        for (int i = 0; i < keys.size(); i++) {
+                            results.add(batchGetResult(userIds.get(i), found.get(keys.get(i))));
+                        }
+                        int foundCount = (int) results.stream().filter(r -> BatchGetUserResult.FOUND.equals(r.getResult())).count();
+                        logger.info("Retrieved {} of {} requested users", foundCount, results.size());
+                        return BatchGetUsersResponseContent.builder()
+                                .found(foundCount)
+                                .notFound(results.size() - foundCount)
+                                .results(results)
+                                .build();
+                    });
+        })
+        .doOnError(e -> logger.error("Error in BatchGetUsers", e));
+    }
+
+    /**
+     * Validates the requested ids and normalizes them to the canonical UUID form the
+     * repository returns, so rows can be matched back to the ids as they were given.
+     */
+    private List<String> batchGetKeys(List<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (userIds.size() > MAX_BATCH_GET_SIZE) {
+            throw new IllegalArgumentException("ids cannot contain more than " + MAX_BATCH_GET_SIZE + " values");
+        }
+        List<String> keys = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            try {
+                keys.add(UUID.fromString(userId).toString());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Invalid user id: " + userId);
+            }
+        }
+        return keys;
+    }
+
+    private BatchGetUserResult batchGetResult(String userId, User user) {
+        return BatchGetUserResult.builder()
+                .id(userId)
+                .result(user != null ? BatchGetUserResult.FOUND : BatchGetUserResult.NOT_FOUND)
+                .user(user != null ? userMapper.toDto(user) : null)
+                .build();
+    }
+
+    /**
+     * Reports whether a username and an email are free. Values the availability index has never
+     * seen are answered from memory; only possible matches cost an indexed lookup.
+     */
+    @Override
+    public Mono<UserAvailabilityResponseContent> availability(String username, String email) {
+        return Mono.defer(() -> {
+            String effectiveUsername = (username == null || username.trim().isEmpty()) ? null : username;
+            String effectiveEmail = (email == null || email.trim().isEmpty()) ? null : email;
+            if (effectiveUsername == null && effectiveEmail == null) {
+                throw new IllegalArgumentException("username or email is required");
+            }
+            logger.info("Executing CheckUserAvailability with username: {}, email: {}", effectiveUsername, effectiveEmail);
+            
+            return Mono.zip(userAvailabilityIndex.isUsernameTaken(effectiveUsername), userAvailabilityIndex.isEmailTaken(effectiveEmail))
+                    .map(taken -> UserAvailabilityResponseContent.builder()
+                            .username(effectiveUsername)
+                            .usernameAvailable(effectiveUsername != null ? !taken.getT1() : null)
+                            .email(effectiveEmail)
+                            .emailAvailable(effectiveEmail != null ? !taken.getT2() : null)
+                            .build());
+        })
+        .doOnError(e -> logger.error("Error in CheckUserAvailability", e));
+    }
+
     @Override
     public Mono<UpdateUserResponseContent> update(String userId, UpdateUserRequestContent request) {
         logger.info("Executing UpdateUser with userId: {} and request: {}", userId, request);
         
-        return userRepositoryPort.findById(userId)
+        // One UPDATE ... RETURNING instead of a read followed by a full-row save
+        return Mono.fromCallable(() -> userMapper.fromUpdateRequest(request))
+                .flatMap(changes -> userRepositoryPort.updateFields(userId, changes))
                 .switchIfEmpty(Mono.error(new NotFoundException("User not found")))
-                .map(existingUser -> {
-                    userMapper.updateEntityFromRequest(request, existingUser);
-                    existingUser.setUpdatedAt(java.time.Instant.now().toString());
-                    return existingUser;
-                })
-                .flatMap(userRepositoryPort::save)
+                // The email may have changed; the index must never report a taken value as free
+                .doOnNext(savedUser -> userAvailabilityIndex.add(savedUser.getUsername(), savedUser.getEmail()))
                 .map(savedUser -> {
                     logger.info("User updated successfully with ID: {}", userId);
                     return userMapper.toUpdateResponse(savedUser);
@@ -82,16 +313,13 @@ public class UserService implements UserUseCase {
     public Mono<DeleteUserResponseContent> delete(String userId) {
         logger.info("Executing DeleteUser with userId: {}", userId);
         
-        return userRepositoryPort.findById(userId)
+        // Soft delete as a single UPDATE; only when nothing changed do we check whether the
+        // user exists at all, so deleting an already inactive user still succeeds
+        return userRepositoryPort.deactivateById(userId)
+                .flatMap(changed -> changed > 0 ? Mono.just(true) : userRepositoryPort.existsById(userId))
+                .filter(Boolean::booleanValue)
                 .switchIfEmpty(Mono.error(new NotFoundException("User not found")))
-                .map(user -> {
-                    // Soft delete: update status to INACTIVE and set updatedAt
-                    user.setStatus("INACTIVE");
-                    user.setUpdatedAt(java.time.Instant.now().toString());
-                    return user;
-                })
-                .flatMap(userRepositoryPort::save)
-                .map(updatedUser -> {
+                .map(deleted -> {
                     logger.info("User soft deleted (status set to INACTIVE) with ID: {}", userId);
                     return DeleteUserResponseContent.builder()
                             .deleted(true)
@@ -102,26 +330,166 @@ public class UserService implements UserUseCase {
     }
 
     @Override
-    public Mono<ListUsersResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo) {
+    public Mono<BatchUpdateUserStatusResponseContent> updateStatus(BatchUpdateUserStatusRequestContent request) {
+        List<String> ids = request.getIds().stream().distinct().toList();
+        logger.info("Executing BatchUpdateUserStatus for {} ids with status: {}", ids.size(), request.getStatus());
+
+        return userRepositoryPort.updateStatus(ids, request.getStatus())
+                .map(updated -> {
+                    logger.info("User status set to {} on {} of {} requested Users", request.getStatus(), updated, ids.size());
+                    return BatchUpdateUserStatusResponseContent.builder()
+                            .requested(ids.size())
+                            .updated(updated)
+                            .status(request.getStatus())
+                            .build();
+                })
+                .doOnError(e -> logger.error("Error in BatchUpdateUserStatus", e));
+    }
+
+    @Override
+    public Mono<ListUsersResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo, Boolean estimatedTotal) {
         // Apply default values
-        String effectiveStatus = (status == null || status.trim().isEmpty()) ? "ACTIVE" : status;
-        String effectiveDateFrom = (dateFrom == null || dateFrom.trim().isEmpty()) ? 
-            java.time.Instant.now().minus(30, java.time.temporal.ChronoUnit.DAYS).toString() : dateFrom;
-        String effectiveDateTo = (dateTo == null || dateTo.trim().isEmpty()) ? 
-            java.time.Instant.now().toString() : dateTo;
+        String effectiveStatus = effectiveStatus(status);
+        String effectiveDateFrom = effectiveDateFrom(dateFrom);
+        String effectiveDateTo = effectiveDateTo(dateTo);
         
-        logger.info("Executing ListUsers with page: {}, size: {}, search: {}, status: {} (effective: {}), dateFrom: {} (effective: {}), dateTo: {} (effective: {})", 
-                   page, size, search, status, effectiveStatus, dateFrom, effectiveDateFrom, dateTo, effectiveDateTo);
+        logger.info("Executing ListUsers with page: {}, size: {}, search: {}, status: {} (effective: {}), dateFrom: {} (effective: {}), dateTo: {} (effective: {}), estimatedTotal: {}", 
+                   page, size, search, status, effectiveStatus, dateFrom, effectiveDateFrom, dateTo, effectiveDateTo, estimatedTotal);
         
-        return userRepositoryPort.findByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size)
-                .collectList()
-                .map(users -> {
-                    logger.info("Retrieved {} users successfully", users.size());
+        Mono<Long> total = Boolean.TRUE.equals(estimatedTotal)
+                ? userRepositoryPort.estimateCountByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo)
+                : userRepositoryPort.countByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo);
+        
+        return Mono.zip(userRepositoryPort.findByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size).collectList(), total)
+                .map(result -> {
+                    List<User> users = result.getT1();
+                    logger.info("Retrieved {} users of {} successfully", users.size(), result.getT2());
                     int pageNum = page != null ? page : 1;
                     int pageSize = size != null ? size : 20;
-                    return userMapper.toListResponse(users, pageNum, pageSize);
+                    ListUsersResponseContent response = userMapper.toListResponse(users, pageNum, pageSize, totalCount(result.getT2()));
+                    response.setNextCursor(nextCursor(users, pageSize, SORT_CREATED_AT));
+                    return response;
                 })
                 .doOnError(e -> logger.error("Error in ListUsers", e));
     }
 
+    @Override
+    public Mono<ListUsersResponseContent> listFullText(Integer page, Integer size, String search, String status, String dateFrom, String dateTo) {
+        String effectiveStatus = effectiveStatus(status);
+        String effectiveDateFrom = effectiveDateFrom(dateFrom);
+        String effectiveDateTo = effectiveDateTo(dateTo);
+        
+        logger.info("Executing ListUsersFullText with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
+                   page, size, search, effectiveStatus, effectiveDateFrom, effectiveDateTo);
+        
+        return Mono.zip(
+                        userRepositoryPort.findByFullText(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size).collectList(),
+                        userRepositoryPort.countByFullText(search, effectiveStatus, effectiveDateFrom, effectiveDateTo))
+                .map(result -> {
+                    List<User> users = result.getT1();
+                    logger.info("Retrieved {} users of {} successfully", users.size(), result.getT2());
+                    int pageNum = page != null ? page : 1;
+                    int pageSize = size != null ? size : 20;
+                    return userMapper.toListResponse(users, pageNum, pageSize, totalCount(result.getT2()));
+                })
+                .doOnError(e -> logger.error("Error in ListUsersFullText", e));
+    }
+
+    /**
+     * Streams the filtered page row by row: each row is mapped to its DTO as it arrives from the
+     * database, so neither the page nor its intermediate representations are ever held in memory.
+     */
+    @Override
+    public Flux<UserResponse> stream(Integer page, Integer size, String search, String status, String dateFrom, String dateTo) {
+        String effectiveStatus = effectiveStatus(status);
+        String effectiveDateFrom = effectiveDateFrom(dateFrom);
+        String effectiveDateTo = effectiveDateTo(dateTo);
+        
+        logger.info("Executing StreamUsers with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
+                   page, size, search, effectiveStatus, effectiveDateFrom, effectiveDateTo);
+        
+        return userRepositoryPort.findByFilters(search, effectiveStatus, effectiveDateFrom, effectiveDateTo, page, size)
+                .map(userMapper::toDto)
+                .doOnError(e -> logger.error("Error in StreamUsers", e));
+    }
+
+    @Override
+    public Mono<ListUsersResponseContent> listByCursor(Integer size, String search, String status, String dateFrom, String dateTo, String sortBy, String cursor) {
+        return Mono.defer(() -> {
+            PageCursor after = (cursor == null || cursor.trim().isEmpty()) ? null : CursorUtils.decode(cursor);
+            String effectiveSortBy = resolveSortBy(sortBy, after);
+            int pageSize = size != null ? size : 20;
+            
+            logger.info("Executing ListUsersByCursor with size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}, sortBy: {}, cursor: {}", 
+                       size, search, status, dateFrom, dateTo, effectiveSortBy, cursor);
+            
+            return userRepositoryPort.findByFiltersAfter(search, effectiveStatus(status), effectiveDateFrom(dateFrom), effectiveDateTo(dateTo),
+                            effectiveSortBy, after != null ? after.getValue() : null, after != null ? after.getId() : null, pageSize)
+                    .collectList()
+                    .map(users -> {
+                        logger.info("Retrieved {} users successfully", users.size());
+                        ListUsersResponseContent response = userMapper.toCursorListResponse(users, pageSize);
+                        response.setNextCursor(nextCursor(users, pageSize, effectiveSortBy));
+                        return response;
+                    });
+        })
+        .doOnError(e -> logger.error("Error in ListUsersByCursor", e));
+    }
+
+    private int totalCount(Long total) {
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    private String effectiveStatus(String status) {
+        return (status == null || status.trim().isEmpty()) ? "ACTIVE" : status;
+    }
+
+    private String effectiveDateFrom(String dateFrom) {
+        return (dateFrom == null || dateFrom.trim().isEmpty()) ? 
+            java.time.Instant.now().minus(30, java.time.temporal.ChronoUnit.DAYS).toString() : dateFrom;
+    }
+
+    private String effectiveDateTo(String dateTo) {
+        return (dateTo == null || dateTo.trim().isEmpty()) ? 
+            java.time.Instant.now().toString() : dateTo;
+    }
+
+    private String resolveSortBy(String sortBy, PageCursor after) {
+        String requested = (sortBy == null || sortBy.trim().isEmpty()) ? null : sortBy;
+        if (after != null) {
+            if (requested != null && !requested.equals(after.getSortBy())) {
+                throw new IllegalArgumentException("cursor was issued for a different sortBy");
+            }
+            requested = after.getSortBy();
+        }
+        String effective = requested != null ? requested : SORT_CREATED_AT;
+        if (!SORT_KEYS.contains(effective)) {
+            throw new IllegalArgumentException("Unsupported sortBy: " + effective + ". Allowed values: " + SORT_KEYS);
+        }
+        return effective;
+    }
+
+    /**
+     * Builds the cursor pointing at the last row of a full page, or null when the page is the last one.
+     */
+    private String nextCursor(List<User> users, int pageSize, String sortBy) {
+        if (users.isEmpty() || users.size() < pageSize) {
+            return null;
+        }
+        User last = users.get(users.size() - 1);
+        String value = switch (sortBy) {
+            case SORT_USERNAME -> last.getUsername();
+            case SORT_EMAIL -> last.getEmail();
+            default -> last.getCreatedAt();
+        };
+        if (value == null || last.getUserId() == null) {
+            return null;
+        }
+        return CursorUtils.encode(PageCursor.builder()
+                .sortBy(sortBy)
+                .value(value)
+                .id(last.getUserId())
+                .build());
+    }
+
 }
\ No newline at end of file
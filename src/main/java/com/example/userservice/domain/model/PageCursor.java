@@ -0,0 +1,31 @@
+package com.example.userservice.domain.model;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * Position of the last row returned by a keyset (seek) paginated listing.
+ * <p>
+ * A cursor captures the sort key the listing was ordered by, the value of that
+ * key on the last row and the row identifier used as tie-breaker, so the next
+ * page can be read with a {@code (sort_column, id) > (value, id)} seek instead
+ * of an OFFSET scan.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageCursor {
+
+    private String sortBy;
+
+    private String value;
+
+    private String id;
+}
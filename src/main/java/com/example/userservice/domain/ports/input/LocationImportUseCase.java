@@ -0,0 +1,25 @@
+package com.example.userservice.domain.ports.input;
+
+import com.example.userservice.application.dto.location.LocationImportResponseContent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case interface for bulk Location imports.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public interface LocationImportUseCase {
+
+    /**
+     * Imports a CSV body of Locations.
+     *
+     * @return the job in {@code RUNNING} state as soon as it is registered, then the finished job
+     */
+    Flux<LocationImportResponseContent> importCsv(Flux<String> lines);
+
+    Mono<LocationImportResponseContent> getImport(String jobId);
+
+    Flux<LocationImportResponseContent> listImports();
+}
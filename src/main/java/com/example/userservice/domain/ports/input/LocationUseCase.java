@@ -2,17 +2,24 @@ package com.example.userservice.domain.ports.input;
 
 import com.example.userservice.application.dto.location.CreateLocationRequestContent;
 import com.example.userservice.application.dto.location.CreateLocationResponseContent;
+import com.example.userservice.application.dto.location.BatchGetLocationsResponseContent;
 import com.example.userservice.application.dto.location.GetLocationResponseContent;
 import com.example.userservice.application.dto.location.UpdateLocationRequestContent;
 import com.example.userservice.application.dto.location.UpdateLocationResponseContent;
 import com.example.userservice.application.dto.location.DeleteLocationResponseContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusRequestContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusResponseContent;
 import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.location.LocationResponse;
 import com.example.userservice.application.dto.location.GetNeighborhoodsByCityResponseContent;
 import com.example.userservice.application.dto.location.GetRegionsByCountryResponseContent;
 import com.example.userservice.application.dto.location.GetCitiesByRegionResponseContent;
+import com.example.userservice.application.dto.location.SerializedGeoTree;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 /**
  * Consolidated use case interface for all Location operations.
  * 
@@ -25,13 +32,23 @@ public interface LocationUseCase {
 
     Mono<GetLocationResponseContent> get(String locationId);
 
+    Mono<BatchGetLocationsResponseContent> batchGet(List<String> locationIds);
+
     Mono<UpdateLocationResponseContent> update(String locationId, UpdateLocationRequestContent request);
 
     Mono<DeleteLocationResponseContent> delete(String locationId);
 
-    Mono<ListLocationsResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo);
+    Mono<BatchUpdateLocationStatusResponseContent> updateStatus(BatchUpdateLocationStatusRequestContent request);
+
+    Mono<ListLocationsResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo, Boolean estimatedTotal);
+
+    Flux<LocationResponse> stream(Integer page, Integer size, String search, String status, String dateFrom, String dateTo);
+
+    Mono<ListLocationsResponseContent> listByCursor(Integer size, String search, String status, String dateFrom, String dateTo, String sortBy, String cursor);
 
     Mono<GetNeighborhoodsByCityResponseContent> getNeighborhoodsByCity(String cityId);
     Mono<GetRegionsByCountryResponseContent> getRegionsByCountry(String countryId);
     Mono<GetCitiesByRegionResponseContent> getCitiesByRegion(String regionId);
+
+    Mono<SerializedGeoTree> getGeoTree();
 }
\ No newline at end of file
@@ -1,15 +1,23 @@
 package com.example.userservice.domain.ports.input;
 
+import com.example.userservice.application.dto.user.BatchGetUsersResponseContent;
+import com.example.userservice.application.dto.user.BulkCreateUsersResponseContent;
 import com.example.userservice.application.dto.user.CreateUserRequestContent;
 import com.example.userservice.application.dto.user.CreateUserResponseContent;
 import com.example.userservice.application.dto.user.GetUserResponseContent;
 import com.example.userservice.application.dto.user.UpdateUserRequestContent;
 import com.example.userservice.application.dto.user.UpdateUserResponseContent;
 import com.example.userservice.application.dto.user.DeleteUserResponseContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusRequestContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusResponseContent;
 import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.dto.user.UserAvailabilityResponseContent;
+import com.example.userservice.application.dto.user.UserResponse;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
+import java.util.List;
+
 /**
  * Consolidated use case interface for all User operations.
  * 
@@ -20,12 +28,26 @@ public interface UserUseCase {
     
     Mono<CreateUserResponseContent> create(CreateUserRequestContent request);
 
+    Mono<BulkCreateUsersResponseContent> createBulk(Flux<CreateUserRequestContent> requests);
+
     Mono<GetUserResponseContent> get(String userId);
 
+    Mono<BatchGetUsersResponseContent> batchGet(List<String> userIds);
+
+    Mono<UserAvailabilityResponseContent> availability(String username, String email);
+
     Mono<UpdateUserResponseContent> update(String userId, UpdateUserRequestContent request);
 
     Mono<DeleteUserResponseContent> delete(String userId);
 
-    Mono<ListUsersResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo);
+    Mono<BatchUpdateUserStatusResponseContent> updateStatus(BatchUpdateUserStatusRequestContent request);
+
+    Mono<ListUsersResponseContent> list(Integer page, Integer size, String search, String status, String dateFrom, String dateTo, Boolean estimatedTotal);
+
+    Mono<ListUsersResponseContent> listFullText(Integer page, Integer size, String search, String status, String dateFrom, String dateTo);
+
+    Flux<UserResponse> stream(Integer page, Integer size, String search, String status, String dateFrom, String dateTo);
+
+    Mono<ListUsersResponseContent> listByCursor(Integer size, String search, String status, String dateFrom, String dateTo, String sortBy, String cursor);
 
 }
\ No newline at end of file
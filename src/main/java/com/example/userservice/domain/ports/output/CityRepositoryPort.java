@@ -28,6 +28,8 @@ public interface CityRepositoryPort {
     
     Flux<City> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size);
     
+    Flux<City> findByRegionId(String regionId);
+    
     Flux<City> findAllPaged(Integer page, Integer size);
     
     Mono<Void> deleteById(String id);
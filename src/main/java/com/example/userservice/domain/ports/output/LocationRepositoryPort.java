@@ -5,6 +5,8 @@ import com.example.userservice.domain.model.Location;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Domain repository port for Location operations.
  * <p>
@@ -20,24 +22,55 @@ public interface LocationRepositoryPort {
     
     Mono<Location> save(Location location);
     
+    /**
+     * Writes a batch of new locations as one unit of work and returns the number of rows written.
+     */
+    Mono<Long> importAll(List<Location> locations);
+    
+    Flux<String> findActiveLocationTypes();
+    
+    /**
+     * Writes the non-null fields of {@code changes} in a single statement and returns the
+     * updated location, or empty when no location has the given id.
+     */
+    Mono<Location> updateFields(String id, Location changes);
+    
     Mono<Location> findById(String id);
     
+    /**
+     * Looks up many locations in one query. Emits the locations found, in no particular order;
+     * ids that do not exist are skipped.
+     */
+    Flux<Location> findAllByIds(List<String> ids);
+    
     Flux<Location> findAll();
     
     Flux<Location> findBySearchTerm(String search, Integer page, Integer size);
     
     Flux<Location> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size);
     
+    Mono<Long> countByFilters(String search, String status, String dateFrom, String dateTo);
+    
+    Mono<Long> estimateCountByFilters(String search, String status, String dateFrom, String dateTo);
+    
+    Flux<Location> findByFiltersAfter(String search, String status, String dateFrom, String dateTo,
+                                 String sortBy, String afterValue, String afterId, Integer size);
+    
     Flux<Location> findAllPaged(Integer page, Integer size);
     
     Mono<Void> deleteById(String id);
     
-    Mono<Boolean> existsById(String id);
+    /**
+     * Sets the location to INACTIVE in one statement. Emits the number of rows changed: zero when
+     * the location does not exist or is already inactive.
+     */
+    Mono<Long> deactivateById(String id);
     
-    Flux<Location> findNeighborhoodsByCity(String cityId);
+    /**
+     * Sets the status of all given locations in one statement and emits the number of rows changed.
+     */
+    Mono<Long> updateStatus(List<String> ids, String status);
     
-    Flux<Location> findRegionsByCountry(String countryId);
-    
-    Flux<Location> findCitiesByRegion(String regionId);
+    Mono<Boolean> existsById(String id);
     
 }
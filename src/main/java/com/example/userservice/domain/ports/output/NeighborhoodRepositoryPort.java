@@ -28,6 +28,8 @@ public interface NeighborhoodRepositoryPort {
     
     Flux<Neighborhood> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size);
     
+    Flux<Neighborhood> findByCityId(String cityId);
+    
     Flux<Neighborhood> findAllPaged(Integer page, Integer size);
     
     Mono<Void> deleteById(String id);
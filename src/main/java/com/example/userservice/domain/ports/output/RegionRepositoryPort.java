@@ -28,6 +28,8 @@ public interface RegionRepositoryPort {
     
     Flux<Region> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size);
     
+    Flux<Region> findByCountryId(String countryId);
+    
     Flux<Region> findAllPaged(Integer page, Integer size);
     
     Mono<Void> deleteById(String id);
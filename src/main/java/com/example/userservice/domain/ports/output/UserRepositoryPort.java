@@ -5,6 +5,8 @@ import com.example.userservice.domain.model.User;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * Domain repository port for User operations.
  * <p>
@@ -20,17 +22,66 @@ public interface UserRepositoryPort {
     
     Mono<User> save(User user);
     
+    /**
+     * Inserts new users in one batch. Emits one flag per user, in input order: {@code true}
+     * when it was inserted, {@code false} when its username or email is already taken.
+     */
+    Flux<Boolean> insertAll(List<User> users);
+    
+    /**
+     * Writes the non-null fields of {@code changes} in a single statement and returns the
+     * updated user, or empty when no user has the given id.
+     */
+    Mono<User> updateFields(String id, User changes);
+    
     Mono<User> findById(String id);
     
+    /**
+     * Looks up many users in one query. Emits the users found, in no particular order;
+     * ids that do not exist are skipped.
+     */
+    Flux<User> findAllByIds(List<String> ids);
+    
     Flux<User> findAll();
     
     Flux<User> findBySearchTerm(String search, Integer page, Integer size);
     
     Flux<User> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size);
     
+    Mono<Long> countByFilters(String search, String status, String dateFrom, String dateTo);
+    
+    Mono<Long> estimateCountByFilters(String search, String status, String dateFrom, String dateTo);
+    
+    Flux<User> findByFullText(String search, String status, String dateFrom, String dateTo, Integer page, Integer size);
+    
+    Mono<Long> countByFullText(String search, String status, String dateFrom, String dateTo);
+    
+    Flux<User> findByFiltersAfter(String search, String status, String dateFrom, String dateTo,
+                                 String sortBy, String afterValue, String afterId, Integer size);
+    
     Flux<User> findAllPaged(Integer page, Integer size);
     
     Mono<Void> deleteById(String id);
     
+    /**
+     * Sets the user to INACTIVE in one statement. Emits the number of rows changed: zero when
+     * the user does not exist or is already inactive.
+     */
+    Mono<Long> deactivateById(String id);
+    
+    /**
+     * Sets the status of all given users in one statement and emits the number of rows changed.
+     */
+    Mono<Long> updateStatus(List<String> ids, String status);
+    
     Mono<Boolean> existsById(String id);
+    
+    Mono<Boolean> existsByUsername(String username);
+    
+    Mono<Boolean> existsByEmail(String email);
+    
+    /**
+     * Streams every username and every email without loading whole rows.
+     */
+    Flux<String> findAllIdentities();
 }
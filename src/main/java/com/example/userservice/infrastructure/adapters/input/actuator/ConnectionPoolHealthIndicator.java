@@ -0,0 +1,53 @@
+package com.example.userservice.infrastructure.adapters.input.actuator;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.pool.MeteredConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Reports the R2DBC connection pool as DOWN while it is exhausted.
+ * <p>
+ * The pool is exhausted when every connection it may open is in use and callers are queued
+ * for one. It is part of the readiness group ({@code /actuator/health/readiness}), so an
+ * instance that cannot serve queries in time stops receiving traffic until connections are
+ * released, instead of queuing more requests until they hit the acquire timeout. Sizes are
+ * reported as details. Without a pool the indicator is UNKNOWN.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Component
+public class ConnectionPoolHealthIndicator extends AbstractHealthIndicator {
+
+    private final ConnectionPool pool;
+
+    public ConnectionPoolHealthIndicator(ConnectionFactory connectionFactory) {
+        super("Connection pool health check failed");
+        this.pool = MeteredConnectionFactory.poolOf(connectionFactory);
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        Optional<PoolMetrics> metrics = pool == null ? Optional.empty() : pool.getMetrics();
+        if (metrics.isEmpty()) {
+            builder.unknown();
+            return;
+        }
+        PoolMetrics current = metrics.get();
+        boolean exhausted = current.acquiredSize() >= current.getMaxAllocatedSize()
+                && current.pendingAcquireSize() > 0;
+        (exhausted ? builder.down() : builder.up())
+                .withDetail("acquired", current.acquiredSize())
+                .withDetail("idle", current.idleSize())
+                .withDetail("allocated", current.allocatedSize())
+                .withDetail("pending", current.pendingAcquireSize())
+                .withDetail("maxAllocated", current.getMaxAllocatedSize());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.userservice.infrastructure.adapters.input.actuator;
+
+import com.example.userservice.application.service.GeoReferenceDataCache;
+import com.example.userservice.utils.LoggingUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the geo reference data snapshot.
+ * <p>
+ * {@code GET /actuator/georeference} reports the current snapshot and
+ * {@code POST /actuator/georeference} reloads it from the database, e.g. right
+ * after reference data has been edited instead of waiting for the scheduled refresh.
+ * {@code /actuator/**} is not authenticated, so the endpoint is left out of the default web
+ * exposure; add {@code georeference} to {@code management.endpoints.web.exposure.include}
+ * only where the actuator is not publicly reachable.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "georeference")
+@RequiredArgsConstructor
+public class GeoReferenceDataEndpoint {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(GeoReferenceDataEndpoint.class);
+
+    private final GeoReferenceDataCache geoReferenceDataCache;
+
+    @ReadOperation
+    public Map<String, Object> snapshot() {
+        return geoReferenceDataCache.stats();
+    }
+
+    @WriteOperation
+    public Mono<Map<String, Object>> refresh() {
+        logger.info("Geo reference data refresh requested through actuator");
+        return geoReferenceDataCache.refresh();
+    }
+}
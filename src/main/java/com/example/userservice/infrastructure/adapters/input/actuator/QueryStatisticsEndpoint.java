@@ -0,0 +1,56 @@
+package com.example.userservice.infrastructure.adapters.input.actuator;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.statistics.QueryStatistics;
+import com.example.userservice.utils.LoggingUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Actuator endpoint exposing the per-statement query statistics.
+ * <p>
+ * {@code GET /actuator/querystats} lists the statements with the most total time spent;
+ * {@code limit} (default {@value #DEFAULT_LIMIT}) and {@code order} ({@code total},
+ * {@code mean}, {@code p99}, {@code count} or {@code rows}) change the selection.
+ * {@code DELETE /actuator/querystats} starts the statistics over, e.g. after a deployment.
+ * {@code /actuator/**} is not authenticated, so the endpoint is left out of the default web
+ * exposure; add {@code querystats} to {@code management.endpoints.web.exposure.include}
+ * only where the actuator is not publicly reachable.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "querystats")
+@ConditionalOnProperty(name = "metrics.queries.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryStatisticsEndpoint {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(QueryStatisticsEndpoint.class);
+
+    static final int DEFAULT_LIMIT = 20;
+
+    private final QueryStatistics queryStatistics;
+
+    @ReadOperation
+    public List<QueryStatistics.Summary> top(@Nullable Integer limit, @Nullable String order) {
+        QueryStatistics.Order sortBy = order == null
+                ? QueryStatistics.Order.TOTAL
+                : QueryStatistics.Order.valueOf(order.toUpperCase(Locale.ROOT));
+        return queryStatistics.top(limit == null ? DEFAULT_LIMIT : Math.max(1, limit), sortBy);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        logger.info("Query statistics reset requested through actuator");
+        queryStatistics.reset();
+    }
+}
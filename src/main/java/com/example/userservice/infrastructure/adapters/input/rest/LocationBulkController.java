@@ -0,0 +1,101 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.domain.ports.input.LocationUseCase;
+import com.example.userservice.application.dto.location.BatchGetLocationsRequestContent;
+import com.example.userservice.application.dto.location.BatchGetLocationsResponseContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusRequestContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusResponseContent;
+import com.example.userservice.utils.LoggingUtils;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+
+/**
+ * Reactive REST Controller for batch Location operations.
+ * <p>
+ * Custom methods use the {@code /locations:<method>} form, which cannot be expressed under the
+ * {@code /locations} prefix of {@link LocationController}, so they live in their own controller.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Location", description = "Location management operations")
+public class LocationBulkController {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(LocationBulkController.class);
+
+    private final LocationUseCase locationUseCase;
+
+    @PostMapping("/locations:batchStatus")
+    @Operation(summary = "Change the status of Locations in batch", description = "Sets the given status on every listed Location with a single update")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status applied; see number of Locations changed"),
+        @ApiResponse(responseCode = "400", description = "Invalid ids or status")
+    })
+    public Mono<BatchUpdateLocationStatusResponseContent> updateLocationsStatus(
+            @Parameter(description = "Ids and target status", required = true)
+            @Valid @RequestBody BatchUpdateLocationStatusRequestContent request,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Changing status of locations in batch"))
+                .then(Mono.defer(() -> locationUseCase.updateStatus(request)));
+    }
+
+    @GetMapping("/locations:batchGet")
+    @Operation(summary = "Get Locations in batch", description = "Retrieves the listed Locations with a single query, in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Locations retrieved; unknown ids are marked NOT_FOUND"),
+        @ApiResponse(responseCode = "400", description = "Missing, malformed or too many ids")
+    })
+    public Mono<BatchGetLocationsResponseContent> getLocationsBatch(
+            @Parameter(description = "Comma-separated Location identifiers", required = true)
+            @RequestParam List<String> ids,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Getting {} locations in batch", ids.size()))
+                .then(Mono.defer(() -> locationUseCase.batchGet(ids)));
+    }
+
+    @PostMapping("/locations:batchGet")
+    @Operation(summary = "Get Locations in batch", description = "Retrieves the Locations listed in the body with a single query, in request order; for lists too long for a query string")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Locations retrieved; unknown ids are marked NOT_FOUND"),
+        @ApiResponse(responseCode = "400", description = "Missing, malformed or too many ids")
+    })
+    public Mono<BatchGetLocationsResponseContent> getLocationsBatchFromBody(
+            @Parameter(description = "Location identifiers", required = true)
+            @Valid @RequestBody BatchGetLocationsRequestContent request,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Getting {} locations in batch", request.getIds().size()))
+                .then(Mono.defer(() -> locationUseCase.batchGet(request.getIds())));
+    }
+}
@@ -8,12 +8,18 @@ import com.example.userservice.application.dto.location.UpdateLocationRequestCon
 import com.example.userservice.application.dto.location.UpdateLocationResponseContent;
 import com.example.userservice.application.dto.location.DeleteLocationResponseContent;
 import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.location.LocationResponse;
 import com.example.userservice.application.dto.location.GetNeighborhoodsByCityResponseContent;
 import com.example.userservice.application.dto.location.GetRegionsByCountryResponseContent;
 import com.example.userservice.application.dto.location.GetCitiesByRegionResponseContent;
 import com.example.userservice.utils.LoggingUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -53,6 +59,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class LocationController {
 
     private static final LoggingUtils logger = LoggingUtils.getLogger(LocationController.class);
+    private static final int MAX_STREAM_SIZE = 10_000;
 
     private final LocationUseCase locationUseCase;
 
@@ -73,13 +80,11 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Creating location with request: {}", request);
                     return request;
-                }))
-                .flatMap(locationUseCase::create)
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(locationUseCase::create);
     }
 
     @GetMapping("/{locationId}")
@@ -97,13 +102,11 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Getting location with id: {}", locationId);
                     return locationId;
-                }))
-                .flatMap(locationUseCase::get)
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(locationUseCase::get);
     }
 
     @PutMapping("/{locationId}")
@@ -124,13 +127,11 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Updating location {} with request: {}", locationId, request);
                     return request;
-                }))
-                .flatMap(req -> locationUseCase.update(locationId, req))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(req -> locationUseCase.update(locationId, req));
     }
 
     @DeleteMapping("/{locationId}")
@@ -148,13 +149,11 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Deleting location with id: {}", locationId);
                     return locationId;
-                }))
-                .flatMap(locationUseCase::delete)
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(locationUseCase::delete);
     }
 
     @GetMapping
@@ -176,33 +175,102 @@ public class LocationController {
             @RequestParam(required = false) String dateFrom,
             @Parameter(description = "End date for filtering by createdAt (ISO format: 2024-12-31T23:59:59Z)")
             @RequestParam(required = false) String dateTo,
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor; switches to keyset pagination and ignores page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Sort key for cursor pagination (createdAt). Default: createdAt")
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Return a planner estimate in total/totalPages instead of an exact count (cheaper on large tables). Default: false")
+            @RequestParam(required = false) Boolean estimatedTotal,
             @Parameter(description = "Unique request identifier", required = true)
             @RequestHeader("X-Request-ID") String requestId,
             @Parameter(description = "Correlation identifier for transaction tracking")
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
-                    // Validate date range
-                    if (dateFrom != null && dateTo != null && !dateFrom.trim().isEmpty() && !dateTo.trim().isEmpty()) {
-                        try {
-                            java.time.Instant fromInstant = java.time.Instant.parse(dateFrom);
-                            java.time.Instant toInstant = java.time.Instant.parse(dateTo);
-                            if (fromInstant.isAfter(toInstant)) {
-                                throw new IllegalArgumentException("dateFrom cannot be after dateTo");
-                            }
-                        } catch (java.time.format.DateTimeParseException e) {
-                            throw new IllegalArgumentException("Invalid date format. Use ISO format: 2024-01-01T00:00:00Z");
-                        }
+        return Mono.fromCallable(() -> {
+                    validateDateRange(dateFrom, dateTo);
+                    
+                    logger.info("Listing locations with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}, cursor: {}, sortBy: {}", 
+                               page, size, search, status, dateFrom, dateTo, cursor, sortBy);
+                    return search == null ? "": search;
+                })
+                .flatMap(searchTerm -> cursor != null || sortBy != null
+                        ? locationUseCase.listByCursor(size, searchTerm, status, dateFrom, dateTo, sortBy, cursor)
+                        : locationUseCase.list(page, size, searchTerm, status, dateFrom, dateTo, estimatedTotal));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream Locations", description = "Streams the filtered Locations one element at a time as NDJSON or server-sent events, with backpressure and without buffering the page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Locations streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range, format or page size")
+    })
+    public Flux<LocationResponse> streamLocations(
+            @Parameter(description = "Page number (1-based)", example = "1")
+            @RequestParam(defaultValue = "1") Integer page,
+            @Parameter(description = "Page size (up to " + MAX_STREAM_SIZE + ")", example = "1000")
+            @RequestParam(defaultValue = "20") Integer size,
+            @Parameter(description = "Search term for filtering")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "Location status filter (ACTIVE, INACTIVE, PENDING, SUSPENDED, DELETED). Default: ACTIVE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Start date for filtering by createdAt (ISO format: 2024-01-01T00:00:00Z)")
+            @RequestParam(required = false) String dateFrom,
+            @Parameter(description = "End date for filtering by createdAt (ISO format: 2024-12-31T23:59:59Z)")
+            @RequestParam(required = false) String dateTo,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromCallable(() -> {
+                    validateDateRange(dateFrom, dateTo);
+                    if (size != null && size > MAX_STREAM_SIZE) {
+                        throw new IllegalArgumentException("size cannot exceed " + MAX_STREAM_SIZE + " when streaming");
                     }
                     
-                    logger.info("Listing locations with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
+                    logger.info("Streaming locations with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
                                page, size, search, status, dateFrom, dateTo);
                     return search == null ? "": search;
-                }))
-                .flatMap(searchTerm -> locationUseCase.list(page, size, searchTerm, status, dateFrom, dateTo))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMapMany(searchTerm -> locationUseCase.stream(page, size, searchTerm, status, dateFrom, dateTo));
+    }
+
+    @GetMapping(value = "/tree", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "GetGeoTree", description = "Full geo reference tree served from the in-memory snapshot; supports conditional requests via ETag")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Operation completed successfully"),
+        @ApiResponse(responseCode = "304", description = "Client copy is current")
+    })
+    public Mono<ResponseEntity<byte[]>> getGeoTree(
+            @Parameter(description = "ETag of the tree held by the client")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId,
+            ServerWebExchange exchange) {
+        return Mono.fromCallable(() -> {
+                    logger.info("Executing GetGeoTree with If-None-Match: {}", ifNoneMatch);
+                    return "GetGeoTree";
+                })
+                .flatMap(op -> locationUseCase.getGeoTree())
+                .map(tree -> {
+                    // checkNotModified handles lists and weak validators but not "*", which matches any current tree
+                    if ("*".equals(ifNoneMatch != null ? ifNoneMatch.trim() : null) || exchange.checkNotModified(tree.getEtag())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(tree.getEtag())
+                                .<byte[]>build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(tree.getEtag())
+                            .cacheControl(CacheControl.noCache())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(tree.getJson());
+                });
     }
 
     @GetMapping("/cities/{cityId}/neighborhoods")
@@ -219,13 +287,11 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Executing GetNeighborhoodsByCity with cityId: {}", cityId);
                     return "GetNeighborhoodsByCity";
-                }))
-                .flatMap(op -> locationUseCase.getNeighborhoodsByCity(cityId))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(op -> locationUseCase.getNeighborhoodsByCity(cityId));
     }
 
     @GetMapping("/countries/{countryId}/regions")
@@ -242,13 +308,11 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Executing GetRegionsByCountry with countryId: {}", countryId);
                     return "GetRegionsByCountry";
-                }))
-                .flatMap(op -> locationUseCase.getRegionsByCountry(countryId))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(op -> locationUseCase.getRegionsByCountry(countryId));
     }
 
     @GetMapping("/regions/{regionId}/cities")
@@ -265,13 +329,25 @@ public class LocationController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Executing GetCitiesByRegion with regionId: {}", regionId);
                     return "GetCitiesByRegion";
-                }))
-                .flatMap(op -> locationUseCase.getCitiesByRegion(regionId))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(op -> locationUseCase.getCitiesByRegion(regionId));
+    }
+
+    private void validateDateRange(String dateFrom, String dateTo) {
+        if (dateFrom != null && dateTo != null && !dateFrom.trim().isEmpty() && !dateTo.trim().isEmpty()) {
+            try {
+                java.time.Instant fromInstant = java.time.Instant.parse(dateFrom);
+                java.time.Instant toInstant = java.time.Instant.parse(dateTo);
+                if (fromInstant.isAfter(toInstant)) {
+                    throw new IllegalArgumentException("dateFrom cannot be after dateTo");
+                }
+            } catch (java.time.format.DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date format. Use ISO format: 2024-01-01T00:00:00Z");
+            }
+        }
     }
 
 }
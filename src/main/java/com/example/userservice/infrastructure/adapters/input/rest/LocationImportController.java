@@ -0,0 +1,112 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.domain.ports.input.LocationImportUseCase;
+import com.example.userservice.application.dto.location.LocationImportResponseContent;
+import com.example.userservice.utils.LoggingUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.net.URI;
+
+/**
+ * Reactive REST Controller for bulk Location imports.
+ * <p>
+ * The CSV body is decoded into a {@link Flux} of lines as it arrives, so imports of
+ * millions of rows never hold the whole file in memory. The POST answers 202 with the job
+ * resource in {@code Location} as soon as the job is registered and streams the job as
+ * NDJSON: once in {@code RUNNING} state and again when the last batch is committed.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/locations/imports")
+@RequiredArgsConstructor
+@Tag(name = "Location", description = "Location management operations")
+public class LocationImportController {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(LocationImportController.class);
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final LocationImportUseCase locationImportUseCase;
+
+    @PostMapping(consumes = {TEXT_CSV_VALUE, MediaType.TEXT_PLAIN_VALUE}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Import Locations from CSV", description = "Streams a CSV file with a header line into the locations table in committed batches")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import accepted; streams the job when registered and when finished, FAILED for missing or unknown CSV columns")
+    })
+    public Flux<LocationImportResponseContent> importLocations(
+            @Parameter(description = "CSV content with a header line", required = true)
+            @RequestBody Flux<String> lines,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId,
+            ServerHttpResponse response) {
+        return Mono.fromRunnable(() -> logger.info("Importing locations from CSV"))
+                .thenMany(locationImportUseCase.importCsv(lines))
+                .switchOnFirst((first, progress) -> {
+                    if (!first.hasValue()) {
+                        return progress;
+                    }
+                    String jobId = first.get().getJobId();
+                    response.getHeaders().setLocation(URI.create("/locations/imports/" + jobId));
+                    // the 202 is already on the wire, so a failure can only be reported as the job's final state
+                    return progress.onErrorResume(e -> locationImportUseCase.getImport(jobId));
+                });
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get Location import", description = "Retrieves the progress of a Location import job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import job found"),
+        @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    public Mono<LocationImportResponseContent> getImport(
+            @Parameter(description = "Import job identifier", required = true)
+            @PathVariable String jobId,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return locationImportUseCase.getImport(jobId);
+    }
+
+    @GetMapping
+    @Operation(summary = "List Location imports", description = "Lists running and recent Location import jobs, newest first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import jobs retrieved")
+    })
+    public Flux<LocationImportResponseContent> listImports(
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return locationImportUseCase.listImports();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.utils.LoggingUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Puts the request tracing headers into the Reactor context of every request.
+ * <p>
+ * X-Request-ID, X-Correlation-ID and X-Client-Id are read once per exchange and written to the
+ * context with {@link LoggingUtils#withRequestContext}. Automatic context propagation, enabled
+ * when this filter is created, restores them into the MDC of whichever thread handles each
+ * step of the request, so controllers, services and repository adapters log the right ids
+ * without setting or clearing the MDC themselves. The filter runs first so that logs from
+ * later filters are tagged as well.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestContextWebFilter implements WebFilter {
+
+    static final String REQUEST_ID_HEADER = "X-Request-ID";
+    static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
+    static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    public RequestContextWebFilter() {
+        LoggingUtils.enableContextPropagation();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        String requestId = headers.getFirst(REQUEST_ID_HEADER);
+        String correlationId = headers.getFirst(CORRELATION_ID_HEADER);
+        String clientId = headers.getFirst(CLIENT_ID_HEADER);
+        if (requestId == null && correlationId == null && clientId == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(context -> LoggingUtils.withRequestContext(context, requestId, correlationId, clientId));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.domain.ports.input.UserUseCase;
+import com.example.userservice.application.dto.user.BatchGetUsersRequestContent;
+import com.example.userservice.application.dto.user.BatchGetUsersResponseContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusRequestContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusResponseContent;
+import com.example.userservice.application.dto.user.BulkCreateUsersResponseContent;
+import com.example.userservice.application.dto.user.CreateUserRequestContent;
+import com.example.userservice.application.dto.user.UserAvailabilityResponseContent;
+import com.example.userservice.utils.LoggingUtils;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import java.util.List;
+
+/**
+ * Reactive REST Controller for bulk User operations.
+ * <p>
+ * Custom methods use the {@code /users:<method>} form, which cannot be expressed under the
+ * {@code /users} prefix of {@link UserController}, so they live in their own controller.
+ * The bulk creation array is decoded element by element by the non-blocking Jackson decoder
+ * and handed to the use case as a {@link Flux}, without buffering the whole body.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "User", description = "User management operations")
+public class UserBulkController {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(UserBulkController.class);
+
+    private final UserUseCase userUseCase;
+
+    @PostMapping("/users:bulk")
+    @Operation(summary = "Create Users in bulk", description = "Creates the Users of a JSON array, reporting the outcome of each element")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Request processed; see per-element results"),
+        @ApiResponse(responseCode = "400", description = "Malformed request body")
+    })
+    public Mono<BulkCreateUsersResponseContent> createUsersBulk(
+            @Parameter(description = "Array of User creation requests", required = true)
+            @RequestBody Flux<CreateUserRequestContent> requests,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Creating users in bulk"))
+                .then(Mono.defer(() -> userUseCase.createBulk(requests)));
+    }
+
+    @PostMapping("/users:batchStatus")
+    @Operation(summary = "Change the status of Users in batch", description = "Sets the given status on every listed User with a single update")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status applied; see number of Users changed"),
+        @ApiResponse(responseCode = "400", description = "Invalid ids or status")
+    })
+    public Mono<BatchUpdateUserStatusResponseContent> updateUsersStatus(
+            @Parameter(description = "Ids and target status", required = true)
+            @Valid @RequestBody BatchUpdateUserStatusRequestContent request,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Changing status of users in batch"))
+                .then(Mono.defer(() -> userUseCase.updateStatus(request)));
+    }
+
+    @GetMapping("/users:batchGet")
+    @Operation(summary = "Get Users in batch", description = "Retrieves the listed Users with a single query, in request order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users retrieved; unknown ids are marked NOT_FOUND"),
+        @ApiResponse(responseCode = "400", description = "Missing, malformed or too many ids")
+    })
+    public Mono<BatchGetUsersResponseContent> getUsersBatch(
+            @Parameter(description = "Comma-separated User identifiers", required = true)
+            @RequestParam List<String> ids,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Getting {} users in batch", ids.size()))
+                .then(Mono.defer(() -> userUseCase.batchGet(ids)));
+    }
+
+    @PostMapping("/users:batchGet")
+    @Operation(summary = "Get Users in batch", description = "Retrieves the Users listed in the body with a single query, in request order; for lists too long for a query string")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users retrieved; unknown ids are marked NOT_FOUND"),
+        @ApiResponse(responseCode = "400", description = "Missing, malformed or too many ids")
+    })
+    public Mono<BatchGetUsersResponseContent> getUsersBatchFromBody(
+            @Parameter(description = "User identifiers", required = true)
+            @Valid @RequestBody BatchGetUsersRequestContent request,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Getting {} users in batch", request.getIds().size()))
+                .then(Mono.defer(() -> userUseCase.batchGet(request.getIds())));
+    }
+
+    @GetMapping("/users:availability")
+    @Operation(summary = "Check username and email availability", description = "Reports whether the given username and email are free, answering from memory when possible")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Availability reported for each queried value"),
+        @ApiResponse(responseCode = "400", description = "Neither username nor email given")
+    })
+    public Mono<UserAvailabilityResponseContent> checkUserAvailability(
+            @Parameter(description = "Username to check")
+            @RequestParam(required = false) String username,
+            @Parameter(description = "Email to check")
+            @RequestParam(required = false) String email,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromRunnable(() -> logger.info("Checking availability of username: {}, email: {}", username, email))
+                .then(Mono.defer(() -> userUseCase.availability(username, email)));
+    }
+}
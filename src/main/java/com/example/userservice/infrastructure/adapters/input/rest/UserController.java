@@ -8,9 +8,11 @@ import com.example.userservice.application.dto.user.UpdateUserRequestContent;
 import com.example.userservice.application.dto.user.UpdateUserResponseContent;
 import com.example.userservice.application.dto.user.DeleteUserResponseContent;
 import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.dto.user.UserResponse;
 import com.example.userservice.utils.LoggingUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -50,6 +52,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class UserController {
 
     private static final LoggingUtils logger = LoggingUtils.getLogger(UserController.class);
+    private static final int MAX_STREAM_SIZE = 10_000;
+    private static final String SEARCH_MODE_SUBSTRING = "substring";
+    private static final String SEARCH_MODE_FULLTEXT = "fulltext";
 
     private final UserUseCase userUseCase;
 
@@ -70,13 +75,11 @@ public class UserController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Creating user with request: {}", request);
                     return request;
-                }))
-                .flatMap(userUseCase::create)
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(userUseCase::create);
     }
 
     @GetMapping("/{userId}")
@@ -94,13 +97,11 @@ public class UserController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Getting user with id: {}", userId);
                     return userId;
-                }))
-                .flatMap(userUseCase::get)
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(userUseCase::get);
     }
 
     @PutMapping("/{userId}")
@@ -121,13 +122,11 @@ public class UserController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Updating user {} with request: {}", userId, request);
                     return request;
-                }))
-                .flatMap(req -> userUseCase.update(userId, req))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(req -> userUseCase.update(userId, req));
     }
 
     @DeleteMapping("/{userId}")
@@ -145,13 +144,11 @@ public class UserController {
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
+        return Mono.fromCallable(() -> {
                     logger.info("Deleting user with id: {}", userId);
                     return userId;
-                }))
-                .flatMap(userUseCase::delete)
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMap(userUseCase::delete);
     }
 
     @GetMapping
@@ -167,39 +164,107 @@ public class UserController {
             @RequestParam(defaultValue = "20") Integer size,
             @Parameter(description = "Search term for filtering")
             @RequestParam(required = false) String search,
+            @Parameter(description = "Search mode: substring (default, trigram-indexed match) or fulltext (ranked full-text match)")
+            @RequestParam(required = false) String searchMode,
             @Parameter(description = "User status filter (ACTIVE, INACTIVE, PENDING, SUSPENDED, DELETED). Default: ACTIVE")
             @RequestParam(required = false) String status,
             @Parameter(description = "Start date for filtering by createdAt (ISO format: 2024-01-01T00:00:00Z)")
             @RequestParam(required = false) String dateFrom,
             @Parameter(description = "End date for filtering by createdAt (ISO format: 2024-12-31T23:59:59Z)")
             @RequestParam(required = false) String dateTo,
+            @Parameter(description = "Opaque cursor from a previous response's nextCursor; switches to keyset pagination and ignores page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Sort key for cursor pagination (createdAt, username, email). Default: createdAt")
+            @RequestParam(required = false) String sortBy,
+            @Parameter(description = "Return a planner estimate in total/totalPages instead of an exact count (cheaper on large tables). Default: false")
+            @RequestParam(required = false) Boolean estimatedTotal,
             @Parameter(description = "Unique request identifier", required = true)
             @RequestHeader("X-Request-ID") String requestId,
             @Parameter(description = "Correlation identifier for transaction tracking")
             @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
             @Parameter(description = "Client service identifier")
             @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
-        return Mono.fromRunnable(() -> LoggingUtils.setRequestContext(requestId, correlationId, clientId))
-                .then(Mono.fromCallable(() -> {
-                    // Validate date range
-                    if (dateFrom != null && dateTo != null && !dateFrom.trim().isEmpty() && !dateTo.trim().isEmpty()) {
-                        try {
-                            java.time.Instant fromInstant = java.time.Instant.parse(dateFrom);
-                            java.time.Instant toInstant = java.time.Instant.parse(dateTo);
-                            if (fromInstant.isAfter(toInstant)) {
-                                throw new IllegalArgumentException("dateFrom cannot be after dateTo");
-                            }
-                        } catch (java.time.format.DateTimeParseException e) {
-                            throw new IllegalArgumentException("Invalid date format. Use ISO format: 2024-01-01T00:00:00Z");
-                        }
+        return Mono.fromCallable(() -> {
+                    validateDateRange(dateFrom, dateTo);
+                    
+                    if (isFullTextMode(searchMode) && (cursor != null || sortBy != null)) {
+                        throw new IllegalArgumentException("searchMode=fulltext does not support cursor pagination");
+                    }
+                    
+                    logger.info("Listing users with page: {}, size: {}, search: {}, searchMode: {}, status: {}, dateFrom: {}, dateTo: {}, cursor: {}, sortBy: {}", 
+                               page, size, search, searchMode, status, dateFrom, dateTo, cursor, sortBy);
+                    return search == null ? "": search;
+                })
+                .flatMap(searchTerm -> {
+                    if (isFullTextMode(searchMode) && !searchTerm.trim().isEmpty()) {
+                        return userUseCase.listFullText(page, size, searchTerm, status, dateFrom, dateTo);
+                    }
+                    return cursor != null || sortBy != null
+                            ? userUseCase.listByCursor(size, searchTerm, status, dateFrom, dateTo, sortBy, cursor)
+                            : userUseCase.list(page, size, searchTerm, status, dateFrom, dateTo, estimatedTotal);
+                });
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    @Operation(summary = "Stream Users", description = "Streams the filtered Users one element at a time as NDJSON or server-sent events, with backpressure and without buffering the page")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Users streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid date range, format or page size")
+    })
+    public Flux<UserResponse> streamUsers(
+            @Parameter(description = "Page number (1-based)", example = "1")
+            @RequestParam(defaultValue = "1") Integer page,
+            @Parameter(description = "Page size (up to " + MAX_STREAM_SIZE + ")", example = "1000")
+            @RequestParam(defaultValue = "20") Integer size,
+            @Parameter(description = "Search term for filtering")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "User status filter (ACTIVE, INACTIVE, PENDING, SUSPENDED, DELETED). Default: ACTIVE")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "Start date for filtering by createdAt (ISO format: 2024-01-01T00:00:00Z)")
+            @RequestParam(required = false) String dateFrom,
+            @Parameter(description = "End date for filtering by createdAt (ISO format: 2024-12-31T23:59:59Z)")
+            @RequestParam(required = false) String dateTo,
+            @Parameter(description = "Unique request identifier", required = true)
+            @RequestHeader("X-Request-ID") String requestId,
+            @Parameter(description = "Correlation identifier for transaction tracking")
+            @RequestHeader(value = "X-Correlation-ID", required = false) String correlationId,
+            @Parameter(description = "Client service identifier")
+            @RequestHeader(value = "X-Client-Id", required = false) String clientId) {
+        return Mono.fromCallable(() -> {
+                    validateDateRange(dateFrom, dateTo);
+                    if (size != null && size > MAX_STREAM_SIZE) {
+                        throw new IllegalArgumentException("size cannot exceed " + MAX_STREAM_SIZE + " when streaming");
                     }
                     
-                    logger.info("Listing users with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
+                    logger.info("Streaming users with page: {}, size: {}, search: {}, status: {}, dateFrom: {}, dateTo: {}", 
                                page, size, search, status, dateFrom, dateTo);
                     return search == null ? "": search;
-                }))
-                .flatMap(searchTerm -> userUseCase.list(page, size, searchTerm, status, dateFrom, dateTo))
-                .doFinally(signal -> LoggingUtils.clearRequestContext());
+                })
+                .flatMapMany(searchTerm -> userUseCase.stream(page, size, searchTerm, status, dateFrom, dateTo));
+    }
+
+    private boolean isFullTextMode(String searchMode) {
+        if (searchMode == null || searchMode.trim().isEmpty() || SEARCH_MODE_SUBSTRING.equalsIgnoreCase(searchMode)) {
+            return false;
+        }
+        if (SEARCH_MODE_FULLTEXT.equalsIgnoreCase(searchMode)) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported searchMode: " + searchMode + ". Allowed values: substring, fulltext");
+    }
+
+    private void validateDateRange(String dateFrom, String dateTo) {
+        if (dateFrom != null && dateTo != null && !dateFrom.trim().isEmpty() && !dateTo.trim().isEmpty()) {
+            try {
+                java.time.Instant fromInstant = java.time.Instant.parse(dateFrom);
+                java.time.Instant toInstant = java.time.Instant.parse(dateTo);
+                if (fromInstant.isAfter(toInstant)) {
+                    throw new IllegalArgumentException("dateFrom cannot be after dateTo");
+                }
+            } catch (java.time.format.DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date format. Use ISO format: 2024-01-01T00:00:00Z");
+            }
+        }
     }
 
 }
@@ -0,0 +1,236 @@
+package com.example.userservice.infrastructure.adapters.output.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logback appender that takes log I/O off the calling thread.
+ * <p>
+ * Events are queued in a {@link LogRingBuffer} and written by a dedicated daemon thread to a
+ * {@link MappedLogFile}; the calling thread only prepares the event for deferred processing
+ * and publishes it. If the file cannot be opened or a write fails, events go to the console
+ * appenders this appender replaced on the root logger instead. When the buffer fills up the
+ * {@link OverflowPolicy} decides: {@code DROP_DEBUG_FIRST} starts dropping DEBUG and TRACE
+ * events once the buffer is {@value #DISCARD_DEBUG_PERCENT}% full and drops any event that
+ * finds it full, so callers never wait; {@code BLOCK} makes callers wait for room and loses
+ * nothing. Queue depth, dropped events by level and console fallbacks are exposed for metrics.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class AsyncMappedFileAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    public static final String NAME = "ASYNC_MAPPED_FILE";
+
+    static final int DISCARD_DEBUG_PERCENT = 80;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+    private static final Level[] LEVELS = {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR};
+
+    private final Settings settings;
+    private final Encoder<ILoggingEvent> encoder;
+    private final LogRingBuffer<ILoggingEvent> buffer;
+    private final int discardDebugDepth;
+    private final AtomicLongArray dropped = new AtomicLongArray(LEVELS.length);
+    private final LongAdder fallbacks = new LongAdder();
+    private final List<Appender<ILoggingEvent>> fallbackAppenders = new ArrayList<>();
+
+    private volatile boolean draining;
+    private Thread drainer;
+    private MappedLogFile file;
+    private Logger attachedTo;
+
+    public AsyncMappedFileAppender(Settings settings, Encoder<ILoggingEvent> encoder) {
+        this.settings = settings;
+        this.encoder = encoder;
+        this.buffer = new LogRingBuffer<>(settings.capacity());
+        this.discardDebugDepth = buffer.capacity() * DISCARD_DEBUG_PERCENT / 100;
+        setName(NAME);
+    }
+
+    /**
+     * Replaces the appenders of {@code root} with this one, keeping them as the fallback, and
+     * starts it.
+     */
+    public void attachTo(Logger root) {
+        setContext(root.getLoggerContext());
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            fallbackAppenders.add(it.next());
+        }
+        start();
+        root.addAppender(this);
+        fallbackAppenders.forEach(root::detachAppender);
+        attachedTo = root;
+    }
+
+    /**
+     * Puts the replaced appenders back on the root logger and stops this one, writing out
+     * whatever is still queued.
+     */
+    public void detach() {
+        if (attachedTo != null) {
+            fallbackAppenders.forEach(attachedTo::addAppender);
+            attachedTo.detachAppender(this);
+            attachedTo = null;
+        }
+        stop();
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!encoder.isStarted()) {
+            encoder.start();
+        }
+        try {
+            file = new MappedLogFile(settings.file(), settings.maxFileSize(), settings.maxHistory(), settings.mapSize());
+        } catch (IOException | RuntimeException e) {
+            addError("Cannot open " + settings.file() + "; logging to the console instead", e);
+            file = null;
+        }
+        draining = true;
+        drainer = new Thread(this::drain, "log-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        draining = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (settings.overflowPolicy() == OverflowPolicy.DROP_DEBUG_FIRST
+                && event.getLevel().toInt() <= Level.DEBUG_INT
+                && buffer.size() >= discardDebugDepth) {
+            drop(event);
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        if (buffer.offer(event)) {
+            return;
+        }
+        if (settings.overflowPolicy() == OverflowPolicy.BLOCK) {
+            while (draining) {
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                if (buffer.offer(event)) {
+                    return;
+                }
+            }
+        }
+        drop(event);
+    }
+
+    public int queueDepth() {
+        return buffer.size();
+    }
+
+    public long dropped(Level level) {
+        return dropped.get(levelIndex(level));
+    }
+
+    public long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    private void drop(ILoggingEvent event) {
+        dropped.incrementAndGet(levelIndex(event.getLevel()));
+    }
+
+    private static int levelIndex(Level level) {
+        for (int i = LEVELS.length - 1; i > 0; i--) {
+            if (level.toInt() >= LEVELS[i].toInt()) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private void drain() {
+        while (true) {
+            ILoggingEvent event = buffer.poll();
+            if (event != null) {
+                write(event);
+            } else if (draining) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } else {
+                break;
+            }
+        }
+        closeFile();
+    }
+
+    private void write(ILoggingEvent event) {
+        if (file != null) {
+            try {
+                file.write(encoder.encode(event));
+                return;
+            } catch (IOException | RuntimeException e) {
+                addError("Writing " + settings.file() + " failed; logging to the console instead", e);
+                closeFile();
+            }
+        }
+        fallbacks.increment();
+        for (Appender<ILoggingEvent> appender : fallbackAppenders) {
+            appender.doAppend(event);
+        }
+    }
+
+    private void closeFile() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException | RuntimeException e) {
+            addError("Closing " + settings.file() + " failed", e);
+        }
+        file = null;
+    }
+
+    /**
+     * What callers do when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        DROP_DEBUG_FIRST,
+        BLOCK
+    }
+
+    /**
+     * Target file, buffer capacity in events, overflow policy, size at which the file rolls,
+     * number of rolled files kept and size of each mapped region in bytes.
+     */
+    public record Settings(Path file, int capacity, OverflowPolicy overflowPolicy,
+                           long maxFileSize, int maxHistory, int mapSize) {
+    }
+}
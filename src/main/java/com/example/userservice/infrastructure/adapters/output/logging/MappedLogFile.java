@@ -0,0 +1,125 @@
+package com.example.userservice.infrastructure.adapters.output.logging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only log file written through memory-mapped regions and rolled by size.
+ * <p>
+ * Bytes are copied into a mapped region of {@code mapSize} bytes and the next region is mapped
+ * when it fills, so a write is a memory copy and the operating system flushes the pages in the
+ * background; a JVM crash loses nothing already written. When a write would take the file past
+ * {@code maxFileSize} the file is closed and shifted to {@code name.1}, older files move up one
+ * number and {@code name.maxHistory} is deleted. A file left by a previous run is rolled the
+ * same way on open. Closing truncates the file to the bytes written, dropping the unused tail
+ * of the last region. Not thread-safe; the appender writes from a single thread.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class MappedLogFile implements Closeable {
+
+    private final Path path;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final int mapSize;
+
+    private FileChannel channel;
+    private MappedByteBuffer region;
+    private long written;
+
+    public MappedLogFile(Path path, long maxFileSize, int maxHistory, int mapSize) throws IOException {
+        if (mapSize <= 0 || maxFileSize <= 0 || maxHistory < 0) {
+            throw new IllegalArgumentException("mapSize and maxFileSize must be positive and maxHistory not negative");
+        }
+        this.path = path.toAbsolutePath();
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        this.mapSize = mapSize;
+        Path parent = this.path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        if (Files.exists(this.path) && Files.size(this.path) > 0) {
+            shiftHistory();
+        }
+        open();
+    }
+
+    public void write(byte[] bytes) throws IOException {
+        if (written > 0 && written + bytes.length > maxFileSize) {
+            roll();
+        }
+        int offset = 0;
+        while (offset < bytes.length) {
+            if (!region.hasRemaining()) {
+                region = channel.map(FileChannel.MapMode.READ_WRITE, written, mapSize);
+            }
+            int length = Math.min(region.remaining(), bytes.length - offset);
+            region.put(bytes, offset, length);
+            offset += length;
+            written += length;
+        }
+    }
+
+    /**
+     * Bytes written to the current file.
+     */
+    public long size() {
+        return written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        try {
+            region.force();
+            channel.truncate(written);
+        } finally {
+            channel.close();
+            channel = null;
+            region = null;
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        written = 0;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize);
+    }
+
+    private void roll() throws IOException {
+        close();
+        shiftHistory();
+        open();
+    }
+
+    private void shiftHistory() throws IOException {
+        if (maxHistory == 0) {
+            Files.deleteIfExists(path);
+            return;
+        }
+        Files.deleteIfExists(archive(maxHistory));
+        for (int i = maxHistory - 1; i >= 1; i--) {
+            Path source = archive(i);
+            if (Files.exists(source)) {
+                Files.move(source, archive(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(path, archive(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path archive(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+}
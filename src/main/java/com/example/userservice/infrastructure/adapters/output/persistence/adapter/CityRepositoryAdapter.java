@@ -129,6 +129,15 @@ public class CityRepositoryAdapter implements CityRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to count Cities", e));
     }
     
+    @Override
+    public Flux<City> findByRegionId(String regionId) {
+        logger.debug("Finding Cities by regionId: {}", regionId);
+        return r2dbcRepository.findByRegionId(UUID.fromString(regionId))
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while finding Cities by regionId", e, regionId))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to find Cities by regionId", e));
+    }
+    
     @Override
     public Flux<City> findAllPaged(Integer page, Integer size) {
         logger.debug("Finding all Cities with pagination: page={}, size={}", page, size);
@@ -12,6 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +34,10 @@ import java.util.UUID;
 public class LocationRepositoryAdapter implements LocationRepositoryPort {
 
     private static final LoggingUtils logger = LoggingUtils.getLogger(LocationRepositoryAdapter.class);
+
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final Instant FIRST_PAGE_CREATED_AT = Instant.parse("9999-12-31T23:59:59Z");
+    private static final UUID FIRST_PAGE_ID = new UUID(0L, 0L);
     
     private final JpaLocationRepository r2dbcRepository;
     private final LocationMapper mapper;
@@ -45,6 +52,25 @@ public class LocationRepositoryAdapter implements LocationRepositoryPort {
                 .onErrorMap(this::mapRepositoryException);
     }
 
+    @Override
+    public Mono<Long> importAll(List<Location> locations) {
+        logger.debug("Importing {} Locations in batch", locations.size());
+        return Flux.fromIterable(locations)
+                .map(mapper::toDbo)
+                .collectList()
+                .flatMap(r2dbcRepository::importAll)
+                .doOnError(e -> logger.error("Database error while importing Locations in batch", e))
+                .onErrorMap(this::mapRepositoryException);
+    }
+
+    @Override
+    public Flux<String> findActiveLocationTypes() {
+        logger.debug("Finding active Location types");
+        return r2dbcRepository.findActiveLocationTypes()
+                .doOnError(e -> logger.error("Database error while finding active Location types", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to find active Location types", e));
+    }
+
     private Throwable mapRepositoryException(Throwable ex) {
         // Business logic exceptions - propagate to service layer
         if (ex instanceof org.springframework.dao.DuplicateKeyException) {
@@ -60,6 +86,19 @@ public class LocationRepositoryAdapter implements LocationRepositoryPort {
         return new InternalServerErrorException("Failed to save Location", ex);
     }
 
+    @Override
+    public Mono<Location> updateFields(String id, Location changes) {
+        logger.debug("Updating Location fields by id: {}", id);
+        // Parsed before the chain, like findById, so a malformed id stays a 400 instead of
+        // being wrapped by mapRepositoryException
+        UUID locationId = UUID.fromString(id);
+        return Mono.fromCallable(() -> mapper.toDbo(changes))
+                .flatMap(dbo -> r2dbcRepository.updateFields(locationId, dbo))
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while updating Location fields", e, id))
+                .onErrorMap(this::mapRepositoryException);
+    }
+
     @Override
     public Mono<Location> findById(String id) {
         logger.debug("Finding Location by id: {}", id);
@@ -69,6 +108,16 @@ public class LocationRepositoryAdapter implements LocationRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to find Location by id", e));
     }
 
+    @Override
+    public Flux<Location> findAllByIds(List<String> ids) {
+        logger.debug("Finding {} Locations by id", ids.size());
+        return Mono.fromCallable(() -> ids.stream().map(UUID::fromString).toArray(UUID[]::new))
+                .flatMapMany(r2dbcRepository::findAllByIds)
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while finding Locations by ids", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to find Locations by ids", e));
+    }
+
     @Override
     public Flux<Location> findAll() {
         logger.debug("Finding all Locations");
@@ -86,6 +135,23 @@ public class LocationRepositoryAdapter implements LocationRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to delete Location by id", e));
     }
 
+    @Override
+    public Mono<Long> deactivateById(String id) {
+        logger.debug("Deactivating Location by id: {}", id);
+        return r2dbcRepository.deactivateById(UUID.fromString(id))
+                .doOnError(e -> logger.error("Database error while deactivating Location by id", e, id))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to deactivate Location by id", e));
+    }
+
+    @Override
+    public Mono<Long> updateStatus(List<String> ids, String status) {
+        logger.debug("Setting status {} on {} Locations", status, ids.size());
+        return Mono.fromCallable(() -> ids.stream().map(UUID::fromString).toArray(UUID[]::new))
+                .flatMap(uuids -> r2dbcRepository.updateStatusByIds(uuids, status))
+                .doOnError(e -> logger.error("Database error while updating Location status in batch", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to update Location status in batch", e));
+    }
+
     @Override
     public Mono<Boolean> existsById(String id) {
         logger.debug("Checking if Location exists by id: {}", id);
@@ -121,6 +187,63 @@ public class LocationRepositoryAdapter implements LocationRepositoryPort {
                 .onErrorMap(this::mapRepositoryException);
     }
     
+    @Override
+    public Mono<Long> countByFilters(String search, String status, String dateFrom, String dateTo) {
+        logger.debug("Counting Locations with filters - search: {}, status: {}, dateFrom: {}, dateTo: {}", search, status, dateFrom, dateTo);
+        return r2dbcRepository.countByFilters(search, status, dateFrom, dateTo)
+                .doOnError(e -> logger.error("Database error while counting Locations with filters", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to count Locations with filters", e));
+    }
+    
+    /**
+     * Row estimate taken from the planner instead of an exact COUNT(*). Falls back to the exact
+     * count when the table has never been analyzed and no estimate is available.
+     */
+    @Override
+    public Mono<Long> estimateCountByFilters(String search, String status, String dateFrom, String dateTo) {
+        logger.debug("Estimating Locations with filters - search: {}, status: {}, dateFrom: {}, dateTo: {}", search, status, dateFrom, dateTo);
+        return r2dbcRepository.estimateByFilters(search, status, dateFrom, dateTo)
+                .filter(estimate -> estimate >= 0)
+                .switchIfEmpty(Mono.defer(() -> r2dbcRepository.countByFilters(search, status, dateFrom, dateTo)))
+                .doOnError(e -> logger.error("Database error while estimating Locations with filters", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to estimate Locations with filters", e));
+    }
+    
+    /**
+     * Keyset pagination: seeks past {@code (afterValue, afterId)} on {@code (created_at, location_id)}
+     * instead of skipping rows with OFFSET, so every page costs the same as the first.
+     * Without a cursor the seek starts from a sentinel that precedes every row.
+     */
+    @Override
+    public Flux<Location> findByFiltersAfter(String search, String status, String dateFrom, String dateTo,
+                                             String sortBy, String afterValue, String afterId, Integer size) {
+        logger.debug("Seeking Locations with filters - search: {}, status: {}, dateFrom: {}, dateTo: {}, sortBy: {}, after: ({}, {}), size: {}", 
+                    search, status, dateFrom, dateTo, sortBy, afterValue, afterId, size);
+        
+        if (sortBy != null && !SORT_CREATED_AT.equals(sortBy)) {
+            return Flux.error(new IllegalArgumentException("Unsupported sortBy: " + sortBy));
+        }
+        long limit = size != null && size > 0 ? size : 20L;
+        UUID seekId = afterId != null ? UUID.fromString(afterId) : FIRST_PAGE_ID;
+        
+        return r2dbcRepository.findByFiltersAfterCreatedAt(search, status, dateFrom, dateTo,
+                        seekCreatedAt(afterValue), seekId, limit)
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while seeking Locations with filters", e))
+                .onErrorMap(this::mapRepositoryException);
+    }
+    
+    private Instant seekCreatedAt(String afterValue) {
+        if (afterValue == null) {
+            return FIRST_PAGE_CREATED_AT;
+        }
+        try {
+            return Instant.parse(afterValue);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
     // Additional business methods for reactive operations
     public Mono<Long> countBySearchTerm(String search) {
         logger.debug("Counting Locations with search term: {}", search);
@@ -148,35 +271,4 @@ public class LocationRepositoryAdapter implements LocationRepositoryPort {
                 .doOnError(e -> logger.error("Database error while counting all Locations", e))
                 .onErrorMap(e -> new InternalServerErrorException("Failed to count all Locations", e));
     }
-    
-    @Override
-    public Flux<Location> findNeighborhoodsByCity(String cityId) {
-        logger.debug("Executing findNeighborhoodsByCity with parameters: {}", cityId);
-        // TODO: Implement custom query for findNeighborhoodsByCity
-        return r2dbcRepository.findAll()
-                .map(mapper::toDomain)
-                .doOnError(e -> logger.error("Database error in findNeighborhoodsByCity", e))
-                .onErrorMap(e -> new InternalServerErrorException("Failed to execute findNeighborhoodsByCity", e));
-    }
-    
-    @Override
-    public Flux<Location> findRegionsByCountry(String countryId) {
-        logger.debug("Executing findRegionsByCountry with parameters: {}", countryId);
-        // TODO: Implement custom query for findRegionsByCountry
-        return r2dbcRepository.findAll()
-                .map(mapper::toDomain)
-                .doOnError(e -> logger.error("Database error in findRegionsByCountry", e))
-                .onErrorMap(e -> new InternalServerErrorException("Failed to execute findRegionsByCountry", e));
-    }
-    
-    @Override
-    public Flux<Location> findCitiesByRegion(String regionId) {
-        logger.debug("Executing findCitiesByRegion with parameters: {}", regionId);
-        // TODO: Implement custom query for findCitiesByRegion
-        return r2dbcRepository.findAll()
-                .map(mapper::toDomain)
-                .doOnError(e -> logger.error("Database error in findCitiesByRegion", e))
-                .onErrorMap(e -> new InternalServerErrorException("Failed to execute findCitiesByRegion", e));
-    }
-    
 }
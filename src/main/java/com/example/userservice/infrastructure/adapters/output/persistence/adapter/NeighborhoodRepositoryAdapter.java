@@ -129,6 +129,15 @@ public class NeighborhoodRepositoryAdapter implements NeighborhoodRepositoryPort
                 .onErrorMap(e -> new InternalServerErrorException("Failed to count Neighborhoods", e));
     }
     
+    @Override
+    public Flux<Neighborhood> findByCityId(String cityId) {
+        logger.debug("Finding Neighborhoods by cityId: {}", cityId);
+        return r2dbcRepository.findByCityId(UUID.fromString(cityId))
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while finding Neighborhoods by cityId", e, cityId))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to find Neighborhoods by cityId", e));
+    }
+    
     @Override
     public Flux<Neighborhood> findAllPaged(Integer page, Integer size) {
         logger.debug("Finding all Neighborhoods with pagination: page={}, size={}", page, size);
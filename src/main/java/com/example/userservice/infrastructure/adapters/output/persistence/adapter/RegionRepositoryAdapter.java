@@ -129,6 +129,15 @@ public class RegionRepositoryAdapter implements RegionRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to count Regions", e));
     }
     
+    @Override
+    public Flux<Region> findByCountryId(String countryId) {
+        logger.debug("Finding Regions by countryId: {}", countryId);
+        return r2dbcRepository.findByCountryId(UUID.fromString(countryId))
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while finding Regions by countryId", e, countryId))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to find Regions by countryId", e));
+    }
+    
     @Override
     public Flux<Region> findAllPaged(Integer page, Integer size) {
         logger.debug("Finding all Regions with pagination: page={}, size={}", page, size);
@@ -12,6 +12,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +34,12 @@ import java.util.UUID;
 public class UserRepositoryAdapter implements UserRepositoryPort {
 
     private static final LoggingUtils logger = LoggingUtils.getLogger(UserRepositoryAdapter.class);
+
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String SORT_USERNAME = "username";
+    private static final String SORT_EMAIL = "email";
+    private static final Instant FIRST_PAGE_CREATED_AT = Instant.parse("9999-12-31T23:59:59Z");
+    private static final UUID FIRST_PAGE_ID = new UUID(0L, 0L);
     
     private final JpaUserRepository r2dbcRepository;
     private final UserMapper mapper;
@@ -45,6 +54,17 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .onErrorMap(this::mapRepositoryException);
     }
 
+    @Override
+    public Flux<Boolean> insertAll(List<User> users) {
+        logger.debug("Inserting {} Users in batch", users.size());
+        return Flux.fromIterable(users)
+                .map(mapper::toDbo)
+                .collectList()
+                .flatMapMany(r2dbcRepository::insertAllIfAbsent)
+                .doOnError(e -> logger.error("Database error while inserting Users in batch", e))
+                .onErrorMap(this::mapRepositoryException);
+    }
+
     private Throwable mapRepositoryException(Throwable ex) {
         // Business logic exceptions - propagate to service layer
         if (ex instanceof org.springframework.dao.DuplicateKeyException) {
@@ -60,6 +80,19 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return new InternalServerErrorException("Failed to save User", ex);
     }
 
+    @Override
+    public Mono<User> updateFields(String id, User changes) {
+        logger.debug("Updating User fields by id: {}", id);
+        // Parsed before the chain, like findById, so a malformed id stays a 400 instead of
+        // being wrapped by mapRepositoryException
+        UUID userId = UUID.fromString(id);
+        return Mono.fromCallable(() -> mapper.toDbo(changes))
+                .flatMap(dbo -> r2dbcRepository.updateFields(userId, dbo))
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while updating User fields", e, id))
+                .onErrorMap(this::mapRepositoryException);
+    }
+
     @Override
     public Mono<User> findById(String id) {
         logger.debug("Finding User by id: {}", id);
@@ -69,6 +102,16 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to find User by id", e));
     }
 
+    @Override
+    public Flux<User> findAllByIds(List<String> ids) {
+        logger.debug("Finding {} Users by id", ids.size());
+        return Mono.fromCallable(() -> ids.stream().map(UUID::fromString).toArray(UUID[]::new))
+                .flatMapMany(r2dbcRepository::findAllByIds)
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while finding Users by ids", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to find Users by ids", e));
+    }
+
     @Override
     public Flux<User> findAll() {
         logger.debug("Finding all Users");
@@ -86,6 +129,23 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to delete User by id", e));
     }
 
+    @Override
+    public Mono<Long> deactivateById(String id) {
+        logger.debug("Deactivating User by id: {}", id);
+        return r2dbcRepository.deactivateById(UUID.fromString(id))
+                .doOnError(e -> logger.error("Database error while deactivating User by id", e, id))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to deactivate User by id", e));
+    }
+
+    @Override
+    public Mono<Long> updateStatus(List<String> ids, String status) {
+        logger.debug("Setting status {} on {} Users", status, ids.size());
+        return Mono.fromCallable(() -> ids.stream().map(UUID::fromString).toArray(UUID[]::new))
+                .flatMap(uuids -> r2dbcRepository.updateStatusByIds(uuids, status))
+                .doOnError(e -> logger.error("Database error while updating User status in batch", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to update User status in batch", e));
+    }
+
     @Override
     public Mono<Boolean> existsById(String id) {
         logger.debug("Checking if User exists by id: {}", id);
@@ -94,6 +154,30 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .onErrorMap(e -> new InternalServerErrorException("Failed to check if User exists by id", e));
     }
 
+    @Override
+    public Mono<Boolean> existsByUsername(String username) {
+        logger.debug("Checking if User exists by username: {}", username);
+        return r2dbcRepository.existsByUsername(username)
+                .doOnError(e -> logger.error("Database error while checking if User exists by username", e, username))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to check if User exists by username", e));
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        logger.debug("Checking if User exists by email: {}", email);
+        return r2dbcRepository.existsByEmail(email)
+                .doOnError(e -> logger.error("Database error while checking if User exists by email", e, email))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to check if User exists by email", e));
+    }
+
+    @Override
+    public Flux<String> findAllIdentities() {
+        logger.debug("Streaming all User identities");
+        return r2dbcRepository.findAllIdentities()
+                .doOnError(e -> logger.error("Database error while streaming User identities", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to stream User identities", e));
+    }
+
     @Override
     public Flux<User> findBySearchTerm(String search, Integer page, Integer size) {
         logger.debug("Searching Users with term: {}, page: {}, size: {}", search, page, size);
@@ -121,6 +205,94 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .onErrorMap(this::mapRepositoryException);
     }
     
+    @Override
+    public Flux<User> findByFullText(String search, String status, String dateFrom, String dateTo, Integer page, Integer size) {
+        logger.debug("Full-text searching Users - search: {}, status: {}, dateFrom: {}, dateTo: {}, page: {}, size: {}", 
+                    search, status, dateFrom, dateTo, page, size);
+        
+        long limit = size != null && size > 0 ? size : 20L;
+        long offset = page != null && page > 0 ? (page - 1) * limit : 0L;
+        
+        return r2dbcRepository.findByFullText(search, status, dateFrom, dateTo, limit, offset)
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while full-text searching Users", e))
+                .onErrorMap(this::mapRepositoryException);
+    }
+    
+    @Override
+    public Mono<Long> countByFilters(String search, String status, String dateFrom, String dateTo) {
+        logger.debug("Counting Users with filters - search: {}, status: {}, dateFrom: {}, dateTo: {}", search, status, dateFrom, dateTo);
+        return r2dbcRepository.countByFilters(search, status, dateFrom, dateTo)
+                .doOnError(e -> logger.error("Database error while counting Users with filters", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to count Users with filters", e));
+    }
+    
+    /**
+     * Row estimate taken from the planner instead of an exact COUNT(*). Falls back to the exact
+     * count when the table has never been analyzed and no estimate is available.
+     */
+    @Override
+    public Mono<Long> estimateCountByFilters(String search, String status, String dateFrom, String dateTo) {
+        logger.debug("Estimating Users with filters - search: {}, status: {}, dateFrom: {}, dateTo: {}", search, status, dateFrom, dateTo);
+        return r2dbcRepository.estimateByFilters(search, status, dateFrom, dateTo)
+                .filter(estimate -> estimate >= 0)
+                .switchIfEmpty(Mono.defer(() -> r2dbcRepository.countByFilters(search, status, dateFrom, dateTo)))
+                .doOnError(e -> logger.error("Database error while estimating Users with filters", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to estimate Users with filters", e));
+    }
+    
+    @Override
+    public Mono<Long> countByFullText(String search, String status, String dateFrom, String dateTo) {
+        logger.debug("Counting full-text matches for Users - search: {}, status: {}, dateFrom: {}, dateTo: {}", search, status, dateFrom, dateTo);
+        return r2dbcRepository.countByFullText(search, status, dateFrom, dateTo)
+                .doOnError(e -> logger.error("Database error while counting full-text matches for Users", e))
+                .onErrorMap(e -> new InternalServerErrorException("Failed to count full-text matches for Users", e));
+    }
+    
+    /**
+     * Keyset pagination: seeks past {@code (afterValue, afterId)} on the index of the requested
+     * sort key instead of skipping rows with OFFSET, so every page costs the same as the first.
+     * Without a cursor the seek starts from a sentinel that precedes every row.
+     */
+    @Override
+    public Flux<User> findByFiltersAfter(String search, String status, String dateFrom, String dateTo,
+                                         String sortBy, String afterValue, String afterId, Integer size) {
+        logger.debug("Seeking Users with filters - search: {}, status: {}, dateFrom: {}, dateTo: {}, sortBy: {}, after: ({}, {}), size: {}", 
+                    search, status, dateFrom, dateTo, sortBy, afterValue, afterId, size);
+        
+        long limit = size != null && size > 0 ? size : 20L;
+        UUID seekId = afterId != null ? UUID.fromString(afterId) : FIRST_PAGE_ID;
+        
+        Flux<UserDbo> rows;
+        switch (sortBy != null ? sortBy : SORT_CREATED_AT) {
+            case SORT_CREATED_AT -> rows = r2dbcRepository.findByFiltersAfterCreatedAt(search, status, dateFrom, dateTo,
+                    seekCreatedAt(afterValue), seekId, limit);
+            case SORT_USERNAME -> rows = r2dbcRepository.findByFiltersAfterUsername(search, status, dateFrom, dateTo,
+                    afterValue != null ? afterValue : "", seekId, limit);
+            case SORT_EMAIL -> rows = r2dbcRepository.findByFiltersAfterEmail(search, status, dateFrom, dateTo,
+                    afterValue != null ? afterValue : "", seekId, limit);
+            default -> {
+                return Flux.error(new IllegalArgumentException("Unsupported sortBy: " + sortBy));
+            }
+        }
+        
+        return rows
+                .map(mapper::toDomain)
+                .doOnError(e -> logger.error("Database error while seeking Users with filters", e))
+                .onErrorMap(this::mapRepositoryException);
+    }
+    
+    private Instant seekCreatedAt(String afterValue) {
+        if (afterValue == null) {
+            return FIRST_PAGE_CREATED_AT;
+        }
+        try {
+            return Instant.parse(afterValue);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+    
     // Additional business methods for reactive operations
     public Mono<Long> countBySearchTerm(String search) {
         logger.debug("Counting Users with search term: {}", search);
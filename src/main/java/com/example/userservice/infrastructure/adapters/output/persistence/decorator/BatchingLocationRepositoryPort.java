@@ -0,0 +1,44 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Turns independent {@link LocationRepositoryPort#findById} calls into batched
+ * {@link LocationRepositoryPort#findAllByIds} queries, trading a window of latency for far
+ * fewer round trips under load.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class BatchingLocationRepositoryPort extends ForwardingLocationRepositoryPort {
+
+    static final String REPOSITORY_NAME = "locations";
+
+    private final MicroBatcher<Location> findById;
+
+    public BatchingLocationRepositoryPort(LocationRepositoryPort delegate, MicroBatcher.Settings settings, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.findById = new MicroBatcher<>(REPOSITORY_NAME, settings, delegate::findAllByIds, Location::getLocationId, meterRegistry);
+    }
+
+    /**
+     * Ids are normalized to the canonical UUID form so they match the keys of the loaded rows.
+     * A malformed id is passed straight through, so it fails on its own instead of failing
+     * the whole batch it would have joined.
+     */
+    @Override
+    public Mono<Location> findById(String id) {
+        String key;
+        try {
+            key = UUID.fromString(id).toString();
+        } catch (IllegalArgumentException e) {
+            return delegate.findById(id);
+        }
+        return findById.load(key);
+    }
+}
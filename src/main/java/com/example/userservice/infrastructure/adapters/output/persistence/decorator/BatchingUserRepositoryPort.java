@@ -0,0 +1,44 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Turns independent {@link UserRepositoryPort#findById} calls into batched
+ * {@link UserRepositoryPort#findAllByIds} queries, trading a window of latency for far
+ * fewer round trips under load.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class BatchingUserRepositoryPort extends ForwardingUserRepositoryPort {
+
+    static final String REPOSITORY_NAME = "users";
+
+    private final MicroBatcher<User> findById;
+
+    public BatchingUserRepositoryPort(UserRepositoryPort delegate, MicroBatcher.Settings settings, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.findById = new MicroBatcher<>(REPOSITORY_NAME, settings, delegate::findAllByIds, User::getUserId, meterRegistry);
+    }
+
+    /**
+     * Ids are normalized to the canonical UUID form so they match the keys of the loaded rows.
+     * A malformed id is passed straight through, so it fails on its own instead of failing
+     * the whole batch it would have joined.
+     */
+    @Override
+    public Mono<User> findById(String id) {
+        String key;
+        try {
+            key = UUID.fromString(id).toString();
+        } catch (IllegalArgumentException e) {
+            return delegate.findById(id);
+        }
+        return findById.load(key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import java.util.UUID;
+
+/**
+ * Keys under which the decorators remember ids.
+ * <p>
+ * Path ids arrive in whatever form the client sent, while saved rows carry the canonical
+ * lower-case UUID. Keying every get, put and invalidation by the canonical form makes the
+ * same id hit the same entry however it was written. A malformed id is kept as it is, so it
+ * still reaches the adapter and fails there.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+final class CacheKeys {
+
+    private CacheKeys() {
+    }
+
+    static String of(String id) {
+        try {
+            return UUID.fromString(id).toString();
+        } catch (IllegalArgumentException e) {
+            return id;
+        }
+    }
+}
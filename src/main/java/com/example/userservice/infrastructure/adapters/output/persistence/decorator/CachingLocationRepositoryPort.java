@@ -0,0 +1,81 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of {@link LocationRepositoryPort#findById}.
+ * <p>
+ * Writes that go through this port keep the cache coherent: saves and partial updates replace
+ * the cached entry with the row the database returned, while deletes and status changes evict
+ * it. Writes made by other instances become visible once the entry expires.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class CachingLocationRepositoryPort extends ForwardingLocationRepositoryPort {
+
+    static final String CACHE_NAME = "locations";
+
+    private final ReadThroughCache<Location> cache;
+
+    public CachingLocationRepositoryPort(LocationRepositoryPort delegate, ReadThroughCache.Settings settings, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.cache = new ReadThroughCache<>(CACHE_NAME, settings, delegate::findById, CachingLocationRepositoryPort::weigh, meterRegistry);
+    }
+
+    @Override
+    public Mono<Location> findById(String id) {
+        return cache.get(id);
+    }
+
+    @Override
+    public Mono<Location> save(Location location) {
+        return delegate.save(location)
+                .doOnNext(saved -> cache.put(saved.getLocationId(), saved));
+    }
+
+    @Override
+    public Mono<Location> updateFields(String id, Location changes) {
+        return delegate.updateFields(id, changes)
+                .doOnNext(updated -> cache.put(id, updated));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id)
+                .doFinally(signal -> cache.invalidate(id));
+    }
+
+    @Override
+    public Mono<Long> deactivateById(String id) {
+        return delegate.deactivateById(id)
+                .doFinally(signal -> cache.invalidate(id));
+    }
+
+    @Override
+    public Mono<Long> updateStatus(List<String> ids, String status) {
+        return delegate.updateStatus(ids, status)
+                .doFinally(signal -> cache.invalidateAll(ids));
+    }
+
+    /**
+     * Approximate weight of a cached location: the number of characters it holds.
+     */
+    private static int weigh(Location location) {
+        return Stream.of(location.getLocationId(), location.getUserId(), location.getCountry(),
+                        location.getRegion(), location.getCity(), location.getNeighborhood(), location.getAddress(),
+                        location.getPostalCode(), location.getLocationType(), location.getStatus(),
+                        location.getCreatedAt(), location.getUpdatedAt())
+                .filter(Objects::nonNull)
+                .mapToInt(String::length)
+                .sum();
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of {@link UserRepositoryPort#findById}.
+ * <p>
+ * Writes that go through this port keep the cache coherent: saves and partial updates replace
+ * the cached entry with the row the database returned, while deletes and status changes evict
+ * it. Writes made by other instances become visible once the entry expires.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class CachingUserRepositoryPort extends ForwardingUserRepositoryPort {
+
+    static final String CACHE_NAME = "users";
+
+    private final ReadThroughCache<User> cache;
+
+    public CachingUserRepositoryPort(UserRepositoryPort delegate, ReadThroughCache.Settings settings, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.cache = new ReadThroughCache<>(CACHE_NAME, settings, delegate::findById, CachingUserRepositoryPort::weigh, meterRegistry);
+    }
+
+    @Override
+    public Mono<User> findById(String id) {
+        return cache.get(id);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user)
+                .doOnNext(saved -> cache.put(saved.getUserId(), saved));
+    }
+
+    @Override
+    public Mono<User> updateFields(String id, User changes) {
+        return delegate.updateFields(id, changes)
+                .doOnNext(updated -> cache.put(id, updated));
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id)
+                .doFinally(signal -> cache.invalidate(id));
+    }
+
+    @Override
+    public Mono<Long> deactivateById(String id) {
+        return delegate.deactivateById(id)
+                .doFinally(signal -> cache.invalidate(id));
+    }
+
+    @Override
+    public Mono<Long> updateStatus(List<String> ids, String status) {
+        return delegate.updateStatus(ids, status)
+                .doFinally(signal -> cache.invalidateAll(ids));
+    }
+
+    /**
+     * Approximate weight of a cached user: the number of characters it holds.
+     */
+    private static int weigh(User user) {
+        return Stream.of(user.getUserId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                        user.getLastName(), user.getStatus(), user.getCreatedAt(), user.getUpdatedAt())
+                .filter(Objects::nonNull)
+                .mapToInt(String::length)
+                .sum();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Base class for LocationRepositoryPort decorators.
+ * <p>
+ * Forwards every operation to the wrapped port so that a decorator only overrides the
+ * operations it changes. Decorators are stacked in front of the persistence adapter by
+ * {@code RepositoryPortConfiguration}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public abstract class ForwardingLocationRepositoryPort implements LocationRepositoryPort {
+
+    protected final LocationRepositoryPort delegate;
+
+    protected ForwardingLocationRepositoryPort(LocationRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<Location> save(Location location) {
+        return delegate.save(location);
+    }
+
+    @Override
+    public Mono<Long> importAll(List<Location> locations) {
+        return delegate.importAll(locations);
+    }
+
+    @Override
+    public Flux<String> findActiveLocationTypes() {
+        return delegate.findActiveLocationTypes();
+    }
+
+    @Override
+    public Mono<Location> updateFields(String id, Location changes) {
+        return delegate.updateFields(id, changes);
+    }
+
+    @Override
+    public Mono<Location> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Flux<Location> findAllByIds(List<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Flux<Location> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<Location> findBySearchTerm(String search, Integer page, Integer size) {
+        return delegate.findBySearchTerm(search, page, size);
+    }
+
+    @Override
+    public Flux<Location> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size) {
+        return delegate.findByFilters(search, status, dateFrom, dateTo, page, size);
+    }
+
+    @Override
+    public Mono<Long> countByFilters(String search, String status, String dateFrom, String dateTo) {
+        return delegate.countByFilters(search, status, dateFrom, dateTo);
+    }
+
+    @Override
+    public Mono<Long> estimateCountByFilters(String search, String status, String dateFrom, String dateTo) {
+        return delegate.estimateCountByFilters(search, status, dateFrom, dateTo);
+    }
+
+    @Override
+    public Flux<Location> findByFiltersAfter(String search, String status, String dateFrom, String dateTo, String sortBy, String afterValue, String afterId, Integer size) {
+        return delegate.findByFiltersAfter(search, status, dateFrom, dateTo, sortBy, afterValue, afterId, size);
+    }
+
+    @Override
+    public Flux<Location> findAllPaged(Integer page, Integer size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Mono<Long> deactivateById(String id) {
+        return delegate.deactivateById(id);
+    }
+
+    @Override
+    public Mono<Long> updateStatus(List<String> ids, String status) {
+        return delegate.updateStatus(ids, status);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return delegate.existsById(id);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Base class for UserRepositoryPort decorators.
+ * <p>
+ * Forwards every operation to the wrapped port so that a decorator only overrides the
+ * operations it changes. Decorators are stacked in front of the persistence adapter by
+ * {@code RepositoryPortConfiguration}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public abstract class ForwardingUserRepositoryPort implements UserRepositoryPort {
+
+    protected final UserRepositoryPort delegate;
+
+    protected ForwardingUserRepositoryPort(UserRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user);
+    }
+
+    @Override
+    public Flux<Boolean> insertAll(List<User> users) {
+        return delegate.insertAll(users);
+    }
+
+    @Override
+    public Mono<User> updateFields(String id, User changes) {
+        return delegate.updateFields(id, changes);
+    }
+
+    @Override
+    public Mono<User> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Flux<User> findAllByIds(List<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public Flux<User> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Flux<User> findBySearchTerm(String search, Integer page, Integer size) {
+        return delegate.findBySearchTerm(search, page, size);
+    }
+
+    @Override
+    public Flux<User> findByFilters(String search, String status, String dateFrom, String dateTo, Integer page, Integer size) {
+        return delegate.findByFilters(search, status, dateFrom, dateTo, page, size);
+    }
+
+    @Override
+    public Mono<Long> countByFilters(String search, String status, String dateFrom, String dateTo) {
+        return delegate.countByFilters(search, status, dateFrom, dateTo);
+    }
+
+    @Override
+    public Mono<Long> estimateCountByFilters(String search, String status, String dateFrom, String dateTo) {
+        return delegate.estimateCountByFilters(search, status, dateFrom, dateTo);
+    }
+
+    @Override
+    public Flux<User> findByFullText(String search, String status, String dateFrom, String dateTo, Integer page, Integer size) {
+        return delegate.findByFullText(search, status, dateFrom, dateTo, page, size);
+    }
+
+    @Override
+    public Mono<Long> countByFullText(String search, String status, String dateFrom, String dateTo) {
+        return delegate.countByFullText(search, status, dateFrom, dateTo);
+    }
+
+    @Override
+    public Flux<User> findByFiltersAfter(String search, String status, String dateFrom, String dateTo, String sortBy, String afterValue, String afterId, Integer size) {
+        return delegate.findByFiltersAfter(search, status, dateFrom, dateTo, sortBy, afterValue, afterId, size);
+    }
+
+    @Override
+    public Flux<User> findAllPaged(Integer page, Integer size) {
+        return delegate.findAllPaged(page, size);
+    }
+
+    @Override
+    public Mono<Void> deleteById(String id) {
+        return delegate.deleteById(id);
+    }
+
+    @Override
+    public Mono<Long> deactivateById(String id) {
+        return delegate.deactivateById(id);
+    }
+
+    @Override
+    public Mono<Long> updateStatus(List<String> ids, String status) {
+        return delegate.updateStatus(ids, status);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(String id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public Mono<Boolean> existsByUsername(String username) {
+        return delegate.existsByUsername(username);
+    }
+
+    @Override
+    public Mono<Boolean> existsByEmail(String email) {
+        return delegate.existsByEmail(email);
+    }
+
+    @Override
+    public Flux<String> findAllIdentities() {
+        return delegate.findAllIdentities();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Collects independent point lookups into batched queries.
+ * <p>
+ * Ids requested within a short window, or until a maximum number of keys is reached,
+ * whichever comes first, are sent to the batch loader as one call. The loaded values are
+ * matched back to the waiting callers by key; callers whose id was not found complete empty.
+ * A failed batch fails every caller that was part of it. A bounded number of batches may be
+ * in flight at once; while they all are, complete windows wait instead of overflowing. Should
+ * the pipeline ever terminate, every waiting caller and every later one fails instead of
+ * waiting forever. The distribution of batch sizes is published as
+ * {@code repository.batch.size} with the repository name as a tag.
+ * </p>
+ *
+ * @param <V> loaded value type
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class MicroBatcher<V> {
+
+    private static final Sinks.EmitFailureHandler RETRY_ON_CONTENTION = Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100));
+
+    private final Sinks.Many<Request<V>> requests = Sinks.many().unicast().onBackpressureBuffer();
+    private final Function<List<String>, Flux<V>> batchLoader;
+    private final Function<V, String> keyOf;
+    private final DistributionSummary batchSizes;
+    private final Set<Request<V>> pending = ConcurrentHashMap.newKeySet();
+    private volatile Throwable terminated;
+
+    public MicroBatcher(String name, Settings settings, Function<List<String>, Flux<V>> batchLoader,
+                        Function<V, String> keyOf, MeterRegistry meterRegistry) {
+        this.batchLoader = batchLoader;
+        this.keyOf = keyOf;
+        this.batchSizes = DistributionSummary.builder("repository.batch.size")
+                .description("Number of distinct ids per batched point lookup")
+                .tag("repository", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        // Fair backpressure: the non-fair variant fails with an overflow when the window
+        // closes while every batch slot is busy, which would end the pipeline for good
+        requests.asFlux()
+                .bufferTimeout(settings.maxBatchSize(), settings.window(), true)
+                .flatMap(this::dispatch, settings.maxConcurrentBatches())
+                .subscribe(
+                        done -> { },
+                        this::terminate,
+                        () -> terminate(new IllegalStateException("Batch pipeline completed")));
+    }
+
+    public Mono<V> load(String id) {
+        return Mono.defer(() -> {
+            CompletableFuture<V> result = new CompletableFuture<>();
+            Request<V> request = new Request<>(id, result);
+            pending.add(request);
+            result.whenComplete((value, error) -> pending.remove(request));
+            if (terminated != null) {
+                result.completeExceptionally(stopped(terminated));
+            } else {
+                try {
+                    requests.emitNext(request, RETRY_ON_CONTENTION);
+                } catch (Sinks.EmissionException e) {
+                    result.completeExceptionally(stopped(e));
+                }
+            }
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    private Mono<Void> dispatch(List<Request<V>> batch) {
+        List<String> ids = batch.stream().map(Request::id).distinct().toList();
+        batchSizes.record(ids.size());
+        return Mono.defer(() -> batchLoader.apply(ids).collectMap(keyOf))
+                .doOnNext(found -> complete(batch, found))
+                .doOnError(error -> batch.forEach(request -> request.result().completeExceptionally(error)))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void terminate(Throwable error) {
+        terminated = error;
+        pending.forEach(request -> request.result().completeExceptionally(stopped(error)));
+    }
+
+    private static IllegalStateException stopped(Throwable cause) {
+        return new IllegalStateException("Batched lookups are unavailable", cause);
+    }
+
+    private static <V> void complete(List<Request<V>> batch, Map<String, V> found) {
+        batch.forEach(request -> request.result().complete(found.get(request.id())));
+    }
+
+    private record Request<V>(String id, CompletableFuture<V> result) {
+    }
+
+    /**
+     * Batching limits: how long to wait for more ids, how many distinct ids a batch may hold
+     * and how many batches may be queried concurrently.
+     */
+    public record Settings(Duration window, int maxBatchSize, int maxConcurrentBatches) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Answers repeated {@link LocationRepositoryPort#findById} calls for ids that do not exist
+ * without a query, for a short while after the first miss.
+ * <p>
+ * Creating a location through this port forgets any recorded miss for its id. Imports do not
+ * report the ids they wrote, so they forget every recorded miss.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class NegativeCachingLocationRepositoryPort extends ForwardingLocationRepositoryPort {
+
+    static final String REPOSITORY_NAME = "locations";
+
+    private final NegativeLookupCache misses;
+
+    public NegativeCachingLocationRepositoryPort(LocationRepositoryPort delegate, NegativeLookupCache.Settings settings, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.misses = new NegativeLookupCache(REPOSITORY_NAME, settings, meterRegistry);
+    }
+
+    @Override
+    public Mono<Location> findById(String id) {
+        return misses.lookup(id, delegate::findById);
+    }
+
+    @Override
+    public Mono<Location> save(Location location) {
+        return delegate.save(location)
+                .doOnNext(saved -> misses.invalidate(saved.getLocationId()));
+    }
+
+    @Override
+    public Mono<Long> importAll(List<Location> locations) {
+        return delegate.importAll(locations)
+                .doFinally(signal -> misses.invalidateAll());
+    }
+}
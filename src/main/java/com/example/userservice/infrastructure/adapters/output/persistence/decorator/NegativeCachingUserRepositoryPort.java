@@ -0,0 +1,52 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Answers repeated {@link UserRepositoryPort#findById} calls for ids that do not exist
+ * without a query, for a short while after the first miss.
+ * <p>
+ * Creating a user through this port forgets any recorded miss for its id.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class NegativeCachingUserRepositoryPort extends ForwardingUserRepositoryPort {
+
+    static final String REPOSITORY_NAME = "users";
+
+    private final NegativeLookupCache misses;
+
+    public NegativeCachingUserRepositoryPort(UserRepositoryPort delegate, NegativeLookupCache.Settings settings, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.misses = new NegativeLookupCache(REPOSITORY_NAME, settings, meterRegistry);
+    }
+
+    @Override
+    public Mono<User> findById(String id) {
+        return misses.lookup(id, delegate::findById);
+    }
+
+    @Override
+    public Mono<User> save(User user) {
+        return delegate.save(user)
+                .doOnNext(saved -> misses.invalidate(saved.getUserId()));
+    }
+
+    @Override
+    public Flux<Boolean> insertAll(List<User> users) {
+        return delegate.insertAll(users)
+                .doFinally(signal -> users.stream()
+                        .map(User::getUserId)
+                        .filter(Objects::nonNull)
+                        .forEach(misses::invalidate));
+    }
+}
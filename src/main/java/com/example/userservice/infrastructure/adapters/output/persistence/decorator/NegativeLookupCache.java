@@ -0,0 +1,87 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Short-lived memory of ids that were looked up and not found.
+ * <p>
+ * A lookup that completes empty records its id for a short TTL; repeated lookups of that id
+ * complete empty straight away instead of reaching the database. Writes that may create the
+ * id invalidate it. A lookup that was still running when any invalidation happened does not
+ * record its miss, so a create racing with a lookup never leaves a stale entry behind. Ids
+ * are keyed by their canonical UUID form (see {@link CacheKeys}). The number of entries is
+ * bounded. Short-circuited lookups are counted under
+ * {@code repository.negative.cache.hits} with the repository name as a tag.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class NegativeLookupCache {
+
+    private final Cache<String, Boolean> misses;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+
+    public NegativeLookupCache(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.misses = Caffeine.newBuilder()
+                .expireAfterWrite(settings.ttl())
+                .maximumSize(settings.maxEntries())
+                .build();
+        this.hits = Counter.builder("repository.negative.cache.hits")
+                .description("Point lookups answered as not found without reaching the database")
+                .tag("repository", name)
+                .register(meterRegistry);
+    }
+
+    public <V> Mono<V> lookup(String id, Function<String, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            String key = CacheKeys.of(id);
+            if (misses.getIfPresent(key) != null) {
+                hits.increment();
+                return Mono.empty();
+            }
+            long generation = invalidations.get();
+            return loader.apply(id)
+                    .switchIfEmpty(Mono.fromRunnable(() -> recordMiss(key, generation)));
+        });
+    }
+
+    public void invalidate(String id) {
+        invalidations.incrementAndGet();
+        misses.invalidate(CacheKeys.of(id));
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        misses.invalidateAll();
+    }
+
+    /**
+     * Records the miss, then takes it back if an invalidation slipped in meanwhile; checking
+     * only before the put would let an invalidation land between the check and the put.
+     */
+    private void recordMiss(String key, long generation) {
+        if (invalidations.get() != generation) {
+            return;
+        }
+        misses.put(key, Boolean.TRUE);
+        if (invalidations.get() != generation) {
+            misses.invalidate(key);
+        }
+    }
+
+    /**
+     * How long a miss is remembered and how many misses are held at most.
+     */
+    public record Settings(Duration ttl, long maxEntries) {
+    }
+}
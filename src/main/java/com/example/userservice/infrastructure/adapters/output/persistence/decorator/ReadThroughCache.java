@@ -0,0 +1,80 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded, expiring read-through cache of entities by id.
+ * <p>
+ * Entries are evicted by count or, when a maximum weight is configured, by an approximate
+ * per-entity weight, and expire a fixed time after they were loaded. Entries read after the
+ * refresh-ahead point are served from the cache while a reload runs in the background, so hot
+ * ids never block on expiry. Missing ids are not cached. Concurrent misses for the same id
+ * share one load. Ids are keyed by their canonical UUID form (see {@link CacheKeys}). Hit, miss, eviction and load-time statistics are published to Micrometer
+ * under {@code cache.*} with a {@code cache} tag carrying the cache name.
+ * </p>
+ *
+ * @param <V> cached entity type
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class ReadThroughCache<V> {
+
+    private final AsyncLoadingCache<String, V> cache;
+
+    public ReadThroughCache(String name, Settings settings, Function<String, Mono<V>> loader,
+                            ToIntFunction<V> weigher, MeterRegistry meterRegistry) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(settings.ttl())
+                .recordStats();
+        if (settings.refreshAfter() != null && !settings.refreshAfter().isZero()
+                && settings.refreshAfter().compareTo(settings.ttl()) < 0) {
+            builder.refreshAfterWrite(settings.refreshAfter());
+        }
+        AsyncCacheLoader<String, V> load = (key, executor) -> loader.apply(key).toFuture();
+        this.cache = settings.maxWeight() > 0
+                ? builder.maximumWeight(settings.maxWeight())
+                        .weigher((String key, V value) -> weigher.applyAsInt(value))
+                        .buildAsync(load)
+                : builder.maximumSize(settings.maxEntries()).buildAsync(load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    /**
+     * Returns the cached entity or loads it. Cancelling one subscriber does not cancel a load
+     * other subscribers are waiting on.
+     */
+    public Mono<V> get(String id) {
+        return Mono.fromFuture(() -> cache.get(CacheKeys.of(id)), true);
+    }
+
+    public void put(String id, V value) {
+        cache.put(CacheKeys.of(id), CompletableFuture.completedFuture(value));
+    }
+
+    public void invalidate(String id) {
+        cache.synchronous().invalidate(CacheKeys.of(id));
+    }
+
+    public void invalidateAll(Collection<String> ids) {
+        cache.synchronous().invalidateAll(ids.stream().map(CacheKeys::of).toList());
+    }
+
+    /**
+     * Sizing and expiry of a cache. {@code maxWeight} takes precedence over {@code maxEntries}
+     * when positive; a {@code refreshAfter} of zero or not shorter than {@code ttl} disables
+     * refresh-ahead.
+     */
+    public record Settings(long maxEntries, long maxWeight, Duration ttl, Duration refreshAfter) {
+    }
+}
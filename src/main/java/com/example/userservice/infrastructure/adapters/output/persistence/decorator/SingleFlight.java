@@ -0,0 +1,69 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent loads of the same key into a single call.
+ * <p>
+ * The first caller for a key registers a pending result in a {@link ConcurrentHashMap} and
+ * starts the load; callers arriving while it is in flight subscribe to that same result
+ * instead of issuing their own. The map only locks the bin of the key being inserted, so
+ * lookups of different ids never contend. The entry is removed as soon as the load finishes,
+ * so nothing is cached beyond the lifetime of the call. Cancelling a subscriber does not
+ * cancel the shared load, and a loader that fails, whether by throwing or by returning an
+ * error, fails every caller waiting on it and frees the key. Executed and coalesced calls are counted under
+ * {@code repository.single.flight} with the repository name as a tag.
+ * </p>
+ *
+ * @param <V> loaded value type
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class SingleFlight<V> {
+
+    private final ConcurrentHashMap<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("repository.single.flight")
+                .description("Point lookups by whether they reached the database or joined one in flight")
+                .tag("repository", name)
+                .tag("result", "executed")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("repository.single.flight")
+                .description("Point lookups by whether they reached the database or joined one in flight")
+                .tag("repository", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    public Mono<V> execute(String key, Function<String, Mono<V>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<V> pending = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, pending);
+            if (existing != null) {
+                coalesced.increment();
+                return Mono.fromFuture(existing, true);
+            }
+            executed.increment();
+            // Deferred so a loader that throws instead of returning an error still completes
+            // and removes the pending entry; otherwise later callers would join it forever
+            Mono.defer(() -> loader.apply(key)).toFuture().whenComplete((value, error) -> {
+                inFlight.remove(key, pending);
+                if (error != null) {
+                    pending.completeExceptionally(error);
+                } else {
+                    pending.complete(value);
+                }
+            });
+            return Mono.fromFuture(pending, true);
+        });
+    }
+}
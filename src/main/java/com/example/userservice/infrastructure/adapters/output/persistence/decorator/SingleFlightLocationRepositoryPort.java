@@ -0,0 +1,30 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares one in-flight {@link LocationRepositoryPort#findById} among concurrent callers asking
+ * for the same location, so a burst of requests for a popular id costs a single query.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class SingleFlightLocationRepositoryPort extends ForwardingLocationRepositoryPort {
+
+    static final String REPOSITORY_NAME = "locations";
+
+    private final SingleFlight<Location> findById;
+
+    public SingleFlightLocationRepositoryPort(LocationRepositoryPort delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.findById = new SingleFlight<>(REPOSITORY_NAME, meterRegistry);
+    }
+
+    @Override
+    public Mono<Location> findById(String id) {
+        return findById.execute(id, delegate::findById);
+    }
+}
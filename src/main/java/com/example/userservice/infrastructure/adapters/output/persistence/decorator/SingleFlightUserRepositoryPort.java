@@ -0,0 +1,30 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shares one in-flight {@link UserRepositoryPort#findById} among concurrent callers asking
+ * for the same user, so a burst of requests for a popular id costs a single query.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class SingleFlightUserRepositoryPort extends ForwardingUserRepositoryPort {
+
+    static final String REPOSITORY_NAME = "users";
+
+    private final SingleFlight<User> findById;
+
+    public SingleFlightUserRepositoryPort(UserRepositoryPort delegate, MeterRegistry meterRegistry) {
+        super(delegate);
+        this.findById = new SingleFlight<>(REPOSITORY_NAME, meterRegistry);
+    }
+
+    @Override
+    public Mono<User> findById(String id) {
+        return findById.execute(id, delegate::findById);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every connection acquisition from a pooled {@link ConnectionFactory}.
+ * <p>
+ * {@code r2dbc.pool.acquire} measures from the request for a connection until the pool hands
+ * one over, fails or the caller gives up, tagged by {@code outcome} ({@code success},
+ * {@code error} or {@code cancelled}) and by the pool {@code name}. It is published as a
+ * percentile histogram, so a saturated pool shows up as a growing tail even while queries
+ * themselves stay fast. The factory implements {@link Wrapped}, so tools looking for the
+ * {@link ConnectionPool} (including the actuator pool gauges) still find it.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class MeteredConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    static final String ACQUIRE = "r2dbc.pool.acquire";
+
+    private final ConnectionFactory delegate;
+    private final Timer success;
+    private final Timer error;
+    private final Timer cancelled;
+
+    public MeteredConnectionFactory(ConnectionFactory delegate, String name, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.success = timer(name, "success", meterRegistry);
+        this.error = timer(name, "error", meterRegistry);
+        this.cancelled = timer(name, "cancelled", meterRegistry);
+    }
+
+    /**
+     * @return the pool behind {@code connectionFactory}, or {@code null} when it is not pooled
+     */
+    public static ConnectionPool poolOf(Object connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool pool) {
+            return pool;
+        }
+        if (connectionFactory instanceof Wrapped<?> wrapped) {
+            return poolOf(wrapped.unwrap());
+        }
+        return null;
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.<Connection>from(delegate.create())
+                    .doFinally(signal -> timer(signal).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    @Override
+    public void dispose() {
+        if (delegate instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate instanceof Disposable disposable && disposable.isDisposed();
+    }
+
+    private Timer timer(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> error;
+            case CANCEL -> cancelled;
+            default -> success;
+        };
+    }
+
+    private static Timer timer(String name, String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(ACQUIRE)
+                .description("Time to acquire a database connection from the pool")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
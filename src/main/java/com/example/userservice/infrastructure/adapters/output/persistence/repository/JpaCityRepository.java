@@ -62,6 +62,12 @@ public interface JpaCityRepository extends R2dbcRepository<CityDbo, UUID> {
                                           @Param("limit") Long limit,
                                           @Param("offset") Long offset);
     
+    /**
+     * Find the children of a region, served by the index on cities.region_id.
+     */
+    @Query("SELECT * FROM cities e WHERE e.region_id = :regionId ORDER BY e.name")
+    Flux<CityDbo> findByRegionId(@Param("regionId") UUID regionId);
+    
     /**
      * Find all entities with pagination.
      */
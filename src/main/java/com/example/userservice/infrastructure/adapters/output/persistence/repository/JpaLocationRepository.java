@@ -2,12 +2,14 @@ package com.example.userservice.infrastructure.adapters.output.persistence.repos
 
 import com.example.userservice.infrastructure.adapters.output.persistence.entity.LocationDbo;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -22,7 +24,7 @@ import java.util.UUID;
  * @version 1.0.0
  */
 @Repository
-public interface JpaLocationRepository extends R2dbcRepository<LocationDbo, UUID> {
+public interface JpaLocationRepository extends R2dbcRepository<LocationDbo, UUID>, JpaLocationRepositoryCustom {
     
     /**
      * Find entities with search functionality.
@@ -53,7 +55,7 @@ public interface JpaLocationRepository extends R2dbcRepository<LocationDbo, UUID
            "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
            "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
            "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
-           "ORDER BY e.created_at DESC " +
+           "ORDER BY e.created_at DESC, e.location_id DESC " +
            "LIMIT :limit OFFSET :offset")
     Flux<LocationDbo> findByFilters(@Param("search") String search,
                                           @Param("status") String status,
@@ -62,6 +64,80 @@ public interface JpaLocationRepository extends R2dbcRepository<LocationDbo, UUID
                                           @Param("limit") Long limit,
                                           @Param("offset") Long offset);
     
+    /**
+     * Count entities matching the same filters as {@link #findByFilters}.
+     */
+    @Query("SELECT COUNT(*) FROM locations e WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "LOWER(e.status) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP))")
+    Mono<Long> countByFilters(@Param("search") String search,
+                              @Param("status") String status,
+                              @Param("dateFrom") String dateFrom,
+                              @Param("dateTo") String dateTo);
+    
+    /**
+     * Planner row estimate for the same filters as {@link #findByFilters}, without executing a COUNT(*).
+     */
+    @Query("SELECT estimate_locations_by_filters(:search, :status, :dateFrom, :dateTo)")
+    Mono<Long> estimateByFilters(@Param("search") String search,
+                                 @Param("status") String status,
+                                 @Param("dateFrom") String dateFrom,
+                                 @Param("dateTo") String dateTo);
+    
+    /**
+     * Keyset page ordered by creation date (newest first), seeking past the given (created_at, location_id).
+     */
+    @Query("SELECT * FROM locations e WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "LOWER(e.status) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
+           "AND (e.created_at, e.location_id) < (:afterCreatedAt, :afterId) " +
+           "ORDER BY e.created_at DESC, e.location_id DESC " +
+           "LIMIT :limit")
+    Flux<LocationDbo> findByFiltersAfterCreatedAt(@Param("search") String search,
+                                          @Param("status") String status,
+                                          @Param("dateFrom") String dateFrom,
+                                          @Param("dateTo") String dateTo,
+                                          @Param("afterCreatedAt") Instant afterCreatedAt,
+                                          @Param("afterId") UUID afterId,
+                                          @Param("limit") Long limit);
+    
+    /**
+     * Codes of the active location types, used to validate imported rows.
+     */
+    @Query("SELECT code FROM locationtypes WHERE active = TRUE ORDER BY code")
+    Flux<String> findActiveLocationTypes();
+    
+    /**
+     * Point lookup of many ids in one statement. Rows come back in no particular order and
+     * unknown ids are simply absent.
+     */
+    @Query("SELECT * FROM locations e WHERE e.location_id = ANY(:ids)")
+    Flux<LocationDbo> findAllByIds(@Param("ids") UUID[] ids);
+    
+    /**
+     * Soft delete in one statement. Returns the number of rows changed, which is zero when the
+     * location does not exist or is already inactive.
+     */
+    @Modifying
+    @Query("UPDATE locations SET status = 'INACTIVE', updated_at = CURRENT_TIMESTAMP " +
+           "WHERE location_id = :id AND status <> 'INACTIVE'")
+    Mono<Long> deactivateById(@Param("id") UUID id);
+    
+    /**
+     * Sets the status of every listed location in one statement, skipping rows that already have it.
+     * Returns the number of rows changed.
+     */
+    @Modifying
+    @Query("UPDATE locations SET status = :status, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE location_id = ANY(:ids) AND status <> :status")
+    Mono<Long> updateStatusByIds(@Param("ids") UUID[] ids, @Param("status") String status);
+    
     /**
      * Find all entities with pagination.
      */
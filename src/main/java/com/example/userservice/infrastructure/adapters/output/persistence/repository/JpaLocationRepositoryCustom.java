@@ -0,0 +1,29 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.repository;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.LocationDbo;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom R2DBC operations for Location entities that cannot be expressed as a single @Query.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public interface JpaLocationRepositoryCustom {
+
+    /**
+     * Loads a batch of new locations as one unit of work and returns the number of rows written.
+     * Identifiers are generated by the database.
+     */
+    Mono<Long> importAll(List<LocationDbo> locations);
+
+    /**
+     * Updates the non-null fields of {@code changes} and {@code updated_at} in one statement and
+     * returns the updated row, or empty when no Location has the given id. Identifier, status and
+     * creation date are never touched.
+     */
+    Mono<LocationDbo> updateFields(UUID id, LocationDbo changes);
+}
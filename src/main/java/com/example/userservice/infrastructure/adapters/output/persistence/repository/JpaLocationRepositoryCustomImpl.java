@@ -0,0 +1,143 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.repository;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.LocationDbo;
+import com.example.userservice.utils.CsvUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk load of Location entities.
+ * <p>
+ * On PostgreSQL each batch is streamed through {@code COPY ... FROM STDIN} as CSV, which
+ * skips per-row statement parsing and planning. Other databases (H2 in tests) get the same
+ * batch as one multi-binding INSERT inside a transaction. Partial updates are issued through
+ * {@link PartialUpdate}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class JpaLocationRepositoryCustomImpl implements JpaLocationRepositoryCustom {
+
+    private static final String COLUMNS =
+            "user_id, country, region, city, neighborhood, address, postal_code, latitude, longitude, location_type, status, created_at, updated_at";
+    private static final String COPY_IN = "COPY locations (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT =
+            "INSERT INTO locations (" + COLUMNS + ") VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11, $12, $13)";
+
+    private static final Class<?>[] COLUMN_TYPES = {
+            String.class, String.class, String.class, String.class, String.class, String.class, String.class,
+            Double.class, Double.class, String.class, String.class, Instant.class, Instant.class};
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    @Override
+    public Mono<Long> importAll(List<LocationDbo> locations) {
+        if (locations.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return databaseClient.inConnection(connection -> {
+            PostgresqlConnection postgres = unwrapPostgres(connection);
+            return postgres != null
+                    ? postgres.copyIn(COPY_IN, Flux.fromIterable(locations).map(JpaLocationRepositoryCustomImpl::toCsvRecord))
+                    : insertAll(connection, locations);
+        });
+    }
+
+    @Override
+    public Mono<LocationDbo> updateFields(UUID id, LocationDbo changes) {
+        return PartialUpdate.of("locations", "location_id")
+                .set("user_id", changes.getUserId())
+                .set("country", changes.getCountry())
+                .set("region", changes.getRegion())
+                .set("city", changes.getCity())
+                .set("neighborhood", changes.getNeighborhood())
+                .set("address", changes.getAddress())
+                .set("postal_code", changes.getPostalCode())
+                .set("latitude", changes.getLatitude())
+                .set("longitude", changes.getLongitude())
+                .set("location_type", changes.getLocationType())
+                .execute(databaseClient, converter, id, LocationDbo.class);
+    }
+
+    private static PostgresqlConnection unwrapPostgres(Object connection) {
+        Object current = connection;
+        while (true) {
+            if (current instanceof PostgresqlConnection postgres) {
+                return postgres;
+            }
+            if (!(current instanceof Wrapped<?> wrapped) || wrapped.unwrap() == current) {
+                return null;
+            }
+            current = wrapped.unwrap();
+        }
+    }
+
+    private static ByteBuf toCsvRecord(LocationDbo location) {
+        StringBuilder record = new StringBuilder(256);
+        Object[] values = values(location);
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            CsvUtils.appendField(record, values[i]);
+        }
+        record.append('\n');
+        return Unpooled.wrappedBuffer(record.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mono<Long> insertAll(Connection connection, List<LocationDbo> locations) {
+        return Flux.usingWhen(
+                        Mono.from(connection.beginTransaction()).thenReturn(connection),
+                        tx -> Flux.from(bindAll(tx, locations).execute()).concatMap(Result::getRowsUpdated),
+                        Connection::commitTransaction,
+                        (tx, e) -> tx.rollbackTransaction(),
+                        Connection::rollbackTransaction)
+                .reduce(0L, Long::sum);
+    }
+
+    private static Statement bindAll(Connection connection, List<LocationDbo> locations) {
+        Statement statement = connection.createStatement(INSERT);
+        for (int row = 0; row < locations.size(); row++) {
+            if (row > 0) {
+                statement.add();
+            }
+            Object[] values = values(locations.get(row));
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    statement.bind(i, values[i]);
+                } else {
+                    statement.bindNull(i, COLUMN_TYPES[i]);
+                }
+            }
+        }
+        return statement;
+    }
+
+    private static Object[] values(LocationDbo location) {
+        return new Object[] {
+                location.getUserId(), location.getCountry(), location.getRegion(), location.getCity(),
+                location.getNeighborhood(), location.getAddress(), location.getPostalCode(),
+                location.getLatitude(), location.getLongitude(), location.getLocationType(),
+                location.getStatus() != null ? location.getStatus().name() : null,
+                location.getCreatedAt(), location.getUpdatedAt()
+        };
+    }
+}
@@ -62,6 +62,12 @@ public interface JpaNeighborhoodRepository extends R2dbcRepository<NeighborhoodD
                                           @Param("limit") Long limit,
                                           @Param("offset") Long offset);
     
+    /**
+     * Find the children of a city, served by the index on neighborhoods.city_id.
+     */
+    @Query("SELECT * FROM neighborhoods e WHERE e.city_id = :cityId ORDER BY e.name")
+    Flux<NeighborhoodDbo> findByCityId(@Param("cityId") UUID cityId);
+    
     /**
      * Find all entities with pagination.
      */
@@ -62,6 +62,12 @@ public interface JpaRegionRepository extends R2dbcRepository<RegionDbo, UUID> {
                                           @Param("limit") Long limit,
                                           @Param("offset") Long offset);
     
+    /**
+     * Find the children of a country, served by the index on regions.country_id.
+     */
+    @Query("SELECT * FROM regions e WHERE e.country_id = :countryId ORDER BY e.name")
+    Flux<RegionDbo> findByCountryId(@Param("countryId") UUID countryId);
+    
     /**
      * Find all entities with pagination.
      */
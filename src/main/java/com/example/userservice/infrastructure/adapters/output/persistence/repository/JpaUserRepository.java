@@ -2,12 +2,14 @@ package com.example.userservice.infrastructure.adapters.output.persistence.repos
 
 import com.example.userservice.infrastructure.adapters.output.persistence.entity.UserDbo;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -22,14 +24,18 @@ import java.util.UUID;
  * @version 1.0.0
  */
 @Repository
-public interface JpaUserRepository extends R2dbcRepository<UserDbo, UUID> {
+public interface JpaUserRepository extends R2dbcRepository<UserDbo, UUID>, JpaUserRepositoryCustom {
     
     /**
      * Find entities with search functionality.
+     * <p>
+     * Matches against the generated, lower-cased {@code search_text} column so the
+     * substring search is served by its pg_trgm GIN index.
+     * </p>
      */
     @Query("SELECT * FROM users e WHERE " +
            "(:search IS NULL OR :search = '' OR " +
-           "LOWER(e.username) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.first_name) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.last_name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%')) " +
            "ORDER BY e.created_at DESC " +
            "LIMIT :limit OFFSET :offset")
     Flux<UserDbo> findBySearchTerm(@Param("search") String search, 
@@ -37,11 +43,11 @@ public interface JpaUserRepository extends R2dbcRepository<UserDbo, UUID> {
                                              @Param("offset") Long offset);
     
     /**
-     * Count entities matching search term.
+     * Count entities matching the same search term as {@link #findBySearchTerm}.
      */
     @Query("SELECT COUNT(*) FROM users e WHERE " +
            "(:search IS NULL OR :search = '' OR " +
-           "LOWER(e.username) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.first_name) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.last_name) LIKE LOWER(CONCAT('%', :search, '%')))")
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%'))")
     Mono<Long> countBySearchTerm(@Param("search") String search);
     
     /**
@@ -49,11 +55,11 @@ public interface JpaUserRepository extends R2dbcRepository<UserDbo, UUID> {
      */
     @Query("SELECT * FROM users e WHERE " +
            "(:search IS NULL OR :search = '' OR " +
-           "LOWER(e.username) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.first_name) LIKE LOWER(CONCAT('%', :search, '%')) OR LOWER(e.last_name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%')) " +
            "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
            "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
            "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
-           "ORDER BY e.created_at DESC " +
+           "ORDER BY e.created_at DESC, e.user_id DESC " +
            "LIMIT :limit OFFSET :offset")
     Flux<UserDbo> findByFilters(@Param("search") String search,
                                           @Param("status") String status,
@@ -62,6 +68,157 @@ public interface JpaUserRepository extends R2dbcRepository<UserDbo, UUID> {
                                           @Param("limit") Long limit,
                                           @Param("offset") Long offset);
     
+    /**
+     * Count entities matching the same filters as {@link #findByFilters}.
+     */
+    @Query("SELECT COUNT(*) FROM users e WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%')) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP))")
+    Mono<Long> countByFilters(@Param("search") String search,
+                              @Param("status") String status,
+                              @Param("dateFrom") String dateFrom,
+                              @Param("dateTo") String dateTo);
+    
+    /**
+     * Planner row estimate for the same filters as {@link #findByFilters}, without executing a COUNT(*).
+     */
+    @Query("SELECT estimate_users_by_filters(:search, :status, :dateFrom, :dateTo)")
+    Mono<Long> estimateByFilters(@Param("search") String search,
+                                 @Param("status") String status,
+                                 @Param("dateFrom") String dateFrom,
+                                 @Param("dateTo") String dateTo);
+    
+    /**
+     * Full-text search over the generated {@code search_vector} column, ranked by relevance.
+     */
+    @Query("SELECT * FROM users e WHERE " +
+           "e.search_vector @@ plainto_tsquery('simple', :search) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
+           "ORDER BY ts_rank(e.search_vector, plainto_tsquery('simple', :search)) DESC, e.created_at DESC, e.user_id DESC " +
+           "LIMIT :limit OFFSET :offset")
+    Flux<UserDbo> findByFullText(@Param("search") String search,
+                                          @Param("status") String status,
+                                          @Param("dateFrom") String dateFrom,
+                                          @Param("dateTo") String dateTo,
+                                          @Param("limit") Long limit,
+                                          @Param("offset") Long offset);
+    
+    /**
+     * Count entities matching the same filters as {@link #findByFullText}.
+     */
+    @Query("SELECT COUNT(*) FROM users e WHERE " +
+           "e.search_vector @@ plainto_tsquery('simple', :search) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP))")
+    Mono<Long> countByFullText(@Param("search") String search,
+                               @Param("status") String status,
+                               @Param("dateFrom") String dateFrom,
+                               @Param("dateTo") String dateTo);
+    
+    /**
+     * Keyset page ordered by creation date (newest first), seeking past the given (created_at, user_id).
+     */
+    @Query("SELECT * FROM users e WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%')) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
+           "AND (e.created_at, e.user_id) < (:afterCreatedAt, :afterId) " +
+           "ORDER BY e.created_at DESC, e.user_id DESC " +
+           "LIMIT :limit")
+    Flux<UserDbo> findByFiltersAfterCreatedAt(@Param("search") String search,
+                                          @Param("status") String status,
+                                          @Param("dateFrom") String dateFrom,
+                                          @Param("dateTo") String dateTo,
+                                          @Param("afterCreatedAt") Instant afterCreatedAt,
+                                          @Param("afterId") UUID afterId,
+                                          @Param("limit") Long limit);
+    
+    /**
+     * Keyset page ordered by username, seeking past the given (username, user_id).
+     */
+    @Query("SELECT * FROM users e WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%')) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
+           "AND (e.username, e.user_id) > (:afterValue, :afterId) " +
+           "ORDER BY e.username ASC, e.user_id ASC " +
+           "LIMIT :limit")
+    Flux<UserDbo> findByFiltersAfterUsername(@Param("search") String search,
+                                          @Param("status") String status,
+                                          @Param("dateFrom") String dateFrom,
+                                          @Param("dateTo") String dateTo,
+                                          @Param("afterValue") String afterValue,
+                                          @Param("afterId") UUID afterId,
+                                          @Param("limit") Long limit);
+    
+    /**
+     * Keyset page ordered by email, seeking past the given (email, user_id).
+     */
+    @Query("SELECT * FROM users e WHERE " +
+           "(:search IS NULL OR :search = '' OR " +
+           "e.search_text LIKE CONCAT('%', LOWER(:search), '%')) " +
+           "AND (:status IS NULL OR :status = '' OR e.status = :status) " +
+           "AND (:dateFrom IS NULL OR :dateFrom = '' OR e.created_at >= CAST(:dateFrom AS TIMESTAMP)) " +
+           "AND (:dateTo IS NULL OR :dateTo = '' OR e.created_at <= CAST(:dateTo AS TIMESTAMP)) " +
+           "AND (e.email, e.user_id) > (:afterValue, :afterId) " +
+           "ORDER BY e.email ASC, e.user_id ASC " +
+           "LIMIT :limit")
+    Flux<UserDbo> findByFiltersAfterEmail(@Param("search") String search,
+                                          @Param("status") String status,
+                                          @Param("dateFrom") String dateFrom,
+                                          @Param("dateTo") String dateTo,
+                                          @Param("afterValue") String afterValue,
+                                          @Param("afterId") UUID afterId,
+                                          @Param("limit") Long limit);
+    
+    /**
+     * Point lookup of many ids in one statement. Rows come back in no particular order and
+     * unknown ids are simply absent.
+     */
+    @Query("SELECT * FROM users e WHERE e.user_id = ANY(:ids)")
+    Flux<UserDbo> findAllByIds(@Param("ids") UUID[] ids);
+    
+    /**
+     * Exact-match existence checks answered from the unique indexes on username and email.
+     */
+    Mono<Boolean> existsByUsername(String username);
+    
+    Mono<Boolean> existsByEmail(String email);
+    
+    /**
+     * Every username and email, streamed as rows are read.
+     */
+    @Query("SELECT e.username FROM users e UNION ALL SELECT e.email FROM users e")
+    Flux<String> findAllIdentities();
+    
+    /**
+     * Soft delete in one statement. Returns the number of rows changed, which is zero when the
+     * user does not exist or is already inactive.
+     */
+    @Modifying
+    @Query("UPDATE users SET status = 'INACTIVE', updated_at = CURRENT_TIMESTAMP " +
+           "WHERE user_id = :id AND status <> 'INACTIVE'")
+    Mono<Long> deactivateById(@Param("id") UUID id);
+    
+    /**
+     * Sets the status of every listed user in one statement, skipping rows that already have it.
+     * Returns the number of rows changed.
+     */
+    @Modifying
+    @Query("UPDATE users SET status = :status, updated_at = CURRENT_TIMESTAMP " +
+           "WHERE user_id = ANY(:ids) AND status <> :status")
+    Mono<Long> updateStatusByIds(@Param("ids") UUID[] ids, @Param("status") String status);
+    
     /**
      * Find all entities with pagination.
      */
@@ -0,0 +1,31 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.repository;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.UserDbo;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Custom R2DBC operations for User entities that cannot be expressed as a single @Query.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public interface JpaUserRepositoryCustom {
+
+    /**
+     * Inserts the given users with one batched statement, skipping any row whose username or
+     * email is already taken. Emits one flag per input row, in input order: {@code true} when
+     * the row was inserted, {@code false} when it conflicted.
+     */
+    Flux<Boolean> insertAllIfAbsent(List<UserDbo> users);
+
+    /**
+     * Updates the non-null fields of {@code changes} and {@code updated_at} in one statement and
+     * returns the updated row, or empty when no User has the given id. Identifier, status and
+     * creation date are never touched.
+     */
+    Mono<UserDbo> updateFields(UUID id, UserDbo changes);
+}
@@ -0,0 +1,113 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.repository;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.entity.UserDbo;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batched insert for User entities.
+ * <p>
+ * All rows of a call are bound to a single prepared statement and sent in one round trip
+ * inside one transaction. Each row is guarded by a {@code NOT EXISTS} check on username and
+ * email, so a duplicate only skips its own row instead of failing the whole batch. The check
+ * cannot see rows committed concurrently by another transaction, so when the batch still hits
+ * a unique constraint it is rolled back and retried row by row, and only the conflicting rows
+ * are reported as not inserted. Partial updates are issued through {@link PartialUpdate}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@RequiredArgsConstructor
+public class JpaUserRepositoryCustomImpl implements JpaUserRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT =
+            "INSERT INTO users (user_id, username, email, first_name, last_name, status, created_at, updated_at) " +
+            "SELECT $1, $2, $3, $4, $5, $6, $7, $8 " +
+            "WHERE NOT EXISTS (SELECT 1 FROM users e WHERE e.username = $2 OR e.email = $3)";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConverter converter;
+
+    @Override
+    public Flux<Boolean> insertAllIfAbsent(List<UserDbo> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.inConnectionMany(connection -> Flux.usingWhen(
+                        Mono.from(connection.beginTransaction()).thenReturn(connection),
+                        tx -> Flux.from(bindAll(tx, users).execute()).concatMap(Result::getRowsUpdated),
+                        Connection::commitTransaction,
+                        (tx, e) -> tx.rollbackTransaction(),
+                        Connection::rollbackTransaction))
+                .map(rowsUpdated -> rowsUpdated > 0)
+                .collectList()
+                .onErrorResume(JpaUserRepositoryCustomImpl::isConstraintViolation, e -> insertEachIfAbsent(users))
+                .flatMapIterable(inserted -> inserted);
+    }
+
+    private Mono<List<Boolean>> insertEachIfAbsent(List<UserDbo> users) {
+        return Flux.fromIterable(users)
+                .concatMap(user -> databaseClient.inConnection(connection ->
+                                Flux.from(bindAll(connection, List.of(user)).execute())
+                                        .concatMap(Result::getRowsUpdated)
+                                        .reduce(0L, Long::sum))
+                        .map(rowsUpdated -> rowsUpdated > 0)
+                        .onErrorResume(JpaUserRepositoryCustomImpl::isConstraintViolation, e -> Mono.just(false)))
+                .collectList();
+    }
+
+    private static boolean isConstraintViolation(Throwable error) {
+        // DatabaseClient translates driver exceptions, raw driver calls may not
+        return error instanceof DataIntegrityViolationException || error instanceof R2dbcDataIntegrityViolationException;
+    }
+
+    @Override
+    public Mono<UserDbo> updateFields(UUID id, UserDbo changes) {
+        return PartialUpdate.of("users", "user_id")
+                .set("username", changes.getUsername())
+                .set("email", changes.getEmail())
+                .set("first_name", changes.getFirstName())
+                .set("last_name", changes.getLastName())
+                .execute(databaseClient, converter, id, UserDbo.class);
+    }
+
+    private static Statement bindAll(Connection connection, List<UserDbo> users) {
+        Statement statement = connection.createStatement(INSERT_IF_ABSENT);
+        for (int i = 0; i < users.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            UserDbo user = users.get(i);
+            statement.bind(0, user.getId())
+                    .bind(1, user.getUsername())
+                    .bind(2, user.getEmail());
+            bindNullable(statement, 3, user.getFirstName(), String.class);
+            bindNullable(statement, 4, user.getLastName(), String.class);
+            statement.bind(5, user.getStatus().name());
+            bindNullable(statement, 6, user.getCreatedAt(), Instant.class);
+            bindNullable(statement, 7, user.getUpdatedAt(), Instant.class);
+        }
+        return statement;
+    }
+
+    private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value != null) {
+            statement.bind(index, value);
+        } else {
+            statement.bindNull(index, type);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.repository;
+
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single-statement partial update returning the updated row.
+ * <p>
+ * Only columns given a non-null value are written; {@code updated_at} is always set to the
+ * database clock. PostgreSQL returns the row with {@code RETURNING *}; H2 gets the equivalent
+ * {@code SELECT * FROM FINAL TABLE (UPDATE ...)}. No row back means no row matched the id.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+final class PartialUpdate {
+
+    private static final String POSTGRESQL = "PostgreSQL";
+
+    private final String table;
+    private final String idColumn;
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+
+    private PartialUpdate(String table, String idColumn) {
+        this.table = table;
+        this.idColumn = idColumn;
+    }
+
+    static PartialUpdate of(String table, String idColumn) {
+        return new PartialUpdate(table, idColumn);
+    }
+
+    PartialUpdate set(String column, Object value) {
+        if (value != null) {
+            columns.put(column, value);
+        }
+        return this;
+    }
+
+    <T> Mono<T> execute(DatabaseClient databaseClient, R2dbcConverter converter, Object id, Class<T> type) {
+        StringBuilder update = new StringBuilder("UPDATE ").append(table).append(" SET ");
+        columns.keySet().forEach(column -> update.append(column).append(" = :").append(column).append(", "));
+        update.append("updated_at = CURRENT_TIMESTAMP WHERE ").append(idColumn).append(" = :id");
+
+        String sql = POSTGRESQL.equals(databaseClient.getConnectionFactory().getMetadata().getName())
+                ? update + " RETURNING *"
+                : "SELECT * FROM FINAL TABLE (" + update + ")";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql).bind("id", id);
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            spec = spec.bind(column.getKey(), column.getValue());
+        }
+        return spec.map((row, metadata) -> converter.read(type, row, metadata)).one();
+    }
+}
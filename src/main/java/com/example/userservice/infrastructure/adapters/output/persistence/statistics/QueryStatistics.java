@@ -0,0 +1,157 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.statistics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics per SQL fingerprint.
+ * <p>
+ * Each {@link SqlFingerprint} gets a count of executions and failures, the rows returned and
+ * its total, mean, maximum and 99th percentile latency. Latencies go into a log-linear
+ * histogram (four buckets per power of two microseconds), so the percentile is an upper bound
+ * within 25% of the true value (capped at the maximum) and recording takes a few atomic
+ * increments without locking. At most {@code maxStatements} fingerprints are tracked; later
+ * ones are counted together as {@value #OTHER}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class QueryStatistics {
+
+    public static final String OTHER = "(other)";
+
+    private final int maxStatements;
+    private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+
+    public QueryStatistics(int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public void record(String fingerprint, long nanos, long rows, boolean success) {
+        Statement statement = statements.get(fingerprint);
+        if (statement == null) {
+            String key = statements.size() < maxStatements ? fingerprint : OTHER;
+            statement = statements.computeIfAbsent(key, k -> new Statement());
+        }
+        statement.record(nanos, rows, success);
+    }
+
+    /**
+     * @return up to {@code limit} fingerprints, slowest first by {@code order}
+     */
+    public List<Summary> top(int limit, Order order) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().summary(entry.getKey()))
+                .sorted(order.comparator.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    /**
+     * Sort orders for {@link #top}.
+     */
+    public enum Order {
+        TOTAL(Comparator.comparingDouble(Summary::totalMillis)),
+        MEAN(Comparator.comparingDouble(Summary::meanMillis)),
+        P99(Comparator.comparingDouble(Summary::p99Millis)),
+        COUNT(Comparator.comparingLong(Summary::count)),
+        ROWS(Comparator.comparingLong(Summary::rows));
+
+        private final Comparator<Summary> comparator;
+
+        Order(Comparator<Summary> comparator) {
+            this.comparator = comparator;
+        }
+    }
+
+    /**
+     * Statistics of one fingerprint; latencies in milliseconds.
+     */
+    public record Summary(String fingerprint, long count, long errors, long rows,
+                          double totalMillis, double meanMillis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Statement {
+
+        private static final int SUB_BUCKET_BITS = 2;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = 40 * SUB_BUCKETS;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos, long returnedRows, boolean success) {
+            count.increment();
+            if (!success) {
+                errors.increment();
+            }
+            rows.add(returnedRows);
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            buckets.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMicros(nanos)));
+        }
+
+        Summary summary(String fingerprint) {
+            long executions = count.sum();
+            double total = millis(totalNanos.sum());
+            double max = millis(maxNanos.get());
+            return new Summary(fingerprint, executions, errors.sum(), rows.sum(), total,
+                    executions == 0 ? 0 : total / executions, Math.min(p99Millis(), max), max);
+        }
+
+        private double p99Millis() {
+            long[] counts = new long[BUCKETS];
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                seen += counts[i];
+            }
+            long target = (long) Math.ceil(seen * 0.99);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target && counts[i] > 0) {
+                    return upperBoundMicros(i) / 1000.0;
+                }
+            }
+            return 0;
+        }
+
+        static int bucket(long micros) {
+            long value = Math.max(1, micros);
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = exponent < SUB_BUCKET_BITS
+                    ? 0
+                    : (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return Math.min(BUCKETS - 1, exponent * SUB_BUCKETS + sub);
+        }
+
+        static long upperBoundMicros(int bucket) {
+            int exponent = bucket / SUB_BUCKETS;
+            int sub = bucket % SUB_BUCKETS;
+            if (exponent < SUB_BUCKET_BITS) {
+                return 1L << (exponent + 1);
+            }
+            return (long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BUCKET_BITS);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
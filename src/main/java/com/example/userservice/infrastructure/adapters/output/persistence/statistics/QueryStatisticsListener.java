@@ -0,0 +1,73 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.statistics;
+
+import com.example.userservice.utils.LoggingUtils;
+import io.r2dbc.proxy.core.Bindings;
+import io.r2dbc.proxy.core.QueryExecutionInfo;
+import io.r2dbc.proxy.core.QueryInfo;
+import io.r2dbc.proxy.listener.ProxyExecutionListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records every statement executed through the proxied connection factory in
+ * {@link QueryStatistics} and logs the slow ones.
+ * <p>
+ * A statement is recorded once its results have been consumed, with the rows mapped from them.
+ * Statements slower than the threshold are logged as WARN with their SQL and, instead of the
+ * bound values, the type of each value, so no user data reaches the logs.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class QueryStatisticsListener implements ProxyExecutionListener {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(QueryStatisticsListener.class);
+
+    private final QueryStatistics statistics;
+    private final Duration slowThreshold;
+
+    public QueryStatisticsListener(QueryStatistics statistics, Duration slowThreshold) {
+        this.statistics = statistics;
+        this.slowThreshold = slowThreshold;
+    }
+
+    @Override
+    public void afterQuery(QueryExecutionInfo execution) {
+        List<QueryInfo> queries = execution.getQueries();
+        if (queries.isEmpty()) {
+            return;
+        }
+        String sql = queries.size() == 1
+                ? queries.get(0).getQuery()
+                : queries.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        Duration duration = execution.getExecuteDuration();
+        statistics.record(SqlFingerprint.of(sql), duration.toNanos(), execution.getCurrentResultCount(), execution.isSuccess());
+        if (duration.compareTo(slowThreshold) >= 0) {
+            logger.warn("Slow query took {} ms with {} rows: {} bindings {}",
+                    duration.toMillis(), execution.getCurrentResultCount(), sql, LoggingUtils.lazy(() -> redactedBindings(queries)));
+        }
+    }
+
+    /**
+     * Renders the first binding set of each query as {@code key=Type}.
+     */
+    static String redactedBindings(List<QueryInfo> queries) {
+        return queries.stream()
+                .map(query -> query.getBindingsList().isEmpty()
+                        ? "[]"
+                        : render(query.getBindingsList().get(0)))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String render(Bindings bindings) {
+        return Stream.concat(bindings.getIndexBindings().stream(), bindings.getNamedBindings().stream())
+                .map(binding -> binding.getKey() + "=" + (binding.getBoundValue().isNull()
+                        ? "null"
+                        : binding.getBoundValue().getValue().getClass().getSimpleName()))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
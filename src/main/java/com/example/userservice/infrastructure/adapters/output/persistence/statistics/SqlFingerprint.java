@@ -0,0 +1,133 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.statistics;
+
+/**
+ * Reduces a SQL statement to the shape shared by all its executions.
+ * <p>
+ * Whitespace runs collapse to one space, string and numeric literals and bind markers
+ * ({@code $1}, {@code :name}, {@code ?}) become {@code ?}, and a parenthesized list of them
+ * becomes {@code (?)}, as does a run of such lists, so the same query with different values, an
+ * {@code IN} list of a different length or a multi-row {@code VALUES} has one fingerprint. Keywords and identifiers are kept as written.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class SqlFingerprint {
+
+    private static final String[] REPEATED_LISTS = {"(?), (?)", "(?),(?)"};
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (out.length() > 0 && i < length) {
+                    out.append(' ');
+                }
+            } else if (c == '\'') {
+                i = skipString(sql, i + 1);
+                placeholder(out);
+            } else if (c == '$' && i + 1 < length && Character.isDigit(sql.charAt(i + 1))) {
+                i = skipWhile(sql, i + 1, true);
+                placeholder(out);
+            } else if (c == ':' && i + 1 < length && Character.isJavaIdentifierStart(sql.charAt(i + 1))
+                    && (i == 0 || sql.charAt(i - 1) != ':')) {
+                i = skipWhile(sql, i + 1, false);
+                placeholder(out);
+            } else if (c == '?') {
+                i++;
+                placeholder(out);
+            } else if (Character.isDigit(c) && !partOfIdentifier(out)) {
+                i = skipWhile(sql, i, true);
+                if (i < length && sql.charAt(i) == '.') {
+                    i = skipWhile(sql, i + 1, true);
+                }
+                placeholder(out);
+            } else if (Character.isJavaIdentifierPart(c)) {
+                int end = skipWhile(sql, i, false);
+                out.append(sql, i, end);
+                i = end;
+            } else {
+                out.append(c);
+                i++;
+                if (c == ')') {
+                    collapseList(out);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    private static void placeholder(StringBuilder out) {
+        out.append('?');
+    }
+
+    /**
+     * Rewrites a just-closed {@code (?, ?, ...)} at the end of {@code out} to {@code (?)}.
+     */
+    private static void collapseList(StringBuilder out) {
+        int close = out.length() - 1;
+        int i = close - 1;
+        boolean sawPlaceholder = false;
+        while (i >= 0) {
+            char c = out.charAt(i);
+            if (c == '(') {
+                break;
+            }
+            if (c == '?') {
+                sawPlaceholder = true;
+            } else if (c != ',' && c != ' ') {
+                return;
+            }
+            i--;
+        }
+        if (i >= 0 && sawPlaceholder) {
+            out.setLength(i + 1);
+            out.append("?)");
+            for (String repeated : REPEATED_LISTS) {
+                if (out.length() >= repeated.length() && out.lastIndexOf(repeated) == out.length() - repeated.length()) {
+                    out.setLength(out.length() - repeated.length() + 3);
+                }
+            }
+        }
+    }
+
+    private static boolean partOfIdentifier(StringBuilder out) {
+        return out.length() > 0 && Character.isJavaIdentifierPart(out.charAt(out.length() - 1));
+    }
+
+    private static int skipString(String sql, int from) {
+        int i = from;
+        while (i < sql.length()) {
+            if (sql.charAt(i) == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWhile(String sql, int from, boolean digitsOnly) {
+        int i = from;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (digitsOnly ? !Character.isDigit(c) : !Character.isJavaIdentifierPart(c)) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+}
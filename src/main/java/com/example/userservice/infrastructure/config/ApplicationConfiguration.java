@@ -16,6 +16,7 @@ import com.example.userservice.infrastructure.adapters.output.persistence.reposi
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -31,6 +32,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * @version 1.0.0
  */
 @Configuration
+@EnableScheduling
 @Import({OpenApiConfiguration.class})
 public class ApplicationConfiguration {
 
@@ -0,0 +1,74 @@
+package com.example.userservice.infrastructure.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import com.example.userservice.infrastructure.adapters.output.logging.AsyncMappedFileAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Switches the root logger to the asynchronous memory-mapped file appender.
+ * <p>
+ * Active when {@code logging.async.enabled} is true. The appender replaces the console
+ * appender Spring Boot configured, keeping it as the fallback, and is removed again on
+ * shutdown so late log lines still reach the console. Settings live under
+ * {@code logging.async.*}. Metrics: {@code logging.async.queue.depth},
+ * {@code logging.async.dropped} by level and {@code logging.async.fallback}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "logging.async.enabled", havingValue = "true")
+public class AsyncLoggingConfiguration {
+
+    private static final String DEFAULT_PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%t] %logger{39} : %m%n%ex";
+
+    @Bean(destroyMethod = "detach")
+    public AsyncMappedFileAppender asyncMappedFileAppender(Environment environment, MeterRegistry meterRegistry) {
+        LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(environment.getProperty("logging.async.pattern", DEFAULT_PATTERN));
+
+        AsyncMappedFileAppender appender = new AsyncMappedFileAppender(settings(environment), encoder);
+        appender.attachTo(loggerContext.getLogger(Logger.ROOT_LOGGER_NAME));
+
+        Gauge.builder("logging.async.queue.depth", appender, AsyncMappedFileAppender::queueDepth)
+                .description("Log events waiting to be written")
+                .register(meterRegistry);
+        for (Level level : new Level[] {Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR}) {
+            FunctionCounter.builder("logging.async.dropped", appender, a -> a.dropped(level))
+                    .description("Log events dropped because the buffer was full")
+                    .tag("level", level.toString())
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("logging.async.fallback", appender, AsyncMappedFileAppender::fallbacks)
+                .description("Log events written to the console because the log file was unavailable")
+                .register(meterRegistry);
+        return appender;
+    }
+
+    private static AsyncMappedFileAppender.Settings settings(Environment environment) {
+        return new AsyncMappedFileAppender.Settings(
+                Path.of(environment.getProperty("logging.async.file", "logs/back-ms-users-webflux.log")),
+                environment.getProperty("logging.async.capacity", Integer.class, 16_384),
+                environment.getProperty("logging.async.overflow-policy", AsyncMappedFileAppender.OverflowPolicy.class,
+                        AsyncMappedFileAppender.OverflowPolicy.DROP_DEBUG_FIRST),
+                environment.getProperty("logging.async.max-file-size", DataSize.class, DataSize.ofMegabytes(100)).toBytes(),
+                environment.getProperty("logging.async.max-history", Integer.class, 5),
+                Math.toIntExact(environment.getProperty("logging.async.map-size", DataSize.class, DataSize.ofMegabytes(8)).toBytes()));
+    }
+}
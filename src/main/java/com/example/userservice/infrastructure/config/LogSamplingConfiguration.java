@@ -0,0 +1,58 @@
+package com.example.userservice.infrastructure.config;
+
+import com.example.userservice.utils.LogRedactor;
+import com.example.userservice.utils.LogSampler;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies the log sampling rules and redacted fields from configuration.
+ * <p>
+ * Rules are read from {@code logging.sampling.rules.<ClassSimpleName|default>.<level>} with the
+ * keys {@code sample-every}, {@code rate} (events per second per call site) and
+ * {@code burst}; redacted field names from {@code logging.redaction.fields}. Loggers are
+ * static fields created before the context starts, so the settings are pushed into
+ * {@link LogSampler} and {@link LogRedactor} rather than injected.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Configuration
+public class LogSamplingConfiguration {
+
+    private static final Bindable<Map<String, Map<String, Map<String, String>>>> RULES = Bindable.of(
+            ResolvableType.forClassWithGenerics(Map.class,
+                    ResolvableType.forClass(String.class),
+                    ResolvableType.forClassWithGenerics(Map.class,
+                            ResolvableType.forClass(String.class),
+                            ResolvableType.forClassWithGenerics(Map.class, String.class, String.class))));
+
+    public LogSamplingConfiguration(Environment environment) {
+        Binder binder = Binder.get(environment);
+        Map<String, Map<String, LogSampler.Rule>> rules = new HashMap<>();
+        binder.bind("logging.sampling.rules", RULES).orElse(Map.of())
+                .forEach((className, levels) -> {
+                    Map<String, LogSampler.Rule> byLevel = new HashMap<>();
+                    levels.forEach((level, settings) -> byLevel.put(level, rule(settings)));
+                    rules.put(className, byLevel);
+                });
+        LogSampler.configure(rules);
+        LogRedactor.configure(binder.bind("logging.redaction.fields", Bindable.setOf(String.class))
+                .orElse(Set.of("password")));
+    }
+
+    private static LogSampler.Rule rule(Map<String, String> settings) {
+        return new LogSampler.Rule(
+                Integer.parseInt(settings.getOrDefault("sample-every", "1")),
+                Double.parseDouble(settings.getOrDefault("rate", "0")),
+                Integer.parseInt(settings.getOrDefault("burst", "0")));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.userservice.infrastructure.config;
+
+import com.example.userservice.application.service.LocationImportService;
+import com.example.userservice.application.service.LocationService;
+import com.example.userservice.application.service.UserService;
+import com.example.userservice.domain.ports.input.LocationImportUseCase;
+import com.example.userservice.domain.ports.input.LocationUseCase;
+import com.example.userservice.domain.ports.input.UserUseCase;
+import com.example.userservice.infrastructure.instrumentation.PortInstrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * Publishes latency, in-flight and error metrics for the input and output ports.
+ * <p>
+ * The use cases injected into the controllers are {@link Primary} metered proxies of the
+ * application services, so their timings cover the whole service call; the repository ports are
+ * instrumented by {@link RepositoryPortConfiguration}. Comparing both tells how much of a
+ * request is spent in the database. Configured under {@code metrics.ports.*}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Configuration
+public class PortInstrumentationConfiguration {
+
+    @Bean
+    public PortInstrumentation portInstrumentation(MeterRegistry meterRegistry, Environment environment) {
+        return new PortInstrumentation(meterRegistry, new PortInstrumentation.Settings(
+                environment.getProperty("metrics.ports.enabled", Boolean.class, true),
+                environment.getProperty("metrics.ports.percentile-histogram", Boolean.class, true)));
+    }
+
+    @Bean
+    @Primary
+    public UserUseCase userUseCase(UserService service, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(UserUseCase.class, service);
+    }
+
+    @Bean
+    @Primary
+    public LocationUseCase locationUseCase(LocationService service, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(LocationUseCase.class, service);
+    }
+
+    @Bean
+    @Primary
+    public LocationImportUseCase locationImportUseCase(LocationImportService service, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(LocationImportUseCase.class, service);
+    }
+}
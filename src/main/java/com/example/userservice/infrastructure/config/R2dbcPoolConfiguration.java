@@ -0,0 +1,119 @@
+package com.example.userservice.infrastructure.config;
+
+import com.example.userservice.infrastructure.adapters.output.persistence.pool.MeteredConnectionFactory;
+import com.example.userservice.infrastructure.adapters.output.persistence.statistics.QueryStatistics;
+import com.example.userservice.infrastructure.adapters.output.persistence.statistics.QueryStatisticsListener;
+import com.example.userservice.utils.LoggingUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.proxy.ProxyConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Builds the pooled R2DBC {@link ConnectionFactory} used by every repository.
+ * <p>
+ * The pool is sized and timed by the standard {@code spring.r2dbc.pool.*} keys, set per
+ * profile: {@code initial-size}, {@code min-idle}, {@code max-size}, {@code max-acquire-time},
+ * {@code max-idle-time}, {@code max-life-time}, {@code max-create-connection-time} and
+ * {@code validation-query}. Connections are checked when they are handed out, with a round
+ * trip only when a validation query is set, and idle connections past {@code max-idle-time}
+ * are closed in the background every half of it rather than on the next acquire. The pool is wrapped in a {@link MeteredConnectionFactory} to time acquisitions, and the
+ * actuator publishes its {@code r2dbc.pool.*} size gauges. Before the application reports
+ * ready, the pool is warmed up to {@code initial-size} connections so the first requests do
+ * not pay for opening them; a failed warm-up is logged and connections are opened on demand.
+ * </p>
+ * <p>
+ * Unless {@code metrics.queries.enabled} is false, the pooled connections come from an
+ * r2dbc-proxy factory that records every statement in {@link QueryStatistics} (at most
+ * {@code metrics.queries.max-statements} fingerprints) and logs the ones slower than
+ * {@code metrics.queries.slow-threshold}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Configuration
+public class R2dbcPoolConfiguration {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(R2dbcPoolConfiguration.class);
+
+    private static final String POOL_NAME = "connectionFactory";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionFactory connectionFactory(Environment environment, MeterRegistry meterRegistry,
+                                               ObjectProvider<QueryStatistics> queryStatistics) {
+        ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(environment.getRequiredProperty("spring.r2dbc.url"));
+        String username = environment.getProperty("spring.r2dbc.username");
+        if (StringUtils.hasText(username)) {
+            builder.username(username);
+        }
+        String password = environment.getProperty("spring.r2dbc.password");
+        if (StringUtils.hasText(password)) {
+            builder.password(password);
+        }
+        ConnectionFactory connections = builder.build();
+        QueryStatistics statistics = queryStatistics.getIfAvailable();
+        if (statistics != null) {
+            connections = ProxyConnectionFactory.builder(connections)
+                    .listener(new QueryStatisticsListener(statistics,
+                            environment.getProperty("metrics.queries.slow-threshold", Duration.class, Duration.ofMillis(500))))
+                    .build();
+        }
+        Duration maxIdleTime = environment.getProperty("spring.r2dbc.pool.max-idle-time", Duration.class, Duration.ofMinutes(30));
+        ConnectionPoolConfiguration.Builder pool = ConnectionPoolConfiguration.builder(connections)
+                .name(POOL_NAME)
+                .initialSize(environment.getProperty("spring.r2dbc.pool.initial-size", Integer.class, 2))
+                .minIdle(environment.getProperty("spring.r2dbc.pool.min-idle", Integer.class, 2))
+                .maxSize(environment.getProperty("spring.r2dbc.pool.max-size", Integer.class, 10))
+                .maxAcquireTime(environment.getProperty("spring.r2dbc.pool.max-acquire-time", Duration.class, Duration.ofSeconds(5)))
+                .maxIdleTime(maxIdleTime)
+                .backgroundEvictionInterval(maxIdleTime.dividedBy(2))
+                .maxLifeTime(environment.getProperty("spring.r2dbc.pool.max-life-time", Duration.class, Duration.ofMinutes(60)))
+                .maxCreateConnectionTime(environment.getProperty("spring.r2dbc.pool.max-create-connection-time", Duration.class, Duration.ofSeconds(10)));
+        String validationQuery = environment.getProperty("spring.r2dbc.pool.validation-query");
+        if (StringUtils.hasText(validationQuery)) {
+            pool.validationQuery(validationQuery);
+        } else {
+            pool.validationDepth(ValidationDepth.LOCAL);
+        }
+        return new MeteredConnectionFactory(new ConnectionPool(pool.build()), POOL_NAME, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "metrics.queries.enabled", havingValue = "true", matchIfMissing = true)
+    public QueryStatistics queryStatistics(Environment environment) {
+        return new QueryStatistics(environment.getProperty("metrics.queries.max-statements", Integer.class, 500));
+    }
+
+    /**
+     * Opens the initial connections before the application starts accepting traffic.
+     */
+    @Bean
+    public ApplicationRunner connectionPoolWarmUp(ConnectionFactory connectionFactory, Environment environment) {
+        Duration timeout = environment.getProperty("spring.r2dbc.pool.max-create-connection-time", Duration.class, Duration.ofSeconds(10));
+        return args -> {
+            ConnectionPool pool = MeteredConnectionFactory.poolOf(connectionFactory);
+            if (pool == null) {
+                return;
+            }
+            try {
+                Integer opened = pool.warmup().block(timeout);
+                logger.info("Connection pool warmed up with {} connections", opened);
+            } catch (RuntimeException e) {
+                logger.warn("Connection pool warm-up failed, connections will be opened on demand: {}", e.getMessage());
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.userservice.infrastructure.config;
+
+import com.example.userservice.domain.ports.output.CityRepositoryPort;
+import com.example.userservice.domain.ports.output.CountryRepositoryPort;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import com.example.userservice.domain.ports.output.NeighborhoodRepositoryPort;
+import com.example.userservice.domain.ports.output.RegionRepositoryPort;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.CityRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.CountryRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.LocationRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.NeighborhoodRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.RegionRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.UserRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.BatchingLocationRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.BatchingUserRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.CachingLocationRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.CachingUserRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.MicroBatcher;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.NegativeCachingLocationRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.NegativeCachingUserRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.NegativeLookupCache;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.ReadThroughCache;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.SingleFlightLocationRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.decorator.SingleFlightUserRepositoryPort;
+import com.example.userservice.infrastructure.instrumentation.PortInstrumentation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Assembles the repository ports injected into the application services.
+ * <p>
+ * The persistence adapters are wrapped in decorators that add cross-cutting read
+ * optimizations without the services or the adapters knowing about them. The decorated
+ * ports are {@link Primary}, so any component asking for a repository port gets the
+ * decorated chain while the adapters remain available by their concrete type.
+ * Each decorator is configured under the {@code users.*} and {@code locations.*} keys.
+ * The chain is, from the service inwards: negative cache, cache, single-flight,
+ * micro-batching, adapter. The negative cache answers ids recently found missing before any
+ * other layer is involved. Only cache misses reach the single-flight layer, which collapses
+ * concurrent misses for the same id; the opt-in batching layer then merges lookups of
+ * different ids into one query. Innermost, each adapter is wrapped by
+ * {@link PortInstrumentation}, so its latency metrics cover the database round trip and
+ * entity mapping only; the geo adapters have no other decorators.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Configuration
+public class RepositoryPortConfiguration {
+
+    @Bean
+    @Primary
+    public UserRepositoryPort userRepositoryPort(UserRepositoryAdapter adapter, Environment environment, MeterRegistry meterRegistry,
+                                                 PortInstrumentation instrumentation) {
+        UserRepositoryPort port = instrumentation.instrument(UserRepositoryPort.class, adapter);
+        if (environment.getProperty("users.batching.enabled", Boolean.class, false)) {
+            port = new BatchingUserRepositoryPort(port, batchingSettings(environment, "users.batching"), meterRegistry);
+        }
+        if (environment.getProperty("users.single-flight.enabled", Boolean.class, true)) {
+            port = new SingleFlightUserRepositoryPort(port, meterRegistry);
+        }
+        if (environment.getProperty("users.cache.enabled", Boolean.class, true)) {
+            port = new CachingUserRepositoryPort(port, cacheSettings(environment, "users.cache"), meterRegistry);
+        }
+        if (environment.getProperty("users.negative-cache.enabled", Boolean.class, true)) {
+            port = new NegativeCachingUserRepositoryPort(port, negativeCacheSettings(environment, "users.negative-cache"), meterRegistry);
+        }
+        return port;
+    }
+
+    @Bean
+    @Primary
+    public LocationRepositoryPort locationRepositoryPort(LocationRepositoryAdapter adapter, Environment environment, MeterRegistry meterRegistry,
+                                                         PortInstrumentation instrumentation) {
+        LocationRepositoryPort port = instrumentation.instrument(LocationRepositoryPort.class, adapter);
+        if (environment.getProperty("locations.batching.enabled", Boolean.class, false)) {
+            port = new BatchingLocationRepositoryPort(port, batchingSettings(environment, "locations.batching"), meterRegistry);
+        }
+        if (environment.getProperty("locations.single-flight.enabled", Boolean.class, true)) {
+            port = new SingleFlightLocationRepositoryPort(port, meterRegistry);
+        }
+        if (environment.getProperty("locations.cache.enabled", Boolean.class, true)) {
+            port = new CachingLocationRepositoryPort(port, cacheSettings(environment, "locations.cache"), meterRegistry);
+        }
+        if (environment.getProperty("locations.negative-cache.enabled", Boolean.class, true)) {
+            port = new NegativeCachingLocationRepositoryPort(port, negativeCacheSettings(environment, "locations.negative-cache"), meterRegistry);
+        }
+        return port;
+    }
+
+    @Bean
+    @Primary
+    public CountryRepositoryPort countryRepositoryPort(CountryRepositoryAdapter adapter, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(CountryRepositoryPort.class, adapter);
+    }
+
+    @Bean
+    @Primary
+    public RegionRepositoryPort regionRepositoryPort(RegionRepositoryAdapter adapter, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(RegionRepositoryPort.class, adapter);
+    }
+
+    @Bean
+    @Primary
+    public CityRepositoryPort cityRepositoryPort(CityRepositoryAdapter adapter, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(CityRepositoryPort.class, adapter);
+    }
+
+    @Bean
+    @Primary
+    public NeighborhoodRepositoryPort neighborhoodRepositoryPort(NeighborhoodRepositoryAdapter adapter, PortInstrumentation instrumentation) {
+        return instrumentation.instrument(NeighborhoodRepositoryPort.class, adapter);
+    }
+
+    private static ReadThroughCache.Settings cacheSettings(Environment environment, String prefix) {
+        return new ReadThroughCache.Settings(
+                environment.getProperty(prefix + ".max-entries", Long.class, 10_000L),
+                environment.getProperty(prefix + ".max-weight", Long.class, 0L),
+                environment.getProperty(prefix + ".ttl", Duration.class, Duration.ofMinutes(5)),
+                environment.getProperty(prefix + ".refresh-after", Duration.class, Duration.ofMinutes(4)));
+    }
+
+    private static NegativeLookupCache.Settings negativeCacheSettings(Environment environment, String prefix) {
+        return new NegativeLookupCache.Settings(
+                environment.getProperty(prefix + ".ttl", Duration.class, Duration.ofSeconds(30)),
+                environment.getProperty(prefix + ".max-entries", Long.class, 100_000L));
+    }
+
+    private static MicroBatcher.Settings batchingSettings(Environment environment, String prefix) {
+        return new MicroBatcher.Settings(
+                environment.getProperty(prefix + ".window", Duration.class, Duration.ofMillis(2)),
+                environment.getProperty(prefix + ".max-batch-size", Integer.class, 100),
+                environment.getProperty(prefix + ".max-concurrent-batches", Integer.class, 4));
+    }
+}
@@ -5,6 +5,8 @@ package com.example.userservice.infrastructure.config.exceptions;
  * <p>
  * This exception is used in the Hexagonal Architecture infrastructure layer
  * to indicate that a requested entity or resource could not be located.
+ * It is an expected outcome answered with a 404 rather than a fault, so when it has
+ * no cause it skips capturing a stack trace.
  * </p>
  * 
  * @author Jiliar Silgado <jiliar.silgado@gmail.com>
@@ -18,7 +20,7 @@ public class NotFoundException extends RuntimeException {
      * @param message the detail message
      */
     public NotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     /**
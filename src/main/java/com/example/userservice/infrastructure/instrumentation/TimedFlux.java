@@ -0,0 +1,27 @@
+package com.example.userservice.infrastructure.instrumentation;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxOperator;
+
+/**
+ * Times every subscription to a {@link Flux} returned by an instrumented port, up to its last
+ * element.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+final class TimedFlux<T> extends FluxOperator<T, T> {
+
+    private final PortInstrumentation.Operation operation;
+
+    TimedFlux(Flux<? extends T> source, PortInstrumentation.Operation operation) {
+        super(source);
+        this.operation = operation;
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+        source.subscribe(new TimedSubscriber<>(actual, operation, false));
+    }
+}
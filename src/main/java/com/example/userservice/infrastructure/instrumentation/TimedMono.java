@@ -0,0 +1,26 @@
+package com.example.userservice.infrastructure.instrumentation;
+
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoOperator;
+
+/**
+ * Times every subscription to a {@link Mono} returned by an instrumented port.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+final class TimedMono<T> extends MonoOperator<T, T> {
+
+    private final PortInstrumentation.Operation operation;
+
+    TimedMono(Mono<? extends T> source, PortInstrumentation.Operation operation) {
+        super(source);
+        this.operation = operation;
+    }
+
+    @Override
+    public void subscribe(CoreSubscriber<? super T> actual) {
+        source.subscribe(new TimedSubscriber<>(actual, operation, true));
+    }
+}
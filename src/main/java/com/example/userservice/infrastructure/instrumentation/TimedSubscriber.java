@@ -0,0 +1,92 @@
+package com.example.userservice.infrastructure.instrumentation;
+
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Operators;
+import reactor.util.context.Context;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Relays one subscription to a port operation and records it on the operation's meters when it
+ * terminates. The value of a {@code Mono} already counts as its success, since downstream
+ * operators may cancel instead of waiting for completion. Completion, error and cancellation
+ * race to record, so exactly one of them does.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+final class TimedSubscriber<T> implements CoreSubscriber<T>, Subscription {
+
+    private static final AtomicIntegerFieldUpdater<TimedSubscriber> DONE =
+            AtomicIntegerFieldUpdater.newUpdater(TimedSubscriber.class, "done");
+
+    private final CoreSubscriber<? super T> actual;
+    private final PortInstrumentation.Operation operation;
+    private final boolean mono;
+    private final long start;
+    private Subscription upstream;
+    private volatile int done;
+
+    TimedSubscriber(CoreSubscriber<? super T> actual, PortInstrumentation.Operation operation, boolean mono) {
+        this.actual = actual;
+        this.operation = operation;
+        this.mono = mono;
+        operation.started();
+        this.start = System.nanoTime();
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (Operators.validate(upstream, subscription)) {
+            upstream = subscription;
+            actual.onSubscribe(this);
+        }
+    }
+
+    @Override
+    public void onNext(T value) {
+        if (mono && finish()) {
+            operation.succeeded(System.nanoTime() - start);
+        }
+        actual.onNext(value);
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        if (finish()) {
+            operation.failed(error, System.nanoTime() - start);
+        }
+        actual.onError(error);
+    }
+
+    @Override
+    public void onComplete() {
+        if (finish()) {
+            operation.succeeded(System.nanoTime() - start);
+        }
+        actual.onComplete();
+    }
+
+    @Override
+    public void request(long n) {
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        if (finish()) {
+            operation.cancelled(System.nanoTime() - start);
+        }
+        upstream.cancel();
+    }
+
+    @Override
+    public Context currentContext() {
+        return actual.currentContext();
+    }
+
+    private boolean finish() {
+        return done == 0 && DONE.compareAndSet(this, 0, 1);
+    }
+}
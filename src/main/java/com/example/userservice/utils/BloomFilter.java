@@ -0,0 +1,104 @@
+package com.example.userservice.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of strings.
+ * <p>
+ * Answers whether a value might have been added: {@code false} is definite, {@code true}
+ * may be a false positive at roughly the configured rate once the expected number of values
+ * has been added. Values cannot be removed. Bits are set with atomic updates, so concurrent
+ * {@link #put} and {@link #mightContain} calls need no locking. The bit positions are derived
+ * from a 64-bit hash of the UTF-8 bytes by double hashing.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Creates a filter sized for {@code expectedEntries} values at the given false positive rate.
+     *
+     * @throws IllegalArgumentException if the sizing is out of range
+     */
+    public static BloomFilter create(long expectedEntries, double falsePositiveRate) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("expectedEntries must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long bits = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        if (bits > (long) Integer.MAX_VALUE * 64) {
+            throw new IllegalArgumentException("Filter too large for " + expectedEntries + " entries");
+        }
+        int hashes = Math.max(1, (int) Math.round((double) bits / expectedEntries * Math.log(2)));
+        return new BloomFilter(Math.max(64, bits), hashes);
+    }
+
+    public void put(String value) {
+        long[] hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash, i);
+            long mask = 1L << bit;
+            words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash, i);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long[] hash, int i) {
+        return Math.floorMod(hash[0] + i * hash[1], bitCount);
+    }
+
+    /**
+     * FNV-1a over the bytes, finalized twice with different seeds by the SplitMix64 mixer so
+     * the two halves are independent enough for double hashing.
+     */
+    private static long[] hash(String value) {
+        long h = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= FNV_PRIME;
+        }
+        return new long[] {mix(h), mix(h ^ 0x9e3779b97f4a7c15L) | 1L};
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.userservice.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 helpers for line-oriented CSV.
+ * <p>
+ * Fields may be wrapped in double quotes, with embedded quotes doubled. Records are
+ * single lines: quoted fields cannot span line breaks, which keeps parsing incremental.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class CsvUtils {
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+
+    private CsvUtils() {
+    }
+
+    /**
+     * Splits one CSV record into its fields.
+     *
+     * @param line the record, without its line terminator
+     * @return the unquoted field values
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == DELIMITER) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Appends a value as a CSV field. Null is written as an empty unquoted field and any
+     * other value is quoted, so that empty strings and nulls stay distinguishable.
+     */
+    public static StringBuilder appendField(StringBuilder record, Object value) {
+        if (value == null) {
+            return record;
+        }
+        String text = value.toString();
+        record.append(QUOTE);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == QUOTE) {
+                record.append(QUOTE);
+            }
+            record.append(c);
+        }
+        return record.append(QUOTE);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.userservice.utils;
+
+import com.example.userservice.domain.model.PageCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encoding and decoding of opaque keyset pagination cursors.
+ * <p>
+ * Cursors are URL-safe Base64 strings wrapping the sort key, the sort value of
+ * the last row and its identifier. Clients must treat them as opaque tokens.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class CursorUtils {
+
+    private static final char SEPARATOR = '\n';
+
+    private CursorUtils() {
+    }
+
+    public static String encode(PageCursor cursor) {
+        String raw = cursor.getSortBy() + SEPARATOR + cursor.getValue() + SEPARATOR + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode(PageCursor)}.
+     *
+     * @param cursor the opaque cursor received from the client
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int last = raw.lastIndexOf(SEPARATOR);
+            if (first <= 0 || last == first) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String id = raw.substring(last + 1);
+            UUID.fromString(id);
+            return PageCursor.builder()
+                    .sortBy(raw.substring(0, first))
+                    .value(raw.substring(first + 1, last))
+                    .id(id)
+                    .build();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
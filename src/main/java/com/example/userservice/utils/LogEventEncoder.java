@@ -0,0 +1,209 @@
+package com.example.userservice.utils;
+
+import org.slf4j.MDC;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Encodes log events of one class as single-line JSON objects.
+ * <p>
+ * Output has the form
+ * {@code {"microservice":"name","date":"yyyy-MM-dd","time":"HH:mm:ss.SSS","level":"LEVEL","class":"ClassName",...,"message":"message"}},
+ * where {@code ...} are the configured MDC keys that are set on the logging thread, followed by
+ * {@code "suppressed":n} when the sampler held back similar events before this one.
+ * Everything constant for the class and level is rendered once when the encoder is created,
+ * the date and time are rendered at most once per millisecond and shared by all threads, and
+ * each event is written into a buffer reused by its thread, so the only allocation per event
+ * is the resulting string plus whatever rendering the arguments costs. {@code {}} placeholders
+ * are replaced by the arguments in order, as SLF4J does, and the message, the arguments and
+ * the MDC values are JSON-escaped. A {@link Supplier} argument is only called here, so an
+ * event that is never encoded never computes it, and arguments other than strings pass
+ * through {@link LogRedactor} after rendering.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class LogEventEncoder {
+
+    public static final String DEBUG = "DEBUG";
+    public static final String INFO = "INFO";
+    public static final String WARN = "WARN";
+    public static final String ERROR = "ERROR";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(512));
+
+    private static volatile Timestamp timestamp = new Timestamp(Long.MIN_VALUE, "");
+
+    private final String prefix;
+    private final String debugSuffix;
+    private final String infoSuffix;
+    private final String warnSuffix;
+    private final String errorSuffix;
+    private final String[] contextKeys;
+    private final String[] contextPrefixes;
+
+    public LogEventEncoder(String microservice, String className, String... contextKeys) {
+        StringBuilder header = new StringBuilder("{\"microservice\":\"");
+        appendEscaped(header, microservice);
+        this.prefix = header.append("\",\"date\":\"").toString();
+        this.debugSuffix = suffix(DEBUG, className);
+        this.infoSuffix = suffix(INFO, className);
+        this.warnSuffix = suffix(WARN, className);
+        this.errorSuffix = suffix(ERROR, className);
+        this.contextKeys = contextKeys.clone();
+        this.contextPrefixes = new String[contextKeys.length];
+        for (int i = 0; i < contextKeys.length; i++) {
+            StringBuilder key = new StringBuilder(",\"");
+            appendEscaped(key, contextKeys[i]);
+            contextPrefixes[i] = key.append("\":\"").toString();
+        }
+    }
+
+    private static String suffix(String level, String className) {
+        StringBuilder suffix = new StringBuilder("\",\"level\":\"").append(level).append("\",\"class\":\"");
+        appendEscaped(suffix, className);
+        return suffix.append('"').toString();
+    }
+
+    /**
+     * Encodes one event.
+     *
+     * @param level one of the level constants of this class
+     * @param message message with optional {@code {}} placeholders
+     * @param args values for the placeholders, may be null; extra values and a trailing
+     *             {@link Throwable}, which SLF4J logs as the exception, are ignored
+     * @return the JSON line
+     */
+    public String encode(String level, String message, Object[] args) {
+        return encode(level, message, args, 0);
+    }
+
+    /**
+     * Encodes one event that stands for itself and {@code suppressed} similar events that
+     * were not written.
+     */
+    public String encode(String level, String message, Object[] args, long suppressed) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        out.append(prefix).append(currentTimestamp()).append(suffixFor(level));
+        for (int i = 0; i < contextKeys.length; i++) {
+            String value = MDC.get(contextKeys[i]);
+            if (value != null) {
+                out.append(contextPrefixes[i]);
+                appendEscaped(out, value);
+                out.append('"');
+            }
+        }
+        if (suppressed > 0) {
+            out.append(",\"suppressed\":").append(suppressed);
+        }
+        out.append(",\"message\":\"");
+        appendMessage(out, message, args);
+        out.append("\"}");
+        String line = out.toString();
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return line;
+    }
+
+    private String suffixFor(String level) {
+        return switch (level) {
+            case DEBUG -> debugSuffix;
+            case WARN -> warnSuffix;
+            case ERROR -> errorSuffix;
+            default -> infoSuffix;
+        };
+    }
+
+    private static void appendMessage(StringBuilder out, String message, Object[] args) {
+        if (message == null) {
+            out.append("null");
+            return;
+        }
+        int argIndex = 0;
+        int start = 0;
+        int length = message.length();
+        int argCount = args == null ? 0 : args.length;
+        if (argCount > 0 && args[argCount - 1] instanceof Throwable) {
+            argCount--;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            if (argIndex < argCount && message.charAt(i) == '{' && message.charAt(i + 1) == '}') {
+                appendEscaped(out, message, start, i);
+                appendEscaped(out, render(args[argIndex++]));
+                start = i + 2;
+                i++;
+            }
+        }
+        appendEscaped(out, message, start, length);
+    }
+
+    private static String render(Object arg) {
+        if (arg instanceof Supplier<?> supplier) {
+            arg = supplier.get();
+        }
+        if (arg == null || arg instanceof CharSequence) {
+            return String.valueOf(arg);
+        }
+        if (arg instanceof Object[] array) {
+            return LogRedactor.redact(Arrays.deepToString(array));
+        }
+        return LogRedactor.redact(arg.toString());
+    }
+
+    private static void appendEscaped(StringBuilder out, CharSequence value) {
+        appendEscaped(out, value, 0, value.length());
+    }
+
+    private static void appendEscaped(StringBuilder out, CharSequence value, int from, int to) {
+        int run = from;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.append(value, run, i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            }
+            run = i + 1;
+        }
+        out.append(value, run, to);
+    }
+
+    /**
+     * Returns the {@code date","time":"time} fragment for the current millisecond, rendering
+     * it only when the millisecond has changed since the last call on any thread.
+     */
+    private static String currentTimestamp() {
+        long now = System.currentTimeMillis();
+        Timestamp cached = timestamp;
+        if (cached.millis() == now) {
+            return cached.text();
+        }
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneId.systemDefault());
+        String text = DATE_FORMATTER.format(dateTime) + "\",\"time\":\"" + TIME_FORMATTER.format(dateTime);
+        timestamp = new Timestamp(now, text);
+        return text;
+    }
+
+    private record Timestamp(long millis, String text) {
+    }
+}
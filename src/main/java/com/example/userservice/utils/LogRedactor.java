@@ -0,0 +1,89 @@
+package com.example.userservice.utils;
+
+import java.util.Set;
+
+/**
+ * Masks sensitive fields in rendered log arguments.
+ * <p>
+ * DTOs are rendered by their Lombok {@code toString}, which writes fields as
+ * {@code name=value} separated by {@code ", "} inside {@code ClassName(...)}. Every value of a
+ * configured field name is replaced by {@value #MASK}, including in nested objects and
+ * collections. The value ends at the next comma or closing bracket outside any brackets it
+ * opens. Strings without {@code '='} are returned untouched without further scanning.
+ * </p>
+ * <p>
+ * This is only a fallback: {@code toString} does not quote values, so a secret containing a
+ * comma or closing bracket is only partly masked. Secret DTO fields must be left out of
+ * {@code toString} with {@code @ToString.Exclude}.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class LogRedactor {
+
+    public static final String MASK = "***";
+
+    private static volatile Set<String> fields = Set.of("password");
+
+    private LogRedactor() {
+    }
+
+    /**
+     * Replaces the set of field names whose values are masked.
+     */
+    public static void configure(Set<String> fieldNames) {
+        fields = Set.copyOf(fieldNames);
+    }
+
+    public static String redact(String rendered) {
+        Set<String> names = fields;
+        if (names.isEmpty() || rendered.indexOf('=') < 0) {
+            return rendered;
+        }
+        StringBuilder out = null;
+        int copied = 0;
+        int i = rendered.indexOf('=');
+        while (i > 0) {
+            int nameStart = i;
+            while (nameStart > 0 && Character.isJavaIdentifierPart(rendered.charAt(nameStart - 1))) {
+                nameStart--;
+            }
+            int next;
+            if (nameStart < i && names.contains(rendered.substring(nameStart, i))) {
+                int valueEnd = valueEnd(rendered, i + 1);
+                if (out == null) {
+                    out = new StringBuilder(rendered.length());
+                }
+                out.append(rendered, copied, i + 1).append(MASK);
+                copied = valueEnd;
+                next = valueEnd;
+            } else {
+                next = i + 1;
+            }
+            i = rendered.indexOf('=', next);
+        }
+        if (out == null) {
+            return rendered;
+        }
+        return out.append(rendered, copied, rendered.length()).toString();
+    }
+
+    private static int valueEnd(String rendered, int from) {
+        int depth = 0;
+        for (int i = from; i < rendered.length(); i++) {
+            char c = rendered.charAt(i);
+            if (c == '(' || c == '[' || c == '{') {
+                depth++;
+            } else if (c == ')' || c == ']' || c == '}') {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                return i;
+            }
+        }
+        return rendered.length();
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.userservice.utils;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides per call site whether a log event of one class is written.
+ * <p>
+ * Rules are configured per class (simple name, matched ignoring case, or {@code "default"} for
+ * every class without its own rule) and level through {@link #configure}. A call site is one message template at one level, so each
+ * {@code logger.info("...")} line is limited on its own. A rule first samples one of every
+ * {@code sampleEvery} calls, then lets the sampled ones through a token bucket of
+ * {@code ratePerSecond} with bursts of {@code burst}. Every event held back is counted, and the
+ * count is handed to the next event that passes so the line can carry a suppressed-count
+ * summary. ERROR events are never held back. Reconfiguring resets all call sites.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public final class LogSampler {
+
+    /**
+     * Returned by {@link #admit} when the event must not be written.
+     */
+    public static final long SUPPRESSED = -1;
+
+    private static final String ANY_CLASS = "default";
+    private static final int MAX_CALL_SITES = 1024;
+
+    private static volatile Config config = new Config(Map.of(), 0);
+
+    private final String className;
+    private volatile Sites sites = new Sites(-1, null, null, null);
+
+    public LogSampler(String className) {
+        this.className = className.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Replaces all rules. Keys are class simple names or {@code "default"}, then level names.
+     */
+    public static synchronized void configure(Map<String, Map<String, Rule>> rules) {
+        Map<String, Map<String, Rule>> normalized = new HashMap<>();
+        rules.forEach((clazz, byLevel) -> {
+            Map<String, Rule> levels = new HashMap<>();
+            byLevel.forEach((level, rule) -> levels.put(level.toUpperCase(Locale.ROOT), rule));
+            normalized.put(clazz.toLowerCase(Locale.ROOT), Map.copyOf(levels));
+        });
+        config = new Config(Map.copyOf(normalized), config.generation() + 1);
+    }
+
+    /**
+     * @param level one of the {@link LogEventEncoder} level constants
+     * @param message the message template, identifying the call site
+     * @return {@link #SUPPRESSED}, or the number of events from this call site held back since
+     *         the last one written
+     */
+    public long admit(String level, String message) {
+        if (LogEventEncoder.ERROR.equals(level)) {
+            return 0;
+        }
+        Sites current = currentSites();
+        Map<String, CallSite> byMessage = current.forLevel(level);
+        if (byMessage == null) {
+            return 0;
+        }
+        CallSite site = byMessage.get(message);
+        if (site == null) {
+            site = byMessage.size() < MAX_CALL_SITES
+                    ? byMessage.computeIfAbsent(message, m -> new CallSite(current.rule(level)))
+                    : byMessage.computeIfAbsent("", m -> new CallSite(current.rule(level)));
+        }
+        return site.admit(System.nanoTime());
+    }
+
+    private Sites currentSites() {
+        Config current = config;
+        Sites cached = sites;
+        if (cached.generation() == current.generation()) {
+            return cached;
+        }
+        Sites rebuilt = new Sites(current.generation(),
+                current.rule(className, LogEventEncoder.DEBUG),
+                current.rule(className, LogEventEncoder.INFO),
+                current.rule(className, LogEventEncoder.WARN));
+        sites = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * Sampling and rate limit for one class and level. {@code sampleEvery} below 2 disables
+     * sampling, {@code ratePerSecond} of 0 disables the rate limit and {@code burst} defaults
+     * to one second's worth of events.
+     */
+    public record Rule(int sampleEvery, double ratePerSecond, int burst) {
+
+        public Rule {
+            sampleEvery = Math.max(1, sampleEvery);
+            ratePerSecond = Math.max(0, ratePerSecond);
+            burst = burst > 0 ? burst : (int) Math.max(1, Math.ceil(ratePerSecond));
+        }
+    }
+
+    private record Config(Map<String, Map<String, Rule>> rules, long generation) {
+
+        Rule rule(String className, String level) {
+            Rule rule = find(className, level);
+            return rule != null ? rule : find(ANY_CLASS, level);
+        }
+
+        private Rule find(String className, String level) {
+            Map<String, Rule> byLevel = rules.get(className);
+            return byLevel == null ? null : byLevel.get(level);
+        }
+    }
+
+    /**
+     * Rules and call sites of one class for one configuration generation.
+     */
+    private static final class Sites {
+
+        private final long generation;
+        private final Rule debug;
+        private final Rule info;
+        private final Rule warn;
+        private final Map<String, CallSite> debugSites;
+        private final Map<String, CallSite> infoSites;
+        private final Map<String, CallSite> warnSites;
+
+        Sites(long generation, Rule debug, Rule info, Rule warn) {
+            this.generation = generation;
+            this.debug = debug;
+            this.info = info;
+            this.warn = warn;
+            this.debugSites = debug == null ? null : new ConcurrentHashMap<>();
+            this.infoSites = info == null ? null : new ConcurrentHashMap<>();
+            this.warnSites = warn == null ? null : new ConcurrentHashMap<>();
+        }
+
+        long generation() {
+            return generation;
+        }
+
+        Map<String, CallSite> forLevel(String level) {
+            return switch (level) {
+                case LogEventEncoder.DEBUG -> debugSites;
+                case LogEventEncoder.WARN -> warnSites;
+                default -> infoSites;
+            };
+        }
+
+        Rule rule(String level) {
+            return switch (level) {
+                case LogEventEncoder.DEBUG -> debug;
+                case LogEventEncoder.WARN -> warn;
+                default -> info;
+            };
+        }
+    }
+
+    /**
+     * Sampling counter, token bucket and suppressed count of one call site. The bucket is kept
+     * as the theoretical arrival time of the next event (GCRA), so taking a token is one
+     * compare-and-set.
+     */
+    private static final class CallSite {
+
+        private final long sampleEvery;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong nextArrival = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong suppressed = new AtomicLong();
+
+        CallSite(Rule rule) {
+            this.sampleEvery = rule.sampleEvery();
+            this.intervalNanos = rule.ratePerSecond() > 0
+                    ? (long) (TimeUnit.SECONDS.toNanos(1) / rule.ratePerSecond())
+                    : 0;
+            this.toleranceNanos = intervalNanos * (rule.burst() - 1);
+        }
+
+        long admit(long now) {
+            if (sampleEvery > 1 && calls.getAndIncrement() % sampleEvery != 0) {
+                suppressed.incrementAndGet();
+                return SUPPRESSED;
+            }
+            if (intervalNanos > 0 && !takeToken(now)) {
+                suppressed.incrementAndGet();
+                return SUPPRESSED;
+            }
+            return suppressed.getAndSet(0);
+        }
+
+        private boolean takeToken(long now) {
+            while (true) {
+                long arrival = nextArrival.get();
+                long base = arrival == Long.MIN_VALUE ? now : Math.max(arrival, now);
+                if (base - now > toleranceNanos) {
+                    return false;
+                }
+                if (nextArrival.compareAndSet(arrival, base + intervalNanos)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
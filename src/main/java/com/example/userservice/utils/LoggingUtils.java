@@ -1,17 +1,38 @@
 package com.example.userservice.utils;
 
+import io.micrometer.context.ContextRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import reactor.core.publisher.Hooks;
+import reactor.util.context.Context;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 /**
  * Centralized logging utility for the  microservice.
  * <p>
  * This utility provides consistent logging format across the application
  * with JSON format: {"microservice":"name","date":"yyyy-MM-dd","time":"HH:mm:ss.SSS","level":"LEVEL","class":"ClassName","message":"message"}
+ * Lines are built by {@link LogEventEncoder}, which keeps per-event allocation low and escapes
+ * the message for JSON. {@code {}} placeholders are filled in by the encoder; a trailing
+ * {@link Throwable} argument is not substituted but logged as the exception, as in SLF4J.
+ * The finished line reaches SLF4J as the only argument of a constant {@code "{}"} pattern, so
+ * SLF4J never scans it again and braces in logged values are written as they are.
+ * </p>
+ * <p>
+ * DEBUG, INFO and WARN events pass through a per-class {@link LogSampler} before anything is
+ * rendered, so an event it holds back never calls {@code toString} on its arguments or
+ * evaluates {@link #lazy} ones; the next event written from the same call site reports how
+ * many were held back. ERROR events are always written. Sensitive DTO fields are masked by
+ * {@link LogRedactor}.
+ * </p>
+ * <p>
+ * In reactive pipelines the request context travels in the Reactor {@link Context} under the
+ * MDC key names (see {@link #withRequestContext}); {@link #enableContextPropagation()} makes
+ * Reactor copy it into the MDC of whichever thread runs each operator and clear it afterwards,
+ * so log lines carry the right ids across scheduler and event-loop hops.
+ * {@link #setRequestContext} remains for code that runs outside a reactive pipeline.
  * </p>
  * 
  * @author Jiliar Silgado <jiliar.silgado@gmail.com>
@@ -20,94 +41,127 @@ import java.time.format.DateTimeFormatter;
 public class LoggingUtils {
     
     private static final String MICROSERVICE_NAME = "";
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    public static final String REQUEST_ID = "Request-ID";
+    public static final String CORRELATION_ID = "Correlation-ID";
+    public static final String CLIENT_ID = "Client-Id";
     
     private final Logger logger;
-    private final String className;
+    private final LogEventEncoder encoder;
+    private final LogSampler sampler;
     
     private LoggingUtils(Class<?> clazz) {
         this.logger = LoggerFactory.getLogger(clazz);
-        this.className = clazz.getSimpleName();
+        this.encoder = new LogEventEncoder(MICROSERVICE_NAME, clazz.getSimpleName(), REQUEST_ID, CORRELATION_ID, CLIENT_ID);
+        this.sampler = new LogSampler(clazz.getSimpleName());
     }
     
     public static LoggingUtils getLogger(Class<?> clazz) {
         return new LoggingUtils(clazz);
     }
     
+    /**
+     * Wraps an argument so it is only computed if the event is written.
+     */
+    public static Supplier<Object> lazy(Supplier<?> supplier) {
+        return supplier::get;
+    }
+    
     public void info(String message, Object... args) {
         if (logger.isInfoEnabled()) {
-            logger.info(formatMessage("INFO", message), args);
+            long suppressed = sampler.admit(LogEventEncoder.INFO, message);
+            if (suppressed != LogSampler.SUPPRESSED) {
+                logger.info("{}", encoder.encode(LogEventEncoder.INFO, message, args, suppressed), trailingThrowable(args));
+            }
         }
     }
     
     public void debug(String message, Object... args) {
         if (logger.isDebugEnabled()) {
-            logger.debug(formatMessage("DEBUG", message), args);
+            long suppressed = sampler.admit(LogEventEncoder.DEBUG, message);
+            if (suppressed != LogSampler.SUPPRESSED) {
+                logger.debug("{}", encoder.encode(LogEventEncoder.DEBUG, message, args, suppressed), trailingThrowable(args));
+            }
         }
     }
     
     public void warn(String message, Object... args) {
         if (logger.isWarnEnabled()) {
-            logger.warn(formatMessage("WARN", message), args);
+            long suppressed = sampler.admit(LogEventEncoder.WARN, message);
+            if (suppressed != LogSampler.SUPPRESSED) {
+                logger.warn("{}", encoder.encode(LogEventEncoder.WARN, message, args, suppressed), trailingThrowable(args));
+            }
         }
     }
     
     public void error(String message, Object... args) {
         if (logger.isErrorEnabled()) {
-            logger.error(formatMessage("ERROR", message), args);
+            logger.error("{}", encoder.encode(LogEventEncoder.ERROR, message, args), trailingThrowable(args));
         }
     }
     
     public void error(String message, Throwable throwable, Object... args) {
         if (logger.isErrorEnabled()) {
-            logger.error(formatMessage("ERROR", message), args, throwable);
+            logger.error("{}", encoder.encode(LogEventEncoder.ERROR, message, args), throwable);
         }
     }
     
     public static void setRequestContext(String requestId, String correlationId, String clientId) {
         if (requestId != null) {
-            MDC.put("Request-ID", requestId);
+            MDC.put(REQUEST_ID, requestId);
         }
         if (correlationId != null) {
-            MDC.put("Correlation-ID", correlationId);
+            MDC.put(CORRELATION_ID, correlationId);
         }
         if (clientId != null) {
-            MDC.put("Client-Id", clientId);
+            MDC.put(CLIENT_ID, clientId);
         }
     }
     
     public static void clearRequestContext() {
-        MDC.remove("Request-ID");
-        MDC.remove("Correlation-ID");
-        MDC.remove("Client-Id");
+        MDC.remove(REQUEST_ID);
+        MDC.remove(CORRELATION_ID);
+        MDC.remove(CLIENT_ID);
     }
     
-    private String formatMessage(String level, String message) {
-        LocalDateTime now = LocalDateTime.now();
-        String requestId = MDC.get("Request-ID");
-        String correlationId = MDC.get("Correlation-ID");
-        String clientId = MDC.get("Client-Id");
-        
-        StringBuilder jsonBuilder = new StringBuilder();
-        jsonBuilder.append(String.format("{\"microservice\":\"%s\",\"date\":\"%s\",\"time\":\"%s\",\"level\":\"%s\",\"class\":\"%s\"",
-                MICROSERVICE_NAME,
-                now.format(DATE_FORMATTER),
-                now.format(TIME_FORMATTER),
-                level,
-                className));
-        
+    /**
+     * Adds the non-null ids to a Reactor context under the MDC key names.
+     */
+    public static Context withRequestContext(Context context, String requestId, String correlationId, String clientId) {
         if (requestId != null) {
-            jsonBuilder.append(String.format(",\"Request-ID\":\"%s\"", requestId));
+            context = context.put(REQUEST_ID, requestId);
         }
         if (correlationId != null) {
-            jsonBuilder.append(String.format(",\"Correlation-ID\":\"%s\"", correlationId));
+            context = context.put(CORRELATION_ID, correlationId);
         }
         if (clientId != null) {
-            jsonBuilder.append(String.format(",\"Client-Id\":\"%s\"", clientId));
+            context = context.put(CLIENT_ID, clientId);
+        }
+        return context;
+    }
+    
+    /**
+     * Registers an MDC accessor for each request context key and turns on Reactor's automatic
+     * context propagation. Safe to call more than once; registering a key again replaces it.
+     */
+    public static void enableContextPropagation() {
+        ContextRegistry registry = ContextRegistry.getInstance();
+        for (String key : new String[] {REQUEST_ID, CORRELATION_ID, CLIENT_ID}) {
+            registry.registerThreadLocalAccessor(key,
+                    () -> MDC.get(key),
+                    value -> MDC.put(key, value),
+                    () -> MDC.remove(key));
+        }
+        Hooks.enableAutomaticContextPropagation();
+    }
+    
+    /**
+     * Returns the last argument if it is a {@link Throwable}, otherwise {@code null}. Passed
+     * after the line, SLF4J logs it as the exception, and a null is simply ignored.
+     */
+    private static Throwable trailingThrowable(Object[] args) {
+        if (args != null && args.length > 0 && args[args.length - 1] instanceof Throwable throwable) {
+            return throwable;
         }
-        
-        jsonBuilder.append(String.format(",\"message\":\"%s\"}", message));
-        return jsonBuilder.toString();
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+-- Composite indexes backing keyset (cursor) pagination on the list endpoints.
+-- Each index matches the ORDER BY of a findByFiltersAfter* query so that
+-- "(sort_column, id) < (:value, :id)" is answered with an index range scan
+-- and page N costs the same as page 1.
+
+CREATE INDEX IF NOT EXISTS idx_users_created_at_user_id ON users (created_at DESC, user_id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_users_username_user_id ON users (username, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_users_email_user_id ON users (email, user_id);
+
+CREATE INDEX IF NOT EXISTS idx_locations_created_at_location_id ON locations (created_at DESC, location_id DESC);
@@ -0,0 +1,18 @@
+-- Index-backed search for users.
+-- The search predicate used to OR four LOWER(col) LIKE '%term%' scans over
+-- username, email, first_name and last_name, which no B-tree index can serve.
+-- search_text holds the lower-cased concatenation of those columns so a single
+-- LIKE '%term%' is answered by a pg_trgm GIN index, and search_vector backs the
+-- optional full-text search mode (searchMode=fulltext).
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_text TEXT
+    GENERATED ALWAYS AS (LOWER(username || ' ' || email || ' ' || COALESCE(first_name, '') || ' ' || COALESCE(last_name, ''))) STORED;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_vector TSVECTOR
+    GENERATED ALWAYS AS (to_tsvector('simple', username || ' ' || email || ' ' || COALESCE(first_name, '') || ' ' || COALESCE(last_name, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_text_trgm ON users USING GIN (search_text gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_search_vector ON users USING GIN (search_vector);
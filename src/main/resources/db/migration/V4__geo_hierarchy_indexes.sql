@@ -0,0 +1,10 @@
+-- Foreign-key indexes backing the geo hierarchy endpoints.
+-- GET /locations/countries/{countryId}/regions, /regions/{regionId}/cities and
+-- /cities/{cityId}/neighborhoods each filter a child table by its parent id;
+-- without these indexes every request is a sequential scan of the child table.
+
+CREATE INDEX IF NOT EXISTS idx_regions_country_id ON regions (country_id);
+
+CREATE INDEX IF NOT EXISTS idx_cities_region_id ON cities (region_id);
+
+CREATE INDEX IF NOT EXISTS idx_neighborhoods_city_id ON neighborhoods (city_id);
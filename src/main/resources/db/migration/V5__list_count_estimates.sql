@@ -0,0 +1,51 @@
+-- Planner-based row estimates for the list endpoints (estimatedTotal=true).
+-- Each function builds the same predicate the list query applies, with the
+-- filter values quoted as literals so the planner sees real selectivities,
+-- and returns the "Plan Rows" of EXPLAIN instead of running COUNT(*).
+-- Returns -1 when no estimate is available so callers can fall back to an exact count.
+
+CREATE OR REPLACE FUNCTION estimate_users_by_filters(p_search TEXT, p_status TEXT, p_date_from TEXT, p_date_to TEXT)
+RETURNS BIGINT AS $$
+DECLARE
+    predicate TEXT := 'TRUE';
+    plan JSON;
+BEGIN
+    IF p_search IS NOT NULL AND p_search <> '' THEN
+        predicate := predicate || format(' AND search_text LIKE %L', '%' || LOWER(p_search) || '%');
+    END IF;
+    IF p_status IS NOT NULL AND p_status <> '' THEN
+        predicate := predicate || format(' AND status = %L', p_status);
+    END IF;
+    IF p_date_from IS NOT NULL AND p_date_from <> '' THEN
+        predicate := predicate || format(' AND created_at >= CAST(%L AS TIMESTAMP)', p_date_from);
+    END IF;
+    IF p_date_to IS NOT NULL AND p_date_to <> '' THEN
+        predicate := predicate || format(' AND created_at <= CAST(%L AS TIMESTAMP)', p_date_to);
+    END IF;
+    EXECUTE 'EXPLAIN (FORMAT JSON) SELECT 1 FROM users WHERE ' || predicate INTO plan;
+    RETURN COALESCE((plan -> 0 -> 'Plan' ->> 'Plan Rows')::BIGINT, -1);
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+CREATE OR REPLACE FUNCTION estimate_locations_by_filters(p_search TEXT, p_status TEXT, p_date_from TEXT, p_date_to TEXT)
+RETURNS BIGINT AS $$
+DECLARE
+    predicate TEXT := 'TRUE';
+    plan JSON;
+BEGIN
+    IF p_search IS NOT NULL AND p_search <> '' THEN
+        predicate := predicate || format(' AND LOWER(status) LIKE %L', '%' || LOWER(p_search) || '%');
+    END IF;
+    IF p_status IS NOT NULL AND p_status <> '' THEN
+        predicate := predicate || format(' AND status = %L', p_status);
+    END IF;
+    IF p_date_from IS NOT NULL AND p_date_from <> '' THEN
+        predicate := predicate || format(' AND created_at >= CAST(%L AS TIMESTAMP)', p_date_from);
+    END IF;
+    IF p_date_to IS NOT NULL AND p_date_to <> '' THEN
+        predicate := predicate || format(' AND created_at <= CAST(%L AS TIMESTAMP)', p_date_to);
+    END IF;
+    EXECUTE 'EXPLAIN (FORMAT JSON) SELECT 1 FROM locations WHERE ' || predicate INTO plan;
+    RETURN COALESCE((plan -> 0 -> 'Plan' ->> 'Plan Rows')::BIGINT, -1);
+END;
+$$ LANGUAGE plpgsql STABLE;
@@ -0,0 +1,190 @@
+package com.example.userservice.application.service;
+
+import com.example.userservice.application.dto.location.RegionResponse;
+import com.example.userservice.application.dto.location.SerializedGeoTree;
+import com.example.userservice.application.mapper.CityMapper;
+import com.example.userservice.application.mapper.CountryMapper;
+import com.example.userservice.application.mapper.NeighborhoodMapper;
+import com.example.userservice.application.mapper.RegionMapper;
+import com.example.userservice.domain.model.City;
+import com.example.userservice.domain.model.Country;
+import com.example.userservice.domain.model.Neighborhood;
+import com.example.userservice.domain.model.Region;
+import com.example.userservice.domain.ports.output.CityRepositoryPort;
+import com.example.userservice.domain.ports.output.CountryRepositoryPort;
+import com.example.userservice.domain.ports.output.NeighborhoodRepositoryPort;
+import com.example.userservice.domain.ports.output.RegionRepositoryPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for GeoReferenceDataCache.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class GeoReferenceDataCacheTest {
+
+    @Mock
+    private CountryRepositoryPort countryRepositoryPort;
+
+    @Mock
+    private RegionRepositoryPort regionRepositoryPort;
+
+    @Mock
+    private CityRepositoryPort cityRepositoryPort;
+
+    @Mock
+    private NeighborhoodRepositoryPort neighborhoodRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GeoReferenceDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GeoReferenceDataCache(countryRepositoryPort, regionRepositoryPort, cityRepositoryPort, neighborhoodRepositoryPort,
+            Mappers.getMapper(CountryMapper.class), Mappers.getMapper(RegionMapper.class),
+            Mappers.getMapper(CityMapper.class), Mappers.getMapper(NeighborhoodMapper.class),
+            new ObjectMapper(), meterRegistry);
+    }
+
+    private void givenTree() {
+        when(countryRepositoryPort.findAll()).thenReturn(Flux.just(Country.builder().countryId("co").name("Colombia").build()));
+        when(regionRepositoryPort.findAll()).thenReturn(Flux.just(
+            Region.builder().regionId("ant").countryId("co").name("Antioquia").build(),
+            Region.builder().regionId("cun").countryId("co").name("Cundinamarca").build()));
+        when(cityRepositoryPort.findAll()).thenReturn(Flux.just(City.builder().cityId("med").regionId("ant").name("Medellin").build()));
+        when(neighborhoodRepositoryPort.findAll()).thenReturn(Flux.just(Neighborhood.builder().neighborhoodId("pob").cityId("med").name("El Poblado").build()));
+    }
+
+    @Test
+    void lookups_ShouldMiss_BeforeFirstLoad() {
+        // When & Then
+        assertThat(cache.regionsByCountry("co")).isEmpty();
+        assertThat(meterRegistry.counter("geo.cache.requests", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void refresh_ShouldIndexChildrenByParent() {
+        // Given
+        givenTree();
+
+        // When
+        cache.refresh().block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(cache.regionsByCountry("co")).hasValueSatisfying(regions -> assertThat(regions).hasSize(2));
+        assertThat(cache.citiesByRegion("ant")).hasValueSatisfying(cities -> assertThat(cities).hasSize(1));
+        assertThat(cache.citiesByRegion("cun")).hasValueSatisfying(cities -> assertThat(cities).isEmpty());
+        assertThat(cache.neighborhoodsByCity("med")).hasValueSatisfying(neighborhoods -> assertThat(neighborhoods).hasSize(1));
+        assertThat(meterRegistry.counter("geo.cache.requests", "result", "hit").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("geo.cache.entries").gauge().value()).isEqualTo(5.0);
+        assertThat(cache.stats()).containsEntry("loaded", true).containsEntry("entries", 5);
+    }
+
+    @Test
+    void refresh_ShouldOrderChildrenByName() {
+        // Given
+        when(countryRepositoryPort.findAll()).thenReturn(Flux.just(Country.builder().countryId("co").name("Colombia").build()));
+        when(regionRepositoryPort.findAll()).thenReturn(Flux.just(
+            Region.builder().regionId("val").countryId("co").name("Valle").build(),
+            Region.builder().regionId("ant").countryId("co").name("Antioquia").build(),
+            Region.builder().regionId("cun").countryId("co").name("Cundinamarca").build()));
+        when(cityRepositoryPort.findAll()).thenReturn(Flux.empty());
+        when(neighborhoodRepositoryPort.findAll()).thenReturn(Flux.empty());
+
+        // When
+        cache.refresh().block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(cache.regionsByCountry("co")).hasValueSatisfying(regions -> assertThat(regions)
+            .extracting(RegionResponse::getName)
+            .containsExactly("Antioquia", "Cundinamarca", "Valle"));
+    }
+
+    @Test
+    void lookups_ShouldMatchParentIds_InAnyCasing() {
+        // Given
+        String countryId = "3f2b8c1e-6a0d-4f7e-9b52-1c9d0e4a7b63";
+        when(countryRepositoryPort.findAll()).thenReturn(Flux.just(Country.builder().countryId(countryId).name("Colombia").build()));
+        when(regionRepositoryPort.findAll()).thenReturn(Flux.just(Region.builder().regionId("ant").countryId(countryId).name("Antioquia").build()));
+        when(cityRepositoryPort.findAll()).thenReturn(Flux.empty());
+        when(neighborhoodRepositoryPort.findAll()).thenReturn(Flux.empty());
+
+        // When
+        cache.refresh().block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(cache.regionsByCountry(countryId.toUpperCase())).hasValueSatisfying(regions -> assertThat(regions)
+            .extracting(RegionResponse::getName)
+            .containsExactly("Antioquia"));
+    }
+
+    @Test
+    void tree_ShouldLoadOnDemandAndKeepEtagStableAcrossIdenticalRefreshes() {
+        // Given
+        givenTree();
+
+        // When
+        SerializedGeoTree first = cache.tree().block(Duration.ofSeconds(5));
+        cache.refresh().block(Duration.ofSeconds(5));
+        SerializedGeoTree second = cache.tree().block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(new String(first.getJson())).contains("\"regions\"").contains("El Poblado");
+        assertThat(first.getEtag()).startsWith("\"").endsWith("\"");
+        assertThat(second.getEtag()).isEqualTo(first.getEtag());
+    }
+
+    @Test
+    void tree_ShouldShareOneLoad_WhenRequestsArriveBeforeFirstSnapshot() {
+        // Given
+        when(countryRepositoryPort.findAll()).thenReturn(Flux.just(Country.builder().countryId("co").name("Colombia").build())
+            .delaySubscription(Duration.ofMillis(100)));
+        when(regionRepositoryPort.findAll()).thenReturn(Flux.empty());
+        when(cityRepositoryPort.findAll()).thenReturn(Flux.empty());
+        when(neighborhoodRepositoryPort.findAll()).thenReturn(Flux.empty());
+
+        // When
+        List<SerializedGeoTree> trees = Flux.merge(cache.tree(), cache.tree(), cache.tree())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(trees).hasSize(3).extracting(SerializedGeoTree::getEtag).containsOnly(trees.get(0).getEtag());
+        verify(countryRepositoryPort, times(1)).findAll();
+        verify(neighborhoodRepositoryPort, times(1)).findAll();
+    }
+
+    @Test
+    void refresh_ShouldKeepPreviousSnapshot_WhenReloadFails() {
+        // Given
+        givenTree();
+        cache.refresh().block(Duration.ofSeconds(5));
+        when(countryRepositoryPort.findAll()).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        // When
+        cache.scheduledRefresh();
+
+        // Then
+        assertThat(cache.regionsByCountry("co")).hasValueSatisfying(regions -> assertThat(regions).hasSize(2));
+    }
+}
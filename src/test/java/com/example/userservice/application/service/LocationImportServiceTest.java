@@ -0,0 +1,200 @@
+package com.example.userservice.application.service;
+
+import com.example.userservice.application.dto.location.LocationImportResponseContent;
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LocationImportService.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LocationImportServiceTest {
+
+    private static final String HEADER = "userId,country,region,city,address,locationType,latitude";
+    private static final String USER_ID = "00000000-0000-0000-0000-000000000001";
+
+    @Mock
+    private LocationRepositoryPort locationRepositoryPort;
+
+    @InjectMocks
+    private LocationImportService locationImportService;
+
+    @BeforeEach
+    void setUp() {
+        when(locationRepositoryPort.findActiveLocationTypes()).thenReturn(Flux.just("HOME", "WORK"));
+        when(locationRepositoryPort.importAll(any())).thenAnswer(invocation -> {
+            List<Location> batch = invocation.getArgument(0);
+            return Mono.just((long) batch.size());
+        });
+    }
+
+    private String row(String userId, String address, String locationType, String latitude) {
+        return String.join(",", userId, "CO", "ANT", "Medellin", "\"" + address + "\"", locationType, latitude);
+    }
+
+    @Test
+    void importCsv_ShouldImportValidRowsAndReportInvalidOnes() {
+        // Given
+        Flux<String> lines = Flux.just(
+            HEADER,
+            row(USER_ID, "Calle 10, 43-12", "HOME", "6.2"),
+            row("not-a-uuid", "Carrera 7", "HOME", ""),
+            "",
+            row(USER_ID, "Carrera 8", "CASTLE", ""),
+            row(USER_ID, "Carrera 9", "WORK", "95"),
+            "too,few");
+
+        // When
+        LocationImportResponseContent result = locationImportService.importCsv(lines)
+            .blockLast(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsRead()).isEqualTo(5L);
+        assertThat(result.getRowsImported()).isEqualTo(1L);
+        assertThat(result.getRowsRejected()).isEqualTo(4L);
+        assertThat(result.getErrors()).containsExactly(
+            "line 3: userId is not a valid UUID",
+            "line 5: unknown locationType CASTLE",
+            "line 6: latitude out of range",
+            "line 7: expected 7 fields but found 2");
+        assertThat(result.getFinishedAt()).isNotNull();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Location>> batch = ArgumentCaptor.forClass(List.class);
+        verify(locationRepositoryPort).importAll(batch.capture());
+        Location imported = batch.getValue().get(0);
+        assertThat(imported.getAddress()).isEqualTo("Calle 10, 43-12");
+        assertThat(imported.getLatitude()).isEqualTo(6.2);
+        assertThat(imported.getStatus()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    void importCsv_ShouldEmitRunningJobBeforeReadingBody() {
+        // Given
+        Sinks.Many<String> body = Sinks.many().unicast().onBackpressureBuffer();
+
+        // When & Then
+        StepVerifier.create(locationImportService.importCsv(body.asFlux()))
+            .assertNext(job -> {
+                assertThat(job.getStatus()).isEqualTo("RUNNING");
+                assertThat(job.getJobId()).isNotBlank();
+                assertThat(job.getFinishedAt()).isNull();
+            })
+            .then(() -> {
+                body.tryEmitNext(HEADER);
+                body.tryEmitNext(row(USER_ID, "a", "HOME", ""));
+                body.tryEmitComplete();
+            })
+            .assertNext(job -> {
+                assertThat(job.getStatus()).isEqualTo("COMPLETED");
+                assertThat(job.getRowsImported()).isEqualTo(1L);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void importCsv_ShouldCommitInBatches() {
+        // Given
+        ReflectionTestUtils.setField(locationImportService, "batchSize", 2);
+        Flux<String> lines = Flux.just(HEADER,
+            row(USER_ID, "a", "HOME", ""), row(USER_ID, "b", "HOME", ""), row(USER_ID, "c", "HOME", ""));
+
+        // When
+        LocationImportResponseContent result = locationImportService.importCsv(lines)
+            .blockLast(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getRowsImported()).isEqualTo(3L);
+        verify(locationRepositoryPort, times(2)).importAll(any());
+    }
+
+    @Test
+    void importCsv_ShouldFail_WhenRequiredColumnIsMissing() {
+        // When & Then
+        assertThatThrownBy(() -> locationImportService.importCsv(Flux.just("userId,country", USER_ID + ",CO"))
+            .blockLast(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Missing CSV column: region");
+        verify(locationRepositoryPort, never()).importAll(any());
+        assertThat(locationImportService.listImports().blockFirst(Duration.ofSeconds(5)).getStatus()).isEqualTo("FAILED");
+    }
+
+    @Test
+    void importCsv_ShouldComplete_WhenBodyIsEmpty() {
+        // When
+        LocationImportResponseContent result = locationImportService.importCsv(Flux.empty())
+            .blockLast(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getRowsRead()).isZero();
+    }
+
+    @Test
+    void importCsv_ShouldMarkJobFailed_WhenBatchFails() {
+        // Given
+        doReturn(Mono.error(new RuntimeException("Database error"))).when(locationRepositoryPort).importAll(any());
+
+        // When & Then
+        assertThatThrownBy(() -> locationImportService.importCsv(Flux.just(HEADER, row(USER_ID, "a", "HOME", "")))
+            .blockLast(Duration.ofSeconds(5)))
+            .isInstanceOf(RuntimeException.class);
+        LocationImportResponseContent job = locationImportService.listImports().blockFirst(Duration.ofSeconds(5));
+        assertThat(job.getStatus()).isEqualTo("FAILED");
+        assertThat(job.getErrors()).contains("Database error");
+    }
+
+    @Test
+    void getImport_ShouldReturnJob_WhenExists() {
+        // Given
+        String jobId = locationImportService.importCsv(Flux.just(HEADER))
+            .blockLast(Duration.ofSeconds(5))
+            .getJobId();
+
+        // When
+        LocationImportResponseContent result = locationImportService.getImport(jobId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getJobId()).isEqualTo(jobId);
+    }
+
+    @Test
+    void getImport_ShouldThrowNotFound_WhenUnknown() {
+        // When & Then
+        assertThatThrownBy(() -> locationImportService.getImport("missing").block(Duration.ofSeconds(5)))
+            .isInstanceOf(NotFoundException.class);
+    }
+}
@@ -1,15 +1,36 @@
 package com.example.userservice.application.service;
 
 import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import com.example.userservice.domain.ports.output.RegionRepositoryPort;
+import com.example.userservice.domain.ports.output.CityRepositoryPort;
+import com.example.userservice.domain.ports.output.NeighborhoodRepositoryPort;
 import com.example.userservice.application.mapper.LocationMapper;
+import com.example.userservice.application.mapper.RegionMapper;
+import com.example.userservice.application.mapper.CityMapper;
+import com.example.userservice.application.mapper.NeighborhoodMapper;
 import com.example.userservice.application.dto.location.CreateLocationRequestContent;
 import com.example.userservice.application.dto.location.CreateLocationResponseContent;
 import com.example.userservice.application.dto.location.GetLocationResponseContent;
 import com.example.userservice.application.dto.location.UpdateLocationRequestContent;
 import com.example.userservice.application.dto.location.UpdateLocationResponseContent;
 import com.example.userservice.application.dto.location.DeleteLocationResponseContent;
+import com.example.userservice.application.dto.location.BatchGetLocationResult;
+import com.example.userservice.application.dto.location.BatchGetLocationsResponseContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusRequestContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusResponseContent;
 import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.location.LocationResponse;
+import com.example.userservice.application.dto.location.GetRegionsByCountryResponseContent;
+import com.example.userservice.application.dto.location.GetCitiesByRegionResponseContent;
+import com.example.userservice.application.dto.location.GetNeighborhoodsByCityResponseContent;
+import com.example.userservice.application.dto.location.RegionResponse;
+import com.example.userservice.application.dto.location.SerializedGeoTree;
 import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.model.Region;
+import com.example.userservice.domain.model.City;
+import com.example.userservice.domain.model.Neighborhood;
+import com.example.userservice.domain.model.PageCursor;
+import com.example.userservice.utils.CursorUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -23,6 +44,7 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Collections;
 import java.time.Duration;
 
@@ -30,8 +52,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
 
 import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
 
@@ -51,6 +75,27 @@ class LocationServiceTest {
     @Spy
     private LocationMapper locationMapper = Mappers.getMapper(LocationMapper.class);
 
+    @Mock
+    private RegionRepositoryPort regionRepositoryPort;
+
+    @Mock
+    private CityRepositoryPort cityRepositoryPort;
+
+    @Mock
+    private NeighborhoodRepositoryPort neighborhoodRepositoryPort;
+
+    @Spy
+    private RegionMapper regionMapper = Mappers.getMapper(RegionMapper.class);
+
+    @Spy
+    private CityMapper cityMapper = Mappers.getMapper(CityMapper.class);
+
+    @Spy
+    private NeighborhoodMapper neighborhoodMapper = Mappers.getMapper(NeighborhoodMapper.class);
+
+    @Mock
+    private GeoReferenceDataCache geoReferenceDataCache;
+
     @InjectMocks
     private LocationService locationService;
 
@@ -149,15 +194,12 @@ class LocationServiceTest {
         String locationId = "test-id";
         UpdateLocationRequestContent request = UpdateLocationRequestContent.builder()
             .build();
-        Location existingLocation = Location.builder()
-            .build();
         Location updatedLocation = Location.builder()
             .build();
         UpdateLocationResponseContent expectedResponse = UpdateLocationResponseContent.builder()
             .build();
 
-        when(locationRepositoryPort.findById(locationId)).thenReturn(Mono.just(existingLocation));
-        when(locationRepositoryPort.save(any(Location.class))).thenReturn(Mono.just(updatedLocation));
+        when(locationRepositoryPort.updateFields(eq(locationId), any(Location.class))).thenReturn(Mono.just(updatedLocation));
         when(locationMapper.toUpdateResponse(any(Location.class))).thenReturn(expectedResponse);
 
         // When
@@ -166,7 +208,9 @@ class LocationServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(locationRepositoryPort).save(any(Location.class));
+        verify(locationRepositoryPort).updateFields(eq(locationId), any(Location.class));
+        verify(locationRepositoryPort, never()).findById(any());
+        verify(locationRepositoryPort, never()).save(any(Location.class));
     }
 
     @Test
@@ -175,7 +219,7 @@ class LocationServiceTest {
         String locationId = "non-existent-id";
         UpdateLocationRequestContent request = UpdateLocationRequestContent.builder()
             .build();
-        when(locationRepositoryPort.findById(locationId)).thenReturn(Mono.empty());
+        when(locationRepositoryPort.updateFields(eq(locationId), any(Location.class))).thenReturn(Mono.empty());
 
         // When & Then
         assertThatThrownBy(() -> locationService.update(locationId, request).block(Duration.ofSeconds(5)))
@@ -189,12 +233,9 @@ class LocationServiceTest {
         String locationId = "test-id";
         UpdateLocationRequestContent request = UpdateLocationRequestContent.builder()
             .build();
-        Location existingLocation = Location.builder()
-            .build();
         RuntimeException repositoryException = new RuntimeException("Database error");
 
-        when(locationRepositoryPort.findById(locationId)).thenReturn(Mono.just(existingLocation));
-        when(locationRepositoryPort.save(any(Location.class))).thenReturn(Mono.error(repositoryException));
+        when(locationRepositoryPort.updateFields(eq(locationId), any(Location.class))).thenReturn(Mono.error(repositoryException));
 
         // When & Then
         assertThatThrownBy(() -> locationService.update(locationId, request).block(Duration.ofSeconds(5)))
@@ -206,15 +247,12 @@ class LocationServiceTest {
     void delete_ShouldReturnResponse_WhenEntityExists() {
         // Given
         String locationId = "test-id";
-        Location domainLocation = Location.builder()
-            .build();
         DeleteLocationResponseContent expectedResponse = DeleteLocationResponseContent.builder()
             .deleted(true)
             .message("Location deleted successfully")
             .build();
 
-        when(locationRepositoryPort.findById(locationId)).thenReturn(Mono.just(domainLocation));
-        when(locationRepositoryPort.save(any(Location.class))).thenReturn(Mono.just(domainLocation));
+        when(locationRepositoryPort.deactivateById(locationId)).thenReturn(Mono.just(1L));
 
         // When
         DeleteLocationResponseContent result = locationService.delete(locationId)
@@ -222,14 +260,16 @@ class LocationServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(locationRepositoryPort).save(any(Location.class));
+        verify(locationRepositoryPort, never()).findById(any());
+        verify(locationRepositoryPort, never()).existsById(any());
     }
 
     @Test
     void delete_ShouldThrowNotFoundException_WhenEntityNotFound() {
         // Given
         String locationId = "non-existent-id";
-        when(locationRepositoryPort.findById(locationId)).thenReturn(Mono.empty());
+        when(locationRepositoryPort.deactivateById(locationId)).thenReturn(Mono.just(0L));
+        when(locationRepositoryPort.existsById(locationId)).thenReturn(Mono.just(false));
 
         // When & Then
         assertThatThrownBy(() -> locationService.delete(locationId).block(Duration.ofSeconds(5)))
@@ -241,12 +281,9 @@ class LocationServiceTest {
     void delete_ShouldThrowException_WhenRepositoryFails() {
         // Given
         String locationId = "test-id";
-        Location domainLocation = Location.builder()
-            .build();
         RuntimeException repositoryException = new RuntimeException("Database error");
 
-        when(locationRepositoryPort.findById(locationId)).thenReturn(Mono.just(domainLocation));
-        when(locationRepositoryPort.save(any(Location.class))).thenReturn(Mono.error(repositoryException));
+        when(locationRepositoryPort.deactivateById(locationId)).thenReturn(Mono.error(repositoryException));
 
         // When & Then
         assertThatThrownBy(() -> locationService.delete(locationId).block(Duration.ofSeconds(5)))
@@ -254,6 +291,73 @@ class LocationServiceTest {
             .hasMessage("Database error");
     }
 
+    @Test
+    void delete_ShouldSucceed_WhenAlreadyInactive() {
+        // Given
+        String locationId = "test-id";
+        when(locationRepositoryPort.deactivateById(locationId)).thenReturn(Mono.just(0L));
+        when(locationRepositoryPort.existsById(locationId)).thenReturn(Mono.just(true));
+
+        // When
+        DeleteLocationResponseContent result = locationService.delete(locationId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getDeleted()).isTrue();
+    }
+
+    @Test
+    void updateStatus_ShouldDeduplicateIdsAndReportChangedRows() {
+        // Given
+        String id = "00000000-0000-0000-0000-000000000001";
+        BatchUpdateLocationStatusRequestContent request = BatchUpdateLocationStatusRequestContent.builder()
+            .ids(List.of(id, id, "00000000-0000-0000-0000-000000000002"))
+            .status("INACTIVE")
+            .build();
+        when(locationRepositoryPort.updateStatus(List.of(id, "00000000-0000-0000-0000-000000000002"), "INACTIVE"))
+            .thenReturn(Mono.just(1L));
+
+        // When
+        BatchUpdateLocationStatusResponseContent result = locationService.updateStatus(request)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1L);
+        assertThat(result.getStatus()).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void batchGet_ShouldReturnResultsInRequestOrder_WithNotFoundMarkers() {
+        // Given
+        String first = "00000000-0000-0000-0000-000000000001";
+        String missing = "00000000-0000-0000-0000-000000000002";
+        when(locationRepositoryPort.findAllByIds(List.of(missing, first)))
+            .thenReturn(Flux.just(Location.builder().locationId(first).build()));
+
+        // When
+        BatchGetLocationsResponseContent result = locationService.batchGet(List.of(missing, first.toUpperCase(), first))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getFound()).isEqualTo(2);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchGetLocationResult::getId)
+            .containsExactly(missing, first.toUpperCase(), first);
+        assertThat(result.getResults()).extracting(BatchGetLocationResult::getResult)
+            .containsExactly(BatchGetLocationResult.NOT_FOUND, BatchGetLocationResult.FOUND, BatchGetLocationResult.FOUND);
+        assertThat(result.getResults().get(0).getLocation()).isNull();
+        assertThat(result.getResults().get(2).getLocation().getLocationId()).isEqualTo(first);
+    }
+
+    @Test
+    void batchGet_ShouldRejectMalformedIds() {
+        // When & Then
+        assertThatThrownBy(() -> locationService.batchGet(List.of("not-a-uuid")).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(locationRepositoryPort, never()).findAllByIds(any());
+    }
+
     @Test
     void list_ShouldReturnResponse_WhenValidRequest() {
         // Given
@@ -261,10 +365,11 @@ class LocationServiceTest {
         ListLocationsResponseContent expectedResponse = ListLocationsResponseContent.builder().build();
         
         when(locationRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(locations));
-        when(locationMapper.toListResponse(locations, 1, 20)).thenReturn(expectedResponse);
+        when(locationRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just((long) locations.size()));
+        when(locationMapper.toListResponse(locations, 1, 20, locations.size())).thenReturn(expectedResponse);
 
         // When
-        ListLocationsResponseContent result = locationService.list(1, 20, null, null, null, null)
+        ListLocationsResponseContent result = locationService.list(1, 20, null, null, null, null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
@@ -282,10 +387,11 @@ class LocationServiceTest {
         ListLocationsResponseContent expectedResponse = ListLocationsResponseContent.builder().build();
         
         when(locationRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(locations));
-        when(locationMapper.toListResponse(locations, page, size)).thenReturn(expectedResponse);
+        when(locationRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just((long) locations.size()));
+        when(locationMapper.toListResponse(locations, page, size, locations.size())).thenReturn(expectedResponse);
 
         // When
-        ListLocationsResponseContent result = locationService.list(page, size, searchTerm, null, null, null)
+        ListLocationsResponseContent result = locationService.list(page, size, searchTerm, null, null, null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
@@ -306,10 +412,11 @@ class LocationServiceTest {
             .build();
         
         when(locationRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(locations));
-        when(locationMapper.toListResponse(locations, 1, 20)).thenReturn(expectedResponse);
+        when(locationRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just((long) locations.size()));
+        when(locationMapper.toListResponse(locations, 1, 20, locations.size())).thenReturn(expectedResponse);
 
         // When
-        ListLocationsResponseContent result = locationService.list(null, null, null, null, null, null)
+        ListLocationsResponseContent result = locationService.list(null, null, null, null, null, null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
@@ -327,10 +434,191 @@ class LocationServiceTest {
         // Given
         RuntimeException repositoryException = new RuntimeException("Database error");
         when(locationRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.error(repositoryException));
+        when(locationRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just(0L));
 
         // When & Then
-        assertThatThrownBy(() -> locationService.list(1, 20, null, null, null, null).block(Duration.ofSeconds(5)))
+        assertThatThrownBy(() -> locationService.list(1, 20, null, null, null, null, null).block(Duration.ofSeconds(5)))
             .isInstanceOf(RuntimeException.class)
             .hasMessage("Database error");
     }
-}
+
+    @Test
+    void list_ShouldUsePlannerEstimate_WhenEstimatedTotalRequested() {
+        // Given
+        when(locationRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.empty());
+        when(locationRepositoryPort.estimateCountByFilters(any(), eq("ACTIVE"), any(), any())).thenReturn(Mono.just(41L));
+
+        // When
+        ListLocationsResponseContent result = locationService.list(1, 20, null, null, null, null, true)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(java.math.BigDecimal.valueOf(41));
+        assertThat(result.getTotalPages()).isEqualTo(java.math.BigDecimal.valueOf(3));
+        verify(locationRepositoryPort, never()).countByFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    void stream_ShouldEmitMappedRowsWithoutCollecting() {
+        // Given
+        Location first = Location.builder().locationId("1").build();
+        Location second = Location.builder().locationId("2").build();
+        when(locationRepositoryPort.findByFilters(any(), eq("ACTIVE"), any(), any(), eq(1), eq(5000))).thenReturn(Flux.just(first, second));
+
+        // When
+        List<LocationResponse> result = locationService.stream(1, 5000, null, null, null, null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).extracting(LocationResponse::getLocationId).containsExactly("1", "2");
+    }
+
+    @Test
+    void listByCursor_ShouldReturnNextCursor_WhenPageIsFull() {
+        // Given
+        Location location = Location.builder()
+            .locationId("00000000-0000-0000-0000-000000000001")
+            .createdAt("2024-01-01T00:00:00Z")
+            .build();
+        when(locationRepositoryPort.findByFiltersAfter(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Flux.just(location));
+
+        // When
+        ListLocationsResponseContent result = locationService.listByCursor(1, null, null, null, null, "createdAt", null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getNextCursor()).isNotNull();
+        assertThat(result.getTotal()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        PageCursor next = CursorUtils.decode(result.getNextCursor());
+        assertThat(next.getSortBy()).isEqualTo("createdAt");
+        assertThat(next.getValue()).isEqualTo("2024-01-01T00:00:00Z");
+        assertThat(next.getId()).isEqualTo(location.getLocationId());
+    }
+
+    @Test
+    void listByCursor_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        String cursor = CursorUtils.encode(PageCursor.builder()
+            .sortBy("createdAt")
+            .value("2024-01-01T00:00:00Z")
+            .id("00000000-0000-0000-0000-000000000001")
+            .build());
+        when(locationRepositoryPort.findByFiltersAfter(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Flux.empty());
+
+        // When
+        ListLocationsResponseContent result = locationService.listByCursor(20, null, null, null, null, null, cursor)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getNextCursor()).isNull();
+        verify(locationRepositoryPort).findByFiltersAfter(any(), eq("ACTIVE"), any(), any(), eq("createdAt"),
+            eq("2024-01-01T00:00:00Z"), eq("00000000-0000-0000-0000-000000000001"), eq(20));
+    }
+
+    @Test
+    void listByCursor_ShouldThrowException_WhenSortByUnsupported() {
+        // When & Then
+        assertThatThrownBy(() -> locationService.listByCursor(20, null, null, null, null, "address", null).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void listByCursor_ShouldThrowException_WhenCursorIsMalformed() {
+        // When & Then
+        assertThatThrownBy(() -> locationService.listByCursor(20, null, null, null, null, null, "not-a-cursor").block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void getRegionsByCountry_ShouldReturnRegionsOfCountry() {
+        // Given
+        String countryId = "00000000-0000-0000-0000-000000000001";
+        Region region = Region.builder().regionId("r-1").name("Antioquia").countryId(countryId).build();
+        when(regionRepositoryPort.findByCountryId(countryId)).thenReturn(Flux.just(region));
+
+        // When
+        GetRegionsByCountryResponseContent result = locationService.getRegionsByCountry(countryId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getRegions()).hasSize(1);
+        assertThat(result.getRegions().get(0).getName()).isEqualTo("Antioquia");
+        verify(locationRepositoryPort, never()).findAll();
+    }
+
+    @Test
+    void getCitiesByRegion_ShouldReturnCitiesOfRegion() {
+        // Given
+        String regionId = "00000000-0000-0000-0000-000000000002";
+        City city = City.builder().cityId("c-1").name("Medellin").regionId(regionId).build();
+        when(cityRepositoryPort.findByRegionId(regionId)).thenReturn(Flux.just(city));
+
+        // When
+        GetCitiesByRegionResponseContent result = locationService.getCitiesByRegion(regionId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getCities()).hasSize(1);
+        assertThat(result.getCities().get(0).getRegionId()).isEqualTo(regionId);
+    }
+
+    @Test
+    void getNeighborhoodsByCity_ShouldReturnEmptyList_WhenCityHasNoNeighborhoods() {
+        // Given
+        String cityId = "00000000-0000-0000-0000-000000000003";
+        when(neighborhoodRepositoryPort.findByCityId(cityId)).thenReturn(Flux.<Neighborhood>empty());
+
+        // When
+        GetNeighborhoodsByCityResponseContent result = locationService.getNeighborhoodsByCity(cityId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getNeighborhoods()).isNotNull().isEmpty();
+    }
+
+    @Test
+    void getRegionsByCountry_ShouldServeFromCache_WhenSnapshotLoaded() {
+        // Given
+        String countryId = "00000000-0000-0000-0000-000000000001";
+        RegionResponse region = RegionResponse.builder().regionId("r-1").countryId(countryId).build();
+        when(geoReferenceDataCache.regionsByCountry(countryId)).thenReturn(Optional.of(List.of(region)));
+
+        // When
+        GetRegionsByCountryResponseContent result = locationService.getRegionsByCountry(countryId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getRegions()).containsExactly(region);
+        verify(regionRepositoryPort, never()).findByCountryId(anyString());
+    }
+
+    @Test
+    void getRegionsByCountry_ShouldRejectMalformedId_BeforeLookup() {
+        // When & Then
+        assertThatThrownBy(() -> locationService.getRegionsByCountry("not-a-uuid").block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid countryId: not-a-uuid");
+        verify(geoReferenceDataCache, never()).regionsByCountry(anyString());
+        verify(regionRepositoryPort, never()).findByCountryId(anyString());
+    }
+
+    @Test
+    void getGeoTree_ShouldReturnSerializedTreeFromCache() {
+        // Given
+        SerializedGeoTree tree = SerializedGeoTree.builder().etag("\"abc\"").json(new byte[] {'{', '}'}).build();
+        when(geoReferenceDataCache.tree()).thenReturn(Mono.just(tree));
+
+        // When
+        SerializedGeoTree result = locationService.getGeoTree().block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(tree);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.example.userservice.application.service;
+
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserAvailabilityIndex.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityIndexTest {
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserAvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new UserAvailabilityIndex(userRepositoryPort, 1_000, 0.01, meterRegistry);
+    }
+
+    private double checks(String result) {
+        return meterRegistry.counter("users.availability.checks", "result", result).count();
+    }
+
+    @Test
+    void isUsernameTaken_ShouldSkipDatabase_WhenFilterHasNeverSeenValue() {
+        // Given
+        when(userRepositoryPort.findAllIdentities()).thenReturn(Flux.just("alice", "alice@example.com"));
+        index.rebuild().block(Duration.ofSeconds(5));
+
+        // When
+        Boolean taken = index.isUsernameTaken("bob").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(taken).isFalse();
+        verify(userRepositoryPort, never()).existsByUsername(anyString());
+        assertThat(checks("filtered")).isEqualTo(1.0);
+    }
+
+    @Test
+    void isUsernameTaken_ShouldConfirmWithDatabase_WhenFilterMightContainValue() {
+        // Given
+        when(userRepositoryPort.findAllIdentities()).thenReturn(Flux.just("Alice", "alice@example.com"));
+        when(userRepositoryPort.existsByUsername("ALICE")).thenReturn(Mono.just(false));
+        index.rebuild().block(Duration.ofSeconds(5));
+
+        // When
+        Boolean taken = index.isUsernameTaken("ALICE").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(taken).isFalse();
+        assertThat(checks("confirmed_free")).isEqualTo(1.0);
+    }
+
+    @Test
+    void isEmailTaken_ShouldConfirmWithDatabase_WhenIndexNotBuilt() {
+        // Given
+        when(userRepositoryPort.existsByEmail("alice@example.com")).thenReturn(Mono.just(true));
+
+        // When
+        Boolean taken = index.isEmailTaken("alice@example.com").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(taken).isTrue();
+        assertThat(checks("confirmed_taken")).isEqualTo(1.0);
+    }
+
+    @Test
+    void add_ShouldMakeNewUserVisibleToChecks() {
+        // Given
+        when(userRepositoryPort.findAllIdentities()).thenReturn(Flux.empty());
+        when(userRepositoryPort.existsByEmail("carol@example.com")).thenReturn(Mono.just(true));
+        index.rebuild().block(Duration.ofSeconds(5));
+
+        // When
+        index.add("carol", "carol@example.com");
+        Boolean taken = index.isEmailTaken("carol@example.com").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(taken).isTrue();
+    }
+}
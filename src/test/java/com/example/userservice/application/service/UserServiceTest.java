@@ -2,14 +2,27 @@ package com.example.userservice.application.service;
 
 import com.example.userservice.domain.ports.output.UserRepositoryPort;
 import com.example.userservice.application.mapper.UserMapper;
+import com.example.userservice.application.dto.user.BulkCreateUserResult;
+import com.example.userservice.application.dto.user.BulkCreateUsersResponseContent;
 import com.example.userservice.application.dto.user.CreateUserRequestContent;
 import com.example.userservice.application.dto.user.CreateUserResponseContent;
 import com.example.userservice.application.dto.user.GetUserResponseContent;
 import com.example.userservice.application.dto.user.UpdateUserRequestContent;
 import com.example.userservice.application.dto.user.UpdateUserResponseContent;
 import com.example.userservice.application.dto.user.DeleteUserResponseContent;
+import com.example.userservice.application.dto.user.BatchGetUserResult;
+import com.example.userservice.application.dto.user.BatchGetUsersResponseContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusRequestContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusResponseContent;
 import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.dto.user.UserAvailabilityResponseContent;
+import com.example.userservice.application.dto.user.UserResponse;
 import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.model.PageCursor;
+import com.example.userservice.utils.CursorUtils;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -19,6 +32,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.mapstruct.factory.Mappers;
+import org.springframework.test.util.ReflectionTestUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
@@ -30,9 +44,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.example.userservice.infrastructure.config.exceptions.ConflictException;
 import com.example.userservice.infrastructure.config.exceptions.NotFoundException;
 
 /**
@@ -51,9 +69,95 @@ class UserServiceTest {
     @Spy
     private UserMapper userMapper = Mappers.getMapper(UserMapper.class);
 
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private UserAvailabilityIndex userAvailabilityIndex;
+
     @InjectMocks
     private UserService userService;
 
+    @BeforeEach
+    void setUp() {
+        when(userAvailabilityIndex.isUsernameTaken(any())).thenReturn(Mono.just(false));
+        when(userAvailabilityIndex.isEmailTaken(any())).thenReturn(Mono.just(false));
+    }
+
+    private CreateUserRequestContent bulkRequest(String username) {
+        return CreateUserRequestContent.builder()
+            .username(username)
+            .email(username + "@example.com")
+            .password("secret-password")
+            .build();
+    }
+
+    @Test
+    void createBulk_ShouldReportCreatedConflictAndInvalidPerElement() {
+        // Given
+        Flux<CreateUserRequestContent> requests = Flux.just(
+            bulkRequest("alice"),
+            bulkRequest("x"),
+            bulkRequest("bob"));
+        when(userRepositoryPort.insertAll(any())).thenReturn(Flux.just(true, false));
+
+        // When
+        BulkCreateUsersResponseContent result = userService.createBulk(requests)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getConflicts()).isEqualTo(1);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BulkCreateUserResult::getIndex).containsExactly(0L, 1L, 2L);
+        assertThat(result.getResults()).extracting(BulkCreateUserResult::getResult)
+            .containsExactly(BulkCreateUserResult.CREATED, BulkCreateUserResult.INVALID, BulkCreateUserResult.CONFLICT);
+        assertThat(result.getResults().get(0).getUserId()).isNotNull();
+        assertThat(result.getResults().get(1).getMessage()).contains("username");
+    }
+
+    @Test
+    void createBulk_ShouldWriteOneBatchPerChunk() {
+        // Given
+        ReflectionTestUtils.setField(userService, "bulkChunkSize", 2);
+        when(userRepositoryPort.insertAll(any())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            return Flux.fromIterable(users).map(user -> true);
+        });
+
+        // When
+        BulkCreateUsersResponseContent result = userService.createBulk(Flux.just(
+                bulkRequest("alice"), bulkRequest("bob"), bulkRequest("carol")))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(3);
+        verify(userRepositoryPort, times(2)).insertAll(any());
+    }
+
+    @Test
+    void createBulk_ShouldSkipRepository_WhenEveryElementIsInvalid() {
+        // When
+        BulkCreateUsersResponseContent result = userService.createBulk(Flux.just(CreateUserRequestContent.builder().build()))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getMessage()).contains("email").contains("password").contains("username");
+        verify(userRepositoryPort, never()).insertAll(any());
+    }
+
+    @Test
+    void createBulk_ShouldPropagateError_WhenRepositoryFails() {
+        // Given
+        when(userRepositoryPort.insertAll(any())).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createBulk(Flux.just(bulkRequest("alice")))
+            .block(Duration.ofSeconds(5)))
+            .isInstanceOf(RuntimeException.class);
+    }
+
     @Test
     void create_ShouldReturnResponse_WhenValidRequest() {
         // Given
@@ -79,6 +183,55 @@ class UserServiceTest {
         verify(userRepositoryPort).save(domainUser);
     }
 
+    @Test
+    void create_ShouldRejectTakenUsername_WithoutInsert() {
+        // Given
+        CreateUserRequestContent request = bulkRequest("alice");
+        when(userAvailabilityIndex.isUsernameTaken("alice")).thenReturn(Mono.just(true));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.create(request).block(Duration.ofSeconds(5)))
+            .isInstanceOf(ConflictException.class)
+            .hasMessage("Username already exists");
+        verify(userRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    void create_ShouldAddSavedUserToAvailabilityIndex() {
+        // Given
+        CreateUserRequestContent request = bulkRequest("alice");
+        User savedUser = User.builder().userId("test-id").username("alice").email("alice@example.com").build();
+        when(userRepositoryPort.save(any())).thenReturn(Mono.just(savedUser));
+
+        // When
+        userService.create(request).block(Duration.ofSeconds(5));
+
+        // Then
+        verify(userAvailabilityIndex).add("alice", "alice@example.com");
+    }
+
+    @Test
+    void availability_ShouldReportOnlyQueriedValues() {
+        // Given
+        when(userAvailabilityIndex.isEmailTaken("alice@example.com")).thenReturn(Mono.just(true));
+
+        // When
+        UserAvailabilityResponseContent result = userService.availability(null, "alice@example.com")
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getUsernameAvailable()).isNull();
+        assertThat(result.getEmail()).isEqualTo("alice@example.com");
+        assertThat(result.getEmailAvailable()).isFalse();
+    }
+
+    @Test
+    void availability_ShouldRejectRequestWithoutValues() {
+        // When & Then
+        assertThatThrownBy(() -> userService.availability(" ", null).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void create_ShouldThrowException_WhenRepositoryFails() {
         // Given
@@ -149,15 +302,12 @@ class UserServiceTest {
         String userId = "test-id";
         UpdateUserRequestContent request = UpdateUserRequestContent.builder()
             .build();
-        User existingUser = User.builder()
-            .build();
         User updatedUser = User.builder()
             .build();
         UpdateUserResponseContent expectedResponse = UpdateUserResponseContent.builder()
             .build();
 
-        when(userRepositoryPort.findById(userId)).thenReturn(Mono.just(existingUser));
-        when(userRepositoryPort.save(any(User.class))).thenReturn(Mono.just(updatedUser));
+        when(userRepositoryPort.updateFields(eq(userId), any(User.class))).thenReturn(Mono.just(updatedUser));
         when(userMapper.toUpdateResponse(any(User.class))).thenReturn(expectedResponse);
 
         // When
@@ -166,7 +316,32 @@ class UserServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(userRepositoryPort).save(any(User.class));
+        verify(userRepositoryPort).updateFields(eq(userId), any(User.class));
+        verify(userRepositoryPort, never()).findById(any());
+        verify(userRepositoryPort, never()).save(any(User.class));
+    }
+
+    @Test
+    void update_ShouldAddNewEmailToAvailabilityIndex() {
+        // Given
+        String userId = "test-id";
+        UpdateUserRequestContent request = UpdateUserRequestContent.builder()
+            .email("alice.new@example.com")
+            .build();
+        User updatedUser = User.builder()
+            .userId(userId)
+            .username("alice")
+            .email("alice.new@example.com")
+            .build();
+
+        when(userRepositoryPort.updateFields(eq(userId), any(User.class))).thenReturn(Mono.just(updatedUser));
+        when(userMapper.toUpdateResponse(any(User.class))).thenReturn(UpdateUserResponseContent.builder().build());
+
+        // When
+        userService.update(userId, request).block(Duration.ofSeconds(5));
+
+        // Then
+        verify(userAvailabilityIndex).add("alice", "alice.new@example.com");
     }
 
     @Test
@@ -175,7 +350,7 @@ class UserServiceTest {
         String userId = "non-existent-id";
         UpdateUserRequestContent request = UpdateUserRequestContent.builder()
             .build();
-        when(userRepositoryPort.findById(userId)).thenReturn(Mono.empty());
+        when(userRepositoryPort.updateFields(eq(userId), any(User.class))).thenReturn(Mono.empty());
 
         // When & Then
         assertThatThrownBy(() -> userService.update(userId, request).block(Duration.ofSeconds(5)))
@@ -189,12 +364,9 @@ class UserServiceTest {
         String userId = "test-id";
         UpdateUserRequestContent request = UpdateUserRequestContent.builder()
             .build();
-        User existingUser = User.builder()
-            .build();
         RuntimeException repositoryException = new RuntimeException("Database error");
 
-        when(userRepositoryPort.findById(userId)).thenReturn(Mono.just(existingUser));
-        when(userRepositoryPort.save(any(User.class))).thenReturn(Mono.error(repositoryException));
+        when(userRepositoryPort.updateFields(eq(userId), any(User.class))).thenReturn(Mono.error(repositoryException));
 
         // When & Then
         assertThatThrownBy(() -> userService.update(userId, request).block(Duration.ofSeconds(5)))
@@ -206,15 +378,12 @@ class UserServiceTest {
     void delete_ShouldReturnResponse_WhenEntityExists() {
         // Given
         String userId = "test-id";
-        User domainUser = User.builder()
-            .build();
         DeleteUserResponseContent expectedResponse = DeleteUserResponseContent.builder()
             .deleted(true)
             .message("User deleted successfully")
             .build();
 
-        when(userRepositoryPort.findById(userId)).thenReturn(Mono.just(domainUser));
-        when(userRepositoryPort.save(any(User.class))).thenReturn(Mono.just(domainUser));
+        when(userRepositoryPort.deactivateById(userId)).thenReturn(Mono.just(1L));
 
         // When
         DeleteUserResponseContent result = userService.delete(userId)
@@ -222,14 +391,16 @@ class UserServiceTest {
 
         // Then
         assertThat(result).isEqualTo(expectedResponse);
-        verify(userRepositoryPort).save(any(User.class));
+        verify(userRepositoryPort, never()).findById(any());
+        verify(userRepositoryPort, never()).existsById(any());
     }
 
     @Test
     void delete_ShouldThrowNotFoundException_WhenEntityNotFound() {
         // Given
         String userId = "non-existent-id";
-        when(userRepositoryPort.findById(userId)).thenReturn(Mono.empty());
+        when(userRepositoryPort.deactivateById(userId)).thenReturn(Mono.just(0L));
+        when(userRepositoryPort.existsById(userId)).thenReturn(Mono.just(false));
 
         // When & Then
         assertThatThrownBy(() -> userService.delete(userId).block(Duration.ofSeconds(5)))
@@ -241,12 +412,9 @@ class UserServiceTest {
     void delete_ShouldThrowException_WhenRepositoryFails() {
         // Given
         String userId = "test-id";
-        User domainUser = User.builder()
-            .build();
         RuntimeException repositoryException = new RuntimeException("Database error");
 
-        when(userRepositoryPort.findById(userId)).thenReturn(Mono.just(domainUser));
-        when(userRepositoryPort.save(any(User.class))).thenReturn(Mono.error(repositoryException));
+        when(userRepositoryPort.deactivateById(userId)).thenReturn(Mono.error(repositoryException));
 
         // When & Then
         assertThatThrownBy(() -> userService.delete(userId).block(Duration.ofSeconds(5)))
@@ -254,6 +422,73 @@ class UserServiceTest {
             .hasMessage("Database error");
     }
 
+    @Test
+    void delete_ShouldSucceed_WhenAlreadyInactive() {
+        // Given
+        String userId = "test-id";
+        when(userRepositoryPort.deactivateById(userId)).thenReturn(Mono.just(0L));
+        when(userRepositoryPort.existsById(userId)).thenReturn(Mono.just(true));
+
+        // When
+        DeleteUserResponseContent result = userService.delete(userId)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getDeleted()).isTrue();
+    }
+
+    @Test
+    void updateStatus_ShouldDeduplicateIdsAndReportChangedRows() {
+        // Given
+        String id = "00000000-0000-0000-0000-000000000001";
+        BatchUpdateUserStatusRequestContent request = BatchUpdateUserStatusRequestContent.builder()
+            .ids(List.of(id, id, "00000000-0000-0000-0000-000000000002"))
+            .status("INACTIVE")
+            .build();
+        when(userRepositoryPort.updateStatus(List.of(id, "00000000-0000-0000-0000-000000000002"), "INACTIVE"))
+            .thenReturn(Mono.just(1L));
+
+        // When
+        BatchUpdateUserStatusResponseContent result = userService.updateStatus(request)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(2);
+        assertThat(result.getUpdated()).isEqualTo(1L);
+        assertThat(result.getStatus()).isEqualTo("INACTIVE");
+    }
+
+    @Test
+    void batchGet_ShouldReturnResultsInRequestOrder_WithNotFoundMarkers() {
+        // Given
+        String first = "00000000-0000-0000-0000-000000000001";
+        String missing = "00000000-0000-0000-0000-000000000002";
+        when(userRepositoryPort.findAllByIds(List.of(missing, first)))
+            .thenReturn(Flux.just(User.builder().userId(first).build()));
+
+        // When
+        BatchGetUsersResponseContent result = userService.batchGet(List.of(missing, first.toUpperCase(), first))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getFound()).isEqualTo(2);
+        assertThat(result.getNotFound()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchGetUserResult::getId)
+            .containsExactly(missing, first.toUpperCase(), first);
+        assertThat(result.getResults()).extracting(BatchGetUserResult::getResult)
+            .containsExactly(BatchGetUserResult.NOT_FOUND, BatchGetUserResult.FOUND, BatchGetUserResult.FOUND);
+        assertThat(result.getResults().get(0).getUser()).isNull();
+        assertThat(result.getResults().get(2).getUser().getUserId()).isEqualTo(first);
+    }
+
+    @Test
+    void batchGet_ShouldRejectMalformedIds() {
+        // When & Then
+        assertThatThrownBy(() -> userService.batchGet(List.of("not-a-uuid")).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(userRepositoryPort, never()).findAllByIds(any());
+    }
+
     @Test
     void list_ShouldReturnResponse_WhenValidRequest() {
         // Given
@@ -261,10 +496,11 @@ class UserServiceTest {
         ListUsersResponseContent expectedResponse = ListUsersResponseContent.builder().build();
         
         when(userRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(users));
-        when(userMapper.toListResponse(users, 1, 20)).thenReturn(expectedResponse);
+        when(userRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just((long) users.size()));
+        when(userMapper.toListResponse(users, 1, 20, users.size())).thenReturn(expectedResponse);
 
         // When
-        ListUsersResponseContent result = userService.list(1, 20, null, null, null, null)
+        ListUsersResponseContent result = userService.list(1, 20, null, null, null, null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
@@ -282,10 +518,11 @@ class UserServiceTest {
         ListUsersResponseContent expectedResponse = ListUsersResponseContent.builder().build();
         
         when(userRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(users));
-        when(userMapper.toListResponse(users, page, size)).thenReturn(expectedResponse);
+        when(userRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just((long) users.size()));
+        when(userMapper.toListResponse(users, page, size, users.size())).thenReturn(expectedResponse);
 
         // When
-        ListUsersResponseContent result = userService.list(page, size, searchTerm, null, null, null)
+        ListUsersResponseContent result = userService.list(page, size, searchTerm, null, null, null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
@@ -306,10 +543,11 @@ class UserServiceTest {
             .build();
         
         when(userRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(users));
-        when(userMapper.toListResponse(users, 1, 20)).thenReturn(expectedResponse);
+        when(userRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just((long) users.size()));
+        when(userMapper.toListResponse(users, 1, 20, users.size())).thenReturn(expectedResponse);
 
         // When
-        ListUsersResponseContent result = userService.list(null, null, null, null, null, null)
+        ListUsersResponseContent result = userService.list(null, null, null, null, null, null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
@@ -327,10 +565,155 @@ class UserServiceTest {
         // Given
         RuntimeException repositoryException = new RuntimeException("Database error");
         when(userRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.error(repositoryException));
+        when(userRepositoryPort.countByFilters(any(), any(), any(), any())).thenReturn(Mono.just(0L));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.list(1, 20, null, null, null, null, null).block(Duration.ofSeconds(5)))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("Database error");
+    }
+
+    @Test
+    void list_ShouldReportFilteredTotal_WhenMorePagesExist() {
+        // Given
+        List<User> users = Collections.nCopies(20, User.builder().build());
+        when(userRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.fromIterable(users));
+        when(userRepositoryPort.countByFilters(any(), eq("ACTIVE"), any(), any())).thenReturn(Mono.just(45L));
+
+        // When
+        ListUsersResponseContent result = userService.list(1, 20, null, null, null, null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(java.math.BigDecimal.valueOf(45));
+        assertThat(result.getTotalPages()).isEqualTo(java.math.BigDecimal.valueOf(3));
+        verify(userRepositoryPort, never()).estimateCountByFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    void list_ShouldUsePlannerEstimate_WhenEstimatedTotalRequested() {
+        // Given
+        when(userRepositoryPort.findByFilters(any(), any(), any(), any(), any(), any())).thenReturn(Flux.empty());
+        when(userRepositoryPort.estimateCountByFilters(any(), any(), any(), any())).thenReturn(Mono.just(1_000_000L));
+
+        // When
+        ListUsersResponseContent result = userService.list(1, 20, null, null, null, null, true)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(java.math.BigDecimal.valueOf(1_000_000));
+        assertThat(result.getTotalPages()).isEqualTo(java.math.BigDecimal.valueOf(50_000));
+        verify(userRepositoryPort, never()).countByFilters(any(), any(), any(), any());
+    }
+
+    @Test
+    void listFullText_ShouldReturnResponse_WhenMatchesFound() {
+        // Given
+        List<User> users = Collections.singletonList(User.builder().build());
+        ListUsersResponseContent expectedResponse = ListUsersResponseContent.builder().build();
+        
+        when(userRepositoryPort.findByFullText(eq("john doe"), eq("ACTIVE"), any(), any(), eq(1), eq(20))).thenReturn(Flux.fromIterable(users));
+        when(userRepositoryPort.countByFullText(eq("john doe"), eq("ACTIVE"), any(), any())).thenReturn(Mono.just(1L));
+        when(userMapper.toListResponse(users, 1, 20, users.size())).thenReturn(expectedResponse);
+
+        // When
+        ListUsersResponseContent result = userService.listFullText(1, 20, "john doe", null, null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(expectedResponse);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void listFullText_ShouldThrowException_WhenRepositoryFails() {
+        // Given
+        RuntimeException repositoryException = new RuntimeException("Database error");
+        when(userRepositoryPort.findByFullText(any(), any(), any(), any(), any(), any())).thenReturn(Flux.error(repositoryException));
+        when(userRepositoryPort.countByFullText(any(), any(), any(), any())).thenReturn(Mono.just(0L));
 
         // When & Then
-        assertThatThrownBy(() -> userService.list(1, 20, null, null, null, null).block(Duration.ofSeconds(5)))
+        assertThatThrownBy(() -> userService.listFullText(1, 20, "john", null, null, null).block(Duration.ofSeconds(5)))
             .isInstanceOf(RuntimeException.class)
             .hasMessage("Database error");
     }
-}
+
+    @Test
+    void stream_ShouldEmitMappedRowsWithoutCollecting() {
+        // Given
+        User first = User.builder().userId("1").build();
+        User second = User.builder().userId("2").build();
+        when(userRepositoryPort.findByFilters(any(), eq("ACTIVE"), any(), any(), eq(1), eq(5000))).thenReturn(Flux.just(first, second));
+
+        // When
+        List<UserResponse> result = userService.stream(1, 5000, null, null, null, null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).extracting(UserResponse::getUserId).containsExactly("1", "2");
+    }
+
+    @Test
+    void listByCursor_ShouldReturnNextCursor_WhenPageIsFull() {
+        // Given
+        User user = User.builder()
+            .userId("00000000-0000-0000-0000-000000000001")
+            .username("alice")
+            .createdAt("2024-01-01T00:00:00Z")
+            .build();
+        when(userRepositoryPort.findByFiltersAfter(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Flux.just(user));
+
+        // When
+        ListUsersResponseContent result = userService.listByCursor(1, null, null, null, null, "username", null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getNextCursor()).isNotNull();
+        assertThat(result.getTotal()).isNull();
+        assertThat(result.getTotalPages()).isNull();
+        PageCursor next = CursorUtils.decode(result.getNextCursor());
+        assertThat(next.getSortBy()).isEqualTo("username");
+        assertThat(next.getValue()).isEqualTo("alice");
+        assertThat(next.getId()).isEqualTo(user.getUserId());
+    }
+
+    @Test
+    void listByCursor_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        String cursor = CursorUtils.encode(PageCursor.builder()
+            .sortBy("createdAt")
+            .value("2024-01-01T00:00:00Z")
+            .id("00000000-0000-0000-0000-000000000001")
+            .build());
+        when(userRepositoryPort.findByFiltersAfter(any(), any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Flux.empty());
+
+        // When
+        ListUsersResponseContent result = userService.listByCursor(20, null, null, null, null, null, cursor)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getNextCursor()).isNull();
+        verify(userRepositoryPort).findByFiltersAfter(any(), eq("ACTIVE"), any(), any(), eq("createdAt"),
+            eq("2024-01-01T00:00:00Z"), eq("00000000-0000-0000-0000-000000000001"), eq(20));
+    }
+
+    @Test
+    void listByCursor_ShouldThrowException_WhenSortByUnsupported() {
+        // When & Then
+        assertThatThrownBy(() -> userService.listByCursor(20, null, null, null, null, "password", null).block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void listByCursor_ShouldThrowException_WhenCursorIsMalformed() {
+        // When & Then
+        assertThatThrownBy(() -> userService.listByCursor(20, null, null, null, null, null, "not-a-cursor").block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid cursor");
+    }
+}
\ No newline at end of file
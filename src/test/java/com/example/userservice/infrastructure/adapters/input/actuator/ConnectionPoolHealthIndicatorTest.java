@@ -0,0 +1,68 @@
+package com.example.userservice.infrastructure.adapters.input.actuator;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ConnectionPoolHealthIndicator.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class ConnectionPoolHealthIndicatorTest {
+
+    private Health health(int acquired, int pending) {
+        PoolMetrics metrics = mock(PoolMetrics.class);
+        when(metrics.acquiredSize()).thenReturn(acquired);
+        when(metrics.idleSize()).thenReturn(10 - acquired);
+        when(metrics.allocatedSize()).thenReturn(10);
+        when(metrics.pendingAcquireSize()).thenReturn(pending);
+        when(metrics.getMaxAllocatedSize()).thenReturn(10);
+        ConnectionPool pool = mock(ConnectionPool.class);
+        when(pool.getMetrics()).thenReturn(Optional.of(metrics));
+        return new ConnectionPoolHealthIndicator(pool).health();
+    }
+
+    @Test
+    void health_ShouldBeUp_WhenConnectionsAreAvailable() {
+        // When
+        Health health = health(4, 0);
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("acquired", 4).containsEntry("idle", 6);
+    }
+
+    @Test
+    void health_ShouldBeUp_WhenFullyUsedButNobodyWaits() {
+        // When / Then
+        assertThat(health(10, 0).getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void health_ShouldBeDown_WhenExhaustedAndCallersWait() {
+        // When
+        Health health = health(10, 3);
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("pending", 3);
+    }
+
+    @Test
+    void health_ShouldBeUnknown_WithoutPool() {
+        // When / Then
+        assertThat(new ConnectionPoolHealthIndicator(mock(ConnectionFactory.class)).health().getStatus())
+            .isEqualTo(Status.UNKNOWN);
+    }
+}
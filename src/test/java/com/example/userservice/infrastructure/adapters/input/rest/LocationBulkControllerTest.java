@@ -0,0 +1,113 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.domain.ports.input.LocationUseCase;
+import com.example.userservice.application.dto.location.BatchGetLocationsRequestContent;
+import com.example.userservice.application.dto.location.BatchGetLocationsResponseContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusRequestContent;
+import com.example.userservice.application.dto.location.BatchUpdateLocationStatusResponseContent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LocationBulkController.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class LocationBulkControllerTest {
+
+    @Mock
+    private LocationUseCase locationUseCase;
+
+    @InjectMocks
+    private LocationBulkController locationBulkController;
+
+    @Test
+    void updateLocationsStatus_ShouldReturnSummary_WhenValidRequest() {
+        // Given
+        BatchUpdateLocationStatusRequestContent request = BatchUpdateLocationStatusRequestContent.builder()
+            .ids(List.of("00000000-0000-0000-0000-000000000001"))
+            .status("INACTIVE")
+            .build();
+        BatchUpdateLocationStatusResponseContent response = BatchUpdateLocationStatusResponseContent.builder()
+            .requested(1)
+            .updated(1L)
+            .status("INACTIVE")
+            .build();
+
+        when(locationUseCase.updateStatus(request)).thenReturn(Mono.just(response));
+
+        // When
+        BatchUpdateLocationStatusResponseContent result = locationBulkController.updateLocationsStatus(request, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void updateLocationsStatus_ShouldPropagateError_WhenUseCaseFails() {
+        // Given
+        when(locationUseCase.updateStatus(any())).thenReturn(Mono.error(new RuntimeException("Service error")));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () ->
+            locationBulkController.updateLocationsStatus(BatchUpdateLocationStatusRequestContent.builder().build(), "test-request-id", null, null)
+                .block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void getLocationsBatch_ShouldReturnResults_WhenIdsInQuery() {
+        // Given
+        List<String> ids = List.of("00000000-0000-0000-0000-000000000001");
+        BatchGetLocationsResponseContent response = BatchGetLocationsResponseContent.builder()
+            .found(0)
+            .notFound(1)
+            .results(List.of())
+            .build();
+
+        when(locationUseCase.batchGet(ids)).thenReturn(Mono.just(response));
+
+        // When
+        BatchGetLocationsResponseContent result = locationBulkController.getLocationsBatch(ids, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void getLocationsBatchFromBody_ShouldReturnResults_WhenValidRequest() {
+        // Given
+        BatchGetLocationsRequestContent request = BatchGetLocationsRequestContent.builder()
+            .ids(List.of("00000000-0000-0000-0000-000000000001"))
+            .build();
+        BatchGetLocationsResponseContent response = BatchGetLocationsResponseContent.builder()
+            .found(0)
+            .notFound(1)
+            .results(List.of())
+            .build();
+
+        when(locationUseCase.batchGet(request.getIds())).thenReturn(Mono.just(response));
+
+        // When
+        BatchGetLocationsResponseContent result = locationBulkController.getLocationsBatchFromBody(request, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+}
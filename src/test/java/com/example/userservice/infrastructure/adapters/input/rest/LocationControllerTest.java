@@ -8,18 +8,44 @@ import com.example.userservice.application.dto.location.UpdateLocationRequestCon
 import com.example.userservice.application.dto.location.UpdateLocationResponseContent;
 import com.example.userservice.application.dto.location.DeleteLocationResponseContent;
 import com.example.userservice.application.dto.location.ListLocationsResponseContent;
+import com.example.userservice.application.dto.location.LocationResponse;
+import com.example.userservice.application.dto.location.SerializedGeoTree;
+import com.example.userservice.application.mapper.CityMapper;
+import com.example.userservice.application.mapper.LocationMapper;
+import com.example.userservice.application.mapper.NeighborhoodMapper;
+import com.example.userservice.application.mapper.RegionMapper;
+import com.example.userservice.application.service.GeoReferenceDataCache;
+import com.example.userservice.application.service.LocationService;
+import com.example.userservice.domain.ports.output.CityRepositoryPort;
+import com.example.userservice.domain.ports.output.NeighborhoodRepositoryPort;
+import com.example.userservice.domain.ports.output.RegionRepositoryPort;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.LocationRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.repository.JpaLocationRepository;
+import com.example.userservice.infrastructure.config.exceptions.GlobalExceptionHandler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -107,6 +133,36 @@ class LocationControllerTest {
         assertEquals(response, result);
     }
 
+    @Test
+    void updateLocation_ShouldReturnBadRequest_WhenIdIsMalformed() {
+        // Given: the real service and adapter, so the id is parsed as it is in production
+        LocationMapper mapper = Mappers.getMapper(LocationMapper.class);
+        LocationService locationService = new LocationService(
+            new LocationRepositoryAdapter(mock(JpaLocationRepository.class), mapper),
+            mapper,
+            mock(RegionRepositoryPort.class),
+            mock(CityRepositoryPort.class),
+            mock(NeighborhoodRepositoryPort.class),
+            Mappers.getMapper(RegionMapper.class),
+            Mappers.getMapper(CityMapper.class),
+            Mappers.getMapper(NeighborhoodMapper.class),
+            mock(GeoReferenceDataCache.class));
+        WebTestClient client = WebTestClient.bindToController(new LocationController(locationService))
+            .controllerAdvice(new GlobalExceptionHandler())
+            .build();
+        UpdateLocationRequestContent request = UpdateLocationRequestContent.builder()
+            .address("updated-address")
+            .build();
+
+        // When / Then
+        client.put().uri("/locations/{locationId}", "not-a-uuid")
+            .header("X-Request-ID", "test-request-id")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
     @Test
     void deleteLocation_ShouldReturnOk_WhenEntityExists() {
         // Given
@@ -133,15 +189,126 @@ class LocationControllerTest {
         ListLocationsResponseContent response = ListLocationsResponseContent.builder()
             .build();
         
-        when(locationUseCase.list(any(), any(), any(), any(), any(), any()))
+        when(locationUseCase.list(any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Mono.just(response));
+
+        // When
+        ListLocationsResponseContent result = locationController.listLocations(1, 20, null, null, null, null, null, null, null, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void listLocations_ShouldUseCursorPagination_WhenCursorProvided() {
+        // Given
+        ListLocationsResponseContent response = ListLocationsResponseContent.builder()
+            .nextCursor("next-cursor")
+            .build();
+        
+        when(locationUseCase.listByCursor(any(), any(), any(), any(), any(), any(), any()))
             .thenReturn(Mono.just(response));
 
         // When
-        ListLocationsResponseContent result = locationController.listLocations(1, 20, null, null, null, null, "test-request-id", null, null)
+        ListLocationsResponseContent result = locationController.listLocations(1, 20, null, null, null, null, "some-cursor", null, null, "test-request-id", null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
         assertEquals(response, result);
     }
 
+    @Test
+    void getGeoTree_ShouldReturnTreeWithEtag() {
+        // Given
+        SerializedGeoTree tree = SerializedGeoTree.builder().etag("\"abc\"").json(new byte[] {'{', '}'}).build();
+        when(locationUseCase.getGeoTree()).thenReturn(Mono.just(tree));
+
+        // When
+        ResponseEntity<byte[]> result = locationController.getGeoTree(null, "test-request-id", null, null, treeExchange(null))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals("\"abc\"", result.getHeaders().getETag());
+        assertEquals(tree.getJson(), result.getBody());
+    }
+
+    @Test
+    void getGeoTree_ShouldReturnNotModified_WhenEtagMatches() {
+        // Given
+        SerializedGeoTree tree = SerializedGeoTree.builder().etag("\"abc\"").json(new byte[] {'{', '}'}).build();
+        when(locationUseCase.getGeoTree()).thenReturn(Mono.just(tree));
+
+        // When
+        ResponseEntity<byte[]> result = locationController.getGeoTree("\"abc\"", "test-request-id", null, null, treeExchange("\"abc\""))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        assertEquals(null, result.getBody());
+    }
+
+    @Test
+    void getGeoTree_ShouldReturnNotModified_WhenListOrWeakEtagMatches() {
+        // Given
+        SerializedGeoTree tree = SerializedGeoTree.builder().etag("\"abc\"").json(new byte[] {'{', '}'}).build();
+        when(locationUseCase.getGeoTree()).thenReturn(Mono.just(tree));
+
+        for (String ifNoneMatch : List.of("\"old\", \"abc\"", "W/\"abc\"", "*")) {
+            // When
+            ResponseEntity<byte[]> result = locationController.getGeoTree(ifNoneMatch, "test-request-id", null, null, treeExchange(ifNoneMatch))
+                .block(Duration.ofSeconds(5));
+
+            // Then
+            assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode(), ifNoneMatch);
+        }
+    }
+
+    @Test
+    void getGeoTree_ShouldReturnTree_WhenEtagDiffers() {
+        // Given
+        SerializedGeoTree tree = SerializedGeoTree.builder().etag("\"abc\"").json(new byte[] {'{', '}'}).build();
+        when(locationUseCase.getGeoTree()).thenReturn(Mono.just(tree));
+
+        // When
+        ResponseEntity<byte[]> result = locationController.getGeoTree("\"old\"", "test-request-id", null, null, treeExchange("\"old\""))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+    }
+
+    private static MockServerWebExchange treeExchange(String ifNoneMatch) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/locations/tree");
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    @Test
+    void streamLocations_ShouldEmitEachElement() {
+        // Given
+        LocationResponse first = LocationResponse.builder().locationId("1").build();
+        LocationResponse second = LocationResponse.builder().locationId("2").build();
+        when(locationUseCase.stream(any(), any(), any(), any(), any(), any()))
+            .thenReturn(Flux.just(first, second));
+
+        // When
+        List<LocationResponse> result = locationController.streamLocations(1, 1000, null, null, null, null, "test-request-id", null, null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void streamLocations_ShouldFail_WhenSizeExceedsStreamingLimit() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+            locationController.streamLocations(1, 10_001, null, null, null, null, "test-request-id", null, null)
+                .blockLast(Duration.ofSeconds(5)));
+    }
 }
\ No newline at end of file
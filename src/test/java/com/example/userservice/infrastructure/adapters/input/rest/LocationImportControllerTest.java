@@ -0,0 +1,113 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.domain.ports.input.LocationImportUseCase;
+import com.example.userservice.application.dto.location.LocationImportResponseContent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LocationImportController.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class LocationImportControllerTest {
+
+    @Mock
+    private LocationImportUseCase locationImportUseCase;
+
+    @InjectMocks
+    private LocationImportController locationImportController;
+
+    private final LocationImportResponseContent job = LocationImportResponseContent.builder()
+        .jobId("job-1")
+        .status("COMPLETED")
+        .build();
+
+    @Test
+    void importLocations_ShouldStreamJob_AndPointLocationAtIt() {
+        // Given
+        LocationImportResponseContent running = LocationImportResponseContent.builder()
+            .jobId("job-1")
+            .status("RUNNING")
+            .build();
+        when(locationImportUseCase.importCsv(any())).thenReturn(Flux.just(running, job));
+        MockServerHttpResponse response = new MockServerHttpResponse();
+
+        // When
+        List<LocationImportResponseContent> result = locationImportController.importLocations(Flux.just("header"), "test-request-id", null, null, response)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(List.of(running, job), result);
+        assertEquals(URI.create("/locations/imports/job-1"), response.getHeaders().getLocation());
+    }
+
+    @Test
+    void importLocations_ShouldEndWithFailedJob_WhenImportFails() {
+        // Given
+        LocationImportResponseContent running = LocationImportResponseContent.builder()
+            .jobId("job-1")
+            .status("RUNNING")
+            .build();
+        LocationImportResponseContent failed = LocationImportResponseContent.builder()
+            .jobId("job-1")
+            .status("FAILED")
+            .build();
+        when(locationImportUseCase.importCsv(any()))
+            .thenReturn(Flux.just(running).concatWith(Mono.error(new IllegalArgumentException("Missing CSV column: region"))));
+        when(locationImportUseCase.getImport("job-1")).thenReturn(Mono.just(failed));
+
+        // When
+        List<LocationImportResponseContent> result = locationImportController.importLocations(Flux.just("header"), "test-request-id", null, null, new MockServerHttpResponse())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(List.of(running, failed), result);
+    }
+
+    @Test
+    void getImport_ShouldReturnJob() {
+        // Given
+        when(locationImportUseCase.getImport(anyString())).thenReturn(Mono.just(job));
+
+        // When
+        LocationImportResponseContent result = locationImportController.getImport("job-1", "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(job, result);
+    }
+
+    @Test
+    void listImports_ShouldReturnJobs() {
+        // Given
+        when(locationImportUseCase.listImports()).thenReturn(Flux.just(job));
+
+        // When
+        List<LocationImportResponseContent> result = locationImportController.listImports("test-request-id", null, null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(List.of(job), result);
+    }
+}
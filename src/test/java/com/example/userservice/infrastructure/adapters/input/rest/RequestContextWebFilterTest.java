@@ -0,0 +1,120 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.utils.LoggingUtils;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RequestContextWebFilter.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class RequestContextWebFilterTest {
+
+    private final RequestContextWebFilter filter = new RequestContextWebFilter();
+
+    @Test
+    void filter_ShouldExposeHeadersInMdc_WhenHandlerRunsOnAnotherThread() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users")
+                .header("X-Request-ID", "req-1")
+                .header("X-Correlation-ID", "corr-1")
+                .header("X-Client-Id", "client-1"));
+        AtomicReference<Map<String, String>> seen = new AtomicReference<>();
+        WebFilterChain chain = ex -> Mono.delay(Duration.ofMillis(5))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(tick -> seen.set(MDC.getCopyOfContextMap()))
+                .then();
+
+        // When
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals("req-1", seen.get().get(LoggingUtils.REQUEST_ID));
+        assertEquals("corr-1", seen.get().get(LoggingUtils.CORRELATION_ID));
+        assertEquals("client-1", seen.get().get(LoggingUtils.CLIENT_ID));
+    }
+
+    @Test
+    void filter_ShouldOmitMissingHeaders() {
+        // Given
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users")
+                .header("X-Request-ID", "req-1"));
+        AtomicReference<String> correlationId = new AtomicReference<>("unset");
+        WebFilterChain chain = ex -> Mono.deferContextual(context -> {
+            correlationId.set(context.getOrDefault(LoggingUtils.CORRELATION_ID, null));
+            return Mono.empty();
+        });
+
+        // When
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+
+        // Then
+        assertNull(correlationId.get());
+    }
+
+    @Test
+    void filter_ShouldNotLeakIdsBetweenConcurrentRequests() {
+        // Given
+        int requests = 500;
+        Map<String, String> seenByRequest = new ConcurrentHashMap<>();
+        WebFilterChain chain = ex -> Mono.delay(Duration.ofMillis(ThreadLocalRandom.current().nextInt(1, 10)))
+                .publishOn(Schedulers.parallel())
+                .publishOn(Schedulers.boundedElastic())
+                .map(tick -> MDC.get(LoggingUtils.REQUEST_ID))
+                .doOnNext(id -> seenByRequest.put(ex.getRequest().getHeaders().getFirst("X-Request-ID"), id))
+                .then();
+
+        // When
+        Flux.range(0, requests)
+                .map(i -> "req-" + i)
+                .flatMap(id -> filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/users")
+                        .header("X-Request-ID", id)), chain), requests)
+                .blockLast(Duration.ofSeconds(30));
+
+        // Then
+        assertEquals(requests, seenByRequest.size());
+        seenByRequest.forEach((expected, actual) -> assertEquals(expected, actual));
+    }
+
+    @Test
+    void filter_ShouldClearMdc_WhenRequestHasNoHeaders() {
+        // Given
+        MockServerWebExchange tagged = MockServerWebExchange.from(MockServerHttpRequest.get("/users")
+                .header("X-Request-ID", "req-1"));
+        MockServerWebExchange untagged = MockServerWebExchange.from(MockServerHttpRequest.get("/users"));
+        AtomicReference<String> seen = new AtomicReference<>("unset");
+        Scheduler scheduler = Schedulers.newSingle("request-context-test");
+        try {
+            filter.filter(tagged, ex -> Mono.delay(Duration.ofMillis(1)).publishOn(scheduler).then())
+                    .block(Duration.ofSeconds(5));
+
+            // When
+            filter.filter(untagged, ex -> Mono.delay(Duration.ofMillis(1)).publishOn(scheduler)
+                            .doOnNext(tick -> seen.set(MDC.get(LoggingUtils.REQUEST_ID)))
+                            .then())
+                    .block(Duration.ofSeconds(5));
+        } finally {
+            scheduler.dispose();
+        }
+
+        // Then
+        assertNull(seen.get());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.userservice.infrastructure.adapters.input.rest;
+
+import com.example.userservice.domain.ports.input.UserUseCase;
+import com.example.userservice.application.dto.user.BatchGetUsersRequestContent;
+import com.example.userservice.application.dto.user.BatchGetUsersResponseContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusRequestContent;
+import com.example.userservice.application.dto.user.BatchUpdateUserStatusResponseContent;
+import com.example.userservice.application.dto.user.BulkCreateUsersResponseContent;
+import com.example.userservice.application.dto.user.CreateUserRequestContent;
+import com.example.userservice.application.dto.user.UserAvailabilityResponseContent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserBulkController.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class UserBulkControllerTest {
+
+    @Mock
+    private UserUseCase userUseCase;
+
+    @InjectMocks
+    private UserBulkController userBulkController;
+
+    @Test
+    void createUsersBulk_ShouldReturnSummary_WhenValidRequest() {
+        // Given
+        Flux<CreateUserRequestContent> requests = Flux.just(CreateUserRequestContent.builder()
+            .username("test-username")
+            .email("test@example.com")
+            .password("test-password")
+            .build());
+        BulkCreateUsersResponseContent response = BulkCreateUsersResponseContent.builder()
+            .created(1)
+            .conflicts(0)
+            .invalid(0)
+            .results(List.of())
+            .build();
+
+        when(userUseCase.createBulk(any())).thenReturn(Mono.just(response));
+
+        // When
+        BulkCreateUsersResponseContent result = userBulkController.createUsersBulk(requests, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void createUsersBulk_ShouldPropagateError_WhenUseCaseFails() {
+        // Given
+        when(userUseCase.createBulk(any())).thenReturn(Mono.error(new RuntimeException("Service error")));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () ->
+            userBulkController.createUsersBulk(Flux.empty(), "test-request-id", null, null)
+                .block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void updateUsersStatus_ShouldReturnSummary_WhenValidRequest() {
+        // Given
+        BatchUpdateUserStatusRequestContent request = BatchUpdateUserStatusRequestContent.builder()
+            .ids(List.of("00000000-0000-0000-0000-000000000001"))
+            .status("INACTIVE")
+            .build();
+        BatchUpdateUserStatusResponseContent response = BatchUpdateUserStatusResponseContent.builder()
+            .requested(1)
+            .updated(1L)
+            .status("INACTIVE")
+            .build();
+
+        when(userUseCase.updateStatus(request)).thenReturn(Mono.just(response));
+
+        // When
+        BatchUpdateUserStatusResponseContent result = userBulkController.updateUsersStatus(request, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void getUsersBatch_ShouldReturnResults_WhenIdsInQuery() {
+        // Given
+        List<String> ids = List.of("00000000-0000-0000-0000-000000000001");
+        BatchGetUsersResponseContent response = BatchGetUsersResponseContent.builder()
+            .found(0)
+            .notFound(1)
+            .results(List.of())
+            .build();
+
+        when(userUseCase.batchGet(ids)).thenReturn(Mono.just(response));
+
+        // When
+        BatchGetUsersResponseContent result = userBulkController.getUsersBatch(ids, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void getUsersBatchFromBody_ShouldReturnResults_WhenValidRequest() {
+        // Given
+        BatchGetUsersRequestContent request = BatchGetUsersRequestContent.builder()
+            .ids(List.of("00000000-0000-0000-0000-000000000001"))
+            .build();
+        BatchGetUsersResponseContent response = BatchGetUsersResponseContent.builder()
+            .found(0)
+            .notFound(1)
+            .results(List.of())
+            .build();
+
+        when(userUseCase.batchGet(request.getIds())).thenReturn(Mono.just(response));
+
+        // When
+        BatchGetUsersResponseContent result = userBulkController.getUsersBatchFromBody(request, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void checkUserAvailability_ShouldReturnAvailability() {
+        // Given
+        UserAvailabilityResponseContent response = UserAvailabilityResponseContent.builder()
+            .username("alice")
+            .usernameAvailable(true)
+            .build();
+
+        when(userUseCase.availability("alice", null)).thenReturn(Mono.just(response));
+
+        // When
+        UserAvailabilityResponseContent result = userBulkController.checkUserAvailability("alice", null, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+}
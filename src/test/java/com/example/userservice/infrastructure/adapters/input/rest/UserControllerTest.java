@@ -8,18 +8,33 @@ import com.example.userservice.application.dto.user.UpdateUserRequestContent;
 import com.example.userservice.application.dto.user.UpdateUserResponseContent;
 import com.example.userservice.application.dto.user.DeleteUserResponseContent;
 import com.example.userservice.application.dto.user.ListUsersResponseContent;
+import com.example.userservice.application.dto.user.UserResponse;
+import com.example.userservice.application.mapper.UserMapper;
+import com.example.userservice.application.service.UserAvailabilityIndex;
+import com.example.userservice.application.service.UserService;
+import com.example.userservice.infrastructure.adapters.output.persistence.adapter.UserRepositoryAdapter;
+import com.example.userservice.infrastructure.adapters.output.persistence.repository.JpaUserRepository;
+import com.example.userservice.infrastructure.config.exceptions.GlobalExceptionHandler;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mapstruct.factory.Mappers;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 /**
@@ -100,6 +115,31 @@ class UserControllerTest {
         assertEquals(response, result);
     }
 
+    @Test
+    void updateUser_ShouldReturnBadRequest_WhenIdIsMalformed() {
+        // Given: the real service and adapter, so the id is parsed as it is in production
+        UserMapper mapper = Mappers.getMapper(UserMapper.class);
+        UserService userService = new UserService(
+            new UserRepositoryAdapter(mock(JpaUserRepository.class), mapper),
+            mapper,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            mock(UserAvailabilityIndex.class));
+        WebTestClient client = WebTestClient.bindToController(new UserController(userService))
+            .controllerAdvice(new GlobalExceptionHandler())
+            .build();
+        UpdateUserRequestContent request = UpdateUserRequestContent.builder()
+            .firstName("updated-firstName")
+            .build();
+
+        // When / Then
+        client.put().uri("/users/{userId}", "not-a-uuid")
+            .header("X-Request-ID", "test-request-id")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isBadRequest();
+    }
+
     @Test
     void deleteUser_ShouldReturnOk_WhenEntityExists() {
         // Given
@@ -126,15 +166,82 @@ class UserControllerTest {
         ListUsersResponseContent response = ListUsersResponseContent.builder()
             .build();
         
-        when(userUseCase.list(any(), any(), any(), any(), any(), any()))
+        when(userUseCase.list(any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Mono.just(response));
+
+        // When
+        ListUsersResponseContent result = userController.listUsers(1, 20, null, null, null, null, null, null, null, null, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void listUsers_ShouldUseCursorPagination_WhenCursorProvided() {
+        // Given
+        ListUsersResponseContent response = ListUsersResponseContent.builder()
+            .nextCursor("next-cursor")
+            .build();
+        
+        when(userUseCase.listByCursor(any(), any(), any(), any(), any(), any(), any()))
+            .thenReturn(Mono.just(response));
+
+        // When
+        ListUsersResponseContent result = userController.listUsers(1, 20, null, null, null, null, null, "some-cursor", null, null, "test-request-id", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(response, result);
+    }
+
+    @Test
+    void listUsers_ShouldUseFullTextSearch_WhenSearchModeIsFullText() {
+        // Given
+        ListUsersResponseContent response = ListUsersResponseContent.builder()
+            .build();
+        
+        when(userUseCase.listFullText(any(), any(), any(), any(), any(), any()))
             .thenReturn(Mono.just(response));
 
         // When
-        ListUsersResponseContent result = userController.listUsers(1, 20, null, null, null, null, "test-request-id", null, null)
+        ListUsersResponseContent result = userController.listUsers(1, 20, "john", "fulltext", null, null, null, null, null, null, "test-request-id", null, null)
             .block(Duration.ofSeconds(5));
 
         // Then
         assertEquals(response, result);
     }
 
+    @Test
+    void listUsers_ShouldFail_WhenSearchModeIsUnsupported() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+            userController.listUsers(1, 20, "john", "fuzzy", null, null, null, null, null, null, "test-request-id", null, null)
+                .block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void streamUsers_ShouldEmitEachElement() {
+        // Given
+        UserResponse first = UserResponse.builder().userId("1").build();
+        UserResponse second = UserResponse.builder().userId("2").build();
+        when(userUseCase.stream(any(), any(), any(), any(), any(), any()))
+            .thenReturn(Flux.just(first, second));
+
+        // When
+        List<UserResponse> result = userController.streamUsers(1, 1000, null, null, null, null, "test-request-id", null, null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertEquals(List.of(first, second), result);
+    }
+
+    @Test
+    void streamUsers_ShouldFail_WhenSizeExceedsStreamingLimit() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () ->
+            userController.streamUsers(1, 10_001, null, null, null, null, "test-request-id", null, null)
+                .blockLast(Duration.ofSeconds(5)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package com.example.userservice.infrastructure.adapters.output.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AsyncMappedFileAppender.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class AsyncMappedFileAppenderTest {
+
+    @TempDir
+    Path directory;
+
+    private LoggerContext loggerContext;
+    private Logger root;
+    private ListAppender<ILoggingEvent> console;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        // events defer MDC capture to the appender thread, which needs the adapter a configured context would have
+        loggerContext.setMDCAdapter(new LogbackMDCAdapter());
+        root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        console = new ListAppender<>();
+        console.setContext(loggerContext);
+        console.setName("CONSOLE");
+        console.start();
+        root.addAppender(console);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Test
+    void append_ShouldWriteEventsToFile_AndRestoreConsoleOnDetach() throws IOException {
+        // Given
+        Path file = directory.resolve("app.log");
+        AsyncMappedFileAppender appender = appender(file, 1024, AsyncMappedFileAppender.OverflowPolicy.BLOCK);
+        appender.attachTo(root);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            loggerContext.getLogger("test").info("event {}", i);
+        }
+        appender.detach();
+
+        // Then
+        String content = Files.readString(file);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(content.contains("INFO test - event " + i + "\n"), "missing event " + i);
+        }
+        assertTrue(console.list.isEmpty());
+        assertNotNull(root.getAppender("CONSOLE"));
+        assertNull(root.getAppender(AsyncMappedFileAppender.NAME));
+    }
+
+    @Test
+    void append_ShouldDropDebugBeforeInfo_AndFallBackToConsole_WhenFileUnavailable() throws Exception {
+        // Given: the file cannot be created, so events go to a console that holds the drainer
+        Path blocker = Files.createFile(directory.resolve("blocker"));
+        BlockingAppender blockingConsole = new BlockingAppender();
+        blockingConsole.setContext(loggerContext);
+        blockingConsole.start();
+        root.detachAppender(console);
+        root.addAppender(blockingConsole);
+        AsyncMappedFileAppender appender = appender(blocker.resolve("app.log"), 16, AsyncMappedFileAppender.OverflowPolicy.DROP_DEBUG_FIRST);
+        appender.attachTo(root);
+        Logger logger = loggerContext.getLogger("test");
+        logger.info("held by the drainer");
+        assertTrue(blockingConsole.entered.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 0; i < 12; i++) {
+            logger.info("queued {}", i);
+        }
+        logger.debug("dropped at the discard threshold");
+        for (int i = 12; i < 16; i++) {
+            logger.info("queued {}", i);
+        }
+        logger.info("dropped because the buffer is full");
+        int depth = appender.queueDepth();
+        blockingConsole.release.countDown();
+        appender.detach();
+
+        // Then
+        assertEquals(16, depth);
+        assertEquals(1, appender.dropped(Level.DEBUG));
+        assertEquals(1, appender.dropped(Level.INFO));
+        assertEquals(17, appender.fallbacks());
+        assertEquals(17, blockingConsole.events.size());
+    }
+
+    private AsyncMappedFileAppender appender(Path file, int capacity, AsyncMappedFileAppender.OverflowPolicy policy) {
+        return new AsyncMappedFileAppender(
+                new AsyncMappedFileAppender.Settings(file, capacity, policy, 1_000_000, 2, 4096),
+                encoder());
+    }
+
+    private PatternLayoutEncoder encoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%level %logger - %msg%n");
+        return encoder;
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.userservice.infrastructure.adapters.output.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogRingBuffer.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class LogRingBufferTest {
+
+    @Test
+    void constructor_ShouldRoundCapacityUpToPowerOfTwo() {
+        assertEquals(1, new LogRingBuffer<String>(1).capacity());
+        assertEquals(8, new LogRingBuffer<String>(5).capacity());
+        assertEquals(1024, new LogRingBuffer<String>(1024).capacity());
+    }
+
+    @Test
+    void offer_ShouldFail_WhenFull() {
+        // Given
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer("event-" + i));
+        }
+
+        // When & Then
+        assertFalse(buffer.offer("overflow"));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    void poll_ShouldReturnElementsInOrder_AcrossWrapAround() {
+        // Given
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+        List<Integer> polled = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+            polled.add(buffer.poll());
+        }
+
+        // Then
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), polled);
+        assertNull(buffer.poll());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    void offer_ShouldNotLoseElements_WithConcurrentProducers() throws InterruptedException {
+        // Given
+        int producers = 4;
+        int perProducer = 10_000;
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(256);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // When
+        start.countDown();
+        Set<Integer> received = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            Integer element = buffer.poll();
+            if (element != null) {
+                assertTrue(received.add(element), "duplicate " + element);
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(producers * perProducer, received.size());
+    }
+}
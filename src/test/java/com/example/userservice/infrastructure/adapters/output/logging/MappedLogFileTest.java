@@ -0,0 +1,78 @@
+package com.example.userservice.infrastructure.adapters.output.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedLogFile.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class MappedLogFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ShouldSpanMappedRegions_AndTruncateOnClose() throws IOException {
+        // Given
+        Path path = directory.resolve("app.log");
+        StringBuilder expected = new StringBuilder();
+
+        // When
+        try (MappedLogFile file = new MappedLogFile(path, 1_000_000, 2, 64)) {
+            for (int i = 0; i < 100; i++) {
+                String line = "line " + i + "\n";
+                expected.append(line);
+                file.write(line.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        // Then
+        assertEquals(expected.toString(), Files.readString(path));
+    }
+
+    @Test
+    void write_ShouldRollBySize_KeepingMaxHistory() throws IOException {
+        // Given
+        Path path = directory.resolve("app.log");
+        byte[] line = "0123456789\n".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        try (MappedLogFile file = new MappedLogFile(path, 30, 2, 16)) {
+            for (int i = 0; i < 12; i++) {
+                file.write(line);
+            }
+        }
+
+        // Then
+        assertEquals(22, Files.size(path.resolveSibling("app.log.1")));
+        assertEquals(22, Files.size(path.resolveSibling("app.log.2")));
+        assertFalse(Files.exists(path.resolveSibling("app.log.3")));
+        assertEquals(22, Files.size(path));
+    }
+
+    @Test
+    void constructor_ShouldRollFileLeftByPreviousRun() throws IOException {
+        // Given
+        Path path = directory.resolve("app.log");
+        Files.writeString(path, "previous run\n");
+
+        // When
+        try (MappedLogFile file = new MappedLogFile(path, 1_000, 1, 64)) {
+            file.write("current run\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Then
+        assertEquals("previous run\n", Files.readString(path.resolveSibling("app.log.1")));
+        assertEquals("current run\n", Files.readString(path));
+    }
+}
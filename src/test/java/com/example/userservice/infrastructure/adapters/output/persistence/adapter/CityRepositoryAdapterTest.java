@@ -211,4 +211,21 @@ class CityRepositoryAdapterTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(domainCity);
     }
+
+    @Test
+    void findByRegionId_ShouldReturnChildren_WhenParentHasChildren() {
+        // Given
+        UUID regionId = UUID.randomUUID();
+        when(jpaCityRepository.findByRegionId(regionId)).thenReturn(Flux.just(cityDbo));
+        when(cityMapper.toDomain(cityDbo)).thenReturn(domainCity);
+
+        // When
+        var result = cityRepositoryAdapter.findByRegionId(regionId.toString())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(domainCity);
+        verify(jpaCityRepository).findByRegionId(regionId);
+    }
 }
@@ -8,8 +8,10 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.UUID;
 import java.time.Duration;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import com.example.userservice.application.mapper.LocationMapper;
 import com.example.userservice.domain.model.Location;
 import com.example.userservice.infrastructure.adapters.output.persistence.entity.LocationDbo;
 import com.example.userservice.infrastructure.adapters.output.persistence.repository.JpaLocationRepository;
+import com.example.userservice.infrastructure.config.exceptions.InternalServerErrorException;
 
 @ExtendWith(MockitoExtension.class)
 class LocationRepositoryAdapterTest {
@@ -211,4 +214,208 @@ class LocationRepositoryAdapterTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(domainLocation);
     }
+
+    @Test
+    void countByFilters_ShouldReturnCount() {
+        // Given
+        when(jpaLocationRepository.countByFilters("test", "ACTIVE", null, null)).thenReturn(Mono.just(42L));
+
+        // When
+        Long result = locationRepositoryAdapter.countByFilters("test", "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    void estimateCountByFilters_ShouldFallBackToExactCount_WhenNoEstimateAvailable() {
+        // Given
+        when(jpaLocationRepository.estimateByFilters(null, "ACTIVE", null, null)).thenReturn(Mono.just(-1L));
+        when(jpaLocationRepository.countByFilters(null, "ACTIVE", null, null)).thenReturn(Mono.just(7L));
+
+        // When
+        Long result = locationRepositoryAdapter.estimateCountByFilters(null, "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(7L);
+    }
+
+    @Test
+    void estimateCountByFilters_ShouldReturnPlannerEstimate_WhenAvailable() {
+        // Given
+        when(jpaLocationRepository.estimateByFilters(null, "ACTIVE", null, null)).thenReturn(Mono.just(125_000L));
+
+        // When
+        Long result = locationRepositoryAdapter.estimateCountByFilters(null, "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(125_000L);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldSeekFromSentinel_WhenNoCursor() {
+        // Given
+        when(jpaLocationRepository.findByFiltersAfterCreatedAt("test", "ACTIVE", null, null, Instant.parse("9999-12-31T23:59:59Z"), new UUID(0L, 0L), 10L))
+            .thenReturn(Flux.just(locationDbo));
+        when(locationMapper.toDomain(locationDbo)).thenReturn(domainLocation);
+
+        // When
+        var result = locationRepositoryAdapter.findByFiltersAfter("test", "ACTIVE", null, null, null, null, null, 10)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).isEqualTo(domainLocation);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        String createdAt = "2024-01-01T00:00:00Z";
+        when(jpaLocationRepository.findByFiltersAfterCreatedAt(null, "ACTIVE", null, null, Instant.parse(createdAt), testId, 20L))
+            .thenReturn(Flux.just(locationDbo));
+        when(locationMapper.toDomain(locationDbo)).thenReturn(domainLocation);
+
+        // When
+        var result = locationRepositoryAdapter.findByFiltersAfter(null, "ACTIVE", null, null, "createdAt", createdAt, testId.toString(), null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(jpaLocationRepository).findByFiltersAfterCreatedAt(null, "ACTIVE", null, null, Instant.parse(createdAt), testId, 20L);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldFail_WhenSortByUnsupported() {
+        // When & Then
+        assertThatThrownBy(() -> locationRepositoryAdapter.findByFiltersAfter(null, null, null, null, "unknown", null, null, 10)
+            .collectList()
+            .block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void importAll_ShouldReturnImportedCount() {
+        // Given
+        when(locationMapper.toDbo(domainLocation)).thenReturn(locationDbo);
+        when(jpaLocationRepository.importAll(List.of(locationDbo))).thenReturn(Mono.just(1L));
+
+        // When
+        Long result = locationRepositoryAdapter.importAll(List.of(domainLocation))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void importAll_ShouldThrowInternalServerError_WhenRepositoryFails() {
+        // Given
+        when(locationMapper.toDbo(domainLocation)).thenReturn(locationDbo);
+        when(jpaLocationRepository.importAll(List.of(locationDbo))).thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> locationRepositoryAdapter.importAll(List.of(domainLocation)).block(Duration.ofSeconds(5)))
+            .isInstanceOf(InternalServerErrorException.class);
+    }
+
+    @Test
+    void findActiveLocationTypes_ShouldReturnCodes() {
+        // Given
+        when(jpaLocationRepository.findActiveLocationTypes()).thenReturn(Flux.just("HOME", "WORK"));
+
+        // When
+        List<String> result = locationRepositoryAdapter.findActiveLocationTypes()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly("HOME", "WORK");
+    }
+
+    @Test
+    void updateFields_ShouldReturnUpdatedDomainEntity() {
+        // Given
+        when(locationMapper.toDbo(domainLocation)).thenReturn(locationDbo);
+        when(jpaLocationRepository.updateFields(testId, locationDbo)).thenReturn(Mono.just(locationDbo));
+        when(locationMapper.toDomain(locationDbo)).thenReturn(domainLocation);
+
+        // When
+        Location result = locationRepositoryAdapter.updateFields(testId.toString(), domainLocation)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(domainLocation);
+    }
+
+    @Test
+    void updateFields_ShouldReturnEmpty_WhenNoRowMatches() {
+        // Given
+        when(locationMapper.toDbo(domainLocation)).thenReturn(locationDbo);
+        when(jpaLocationRepository.updateFields(testId, locationDbo)).thenReturn(Mono.empty());
+
+        // When
+        Location result = locationRepositoryAdapter.updateFields(testId.toString(), domainLocation)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void deactivateById_ShouldReturnChangedRows() {
+        // Given
+        when(jpaLocationRepository.deactivateById(testId)).thenReturn(Mono.just(1L));
+
+        // When
+        Long result = locationRepositoryAdapter.deactivateById(testId.toString())
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void updateStatus_ShouldPassIdsAsUuidArray() {
+        // Given
+        when(jpaLocationRepository.updateStatusByIds(new UUID[] {testId}, "INACTIVE")).thenReturn(Mono.just(1L));
+
+        // When
+        Long result = locationRepositoryAdapter.updateStatus(List.of(testId.toString()), "INACTIVE")
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void updateStatus_ShouldThrowInternalServerError_WhenRepositoryFails() {
+        // Given
+        when(jpaLocationRepository.updateStatusByIds(new UUID[] {testId}, "INACTIVE"))
+            .thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> locationRepositoryAdapter.updateStatus(List.of(testId.toString()), "INACTIVE").block(Duration.ofSeconds(5)))
+            .isInstanceOf(InternalServerErrorException.class);
+    }
+
+    @Test
+    void findAllByIds_ShouldQueryAllIdsAtOnce() {
+        // Given
+        when(jpaLocationRepository.findAllByIds(new UUID[] {testId})).thenReturn(Flux.just(locationDbo));
+        when(locationMapper.toDomain(locationDbo)).thenReturn(domainLocation);
+
+        // When
+        List<Location> result = locationRepositoryAdapter.findAllByIds(List.of(testId.toString()))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(domainLocation);
+    }
 }
@@ -211,4 +211,21 @@ class NeighborhoodRepositoryAdapterTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(domainNeighborhood);
     }
+
+    @Test
+    void findByCityId_ShouldReturnChildren_WhenParentHasChildren() {
+        // Given
+        UUID cityId = UUID.randomUUID();
+        when(jpaNeighborhoodRepository.findByCityId(cityId)).thenReturn(Flux.just(neighborhoodDbo));
+        when(neighborhoodMapper.toDomain(neighborhoodDbo)).thenReturn(domainNeighborhood);
+
+        // When
+        var result = neighborhoodRepositoryAdapter.findByCityId(cityId.toString())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(domainNeighborhood);
+        verify(jpaNeighborhoodRepository).findByCityId(cityId);
+    }
 }
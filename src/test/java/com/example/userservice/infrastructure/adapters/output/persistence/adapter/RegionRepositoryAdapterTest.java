@@ -211,4 +211,21 @@ class RegionRepositoryAdapterTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(domainRegion);
     }
+
+    @Test
+    void findByCountryId_ShouldReturnChildren_WhenParentHasChildren() {
+        // Given
+        UUID countryId = UUID.randomUUID();
+        when(jpaRegionRepository.findByCountryId(countryId)).thenReturn(Flux.just(regionDbo));
+        when(regionMapper.toDomain(regionDbo)).thenReturn(domainRegion);
+
+        // When
+        var result = regionRepositoryAdapter.findByCountryId(countryId.toString())
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(domainRegion);
+        verify(jpaRegionRepository).findByCountryId(countryId);
+    }
 }
@@ -8,8 +8,10 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.UUID;
 import java.time.Duration;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +26,7 @@ import com.example.userservice.application.mapper.UserMapper;
 import com.example.userservice.domain.model.User;
 import com.example.userservice.infrastructure.adapters.output.persistence.entity.UserDbo;
 import com.example.userservice.infrastructure.adapters.output.persistence.repository.JpaUserRepository;
+import com.example.userservice.infrastructure.config.exceptions.InternalServerErrorException;
 
 @ExtendWith(MockitoExtension.class)
 class UserRepositoryAdapterTest {
@@ -211,4 +214,241 @@ class UserRepositoryAdapterTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(domainUser);
     }
+
+    @Test
+    void findByFullText_ShouldReturnRankedEntities_WhenMatchesExist() {
+        // Given
+        when(jpaUserRepository.findByFullText("john", "ACTIVE", null, null, 10L, 10L))
+            .thenReturn(Flux.just(userDbo));
+        when(userMapper.toDomain(userDbo)).thenReturn(domainUser);
+
+        // When
+        var result = userRepositoryAdapter.findByFullText("john", "ACTIVE", null, null, 2, 10)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(domainUser);
+    }
+
+    @Test
+    void findByFullText_ShouldThrowInternalServerErrorException_WhenRepositoryFails() {
+        // Given
+        when(jpaUserRepository.findByFullText(anyString(), anyString(), any(), any(), anyLong(), anyLong()))
+            .thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> userRepositoryAdapter.findByFullText("john", "ACTIVE", null, null, 1, 10)
+            .collectList()
+            .block(Duration.ofSeconds(5)))
+            .isInstanceOf(InternalServerErrorException.class);
+    }
+
+    @Test
+    void countByFilters_ShouldReturnCount() {
+        // Given
+        when(jpaUserRepository.countByFilters("test", "ACTIVE", null, null)).thenReturn(Mono.just(42L));
+
+        // When
+        Long result = userRepositoryAdapter.countByFilters("test", "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    void estimateCountByFilters_ShouldFallBackToExactCount_WhenNoEstimateAvailable() {
+        // Given
+        when(jpaUserRepository.estimateByFilters(null, "ACTIVE", null, null)).thenReturn(Mono.just(-1L));
+        when(jpaUserRepository.countByFilters(null, "ACTIVE", null, null)).thenReturn(Mono.just(7L));
+
+        // When
+        Long result = userRepositoryAdapter.estimateCountByFilters(null, "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(7L);
+    }
+
+    @Test
+    void estimateCountByFilters_ShouldReturnPlannerEstimate_WhenAvailable() {
+        // Given
+        when(jpaUserRepository.estimateByFilters(null, "ACTIVE", null, null)).thenReturn(Mono.just(125_000L));
+
+        // When
+        Long result = userRepositoryAdapter.estimateCountByFilters(null, "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(125_000L);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldSeekFromSentinel_WhenNoCursor() {
+        // Given
+        when(jpaUserRepository.findByFiltersAfterCreatedAt("test", "ACTIVE", null, null, Instant.parse("9999-12-31T23:59:59Z"), new UUID(0L, 0L), 10L))
+            .thenReturn(Flux.just(userDbo));
+        when(userMapper.toDomain(userDbo)).thenReturn(domainUser);
+
+        // When
+        var result = userRepositoryAdapter.findByFiltersAfter("test", "ACTIVE", null, null, null, null, null, 10)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0)).isEqualTo(domainUser);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldSeekPastCursor_WhenCursorProvided() {
+        // Given
+        String createdAt = "2024-01-01T00:00:00Z";
+        when(jpaUserRepository.findByFiltersAfterCreatedAt(null, "ACTIVE", null, null, Instant.parse(createdAt), testId, 20L))
+            .thenReturn(Flux.just(userDbo));
+        when(userMapper.toDomain(userDbo)).thenReturn(domainUser);
+
+        // When
+        var result = userRepositoryAdapter.findByFiltersAfter(null, "ACTIVE", null, null, "createdAt", createdAt, testId.toString(), null)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(jpaUserRepository).findByFiltersAfterCreatedAt(null, "ACTIVE", null, null, Instant.parse(createdAt), testId, 20L);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldUseUsernameSeek_WhenSortedByUsername() {
+        // Given
+        when(jpaUserRepository.findByFiltersAfterUsername(null, "ACTIVE", null, null, "alice", testId, 10L))
+            .thenReturn(Flux.just(userDbo));
+        when(userMapper.toDomain(userDbo)).thenReturn(domainUser);
+
+        // When
+        var result = userRepositoryAdapter.findByFiltersAfter(null, "ACTIVE", null, null, "username", "alice", testId.toString(), 10)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(jpaUserRepository).findByFiltersAfterUsername(null, "ACTIVE", null, null, "alice", testId, 10L);
+    }
+
+    @Test
+    void findByFiltersAfter_ShouldFail_WhenSortByUnsupported() {
+        // When & Then
+        assertThatThrownBy(() -> userRepositoryAdapter.findByFiltersAfter(null, null, null, null, "unknown", null, null, 10)
+            .collectList()
+            .block(Duration.ofSeconds(5)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void insertAll_ShouldReturnFlagsPerUser() {
+        // Given
+        when(userMapper.toDbo(domainUser)).thenReturn(userDbo);
+        when(jpaUserRepository.insertAllIfAbsent(List.of(userDbo))).thenReturn(Flux.just(true));
+
+        // When
+        List<Boolean> result = userRepositoryAdapter.insertAll(List.of(domainUser))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(true);
+    }
+
+    @Test
+    void insertAll_ShouldThrowInternalServerError_WhenRepositoryFails() {
+        // Given
+        when(userMapper.toDbo(domainUser)).thenReturn(userDbo);
+        when(jpaUserRepository.insertAllIfAbsent(List.of(userDbo))).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> userRepositoryAdapter.insertAll(List.of(domainUser)).blockLast(Duration.ofSeconds(5)))
+            .isInstanceOf(InternalServerErrorException.class);
+    }
+
+    @Test
+    void updateFields_ShouldReturnUpdatedDomainEntity() {
+        // Given
+        when(userMapper.toDbo(domainUser)).thenReturn(userDbo);
+        when(jpaUserRepository.updateFields(testId, userDbo)).thenReturn(Mono.just(userDbo));
+        when(userMapper.toDomain(userDbo)).thenReturn(domainUser);
+
+        // When
+        User result = userRepositoryAdapter.updateFields(testId.toString(), domainUser)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(domainUser);
+    }
+
+    @Test
+    void updateFields_ShouldReturnEmpty_WhenNoRowMatches() {
+        // Given
+        when(userMapper.toDbo(domainUser)).thenReturn(userDbo);
+        when(jpaUserRepository.updateFields(testId, userDbo)).thenReturn(Mono.empty());
+
+        // When
+        User result = userRepositoryAdapter.updateFields(testId.toString(), domainUser)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void deactivateById_ShouldReturnChangedRows() {
+        // Given
+        when(jpaUserRepository.deactivateById(testId)).thenReturn(Mono.just(1L));
+
+        // When
+        Long result = userRepositoryAdapter.deactivateById(testId.toString())
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void updateStatus_ShouldPassIdsAsUuidArray() {
+        // Given
+        when(jpaUserRepository.updateStatusByIds(new UUID[] {testId}, "INACTIVE")).thenReturn(Mono.just(1L));
+
+        // When
+        Long result = userRepositoryAdapter.updateStatus(List.of(testId.toString()), "INACTIVE")
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void updateStatus_ShouldThrowInternalServerError_WhenRepositoryFails() {
+        // Given
+        when(jpaUserRepository.updateStatusByIds(new UUID[] {testId}, "INACTIVE"))
+            .thenReturn(Mono.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> userRepositoryAdapter.updateStatus(List.of(testId.toString()), "INACTIVE").block(Duration.ofSeconds(5)))
+            .isInstanceOf(InternalServerErrorException.class);
+    }
+
+    @Test
+    void findAllByIds_ShouldQueryAllIdsAtOnce() {
+        // Given
+        when(jpaUserRepository.findAllByIds(new UUID[] {testId})).thenReturn(Flux.just(userDbo));
+        when(userMapper.toDomain(userDbo)).thenReturn(domainUser);
+
+        // When
+        List<User> result = userRepositoryAdapter.findAllByIds(List.of(testId.toString()))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(domainUser);
+    }
 }
@@ -0,0 +1,104 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BatchingLocationRepositoryPort.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchingLocationRepositoryPortTest {
+
+    private static final String FIRST_ID = "00000000-0000-0000-0000-000000000001";
+    private static final String SECOND_ID = "00000000-0000-0000-0000-000000000002";
+    private static final String MISSING_ID = "00000000-0000-0000-0000-000000000003";
+
+    @Mock
+    private LocationRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BatchingLocationRepositoryPort batchingPort;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchingPort = new BatchingLocationRepositoryPort(delegate,
+            new MicroBatcher.Settings(Duration.ofMillis(50), 10, 2), meterRegistry);
+    }
+
+    private Location location(String id) {
+        return Location.builder().locationId(id).build();
+    }
+
+    @Test
+    void findById_ShouldMergeConcurrentLookupsIntoOneQuery() {
+        // Given
+        when(delegate.findAllByIds(anyList())).thenReturn(Flux.just(location(FIRST_ID), location(SECOND_ID)));
+
+        // When
+        List<Location> result = Flux.merge(
+                batchingPort.findById(FIRST_ID),
+                batchingPort.findById(SECOND_ID),
+                batchingPort.findById(FIRST_ID.toUpperCase()),
+                batchingPort.findById(MISSING_ID))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).extracting(Location::getLocationId).containsExactlyInAnyOrder(FIRST_ID, SECOND_ID, FIRST_ID);
+        verify(delegate, times(1)).findAllByIds(List.of(FIRST_ID, SECOND_ID, MISSING_ID));
+        verify(delegate, never()).findById(FIRST_ID);
+        DistributionSummary batchSizes = meterRegistry.get("repository.batch.size")
+            .tag("repository", BatchingLocationRepositoryPort.REPOSITORY_NAME)
+            .summary();
+        assertThat(batchSizes.count()).isEqualTo(1);
+        assertThat(batchSizes.totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    void findById_ShouldFailEveryCallerOfTheBatch_WhenQueryFails() {
+        // Given
+        when(delegate.findAllByIds(anyList())).thenReturn(Flux.error(new RuntimeException("Database error")));
+
+        // When & Then
+        assertThatThrownBy(() -> batchingPort.findById(FIRST_ID).block(Duration.ofSeconds(5)))
+            .hasMessage("Database error");
+    }
+
+    @Test
+    void findById_ShouldBypassBatching_WhenIdIsMalformed() {
+        // Given
+        when(delegate.findById("not-a-uuid")).thenReturn(Mono.empty());
+
+        // When
+        Location result = batchingPort.findById("not-a-uuid").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNull();
+        verify(delegate, never()).findAllByIds(anyList());
+    }
+}
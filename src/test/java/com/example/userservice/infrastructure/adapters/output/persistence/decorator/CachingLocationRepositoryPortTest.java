@@ -0,0 +1,153 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CachingLocationRepositoryPort.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingLocationRepositoryPortTest {
+
+    private static final String ID = "00000000-0000-0000-0000-000000000001";
+
+    @Mock
+    private LocationRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CachingLocationRepositoryPort cachingPort;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cachingPort = new CachingLocationRepositoryPort(delegate,
+            new ReadThroughCache.Settings(100, 0, Duration.ofMinutes(5), Duration.ofMinutes(4)), meterRegistry);
+    }
+
+    private Location location(String status) {
+        return Location.builder()
+            .locationId(ID)
+            .status(status)
+            .build();
+    }
+
+    @Test
+    void findById_ShouldLoadOnceAndServeRepeatedReadsFromCache() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.just(location("ACTIVE")));
+
+        // When
+        Location first = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+        Location second = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        verify(delegate, times(1)).findById(ID);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CachingLocationRepositoryPort.CACHE_NAME).tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findById_ShouldNotCacheMissingIds() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.empty());
+
+        // When
+        Location first = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+        Location second = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(delegate, times(2)).findById(ID);
+    }
+
+    @Test
+    void updateFields_ShouldReplaceCachedEntry() {
+        // Given
+        Location changes = Location.builder().build();
+        when(delegate.findById(ID)).thenReturn(Mono.just(location("ACTIVE")));
+        when(delegate.updateFields(ID, changes)).thenReturn(Mono.just(location("PENDING")));
+        cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        cachingPort.updateFields(ID, changes).block(Duration.ofSeconds(5));
+        Location result = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo("PENDING");
+        verify(delegate, times(1)).findById(ID);
+    }
+
+    @Test
+    void deactivateById_ShouldEvictCachedEntry() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.just(location("ACTIVE")), Mono.just(location("INACTIVE")));
+        when(delegate.deactivateById(ID)).thenReturn(Mono.just(1L));
+        cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        cachingPort.deactivateById(ID).block(Duration.ofSeconds(5));
+        Location result = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo("INACTIVE");
+        verify(delegate, times(2)).findById(ID);
+    }
+
+    @Test
+    void writes_ShouldReachCanonicalEntry_WhenIdCasingDiffers() {
+        // Given
+        String id = "3f2b8c1e-6a0d-4f7e-9b52-1c9d0e4a7b63";
+        Location changes = Location.builder().build();
+        when(delegate.findById(id)).thenReturn(Mono.just(location("ACTIVE")), Mono.just(location("INACTIVE")));
+        when(delegate.updateFields(id.toUpperCase(), changes)).thenReturn(Mono.just(location("PENDING")));
+        when(delegate.deactivateById(id.toUpperCase())).thenReturn(Mono.just(1L));
+        cachingPort.findById(id).block(Duration.ofSeconds(5));
+
+        // When
+        cachingPort.updateFields(id.toUpperCase(), changes).block(Duration.ofSeconds(5));
+        Location updated = cachingPort.findById(id).block(Duration.ofSeconds(5));
+        cachingPort.deactivateById(id.toUpperCase()).block(Duration.ofSeconds(5));
+        Location deactivated = cachingPort.findById(id).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updated.getStatus()).isEqualTo("PENDING");
+        assertThat(deactivated.getStatus()).isEqualTo("INACTIVE");
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void updateStatus_ShouldEvictAllListedEntries() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.just(location("ACTIVE")), Mono.just(location("SUSPENDED")));
+        when(delegate.updateStatus(List.of(ID), "SUSPENDED")).thenReturn(Mono.just(1L));
+        cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        cachingPort.updateStatus(List.of(ID), "SUSPENDED").block(Duration.ofSeconds(5));
+        Location result = cachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo("SUSPENDED");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for MicroBatcher.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class MicroBatcherTest {
+
+    private MicroBatcher<String> batcher(Duration window, int maxBatchSize, int maxConcurrentBatches,
+                                         Function<List<String>, Flux<String>> batchLoader) {
+        return new MicroBatcher<>("test", new MicroBatcher.Settings(window, maxBatchSize, maxConcurrentBatches),
+                batchLoader, Function.identity(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void load_ShouldCompleteEveryCaller_WhenWindowsCloseWhileAllBatchesAreBusy() {
+        // Given
+        AtomicInteger batches = new AtomicInteger();
+        MicroBatcher<String> batcher = batcher(Duration.ofMillis(5), 2, 1, ids -> {
+            batches.incrementAndGet();
+            return Flux.fromIterable(ids).delaySubscription(Duration.ofMillis(50));
+        });
+
+        // When
+        List<String> loaded = Flux.range(0, 12)
+            .delayElements(Duration.ofMillis(10))
+            .flatMap(i -> batcher.load("id-" + i))
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(loaded).hasSize(12);
+        assertThat(batches.get()).isGreaterThan(1);
+        assertThat(batcher.load("id-after").block(Duration.ofSeconds(5))).isEqualTo("id-after");
+    }
+
+    @Test
+    void load_ShouldCompleteEmpty_WhenIdIsNotFound() {
+        // Given
+        MicroBatcher<String> batcher = batcher(Duration.ofMillis(2), 10, 2, ids -> Flux.empty());
+
+        // When
+        String result = batcher.load("missing").block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void load_ShouldFailOnlyThatBatch_WhenLoaderThrows() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        MicroBatcher<String> batcher = batcher(Duration.ofMillis(2), 10, 2, ids -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("Database error");
+            }
+            return Flux.fromIterable(ids);
+        });
+
+        // When
+        Mono<String> failed = batcher.load("first");
+
+        // Then
+        assertThatThrownBy(() -> failed.block(Duration.ofSeconds(5))).hasMessage("Database error");
+        assertThat(batcher.load("second").block(Duration.ofSeconds(5))).isEqualTo("second");
+    }
+}
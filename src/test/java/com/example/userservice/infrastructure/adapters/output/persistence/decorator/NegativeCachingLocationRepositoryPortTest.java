@@ -0,0 +1,118 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for NegativeCachingLocationRepositoryPort.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class NegativeCachingLocationRepositoryPortTest {
+
+    private static final String ID = "00000000-0000-0000-0000-000000000001";
+
+    @Mock
+    private LocationRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NegativeCachingLocationRepositoryPort negativeCachingPort;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        negativeCachingPort = new NegativeCachingLocationRepositoryPort(delegate,
+            new NegativeLookupCache.Settings(Duration.ofMinutes(1), 100), meterRegistry);
+    }
+
+    private double hits() {
+        return meterRegistry.get("repository.negative.cache.hits")
+            .tag("repository", NegativeCachingLocationRepositoryPort.REPOSITORY_NAME)
+            .counter().count();
+    }
+
+    @Test
+    void findById_ShouldShortCircuitRepeatedMisses() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.empty());
+
+        // When
+        Location first = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+        Location second = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(delegate, times(1)).findById(ID);
+        assertThat(hits()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findById_ShouldQueryAgain_AfterLocationIsCreated() {
+        // Given
+        Location location = Location.builder().locationId(ID).build();
+        when(delegate.findById(ID)).thenReturn(Mono.empty(), Mono.just(location));
+        when(delegate.save(location)).thenReturn(Mono.just(location));
+        negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        negativeCachingPort.save(location).block(Duration.ofSeconds(5));
+        Location result = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(location);
+        verify(delegate, times(2)).findById(ID);
+    }
+
+    @Test
+    void findById_ShouldQueryAgain_AfterLocationIsCreated_WhenIdCasingDiffers() {
+        // Given
+        String id = "3f2b8c1e-6a0d-4f7e-9b52-1c9d0e4a7b63";
+        Location location = Location.builder().locationId(id).build();
+        when(delegate.findById(id.toUpperCase())).thenReturn(Mono.empty(), Mono.just(location));
+        when(delegate.save(location)).thenReturn(Mono.just(location));
+        negativeCachingPort.findById(id.toUpperCase()).block(Duration.ofSeconds(5));
+
+        // When
+        negativeCachingPort.save(location).block(Duration.ofSeconds(5));
+        Location result = negativeCachingPort.findById(id.toUpperCase()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(location);
+        verify(delegate, times(2)).findById(id.toUpperCase());
+    }
+
+    @Test
+    void findById_ShouldQueryAgain_AfterImport() {
+        // Given
+        Location location = Location.builder().locationId(ID).build();
+        when(delegate.findById(ID)).thenReturn(Mono.empty(), Mono.just(location));
+        when(delegate.importAll(List.of(location))).thenReturn(Mono.just(1L));
+        negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        negativeCachingPort.importAll(List.of(location)).block(Duration.ofSeconds(5));
+        Location result = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(location);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for NegativeCachingUserRepositoryPort.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class NegativeCachingUserRepositoryPortTest {
+
+    private static final String ID = "00000000-0000-0000-0000-000000000001";
+
+    @Mock
+    private UserRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private NegativeCachingUserRepositoryPort negativeCachingPort;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        negativeCachingPort = new NegativeCachingUserRepositoryPort(delegate,
+            new NegativeLookupCache.Settings(Duration.ofMinutes(1), 100), meterRegistry);
+    }
+
+    private double hits() {
+        return meterRegistry.get("repository.negative.cache.hits")
+            .tag("repository", NegativeCachingUserRepositoryPort.REPOSITORY_NAME)
+            .counter().count();
+    }
+
+    @Test
+    void findById_ShouldShortCircuitRepeatedMisses() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.empty());
+
+        // When
+        User first = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+        User second = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(delegate, times(1)).findById(ID);
+        assertThat(hits()).isEqualTo(1.0);
+    }
+
+    @Test
+    void findById_ShouldQueryAgain_AfterUserIsCreated() {
+        // Given
+        User user = User.builder().userId(ID).build();
+        when(delegate.findById(ID)).thenReturn(Mono.empty(), Mono.just(user));
+        when(delegate.save(user)).thenReturn(Mono.just(user));
+        negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        negativeCachingPort.save(user).block(Duration.ofSeconds(5));
+        User result = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(user);
+        verify(delegate, times(2)).findById(ID);
+        assertThat(hits()).isZero();
+    }
+
+    @Test
+    void findById_ShouldQueryAgain_AfterUserIsCreated_WhenIdCasingDiffers() {
+        // Given
+        String id = "3f2b8c1e-6a0d-4f7e-9b52-1c9d0e4a7b63";
+        User user = User.builder().userId(id).build();
+        when(delegate.findById(id.toUpperCase())).thenReturn(Mono.empty(), Mono.just(user));
+        when(delegate.save(user)).thenReturn(Mono.just(user));
+        negativeCachingPort.findById(id.toUpperCase()).block(Duration.ofSeconds(5));
+
+        // When
+        negativeCachingPort.save(user).block(Duration.ofSeconds(5));
+        User result = negativeCachingPort.findById(id.toUpperCase()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(user);
+        verify(delegate, times(2)).findById(id.toUpperCase());
+    }
+
+    @Test
+    void findById_ShouldQueryAgain_AfterUserIsInsertedInBulk() {
+        // Given
+        User user = User.builder().userId(ID).build();
+        when(delegate.findById(ID)).thenReturn(Mono.empty(), Mono.just(user));
+        when(delegate.insertAll(List.of(user))).thenReturn(Flux.just(true));
+        negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // When
+        negativeCachingPort.insertAll(List.of(user)).blockLast(Duration.ofSeconds(5));
+        User result = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo(user);
+    }
+
+    @Test
+    void findById_ShouldNotRecordMiss_WhenUserIsCreatedWhileLookupRuns() {
+        // Given
+        User user = User.builder().userId(ID).build();
+        Sinks.One<User> pending = Sinks.one();
+        when(delegate.findById(ID)).thenReturn(pending.asMono(), Mono.just(user));
+        when(delegate.save(user)).thenReturn(Mono.just(user));
+        Mono<User> lookup = negativeCachingPort.findById(ID).cache();
+        lookup.subscribe();
+
+        // When
+        negativeCachingPort.save(user).block(Duration.ofSeconds(5));
+        pending.tryEmitEmpty();
+        User result = negativeCachingPort.findById(ID).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(lookup.block(Duration.ofSeconds(5))).isNull();
+        assertThat(result).isEqualTo(user);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.decorator;
+
+import com.example.userservice.domain.model.Location;
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.LocationRepositoryPort;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SingleFlight and the single-flight user and location repository ports.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTest {
+
+    private static final String ID = "00000000-0000-0000-0000-000000000001";
+    private static final String NAME = "test";
+
+    @Mock
+    private UserRepositoryPort userDelegate;
+
+    @Mock
+    private LocationRepositoryPort locationDelegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SingleFlight<String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>(NAME, meterRegistry);
+    }
+
+    private double count(String repository, String result) {
+        return meterRegistry.get("repository.single.flight")
+            .tag("repository", repository)
+            .tag("result", result)
+            .counter().count();
+    }
+
+    @Test
+    void execute_ShouldShareOneLoadAmongConcurrentCallers() {
+        // Given
+        Sinks.One<String> row = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> first = singleFlight.execute(ID, key -> { loads.incrementAndGet(); return row.asMono(); }).toFuture();
+        CompletableFuture<String> second = singleFlight.execute(ID, key -> { loads.incrementAndGet(); return row.asMono(); }).toFuture();
+        CompletableFuture<String> third = singleFlight.execute(ID, key -> { loads.incrementAndGet(); return row.asMono(); }).toFuture();
+        row.tryEmitValue("value");
+
+        // Then
+        assertThat(first.join()).isEqualTo("value");
+        assertThat(second.join()).isEqualTo("value");
+        assertThat(third.join()).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        assertThat(count(NAME, "executed")).isEqualTo(1.0);
+        assertThat(count(NAME, "coalesced")).isEqualTo(2.0);
+    }
+
+    @Test
+    void execute_ShouldLoadAgain_OnceThePreviousCallCompleted() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        singleFlight.execute(ID, key -> Mono.just("v" + loads.incrementAndGet())).block(Duration.ofSeconds(5));
+        String second = singleFlight.execute(ID, key -> Mono.just("v" + loads.incrementAndGet())).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(second).isEqualTo("v2");
+        assertThat(count(NAME, "coalesced")).isZero();
+    }
+
+    @Test
+    void execute_ShouldPropagateErrorToEveryWaitingCaller() {
+        // Given
+        Sinks.One<String> row = Sinks.one();
+        Mono<String> first = singleFlight.execute(ID, key -> row.asMono()).cache();
+        Mono<String> second = singleFlight.execute(ID, key -> row.asMono()).cache();
+        first.subscribe(value -> { }, error -> { });
+        second.subscribe(value -> { }, error -> { });
+
+        // When
+        row.tryEmitError(new RuntimeException("Database error"));
+
+        // Then
+        assertThatThrownBy(() -> first.block(Duration.ofSeconds(5))).hasMessage("Database error");
+        assertThatThrownBy(() -> second.block(Duration.ofSeconds(5))).hasMessage("Database error");
+        assertThat(count(NAME, "executed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_ShouldFailAndFreeTheKey_WhenLoaderThrows() {
+        // Given
+        Mono<String> failing = singleFlight.execute("not-a-uuid", key -> {
+            throw new IllegalArgumentException("Invalid UUID string: " + key);
+        });
+
+        // When
+        assertThatThrownBy(() -> failing.block(Duration.ofSeconds(5))).isInstanceOf(IllegalArgumentException.class);
+        String next = singleFlight.execute("not-a-uuid", key -> Mono.just("loaded")).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(next).isEqualTo("loaded");
+        assertThat(count(NAME, "coalesced")).isZero();
+    }
+
+    @Test
+    void userPort_ShouldCoalesceFindById() {
+        // Given
+        Sinks.One<User> row = Sinks.one();
+        User user = User.builder().userId(ID).build();
+        when(userDelegate.findById(ID)).thenReturn(row.asMono());
+        SingleFlightUserRepositoryPort port = new SingleFlightUserRepositoryPort(userDelegate, meterRegistry);
+
+        // When
+        CompletableFuture<User> first = port.findById(ID).toFuture();
+        CompletableFuture<User> second = port.findById(ID).toFuture();
+        row.tryEmitValue(user);
+
+        // Then
+        assertThat(first.join()).isEqualTo(user);
+        assertThat(second.join()).isEqualTo(user);
+        verify(userDelegate, times(1)).findById(ID);
+        assertThat(count(SingleFlightUserRepositoryPort.REPOSITORY_NAME, "coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    void locationPort_ShouldCoalesceFindById() {
+        // Given
+        Sinks.One<Location> row = Sinks.one();
+        Location location = Location.builder().locationId(ID).build();
+        when(locationDelegate.findById(ID)).thenReturn(row.asMono());
+        SingleFlightLocationRepositoryPort port = new SingleFlightLocationRepositoryPort(locationDelegate, meterRegistry);
+
+        // When
+        CompletableFuture<Location> first = port.findById(ID).toFuture();
+        CompletableFuture<Location> second = port.findById(ID).toFuture();
+        row.tryEmitValue(location);
+
+        // Then
+        assertThat(first.join()).isEqualTo(location);
+        assertThat(second.join()).isEqualTo(location);
+        verify(locationDelegate, times(1)).findById(ID);
+        assertThat(count(SingleFlightLocationRepositoryPort.REPOSITORY_NAME, "coalesced")).isEqualTo(1.0);
+    }
+}
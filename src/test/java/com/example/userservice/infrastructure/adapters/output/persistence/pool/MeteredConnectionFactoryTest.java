@@ -0,0 +1,98 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.pool;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for MeteredConnectionFactory.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MeteredConnectionFactoryTest {
+
+    @Mock
+    private ConnectionFactory delegate;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MeteredConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        connectionFactory = new MeteredConnectionFactory(delegate, "pool", meterRegistry);
+    }
+
+    private long acquisitions(String outcome) {
+        return meterRegistry.get(MeteredConnectionFactory.ACQUIRE)
+            .tag("name", "pool")
+            .tag("outcome", outcome)
+            .timer().count();
+    }
+
+    @Test
+    void create_ShouldTimeSuccessfulAcquisitions() {
+        // Given
+        doReturn(Mono.just(connection)).when(delegate).create();
+
+        // When
+        StepVerifier.create(connectionFactory.create())
+            .expectNext(connection)
+            .verifyComplete();
+
+        // Then
+        assertThat(acquisitions("success")).isEqualTo(1);
+        assertThat(acquisitions("error")).isZero();
+    }
+
+    @Test
+    void create_ShouldTimeFailedAcquisitions() {
+        // Given
+        doReturn(Mono.error(new IllegalStateException("timeout"))).when(delegate).create();
+
+        // When
+        StepVerifier.create(connectionFactory.create())
+            .verifyError(IllegalStateException.class);
+
+        // Then
+        assertThat(acquisitions("error")).isEqualTo(1);
+        assertThat(acquisitions("success")).isZero();
+    }
+
+    @Test
+    void create_ShouldNotTime_UntilSubscribed() {
+        // When
+        connectionFactory.create();
+
+        // Then
+        assertThat(acquisitions("success") + acquisitions("error") + acquisitions("cancelled")).isZero();
+    }
+
+    @Test
+    void poolOf_ShouldUnwrapToThePool() {
+        // Given
+        ConnectionPool pool = mock(ConnectionPool.class);
+
+        // Then
+        assertThat(MeteredConnectionFactory.poolOf(new MeteredConnectionFactory(pool, "pool", meterRegistry))).isSameAs(pool);
+        assertThat(MeteredConnectionFactory.poolOf(connectionFactory)).isNull();
+    }
+}
@@ -9,6 +9,8 @@ import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.time.Duration;
 
@@ -116,4 +118,126 @@ class JpaLocationRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void importAll_ShouldInsertWholeBatch() {
+        // Given
+        String token = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        LocationDbo first = createLocationDbo();
+        first.setAddress(token + "-1");
+        first.setCreatedAt(now);
+        first.setUpdatedAt(now);
+        LocationDbo second = createLocationDbo();
+        second.setAddress(token + "-2");
+        second.setLatitude(4.61);
+        second.setLongitude(-74.08);
+
+        // When
+        Long imported = locationRepository.importAll(List.of(first, second))
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(imported).isEqualTo(2L);
+        List<LocationDbo> stored = locationRepository.findAll()
+            .filter(location -> location.getAddress().startsWith(token))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+        assertThat(stored).hasSize(2);
+        assertThat(stored).allSatisfy(location -> assertThat(location.getId()).isNotNull());
+    }
+
+    @Test
+    void findActiveLocationTypes_ShouldReturnSeededCodes() {
+        // When
+        List<String> codes = locationRepository.findActiveLocationTypes()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(codes).contains("HOME", "WORK", "BILLING", "SHIPPING", "OTHER");
+    }
+
+    @Test
+    void updateFields_ShouldWriteOnlyProvidedColumnsAndReturnRow() {
+        // Given
+        LocationDbo saved = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+        LocationDbo changes = LocationDbo.builder()
+            .address("Calle 10 # 43-12")
+            .latitude(6.2)
+            .build();
+
+        // When
+        LocationDbo result = locationRepository.updateFields(saved.getId(), changes)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getAddress()).isEqualTo("Calle 10 # 43-12");
+        assertThat(result.getLatitude()).isEqualTo(6.2);
+        assertThat(result.getCity()).isEqualTo(saved.getCity());
+        assertThat(result.getStatus()).isEqualTo(EntityStatus.ACTIVE);
+    }
+
+    @Test
+    void updateFields_ShouldReturnEmpty_WhenIdDoesNotExist() {
+        // When
+        LocationDbo result = locationRepository.updateFields(UUID.randomUUID(), LocationDbo.builder().address("x").build())
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void deactivateById_ShouldChangeActiveRowOnlyOnce() {
+        // Given
+        LocationDbo saved = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+
+        // When
+        Long first = locationRepository.deactivateById(saved.getId()).block(Duration.ofSeconds(5));
+        Long second = locationRepository.deactivateById(saved.getId()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isZero();
+        assertThat(locationRepository.findById(saved.getId()).block(Duration.ofSeconds(5)).getStatus())
+            .isEqualTo(EntityStatus.INACTIVE);
+    }
+
+    @Test
+    void updateStatusByIds_ShouldUpdateListedRowsThatDiffer() {
+        // Given
+        LocationDbo first = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+        LocationDbo second = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+        LocationDbo untouched = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+        locationRepository.deactivateById(second.getId()).block(Duration.ofSeconds(5));
+
+        // When
+        Long updated = locationRepository.updateStatusByIds(
+                new UUID[] {first.getId(), second.getId(), UUID.randomUUID()}, "INACTIVE")
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updated).isEqualTo(1L);
+        assertThat(locationRepository.findById(first.getId()).block(Duration.ofSeconds(5)).getStatus())
+            .isEqualTo(EntityStatus.INACTIVE);
+        assertThat(locationRepository.findById(untouched.getId()).block(Duration.ofSeconds(5)).getStatus())
+            .isEqualTo(EntityStatus.ACTIVE);
+    }
+
+    @Test
+    void findAllByIds_ShouldReturnExistingRowsOnly() {
+        // Given
+        LocationDbo first = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+        LocationDbo second = locationRepository.save(createLocationDbo()).block(Duration.ofSeconds(5));
+
+        // When
+        List<LocationDbo> result = locationRepository.findAllByIds(new UUID[] {first.getId(), second.getId(), UUID.randomUUID()})
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).extracting(LocationDbo::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+}
@@ -31,7 +31,7 @@ class JpaRegionRepositoryTest {
         return RegionDbo.builder()
             .name("test-name-" + randomUUID)
             .code("test-code-" + randomUUID)
-            .countryId("test-countryId-" + randomUUID)
+            .countryId(UUID.randomUUID().toString())
             .status(EntityStatus.ACTIVE)
             .build();
     }
@@ -113,4 +113,22 @@ class JpaRegionRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
+
+    @Test
+    void findByCountryId_ShouldReturnOnlyRegionsOfCountry() {
+        // Given
+        UUID countryId = UUID.randomUUID();
+        RegionDbo region = createRegionDbo();
+        region.setCountryId(countryId.toString());
+        RegionDbo saved = regionRepository.save(region).block(Duration.ofSeconds(5));
+        regionRepository.save(createRegionDbo()).block(Duration.ofSeconds(5));
+
+        // When
+        var result = regionRepository.findByCountryId(countryId)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).extracting(RegionDbo::getId).containsExactly(saved.getId());
+    }
 }
\ No newline at end of file
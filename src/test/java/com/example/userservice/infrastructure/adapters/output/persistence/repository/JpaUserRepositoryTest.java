@@ -9,6 +9,8 @@ import org.springframework.boot.test.autoconfigure.data.r2dbc.DataR2dbcTest;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.time.Duration;
 
@@ -112,4 +114,246 @@ class JpaUserRepositoryTest {
         // Then
         assertThat(exists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findBySearchTerm_ShouldMatchAnyColumnCaseInsensitively() {
+        // Given
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        UserDbo user = createUserDbo();
+        user.setLastName("Mc" + token.toUpperCase());
+        userRepository.save(user).block(Duration.ofSeconds(5));
+
+        // When
+        List<UserDbo> found = userRepository.findBySearchTerm(token.toUpperCase(), 10L, 0L)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+        Long count = userRepository.countBySearchTerm("mc" + token)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(found).extracting(UserDbo::getId).containsExactly(user.getId());
+        assertThat(count).isEqualTo(1L);
+    }
+
+    @Test
+    void countByFilters_ShouldCountAllMatchingRowsBeyondOnePage() {
+        // Given
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < 3; i++) {
+            UserDbo user = createUserDbo();
+            user.setUsername(token + "-" + i + "-" + user.getUsername());
+            user.setCreatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+            userRepository.save(user).block(Duration.ofSeconds(5));
+        }
+
+        // When
+        Long count = userRepository.countByFilters(token, "ACTIVE", null, null)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(count).isEqualTo(3L);
+    }
+
+    @Test
+    void findByFiltersAfterCreatedAt_ShouldWalkPagesNewestFirst() {
+        // Given
+        String token = UUID.randomUUID().toString().substring(0, 8);
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 3; i++) {
+            UserDbo user = createUserDbo();
+            user.setUsername(token + "-" + i + "-" + user.getUsername());
+            user.setCreatedAt(base.plusSeconds(i));
+            userRepository.save(user).block(Duration.ofSeconds(5));
+        }
+
+        // When
+        List<UserDbo> firstPage = userRepository.findByFiltersAfterCreatedAt(token, "ACTIVE", null, null,
+                Instant.parse("9999-12-31T23:59:59Z"), new UUID(0L, 0L), 2L)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+        UserDbo last = firstPage.get(firstPage.size() - 1);
+        List<UserDbo> secondPage = userRepository.findByFiltersAfterCreatedAt(token, "ACTIVE", null, null,
+                last.getCreatedAt(), last.getId(), 2L)
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(firstPage).extracting(UserDbo::getCreatedAt)
+            .containsExactly(base.plusSeconds(2), base.plusSeconds(1));
+        assertThat(secondPage).extracting(UserDbo::getCreatedAt)
+            .containsExactly(base);
+    }
+
+    @Test
+    void insertAllIfAbsent_ShouldInsertNewRowsAndSkipDuplicates() {
+        // Given
+        Instant now = Instant.now();
+        UserDbo existing = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        UserDbo fresh = createUserDbo();
+        fresh.setId(UUID.randomUUID());
+        fresh.setCreatedAt(now);
+        fresh.setUpdatedAt(now);
+        UserDbo duplicateEmail = createUserDbo();
+        duplicateEmail.setId(UUID.randomUUID());
+        duplicateEmail.setEmail(existing.getEmail());
+        UserDbo duplicateInBatch = createUserDbo();
+        duplicateInBatch.setId(UUID.randomUUID());
+        duplicateInBatch.setUsername(fresh.getUsername());
+
+        // When
+        List<Boolean> result = userRepository.insertAllIfAbsent(List.of(fresh, duplicateEmail, duplicateInBatch))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(true, false, false);
+        UserDbo inserted = userRepository.findById(fresh.getId()).block(Duration.ofSeconds(5));
+        assertThat(inserted).isNotNull();
+        assertThat(inserted.getFirstName()).isNull();
+        assertThat(userRepository.existsById(duplicateEmail.getId()).block(Duration.ofSeconds(5))).isFalse();
+    }
+
+    @Test
+    void insertAllIfAbsent_ShouldRetryRowByRow_WhenBatchHitsUniqueConstraint() {
+        // Given
+        Instant now = Instant.now();
+        UserDbo existing = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        UserDbo first = createUserDbo();
+        first.setId(UUID.randomUUID());
+        first.setCreatedAt(now);
+        first.setUpdatedAt(now);
+        UserDbo sameKey = createUserDbo();
+        sameKey.setId(existing.getId());
+        sameKey.setCreatedAt(now);
+        sameKey.setUpdatedAt(now);
+        UserDbo last = createUserDbo();
+        last.setId(UUID.randomUUID());
+        last.setCreatedAt(now);
+        last.setUpdatedAt(now);
+
+        // When
+        List<Boolean> result = userRepository.insertAllIfAbsent(List.of(first, sameKey, last))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).containsExactly(true, false, true);
+        assertThat(userRepository.existsById(first.getId()).block(Duration.ofSeconds(5))).isTrue();
+        assertThat(userRepository.existsById(last.getId()).block(Duration.ofSeconds(5))).isTrue();
+        assertThat(userRepository.findById(existing.getId()).block(Duration.ofSeconds(5)).getUsername())
+            .isEqualTo(existing.getUsername());
+    }
+
+    @Test
+    void updateFields_ShouldWriteOnlyProvidedColumnsAndReturnRow() {
+        // Given
+        UserDbo saved = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        UserDbo changes = UserDbo.builder()
+            .firstName("Updated")
+            .build();
+
+        // When
+        UserDbo result = userRepository.updateFields(saved.getId(), changes)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(saved.getId());
+        assertThat(result.getFirstName()).isEqualTo("Updated");
+        assertThat(result.getUsername()).isEqualTo(saved.getUsername());
+        assertThat(result.getEmail()).isEqualTo(saved.getEmail());
+        assertThat(result.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void updateFields_ShouldReturnEmpty_WhenIdDoesNotExist() {
+        // Given
+        UserDbo changes = UserDbo.builder()
+            .firstName("Updated")
+            .build();
+
+        // When
+        UserDbo result = userRepository.updateFields(UUID.randomUUID(), changes)
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void deactivateById_ShouldChangeActiveRowOnlyOnce() {
+        // Given
+        UserDbo saved = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+
+        // When
+        Long first = userRepository.deactivateById(saved.getId()).block(Duration.ofSeconds(5));
+        Long second = userRepository.deactivateById(saved.getId()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isZero();
+        assertThat(userRepository.findById(saved.getId()).block(Duration.ofSeconds(5)).getStatus())
+            .isEqualTo(EntityStatus.INACTIVE);
+    }
+
+    @Test
+    void updateStatusByIds_ShouldUpdateListedRowsThatDiffer() {
+        // Given
+        UserDbo first = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        UserDbo second = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        UserDbo untouched = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        userRepository.deactivateById(second.getId()).block(Duration.ofSeconds(5));
+
+        // When
+        Long updated = userRepository.updateStatusByIds(
+                new UUID[] {first.getId(), second.getId(), UUID.randomUUID()}, "INACTIVE")
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(updated).isEqualTo(1L);
+        assertThat(userRepository.findById(first.getId()).block(Duration.ofSeconds(5)).getStatus())
+            .isEqualTo(EntityStatus.INACTIVE);
+        assertThat(userRepository.findById(untouched.getId()).block(Duration.ofSeconds(5)).getStatus())
+            .isEqualTo(EntityStatus.ACTIVE);
+    }
+
+    @Test
+    void findAllByIds_ShouldReturnExistingRowsOnly() {
+        // Given
+        UserDbo first = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+        UserDbo second = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+
+        // When
+        List<UserDbo> result = userRepository.findAllByIds(new UUID[] {first.getId(), second.getId(), UUID.randomUUID()})
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).extracting(UserDbo::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    void existsByUsernameAndEmail_ShouldMatchExactValues() {
+        // Given
+        UserDbo user = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+
+        // When & Then
+        assertThat(userRepository.existsByUsername(user.getUsername()).block(Duration.ofSeconds(5))).isTrue();
+        assertThat(userRepository.existsByEmail(user.getEmail()).block(Duration.ofSeconds(5))).isTrue();
+        assertThat(userRepository.existsByUsername("missing-" + UUID.randomUUID()).block(Duration.ofSeconds(5))).isFalse();
+    }
+
+    @Test
+    void findAllIdentities_ShouldStreamUsernamesAndEmails() {
+        // Given
+        UserDbo user = userRepository.save(createUserDbo()).block(Duration.ofSeconds(5));
+
+        // When
+        List<String> result = userRepository.findAllIdentities()
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).contains(user.getUsername(), user.getEmail());
+    }
+}
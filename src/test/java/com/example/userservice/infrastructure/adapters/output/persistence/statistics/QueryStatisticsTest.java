@@ -0,0 +1,89 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QueryStatistics.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class QueryStatisticsTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    void record_ShouldAggregateCountLatencyRowsAndErrors() {
+        // Given
+        QueryStatistics statistics = new QueryStatistics(10);
+
+        // When
+        for (int i = 1; i <= 1000; i++) {
+            statistics.record("SELECT ?", i * MILLI, 2, i % 100 != 0);
+        }
+
+        // Then
+        QueryStatistics.Summary summary = statistics.top(1, QueryStatistics.Order.TOTAL).get(0);
+        assertEquals(1000, summary.count());
+        assertEquals(10, summary.errors());
+        assertEquals(2000, summary.rows());
+        assertEquals(500_500.0, summary.totalMillis(), 0.001);
+        assertEquals(500.5, summary.meanMillis(), 0.001);
+        assertEquals(1000.0, summary.maxMillis(), 0.001);
+        assertTrue(summary.p99Millis() >= 990 && summary.p99Millis() <= 1000, "p99 " + summary.p99Millis());
+    }
+
+    @Test
+    void top_ShouldSortByRequestedOrder() {
+        // Given
+        QueryStatistics statistics = new QueryStatistics(10);
+        statistics.record("slow", 900 * MILLI, 1, true);
+        for (int i = 0; i < 5; i++) {
+            statistics.record("frequent", 10 * MILLI, 100, true);
+        }
+
+        // When
+        List<QueryStatistics.Summary> byTotal = statistics.top(10, QueryStatistics.Order.TOTAL);
+        List<QueryStatistics.Summary> byCount = statistics.top(1, QueryStatistics.Order.COUNT);
+
+        // Then
+        assertEquals("slow", byTotal.get(0).fingerprint());
+        assertEquals("frequent", byTotal.get(1).fingerprint());
+        assertEquals(1, byCount.size());
+        assertEquals("frequent", byCount.get(0).fingerprint());
+    }
+
+    @Test
+    void record_ShouldGroupStatementsBeyondTheLimitAsOther() {
+        // Given
+        QueryStatistics statistics = new QueryStatistics(1);
+
+        // When
+        statistics.record("first", MILLI, 0, true);
+        statistics.record("second", MILLI, 0, true);
+        statistics.record("third", MILLI, 0, true);
+
+        // Then
+        List<QueryStatistics.Summary> top = statistics.top(10, QueryStatistics.Order.COUNT);
+        assertEquals(QueryStatistics.OTHER, top.get(0).fingerprint());
+        assertEquals(2, top.get(0).count());
+        assertEquals("first", top.get(1).fingerprint());
+    }
+
+    @Test
+    void reset_ShouldForgetAllStatements() {
+        // Given
+        QueryStatistics statistics = new QueryStatistics(10);
+        statistics.record("SELECT ?", MILLI, 0, true);
+
+        // When
+        statistics.reset();
+
+        // Then
+        assertTrue(statistics.top(10, QueryStatistics.Order.TOTAL).isEmpty());
+    }
+}
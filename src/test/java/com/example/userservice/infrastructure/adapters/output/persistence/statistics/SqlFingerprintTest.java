@@ -0,0 +1,54 @@
+package com.example.userservice.infrastructure.adapters.output.persistence.statistics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SqlFingerprint.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class SqlFingerprintTest {
+
+    @Test
+    void of_ShouldReplaceBindMarkersAndLiterals() {
+        // When
+        String fingerprint = SqlFingerprint.of("SELECT * FROM users WHERE id = $1 AND status = 'ACTIVE' AND age > 42.5 LIMIT :size");
+
+        // Then
+        assertEquals("SELECT * FROM users WHERE id = ? AND status = ? AND age > ? LIMIT ?", fingerprint);
+    }
+
+    @Test
+    void of_ShouldCollapseWhitespace() {
+        // When
+        String fingerprint = SqlFingerprint.of("  SELECT *\n\tFROM   users\n");
+
+        // Then
+        assertEquals("SELECT * FROM users", fingerprint);
+    }
+
+    @Test
+    void of_ShouldGiveListsOfAnyLengthTheSameFingerprint() {
+        // When
+        String two = SqlFingerprint.of("SELECT * FROM users WHERE id IN ($1, $2)");
+        String three = SqlFingerprint.of("SELECT * FROM users WHERE id IN ($1, $2, $3)");
+        String rows = SqlFingerprint.of("INSERT INTO users (a, b) VALUES ($1, $2), ($3, $4),($5, $6)");
+
+        // Then
+        assertEquals("SELECT * FROM users WHERE id IN (?)", two);
+        assertEquals(two, three);
+        assertEquals("INSERT INTO users (a, b) VALUES (?)", rows);
+    }
+
+    @Test
+    void of_ShouldKeepIdentifiersCastsAndEscapedQuotes() {
+        // When
+        String fingerprint = SqlFingerprint.of("SELECT t2.col1 FROM t2 WHERE id::text = :id AND name = 'O''Brien' AND id = ANY(:ids)");
+
+        // Then
+        assertEquals("SELECT t2.col1 FROM t2 WHERE id::text = ? AND name = ? AND id = ANY(?)", fingerprint);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.userservice.infrastructure.instrumentation;
+
+import com.example.userservice.domain.model.User;
+import com.example.userservice.domain.ports.output.UserRepositoryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PortInstrumentation.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+class PortInstrumentationTest {
+
+    private static final String ID = "00000000-0000-0000-0000-000000000001";
+    private static final String PORT = "UserRepositoryPort";
+
+    @Mock
+    private UserRepositoryPort delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private UserRepositoryPort port;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        port = new PortInstrumentation(meterRegistry, new PortInstrumentation.Settings(true, true))
+                .instrument(UserRepositoryPort.class, delegate);
+    }
+
+    private long calls(String operation, String outcome) {
+        return meterRegistry.get(PortInstrumentation.CALLS)
+            .tag("port", PORT)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .timer().count();
+    }
+
+    private double inFlight(String operation) {
+        return meterRegistry.get(PortInstrumentation.IN_FLIGHT)
+            .tag("port", PORT)
+            .tag("operation", operation)
+            .gauge().value();
+    }
+
+    @Test
+    void instrument_ShouldTimeSuccessfulCalls_FromSubscriptionToCompletion() {
+        // Given
+        Sinks.One<User> row = Sinks.one();
+        User user = User.builder().userId(ID).build();
+        when(delegate.findById(ID)).thenReturn(row.asMono());
+
+        // When
+        Mono<User> result = port.findById(ID);
+        long beforeSubscription = calls("findById", "success");
+        StepVerifier.create(result)
+            .then(() -> assertThat(inFlight("findById")).isEqualTo(1.0))
+            .then(() -> row.tryEmitValue(user))
+            .expectNext(user)
+            .verifyComplete();
+
+        // Then
+        assertThat(beforeSubscription).isZero();
+        assertThat(calls("findById", "success")).isEqualTo(1);
+        assertThat(inFlight("findById")).isZero();
+    }
+
+    @Test
+    void instrument_ShouldTimeFluxUntilLastElement() {
+        // Given
+        when(delegate.findAll()).thenReturn(Flux.just(User.builder().build(), User.builder().build()));
+
+        // When
+        StepVerifier.create(port.findAll())
+            .expectNextCount(2)
+            .verifyComplete();
+
+        // Then
+        assertThat(calls("findAll", "success")).isEqualTo(1);
+        assertThat(inFlight("findAll")).isZero();
+    }
+
+    @Test
+    void instrument_ShouldCountErrorsByExceptionType() {
+        // Given
+        when(delegate.findById(ID)).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        // When
+        StepVerifier.create(port.findById(ID))
+            .verifyError(IllegalStateException.class);
+
+        // Then
+        assertThat(calls("findById", "error")).isEqualTo(1);
+        assertThat(meterRegistry.get(PortInstrumentation.ERRORS)
+            .tag("operation", "findById")
+            .tag("exception", "IllegalStateException")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(inFlight("findById")).isZero();
+    }
+
+    @Test
+    void instrument_ShouldRecordCancellation() {
+        // Given
+        when(delegate.findAll()).thenReturn(Flux.never());
+
+        // When
+        StepVerifier.create(port.findAll())
+            .thenCancel()
+            .verify();
+
+        // Then
+        assertThat(calls("findAll", "cancelled")).isEqualTo(1);
+        assertThat(calls("findAll", "success")).isZero();
+        assertThat(inFlight("findAll")).isZero();
+    }
+
+    @Test
+    void instrument_ShouldCountSynchronousFailures_AndRethrowThem() {
+        // Given
+        when(delegate.findById(ID)).thenThrow(new IllegalArgumentException("bad id"));
+
+        // When / Then
+        assertThatThrownBy(() -> port.findById(ID)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry.get(PortInstrumentation.ERRORS)
+            .tag("exception", "IllegalArgumentException")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void instrument_ShouldReturnTarget_WhenDisabled() {
+        // When
+        UserRepositoryPort disabled = new PortInstrumentation(meterRegistry, new PortInstrumentation.Settings(false, true))
+                .instrument(UserRepositoryPort.class, delegate);
+
+        // Then
+        assertThat(disabled).isSameAs(delegate);
+    }
+}
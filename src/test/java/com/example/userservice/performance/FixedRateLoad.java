@@ -0,0 +1,140 @@
+package com.example.userservice.performance;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-loop load generator: request {@code i} is due at {@code start + i / rate} and is started
+ * on its own virtual thread at that time, whether or not earlier requests have completed.
+ * <p>
+ * Latency is measured from the time a request was due, not from when it was actually sent, so
+ * a stall in the service counts against every request that should have started during it
+ * instead of silently delaying them (no coordinated omission). Requests in the warm-up period
+ * run on the same schedule but are not recorded; throughput is the number of measured requests
+ * divided by the time from the first measured due time to the last completion, so it falls
+ * below the offered rate as soon as the service stops keeping up.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class FixedRateLoad {
+
+    private final double ratePerSecond;
+    private final Duration warmUp;
+    private final Duration duration;
+
+    public FixedRateLoad(double ratePerSecond, Duration warmUp, Duration duration) {
+        this.ratePerSecond = ratePerSecond;
+        this.warmUp = warmUp;
+        this.duration = duration;
+    }
+
+    /**
+     * Reads {@code perf.load.rate}, {@code perf.load.warm-up} and {@code perf.load.duration},
+     * each overridable per scenario under {@code perf.scenarios.<scenario>}.
+     */
+    public static FixedRateLoad from(Environment environment, String scenario) {
+        String prefix = "perf.scenarios." + scenario;
+        return new FixedRateLoad(
+                environment.getProperty(prefix + ".rate", Double.class,
+                        environment.getProperty("perf.load.rate", Double.class, 100.0)),
+                environment.getProperty(prefix + ".warm-up", Duration.class,
+                        environment.getProperty("perf.load.warm-up", Duration.class, Duration.ofSeconds(3))),
+                environment.getProperty(prefix + ".duration", Duration.class,
+                        environment.getProperty("perf.load.duration", Duration.class, Duration.ofSeconds(10))));
+    }
+
+    /**
+     * Runs {@code request} with the request number on the schedule and waits for every request
+     * to complete. A request fails by throwing, as a failed {@code WebTestClient} expectation does.
+     */
+    public Result run(IntConsumer request) {
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        int warmUpRequests = (int) (warmUp.toNanos() / interval);
+        int measuredRequests = (int) Math.max(1, duration.toNanos() / interval);
+        long[] latencies = new long[measuredRequests];
+        AtomicInteger errors = new AtomicInteger();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicLong lastCompletion = new AtomicLong();
+
+        long start = System.nanoTime() + interval;
+        long measuredStart = start + warmUpRequests * interval;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < warmUpRequests + measuredRequests; i++) {
+                long due = start + i * interval;
+                parkUntil(due);
+                int number = i;
+                executor.execute(() -> {
+                    boolean failed = false;
+                    try {
+                        request.accept(number);
+                    } catch (Throwable e) {
+                        failed = true;
+                        if (number >= warmUpRequests) {
+                            firstError.compareAndSet(null, e);
+                        }
+                    }
+                    long completed = System.nanoTime();
+                    if (number >= warmUpRequests) {
+                        latencies[number - warmUpRequests] = completed - due;
+                        lastCompletion.accumulateAndGet(completed, Math::max);
+                        if (failed) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        // closing the executor waited for every request, so all latencies are visible here
+        return Result.of(latencies, errors.get(), lastCompletion.get() - measuredStart, firstError.get());
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Outcome of the measured requests; latencies in nanoseconds.
+     *
+     * @param throughput completed requests per second
+     * @param firstError first failure among the measured requests, if any
+     */
+    public record Result(int requests, int errors, long p50Nanos, long p99Nanos, long maxNanos,
+                         double throughput, Throwable firstError) {
+
+        static Result of(long[] latencies, int errors, long elapsedNanos, Throwable firstError) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            double seconds = Math.max(1, elapsedNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            return new Result(sorted.length, errors, percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    sorted[sorted.length - 1], sorted.length / seconds, firstError);
+        }
+
+        /**
+         * Nearest-rank percentile of sorted values.
+         */
+        static long percentile(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        public String describe(String scenario) {
+            return String.format(Locale.ROOT, "%-16s requests=%d errors=%d p50=%.2fms p99=%.2fms max=%.2fms throughput=%.1f/s",
+                    scenario, requests, errors, p50Nanos / 1e6, p99Nanos / 1e6, maxNanos / 1e6, throughput);
+        }
+    }
+}
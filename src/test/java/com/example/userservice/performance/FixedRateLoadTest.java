@@ -0,0 +1,106 @@
+package com.example.userservice.performance;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for FixedRateLoad and PerformanceBudget.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class FixedRateLoadTest {
+
+    @Test
+    void run_ShouldChargeStallToEveryRequestDueDuringIt() {
+        // Given
+        ReentrantLock service = new ReentrantLock();
+        FixedRateLoad load = new FixedRateLoad(100, Duration.ZERO, Duration.ofMillis(200));
+
+        // When
+        FixedRateLoad.Result result = load.run(i -> {
+            service.lock();
+            try {
+                if (i == 0) {
+                    sleep(100);
+                }
+            } finally {
+                service.unlock();
+            }
+        });
+
+        // Then
+        assertThat(result.requests()).isEqualTo(20);
+        assertThat(result.errors()).isZero();
+        assertThat(result.maxNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        // requests due 10ms and 20ms after the first waited out the rest of its stall as well
+        assertThat(result.p99Nanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(80));
+    }
+
+    @Test
+    void run_ShouldCountFailedRequests_AndKeepFirstError() {
+        // Given
+        FixedRateLoad load = new FixedRateLoad(200, Duration.ofMillis(50), Duration.ofMillis(100));
+
+        // When
+        FixedRateLoad.Result result = load.run(i -> {
+            if (i % 2 == 0) {
+                throw new AssertionError("Status expected:<200> but was:<500>");
+            }
+        });
+
+        // Then
+        assertThat(result.requests()).isEqualTo(20);
+        assertThat(result.errors()).isEqualTo(10);
+        assertThat(result.firstError()).isInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    void percentile_ShouldUseNearestRank() {
+        // Given
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        // When / Then
+        assertThat(FixedRateLoad.Result.percentile(sorted, 0.50)).isEqualTo(50);
+        assertThat(FixedRateLoad.Result.percentile(sorted, 0.99)).isEqualTo(99);
+        assertThat(FixedRateLoad.Result.percentile(new long[] {7}, 0.99)).isEqualTo(7);
+    }
+
+    @Test
+    void violations_ShouldReportEveryExceededLimit() {
+        // Given
+        PerformanceBudget budget = new PerformanceBudget(Duration.ofMillis(10), Duration.ofMillis(50), 95);
+        FixedRateLoad.Result result = new FixedRateLoad.Result(1000, 0,
+                TimeUnit.MILLISECONDS.toNanos(12), TimeUnit.MILLISECONDS.toNanos(40), TimeUnit.MILLISECONDS.toNanos(60), 90.0, null);
+
+        // When / Then
+        assertThat(budget.violations(result)).containsExactly("p50 12.00ms > 10ms", "throughput 90.0/s < 95.0/s");
+    }
+
+    @Test
+    void violations_ShouldBeEmpty_WhenWithinBudget() {
+        // Given
+        PerformanceBudget budget = new PerformanceBudget(Duration.ofMillis(10), Duration.ofMillis(50), 95);
+        FixedRateLoad.Result result = new FixedRateLoad.Result(1000, 0,
+                TimeUnit.MILLISECONDS.toNanos(5), TimeUnit.MILLISECONDS.toNanos(30), TimeUnit.MILLISECONDS.toNanos(45), 99.5, null);
+
+        // When / Then
+        assertThat(budget.violations(result)).isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.userservice.performance;
+
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Latency and throughput limits of one scenario, read from
+ * {@code perf.budgets.<scenario>.p50}, {@code .p99} and {@code .min-throughput}.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public record PerformanceBudget(Duration p50, Duration p99, double minThroughput) {
+
+    public static PerformanceBudget from(Environment environment, String scenario) {
+        String prefix = "perf.budgets." + scenario;
+        return new PerformanceBudget(
+                environment.getRequiredProperty(prefix + ".p50", Duration.class),
+                environment.getRequiredProperty(prefix + ".p99", Duration.class),
+                environment.getRequiredProperty(prefix + ".min-throughput", Double.class));
+    }
+
+    /**
+     * @return one message per exceeded limit; failed requests always count as a violation
+     */
+    public List<String> violations(FixedRateLoad.Result result) {
+        List<String> violations = new ArrayList<>();
+        if (result.errors() > 0) {
+            violations.add(result.errors() + " of " + result.requests() + " requests failed, first: " + result.firstError());
+        }
+        if (result.p50Nanos() > p50.toNanos()) {
+            violations.add(String.format(Locale.ROOT, "p50 %.2fms > %dms", result.p50Nanos() / 1e6, p50.toMillis()));
+        }
+        if (result.p99Nanos() > p99.toNanos()) {
+            violations.add(String.format(Locale.ROOT, "p99 %.2fms > %dms", result.p99Nanos() / 1e6, p99.toMillis()));
+        }
+        if (result.throughput() < minThroughput) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f/s < %.1f/s", result.throughput(), minThroughput));
+        }
+        return violations;
+    }
+}
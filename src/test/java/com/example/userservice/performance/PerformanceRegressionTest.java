@@ -0,0 +1,266 @@
+package com.example.userservice.performance;
+
+import com.example.userservice.application.dto.location.CreateLocationRequestContent;
+import com.example.userservice.application.dto.location.UpdateLocationRequestContent;
+import com.example.userservice.application.dto.user.CreateUserRequestContent;
+import com.example.userservice.application.dto.user.UpdateUserRequestContent;
+import com.example.userservice.application.service.GeoReferenceDataCache;
+import com.example.userservice.application.service.UserAvailabilityIndex;
+import com.example.userservice.utils.LoggingUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end performance regression suite.
+ * <p>
+ * Seeds a {@link SyntheticDataset} into the database, then drives the user and location
+ * endpoints through {@link WebTestClient} with a {@link FixedRateLoad} per scenario and fails
+ * when a scenario exceeds its {@link PerformanceBudget}. Runs only in the {@code performance}
+ * Maven profile ({@code mvn test -Pperformance}); dataset size, load and budgets are set in
+ * {@code application-performance.properties} and can be overridden with {@code -Dperf.*}.
+ * Without {@code DB_URL} it runs against in-memory H2; with it, against that database, which
+ * must already be migrated. Every scenario's result is logged and appended to
+ * {@code target/performance/report.txt}, which is rewritten on each run.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+@Tag("performance")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "performance"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PerformanceRegressionTest {
+
+    private static final LoggingUtils logger = LoggingUtils.getLogger(PerformanceRegressionTest.class);
+    private static final String REQUEST_ID = "X-Request-ID";
+    private static final Path REPORT = Path.of("target", "performance", "report.txt");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private GeoReferenceDataCache geoReferenceDataCache;
+
+    @Autowired
+    private UserAvailabilityIndex userAvailabilityIndex;
+
+    private final String run = Long.toString(System.currentTimeMillis(), 36);
+
+    private SyntheticDataset dataset;
+
+    private WebTestClient client;
+
+    @DynamicPropertySource
+    static void schema(DynamicPropertyRegistry registry) {
+        // schema.sql only suits H2; a database behind DB_URL brings its own migrated schema
+        registry.add("spring.sql.init.mode", () -> System.getenv("DB_URL") == null ? "always" : "never");
+    }
+
+    @BeforeAll
+    void seedDataset() {
+        dataset = new SyntheticDataset(SyntheticDataset.Settings.from(environment));
+        long started = System.nanoTime();
+        dataset.seed(databaseClient).block();
+        geoReferenceDataCache.refresh().block();
+        userAvailabilityIndex.rebuild().block();
+        String seeded = String.format(Locale.ROOT, "Seeded %d users, %d locations, %d countries, %d regions, %d cities and %d neighborhoods in %ds",
+                dataset.settings().users(), dataset.settings().locations(), dataset.countryCount(), dataset.regionCount(),
+                dataset.cityCount(), dataset.neighborhoodCount(), Duration.ofNanos(System.nanoTime() - started).toSeconds());
+        logger.info("{}", seeded);
+        try {
+            Files.createDirectories(REPORT.getParent());
+            Files.writeString(REPORT, "Performance run " + Instant.now() + " (seed " + dataset.settings().seed() + ")"
+                    + System.lineSeparator() + seeded + System.lineSeparator());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start performance report " + REPORT, e);
+        }
+        client = webTestClient.mutate().responseTimeout(Duration.ofSeconds(30)).build();
+    }
+
+    @Test
+    void getUser_ShouldStayWithinBudget() {
+        assertWithinBudget("users.get", i -> client.get()
+            .uri("/users/{userId}", dataset.userId(random(i).nextInt(dataset.settings().users())))
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void listUsers_ShouldStayWithinBudget() {
+        assertWithinBudget("users.list", i -> client.get()
+            .uri(uri -> uri.path("/users").queryParam("page", 1 + random(i).nextInt(50)).queryParam("size", 20).build())
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void searchUsers_ShouldStayWithinBudget() {
+        assertWithinBudget("users.search", i -> client.get()
+            .uri(uri -> uri.path("/users").queryParam("search", dataset.lastName(random(i).nextInt()).toLowerCase(Locale.ROOT))
+                .queryParam("size", 20).build())
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void createUser_ShouldStayWithinBudget() {
+        assertWithinBudget("users.create", i -> client.post()
+            .uri("/users")
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .bodyValue(CreateUserRequestContent.builder()
+                .username("perf" + run + "_" + i)
+                .email("perf" + run + "_" + i + "@example.com")
+                .password("Secret123")
+                .firstName("Load")
+                .lastName(dataset.lastName(i))
+                .build())
+            .exchange()
+            .expectStatus().isCreated());
+    }
+
+    @Test
+    void updateUser_ShouldStayWithinBudget() {
+        assertWithinBudget("users.update", i -> client.put()
+            .uri("/users/{userId}", dataset.userId(random(i).nextInt(dataset.settings().users())))
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .bodyValue(UpdateUserRequestContent.builder()
+                .firstName("Updated")
+                .lastName(dataset.lastName(i))
+                .build())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void getLocation_ShouldStayWithinBudget() {
+        assertWithinBudget("locations.get", i -> client.get()
+            .uri("/locations/{locationId}", dataset.locationId(random(i).nextInt(dataset.settings().locations())))
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void listLocations_ShouldStayWithinBudget() {
+        assertWithinBudget("locations.list", i -> client.get()
+            .uri(uri -> uri.path("/locations").queryParam("page", 1 + random(i).nextInt(50)).queryParam("size", 20).build())
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void searchLocations_ShouldStayWithinBudget() {
+        assertWithinBudget("locations.search", i -> client.get()
+            .uri(uri -> uri.path("/locations").queryParam("search", "active").queryParam("size", 20).build())
+            .header(REQUEST_ID, UUID.randomUUID().toString())
+            .exchange()
+            .expectStatus().isOk());
+    }
+
+    @Test
+    void createLocation_ShouldStayWithinBudget() {
+        assertWithinBudget("locations.create", i -> {
+            SplittableRandom random = random(i);
+            SyntheticDataset.Neighborhood neighborhood = dataset.neighborhood(random);
+            SyntheticDataset.City city = neighborhood.city();
+            client.post()
+                .uri("/locations")
+                .header(REQUEST_ID, UUID.randomUUID().toString())
+                .bodyValue(CreateLocationRequestContent.builder()
+                    .userId(dataset.userId(random.nextInt(dataset.settings().users())).toString())
+                    .countryId(city.region().country().id().toString())
+                    .regionId(city.region().id().toString())
+                    .cityId(city.id().toString())
+                    .neighborhoodId(neighborhood.id().toString())
+                    .address(dataset.address(random))
+                    .postalCode(city.postalPrefix() + "00")
+                    .latitude(city.latitude())
+                    .longitude(city.longitude())
+                    .locationType("HOME")
+                    .build())
+                .exchange()
+                .expectStatus().isCreated();
+        });
+    }
+
+    @Test
+    void updateLocation_ShouldStayWithinBudget() {
+        assertWithinBudget("locations.update", i -> {
+            SplittableRandom random = random(i);
+            client.put()
+                .uri("/locations/{locationId}", dataset.locationId(random.nextInt(dataset.settings().locations())))
+                .header(REQUEST_ID, UUID.randomUUID().toString())
+                .bodyValue(UpdateLocationRequestContent.builder()
+                    .address(dataset.address(random))
+                    .build())
+                .exchange()
+                .expectStatus().isOk();
+        });
+    }
+
+    private void assertWithinBudget(String scenario, IntConsumer request) {
+        // Given
+        FixedRateLoad load = FixedRateLoad.from(environment, scenario);
+        PerformanceBudget budget = PerformanceBudget.from(environment, scenario);
+
+        // When
+        FixedRateLoad.Result result = load.run(request);
+
+        // Then
+        List<String> violations = budget.violations(result);
+        report(result.describe(scenario) + (violations.isEmpty() ? "" : " OVER BUDGET " + violations));
+        assertThat(violations).as("%s over budget %s", scenario, budget).isEmpty();
+    }
+
+    private void report(String line) {
+        logger.info("{}", line);
+        try {
+            Files.writeString(REPORT, line + System.lineSeparator(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to performance report " + REPORT, e);
+        }
+    }
+
+    /**
+     * Request {@code i} of every scenario picks the same rows on every run.
+     */
+    private SplittableRandom random(int request) {
+        return new SplittableRandom(dataset.settings().seed() ^ request);
+    }
+}
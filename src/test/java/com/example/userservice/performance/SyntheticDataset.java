@@ -0,0 +1,359 @@
+package com.example.userservice.performance;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import org.springframework.core.env.Environment;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic synthetic users, locations and geo hierarchy for the performance suite.
+ * <p>
+ * Every user and location is derived from the seed and its index alone, so the same settings
+ * always produce the same rows and a scenario can address user or location {@code i} through
+ * {@link #userId} and {@link #locationId} without holding millions of ids in memory. The geo
+ * hierarchy is generated up front and skewed like real data: countries have a varying number
+ * of regions and regions a varying number of cities, and city sizes follow a Zipf
+ * distribution, so a few large cities hold a large share of the addresses.
+ * </p>
+ * <p>
+ * Rows are inserted in batches of {@code INSERT ... WHERE NOT EXISTS}, so seeding a database
+ * that already holds part of the dataset (a local Postgres behind {@code DB_URL}) only adds
+ * the missing rows, and seeding is skipped when the last user and location already exist.
+ * </p>
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+public class SyntheticDataset {
+
+    private static final long USER = 1;
+    private static final long LOCATION = 2;
+    private static final long GEO = 3;
+
+    private static final Instant NEWEST = Instant.parse("2026-01-01T00:00:00Z");
+    private static final long HISTORY_SECONDS = 3L * 365 * 24 * 3600;
+
+    private static final String[][] COUNTRIES = {
+        {"Colombia", "CO"}, {"Mexico", "MX"}, {"Brazil", "BR"}, {"Argentina", "AR"}, {"Chile", "CL"},
+        {"Peru", "PE"}, {"Ecuador", "EC"}, {"Spain", "ES"}, {"United States", "US"}, {"Canada", "CA"},
+        {"Portugal", "PT"}, {"France", "FR"}, {"Germany", "DE"}, {"Italy", "IT"}, {"United Kingdom", "GB"},
+        {"Uruguay", "UY"}, {"Paraguay", "PY"}, {"Bolivia", "BO"}, {"Venezuela", "VE"}, {"Panama", "PA"}
+    };
+    private static final String[] SYLLABLES = {
+        "san", "ta", "ma", "ri", "vel", "do", "la", "co", "sol", "mar", "al", "to", "ver", "de",
+        "pe", "ra", "lu", "na", "bo", "gue", "mon", "te", "ca", "li", "bel", "en", "por", "ro"
+    };
+    private static final String[] FIRST_NAMES = {
+        "Ana", "Luis", "Maria", "Carlos", "Sofia", "Juan", "Valentina", "Diego", "Camila", "Andres",
+        "Laura", "Jorge", "Isabella", "Mateo", "Daniela", "Santiago", "Paula", "Miguel", "Lucia", "David"
+    };
+    private static final String[] LAST_NAMES = {
+        "Garcia", "Rodriguez", "Martinez", "Lopez", "Gonzalez", "Perez", "Sanchez", "Ramirez", "Torres", "Flores",
+        "Rivera", "Gomez", "Diaz", "Reyes", "Morales", "Cruz", "Ortiz", "Gutierrez", "Chavez", "Ramos",
+        "Silgado", "Castro", "Vargas", "Rojas", "Mendoza", "Herrera", "Medina", "Aguilar", "Jimenez", "Moreno"
+    };
+    private static final String[] EMAIL_DOMAINS = {"example.com", "mail.example.org", "corp.example.net"};
+    private static final String[] STREETS = {"Calle", "Carrera", "Avenida", "Diagonal", "Transversal"};
+    private static final String[] LOCATION_TYPES = {"HOME", "HOME", "HOME", "HOME", "WORK", "WORK", "BILLING", "SHIPPING", "OTHER"};
+
+    private static final String INSERT_COUNTRY = insertIfAbsent("countries", "country_id",
+            "country_id, name, code, status, created_at, updated_at", 6);
+    private static final String INSERT_REGION = insertIfAbsent("regions", "region_id",
+            "region_id, name, code, country_id, status, created_at, updated_at", 7);
+    private static final String INSERT_CITY = insertIfAbsent("cities", "city_id",
+            "city_id, name, region_id, status, created_at, updated_at", 6);
+    private static final String INSERT_NEIGHBORHOOD = insertIfAbsent("neighborhoods", "neighborhood_id",
+            "neighborhood_id, name, city_id, status, created_at, updated_at", 6);
+    private static final String INSERT_USER = insertIfAbsent("users", "user_id",
+            "user_id, username, email, first_name, last_name, status, created_at, updated_at", 8);
+    private static final String INSERT_LOCATION = insertIfAbsent("locations", "location_id",
+            "location_id, user_id, country, region, city, neighborhood, address, postal_code, latitude, longitude, "
+            + "location_type, status, created_at, updated_at", 14);
+
+    private final Settings settings;
+    private final List<Country> countries = new ArrayList<>();
+    private final List<Region> regions = new ArrayList<>();
+    private final List<City> cities = new ArrayList<>();
+    private final List<Neighborhood> neighborhoods = new ArrayList<>();
+    private final List<List<Neighborhood>> neighborhoodsByCity = new ArrayList<>();
+    private final double[] cumulativeCityWeights;
+
+    public SyntheticDataset(Settings settings) {
+        this.settings = settings;
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long geoIndex = 0;
+        for (int c = 0; c < settings.countries(); c++) {
+            String[] country = COUNTRIES[c % COUNTRIES.length];
+            String suffix = c < COUNTRIES.length ? "" : " " + (c / COUNTRIES.length + 1);
+            Country parent = new Country(id(GEO, geoIndex++), country[0] + suffix, country[1] + (suffix.isEmpty() ? "" : c / COUNTRIES.length));
+            countries.add(parent);
+            int regionCount = 1 + random.nextInt(settings.maxRegionsPerCountry());
+            for (int r = 0; r < regionCount; r++) {
+                Region region = new Region(id(GEO, geoIndex++), placeName(random), parent.code() + "-" + (r + 1), parent);
+                regions.add(region);
+                int cityCount = 1 + (int) (settings.maxCitiesPerRegion() * Math.pow(random.nextDouble(), 2));
+                for (int ci = 0; ci < cityCount; ci++) {
+                    City city = new City(id(GEO, geoIndex++), placeName(random), region,
+                            random.nextDouble(-55, 60), random.nextDouble(-120, 30),
+                            String.format(Locale.ROOT, "%04d", random.nextInt(10_000)));
+                    cities.add(city);
+                    List<Neighborhood> inCity = new ArrayList<>();
+                    int neighborhoodCount = 1 + random.nextInt(settings.maxNeighborhoodsPerCity());
+                    for (int n = 0; n < neighborhoodCount; n++) {
+                        inCity.add(new Neighborhood(id(GEO, geoIndex++), placeName(random), city));
+                    }
+                    neighborhoods.addAll(inCity);
+                    neighborhoodsByCity.add(inCity);
+                }
+            }
+        }
+        // Zipf-distributed population: the city ranked r by size draws 1/r as many locations as
+        // the largest one, with ranks shuffled across the hierarchy
+        int[] ranks = new int[cities.size()];
+        for (int i = 0; i < ranks.length; i++) {
+            int j = random.nextInt(i + 1);
+            ranks[i] = ranks[j];
+            ranks[j] = i + 1;
+        }
+        cumulativeCityWeights = new double[cities.size()];
+        double total = 0;
+        for (int i = 0; i < ranks.length; i++) {
+            total += 1.0 / ranks[i];
+            cumulativeCityWeights[i] = total;
+        }
+    }
+
+    public Settings settings() {
+        return settings;
+    }
+
+    public UUID userId(int index) {
+        return id(USER, index);
+    }
+
+    public UUID locationId(int index) {
+        return id(LOCATION, index);
+    }
+
+    /**
+     * @return a last name used by the generated users, for search scenarios
+     */
+    public String lastName(int index) {
+        return LAST_NAMES[Math.floorMod(index, LAST_NAMES.length)];
+    }
+
+    /**
+     * @return a neighborhood picked like a location would be, so busy cities come up more often
+     */
+    public Neighborhood neighborhood(SplittableRandom random) {
+        List<Neighborhood> inCity = neighborhoodsByCity.get(cityIndex(random));
+        return inCity.get(random.nextInt(inCity.size()));
+    }
+
+    public String address(SplittableRandom random) {
+        return String.format(Locale.ROOT, "%s %d # %d-%02d", STREETS[random.nextInt(STREETS.length)],
+                1 + random.nextInt(200), 1 + random.nextInt(150), random.nextInt(100));
+    }
+
+    public int countryCount() {
+        return countries.size();
+    }
+
+    public int regionCount() {
+        return regions.size();
+    }
+
+    public int cityCount() {
+        return cities.size();
+    }
+
+    public int neighborhoodCount() {
+        return neighborhoods.size();
+    }
+
+    /**
+     * Inserts the geo hierarchy, then the users, then the locations, skipping rows that exist.
+     */
+    public Mono<Void> seed(DatabaseClient databaseClient) {
+        return exists(databaseClient, "users", "user_id", userId(settings.users() - 1))
+                .zipWith(exists(databaseClient, "locations", "location_id", locationId(settings.locations() - 1)))
+                .flatMap(existing -> existing.getT1() && existing.getT2()
+                        ? Mono.empty()
+                        : insert(databaseClient, INSERT_COUNTRY, countries.size(), i -> countries.get(i).row())
+                                .then(insert(databaseClient, INSERT_REGION, regions.size(), i -> regions.get(i).row()))
+                                .then(insert(databaseClient, INSERT_CITY, cities.size(), i -> cities.get(i).row()))
+                                .then(insert(databaseClient, INSERT_NEIGHBORHOOD, neighborhoods.size(), i -> neighborhoods.get(i).row()))
+                                .then(insert(databaseClient, INSERT_USER, settings.users(), this::userRow))
+                                .then(insert(databaseClient, INSERT_LOCATION, settings.locations(), this::locationRow)));
+    }
+
+    private Object[] userRow(int index) {
+        SplittableRandom random = rowRandom(USER, index);
+        String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String username = (firstName.charAt(0) + lastName).toLowerCase(Locale.ROOT) + index;
+        Instant createdAt = NEWEST.minusSeconds(random.nextLong(HISTORY_SECONDS));
+        return new Object[] {userId(index), username, username + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)],
+                firstName, lastName, "ACTIVE", createdAt, createdAt};
+    }
+
+    private Object[] locationRow(int index) {
+        SplittableRandom random = rowRandom(LOCATION, index);
+        UUID owner = userId(random.nextInt(settings.users()));
+        Neighborhood neighborhood = neighborhood(random);
+        City city = neighborhood.city();
+        Instant createdAt = NEWEST.minusSeconds(random.nextLong(HISTORY_SECONDS));
+        return new Object[] {locationId(index), owner, city.region().country().id().toString(), city.region().id().toString(),
+                city.id().toString(), neighborhood.id().toString(), address(random), city.postalPrefix() + String.format(Locale.ROOT, "%02d", random.nextInt(100)),
+                city.latitude() + random.nextDouble(-0.1, 0.1), city.longitude() + random.nextDouble(-0.1, 0.1),
+                LOCATION_TYPES[random.nextInt(LOCATION_TYPES.length)], "ACTIVE", createdAt, createdAt};
+    }
+
+    private int cityIndex(SplittableRandom random) {
+        double target = random.nextDouble(cumulativeCityWeights[cumulativeCityWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeCityWeights, target);
+        return index >= 0 ? index : Math.min(-index - 1, cities.size() - 1);
+    }
+
+    private Mono<Void> insert(DatabaseClient databaseClient, String sql, int rows, IntFunction<Object[]> row) {
+        int batchSize = settings.batchSize();
+        return Flux.range(0, (rows + batchSize - 1) / batchSize)
+                .concatMap(batch -> databaseClient.inConnectionMany(connection -> Flux.usingWhen(
+                        Mono.from(connection.beginTransaction()).thenReturn(connection),
+                        tx -> Flux.from(bindAll(tx.createStatement(sql), batch * batchSize,
+                                Math.min(rows, (batch + 1) * batchSize), row).execute()).concatMap(Result::getRowsUpdated),
+                        Connection::commitTransaction,
+                        (tx, e) -> tx.rollbackTransaction(),
+                        Connection::rollbackTransaction)))
+                .then();
+    }
+
+    private static Statement bindAll(Statement statement, int from, int to, IntFunction<Object[]> row) {
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                statement.add();
+            }
+            Object[] values = row.apply(i);
+            for (int column = 0; column < values.length; column++) {
+                statement.bind(column, values[column]);
+            }
+        }
+        return statement;
+    }
+
+    private static Mono<Boolean> exists(DatabaseClient databaseClient, String table, String key, UUID id) {
+        return databaseClient.sql("SELECT COUNT(*) FROM " + table + " WHERE " + key + " = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(count -> count > 0);
+    }
+
+    private static String insertIfAbsent(String table, String key, String columns, int count) {
+        StringBuilder markers = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            markers.append(i > 1 ? ", $" : "$").append(i);
+        }
+        return "INSERT INTO " + table + " (" + columns + ") SELECT " + markers
+                + " WHERE NOT EXISTS (SELECT 1 FROM " + table + " e WHERE e." + key + " = $1)";
+    }
+
+    private static String placeName(SplittableRandom random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private UUID id(long kind, long index) {
+        return uuid(rowRandom(kind, index));
+    }
+
+    private SplittableRandom rowRandom(long kind, long index) {
+        return new SplittableRandom(settings.seed() + (kind << 40) + index);
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        long mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    private static Object[] geoRow(UUID id, String name, Object... columns) {
+        Instant createdAt = NEWEST.minusSeconds(HISTORY_SECONDS);
+        Object[] row = new Object[columns.length + 5];
+        row[0] = id;
+        row[1] = name;
+        System.arraycopy(columns, 0, row, 2, columns.length);
+        row[row.length - 3] = "ACTIVE";
+        row[row.length - 2] = createdAt;
+        row[row.length - 1] = createdAt;
+        return row;
+    }
+
+    /**
+     * Dataset size and shape; every maximum is an upper bound and the actual count per parent
+     * varies between one and the maximum.
+     */
+    public record Settings(long seed, int users, int locations, int countries, int maxRegionsPerCountry,
+                           int maxCitiesPerRegion, int maxNeighborhoodsPerCity, int batchSize) {
+
+        /**
+         * Reads {@code perf.dataset.*}.
+         */
+        public static Settings from(Environment environment) {
+            return new Settings(
+                    environment.getProperty("perf.dataset.seed", Long.class, 42L),
+                    environment.getProperty("perf.dataset.users", Integer.class, 10_000),
+                    environment.getProperty("perf.dataset.locations", Integer.class, 50_000),
+                    environment.getProperty("perf.dataset.countries", Integer.class, 12),
+                    environment.getProperty("perf.dataset.max-regions-per-country", Integer.class, 24),
+                    environment.getProperty("perf.dataset.max-cities-per-region", Integer.class, 30),
+                    environment.getProperty("perf.dataset.max-neighborhoods-per-city", Integer.class, 12),
+                    environment.getProperty("perf.dataset.batch-size", Integer.class, 500));
+        }
+    }
+
+    public record Country(UUID id, String name, String code) {
+
+        Object[] row() {
+            return geoRow(id, name, code);
+        }
+    }
+
+    public record Region(UUID id, String name, String code, Country country) {
+
+        Object[] row() {
+            return geoRow(id, name, code, country.id());
+        }
+    }
+
+    public record City(UUID id, String name, Region region, double latitude, double longitude, String postalPrefix) {
+
+        Object[] row() {
+            return geoRow(id, name, region.id());
+        }
+    }
+
+    public record Neighborhood(UUID id, String name, City city) {
+
+        Object[] row() {
+            return geoRow(id, name, city.id());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.userservice.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class BloomFilterTest {
+
+    @Test
+    void mightContain_ShouldReturnTrue_ForEveryAddedValue() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i + "@example.com");
+        }
+
+        // When & Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user-" + i + "@example.com"));
+        }
+    }
+
+    @Test
+    void mightContain_ShouldKeepFalsePositivesNearConfiguredRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void create_ShouldRejectInvalidSizing() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.userservice.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CsvUtils.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class CsvUtilsTest {
+
+    @Test
+    void parseLine_ShouldSplitPlainAndQuotedFields() {
+        // When
+        List<String> fields = CsvUtils.parseLine("a,\"b, with comma\",,\"say \"\"hi\"\"\"");
+
+        // Then
+        assertEquals(List.of("a", "b, with comma", "", "say \"hi\""), fields);
+    }
+
+    @Test
+    void parseLine_ShouldFail_WhenQuoteIsNotClosed() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> CsvUtils.parseLine("a,\"b"));
+    }
+
+    @Test
+    void appendField_ShouldRoundTripThroughParseLine() {
+        // Given
+        StringBuilder record = new StringBuilder();
+        CsvUtils.appendField(record, "x \"y\", z").append(',');
+        CsvUtils.appendField(record, null).append(',');
+        CsvUtils.appendField(record, 1.5);
+
+        // When
+        List<String> fields = CsvUtils.parseLine(record.toString());
+
+        // Then
+        assertEquals("\"x \"\"y\"\", z\",,\"1.5\"", record.toString());
+        assertEquals(List.of("x \"y\", z", "", "1.5"), fields);
+    }
+}
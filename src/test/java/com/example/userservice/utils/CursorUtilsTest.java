@@ -0,0 +1,67 @@
+package com.example.userservice.utils;
+
+import com.example.userservice.domain.model.PageCursor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CursorUtils.
+ * 
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class CursorUtilsTest {
+
+    @Test
+    void decode_ShouldReturnOriginalCursor_WhenEncoded() {
+        // Given
+        PageCursor cursor = PageCursor.builder()
+            .sortBy("username")
+            .value("name with spaces & symbols")
+            .id("00000000-0000-0000-0000-000000000001")
+            .build();
+
+        // When
+        PageCursor result = CursorUtils.decode(CursorUtils.encode(cursor));
+
+        // Then
+        assertEquals(cursor, result);
+    }
+
+    @Test
+    void encode_ShouldProduceUrlSafeToken() {
+        // Given
+        PageCursor cursor = PageCursor.builder()
+            .sortBy("createdAt")
+            .value("2024-01-01T00:00:00.123456Z")
+            .id("00000000-0000-0000-0000-000000000001")
+            .build();
+
+        // When
+        String token = CursorUtils.encode(cursor);
+
+        // Then
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_ShouldThrowException_WhenNotBase64() {
+        // When & Then
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode("%%%"));
+        assertEquals("Invalid cursor", ex.getMessage());
+    }
+
+    @Test
+    void decode_ShouldThrowException_WhenIdIsNotUuid() {
+        // Given
+        String token = CursorUtils.encode(PageCursor.builder()
+            .sortBy("createdAt")
+            .value("2024-01-01T00:00:00Z")
+            .id("not-a-uuid")
+            .build());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> CursorUtils.decode(token));
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.userservice.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogEventEncoder.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class LogEventEncoderTest {
+
+    private final LogEventEncoder encoder = new LogEventEncoder("users", "UserService", "Request-ID", "Client-Id");
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void encode_ShouldRenderHeaderAndMessage() {
+        // When
+        String line = encoder.encode(LogEventEncoder.WARN, "Slow query", null);
+
+        // Then
+        assertTrue(line.matches("\\{\"microservice\":\"users\",\"date\":\"\\d{4}-\\d{2}-\\d{2}\",\"time\":\"\\d{2}:\\d{2}:\\d{2}\\.\\d{3}\","
+                + "\"level\":\"WARN\",\"class\":\"UserService\",\"message\":\"Slow query\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldSubstitutePlaceholdersInOrder() {
+        // When
+        String line = encoder.encode(LogEventEncoder.INFO, "Found {} of {} users", new Object[] {3, 5});
+
+        // Then
+        assertTrue(line.endsWith("\"message\":\"Found 3 of 5 users\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldLeaveUnmatchedPlaceholders_WhenArgumentsRunOut() {
+        // When
+        String line = encoder.encode(LogEventEncoder.INFO, "{} and {}", new Object[] {"one"});
+
+        // Then
+        assertTrue(line.endsWith("\"message\":\"one and {}\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldNotSubstituteTrailingThrowable() {
+        // When
+        String line = encoder.encode(LogEventEncoder.ERROR, "Failed for {}: {}",
+                new Object[] {"id-1", new IllegalStateException("boom")});
+
+        // Then
+        assertTrue(line.endsWith("\"message\":\"Failed for id-1: {}\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldEscapeMessageAndArguments() {
+        // When
+        String line = encoder.encode(LogEventEncoder.INFO, "Name \"{}\"\n", new Object[] {"a\\b\t\u0001"});
+
+        // Then
+        assertTrue(line.endsWith("\"message\":\"Name \\\"a\\\\b\\t\\u0001\\\"\\n\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldIncludeOnlyConfiguredContextValuesThatAreSet() {
+        // Given
+        MDC.put("Client-Id", "web\"app");
+        MDC.put("Correlation-ID", "ignored");
+
+        // When
+        String line = encoder.encode(LogEventEncoder.DEBUG, "Hello", null);
+
+        // Then
+        assertTrue(line.contains("\"class\":\"UserService\",\"Client-Id\":\"web\\\"app\",\"message\":\"Hello\"}"), line);
+        assertFalse(line.contains("Request-ID"));
+        assertFalse(line.contains("Correlation-ID"));
+    }
+
+    @Test
+    void encode_ShouldReuseBuffer_AfterLargeEvent() {
+        // Given
+        String large = "x".repeat(20_000);
+        encoder.encode(LogEventEncoder.INFO, large, null);
+
+        // When
+        String line = encoder.encode(LogEventEncoder.INFO, "small", null);
+
+        // Then
+        assertTrue(line.endsWith("\"message\":\"small\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldAddSuppressedCount_WhenPositive() {
+        // When
+        String line = encoder.encode(LogEventEncoder.INFO, "Hello", null, 42);
+
+        // Then
+        assertTrue(line.endsWith("\"class\":\"UserService\",\"suppressed\":42,\"message\":\"Hello\"}"), line);
+    }
+
+    @Test
+    void encode_ShouldEvaluateSupplierArguments_AndRedactObjects() {
+        // Given
+        Object request = new Object() {
+            @Override
+            public String toString() {
+                return "CreateUserRequestContent(username=bob, password=secret)";
+            }
+        };
+
+        // When
+        String line = encoder.encode(LogEventEncoder.INFO, "{} with {}",
+                new Object[] {LoggingUtils.lazy(() -> "CreateUser"), request});
+
+        // Then
+        assertTrue(line.endsWith("\"message\":\"CreateUser with CreateUserRequestContent(username=bob, password=***)\"}"), line);
+    }
+}
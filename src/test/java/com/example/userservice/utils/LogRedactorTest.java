@@ -0,0 +1,82 @@
+package com.example.userservice.utils;
+
+import com.example.userservice.application.dto.user.CreateUserRequestContent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogRedactor.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class LogRedactorTest {
+
+    @AfterEach
+    void tearDown() {
+        LogRedactor.configure(Set.of("password"));
+    }
+
+    @Test
+    void redact_ShouldMaskConfiguredFieldOfLombokToString() {
+        // Given
+        String rendered = "CreateUserRequestContent(username=bob, email=bob@example.com, password=s3cr(e)t, firstName=null)";
+
+        // When
+        String result = LogRedactor.redact(rendered);
+
+        // Then
+        assertEquals("CreateUserRequestContent(username=bob, email=bob@example.com, password=***, firstName=null)", result);
+    }
+
+    @Test
+    void createUserRequestToString_ShouldNotRenderPassword_EvenWithSeparators() {
+        // Given
+        CreateUserRequestContent request = CreateUserRequestContent.builder()
+            .username("bob")
+            .password("ab,cd)x")
+            .build();
+
+        // When
+        String result = LogRedactor.redact(request.toString());
+
+        // Then
+        assertFalse(result.contains("cd"), result);
+        assertFalse(result.contains("password"), result);
+    }
+
+    @Test
+    void redact_ShouldMaskNestedValues_AndLeaveSimilarNamesAlone() {
+        // When
+        String result = LogRedactor.redact("[A(oldPassword=1, password=x), A(password=[1, 2], z=1)]");
+
+        // Then
+        assertEquals("[A(oldPassword=1, password=***), A(password=***, z=1)]", result);
+    }
+
+    @Test
+    void redact_ShouldReturnSameInstance_WhenNothingToMask() {
+        // Given
+        String rendered = "UserResponse(username=bob)";
+
+        // When & Then
+        assertSame(rendered, LogRedactor.redact(rendered));
+        assertSame("no fields", LogRedactor.redact("no fields"));
+    }
+
+    @Test
+    void configure_ShouldReplaceRedactedFields() {
+        // Given
+        LogRedactor.configure(Set.of("email"));
+
+        // When
+        String result = LogRedactor.redact("User(email=bob@example.com, password=secret)");
+
+        // Then
+        assertEquals("User(email=***, password=secret)", result);
+    }
+}
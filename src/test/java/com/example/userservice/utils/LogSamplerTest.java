@@ -0,0 +1,106 @@
+package com.example.userservice.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LogSampler.
+ *
+ * @author Jiliar Silgado <jiliar.silgado@gmail.com>
+ * @version 1.0.0
+ */
+class LogSamplerTest {
+
+    @AfterEach
+    void tearDown() {
+        LogSampler.configure(Map.of());
+    }
+
+    @Test
+    void admit_ShouldLetEverythingThrough_WhenNoRuleMatches() {
+        // Given
+        LogSampler.configure(Map.of("OtherService", Map.of("info", new LogSampler.Rule(10, 0, 0))));
+        LogSampler sampler = new LogSampler("UserService");
+
+        // When & Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, sampler.admit(LogEventEncoder.INFO, "Executing GetUser with userId: {}"));
+        }
+    }
+
+    @Test
+    void admit_ShouldSampleOneOfEvery_AndReportSuppressedCount() {
+        // Given
+        LogSampler.configure(Map.of("userservice", Map.of("INFO", new LogSampler.Rule(3, 0, 0))));
+        LogSampler sampler = new LogSampler("UserService");
+
+        // When
+        long[] results = new long[7];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = sampler.admit(LogEventEncoder.INFO, "Executing GetUser with userId: {}");
+        }
+
+        // Then
+        assertArrayEquals(new long[] {0, -1, -1, 2, -1, -1, 2}, results);
+    }
+
+    @Test
+    void admit_ShouldRateLimitEachCallSiteSeparately() {
+        // Given
+        LogSampler.configure(Map.of("UserService", Map.of("warn", new LogSampler.Rule(1, 1, 2))));
+        LogSampler sampler = new LogSampler("UserService");
+
+        // When & Then
+        assertEquals(0, sampler.admit(LogEventEncoder.WARN, "first call site"));
+        assertEquals(0, sampler.admit(LogEventEncoder.WARN, "first call site"));
+        assertEquals(LogSampler.SUPPRESSED, sampler.admit(LogEventEncoder.WARN, "first call site"));
+        assertEquals(0, sampler.admit(LogEventEncoder.WARN, "second call site"));
+    }
+
+    @Test
+    void admit_ShouldRefillTokensOverTime() throws InterruptedException {
+        // Given
+        LogSampler.configure(Map.of("UserService", Map.of("info", new LogSampler.Rule(1, 20, 1))));
+        LogSampler sampler = new LogSampler("UserService");
+        assertEquals(0, sampler.admit(LogEventEncoder.INFO, "message"));
+        assertEquals(LogSampler.SUPPRESSED, sampler.admit(LogEventEncoder.INFO, "message"));
+
+        // When
+        Thread.sleep(100);
+
+        // Then
+        assertEquals(1, sampler.admit(LogEventEncoder.INFO, "message"));
+    }
+
+    @Test
+    void admit_ShouldNeverSuppressErrors() {
+        // Given
+        LogSampler.configure(Map.of("default", Map.of("error", new LogSampler.Rule(100, 1, 1))));
+        LogSampler sampler = new LogSampler("UserService");
+
+        // When & Then
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, sampler.admit(LogEventEncoder.ERROR, "Error in GetUser"));
+        }
+    }
+
+    @Test
+    void admit_ShouldFallBackToDefaultRule_AndResetOnReconfigure() {
+        // Given
+        LogSampler.configure(Map.of("default", Map.of("debug", new LogSampler.Rule(2, 0, 0))));
+        LogSampler sampler = new LogSampler("UserRepositoryAdapter");
+        assertEquals(0, sampler.admit(LogEventEncoder.DEBUG, "message"));
+        assertEquals(LogSampler.SUPPRESSED, sampler.admit(LogEventEncoder.DEBUG, "message"));
+
+        // When
+        LogSampler.configure(Map.of());
+
+        // Then
+        assertEquals(0, sampler.admit(LogEventEncoder.DEBUG, "message"));
+        assertEquals(0, sampler.admit(LogEventEncoder.DEBUG, "message"));
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.userservice.utils;
 
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
 import com.example.userservice.utils.LoggingUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,15 +24,22 @@ import static org.junit.jupiter.api.Assertions.*;
 class LoggingUtilsTest {
 
     private LoggingUtils loggingUtils;
+    private Logger logbackLogger;
+    private ListAppender<ILoggingEvent> appender;
 
     @BeforeEach
     void setUp() {
         loggingUtils = LoggingUtils.getLogger(LoggingUtilsTest.class);
+        logbackLogger = (Logger) LoggerFactory.getLogger(LoggingUtilsTest.class);
+        appender = new ListAppender<>();
+        appender.start();
+        logbackLogger.addAppender(appender);
         MDC.clear();
     }
 
     @AfterEach
     void tearDown() {
+        logbackLogger.detachAppender(appender);
         MDC.clear();
     }
 
@@ -256,4 +267,36 @@ class LoggingUtilsTest {
         // When & Then
         assertDoesNotThrow(() -> loggingUtils.debug(message));
     }
-}
\ No newline at end of file
+
+    @Test
+    void info_ShouldWriteBracesInArgumentsVerbatim() {
+        // Given
+        String search = "john{}doe";
+
+        // When
+        loggingUtils.info("Searching users with term: {}", search);
+
+        // Then
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertTrue(event.getFormattedMessage().contains("\"message\":\"Searching users with term: john{}doe\""));
+        assertNull(event.getThrowableProxy());
+    }
+
+    @Test
+    void error_ShouldWriteBracesVerbatim_AndKeepTheException_WhenThrowableTrails() {
+        // Given
+        Exception exception = new RuntimeException("Test exception");
+
+        // When
+        loggingUtils.error("Error creating user {}", "{}@example.com", exception);
+        loggingUtils.error("Error updating user {}", exception, "a{}b");
+
+        // Then
+        assertEquals(2, appender.list.size());
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("Error creating user {}@example.com\""));
+        assertEquals("Test exception", appender.list.get(0).getThrowableProxy().getMessage());
+        assertTrue(appender.list.get(1).getFormattedMessage().contains("Error updating user a{}b\""));
+        assertEquals("Test exception", appender.list.get(1).getThrowableProxy().getMessage());
+    }
+}
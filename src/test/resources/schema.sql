@@ -95,7 +95,8 @@ CREATE TABLE IF NOT EXISTS users (
     last_name VARCHAR(255),
     status VARCHAR(255) NOT NULL,
     created_at TIMESTAMP,
-    updated_at TIMESTAMP
+    updated_at TIMESTAMP,
+    search_text VARCHAR(1024) GENERATED ALWAYS AS (LOWER(username || ' ' || email || ' ' || COALESCE(first_name, '') || ' ' || COALESCE(last_name, '')))
 );
 
 -- Table: citiesbyregioncontents
@@ -207,3 +208,13 @@ CREATE TABLE IF NOT EXISTS updateusercontents (
     created_at TIMESTAMP,
     updated_at TIMESTAMP
 );
+
+-- Table: locationtypes
+CREATE TABLE IF NOT EXISTS locationtypes (
+    id UUID DEFAULT RANDOM_UUID() PRIMARY KEY,
+    code VARCHAR(50) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+MERGE INTO locationtypes (code, name) KEY (code) VALUES ('HOME', 'Home'), ('WORK', 'Work'), ('BILLING', 'Billing'), ('SHIPPING', 'Shipping'), ('OTHER', 'Other');